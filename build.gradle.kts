@@ -29,6 +29,15 @@ tasks.named<JavaExec>("run") {
     workingDir = rootProject.projectDir
 }
 
+tasks.register<JavaExec>("benchmark") {
+    description = "Runs a benchmark main class from the test sources (-PbenchClass=...)."
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set(providers.gradleProperty("benchClass")
+        .orElse("structures.graph.NetworkRelaxationBenchmark"))
+    maxHeapSize = "1g"
+}
+
 tasks.test {
     useJUnitPlatform()
     finalizedBy(tasks.jacocoTestReport)
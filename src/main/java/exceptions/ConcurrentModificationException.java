@@ -0,0 +1,32 @@
+package exceptions;
+
+/**
+ * Custom exception thrown by an iterator when its collection was structurally
+ * modified after the iterator was created, other than through the iterator's own
+ * {@code remove}. Mirrors the semantics of the standard
+ * ConcurrentModificationException while keeping dependencies limited to the
+ * project's own data structures.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class ConcurrentModificationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception with no detail message.
+     */
+    public ConcurrentModificationException() {
+        super();
+    }
+
+    /**
+     * Creates a new exception with the provided detail message.
+     *
+     * @param message explanation of the conflicting modification
+     */
+    public ConcurrentModificationException(String message) {
+        super(message);
+    }
+}
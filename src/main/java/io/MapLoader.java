@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -13,6 +14,7 @@ import org.json.simple.parser.ParseException;
 
 import exceptions.InvalidJsonException;
 import model.Center;
+import model.Corridor;
 import model.Effect;
 import model.Entrance;
 import model.LeverRoom;
@@ -22,6 +24,10 @@ import model.Riddle;
 import model.RiddleRoom;
 import model.Room;
 import model.RoomStandard;
+import structures.graph.NetworkBuilder;
+import structures.graph.NetworkList;
+import structures.graph.SearchStrategy;
+import structures.hash.ObjectIntHashMap;
 import structures.linear.ArrayUnorderedList;
 
 /**
@@ -49,7 +55,8 @@ public class MapLoader {
      * 1. Loading available riddles from "enigmas.json".
      * 2. Parsing the JSON file to extract map metadata.
      * 3. Creating Room objects based on their type using a factory method.
-     * 4. Creating connections (Corridors) between rooms, including weights and optional Random Events.
+     * 4. Creating connections (Corridors) between rooms, including weights, optional Random Events
+     * and an optional {@code "sentido_unico": true} flag for one-way corridors.
      * </p>
      *
      * @param fileName The name of the JSON file to load (e.g., "map_v1.json").
@@ -89,6 +96,13 @@ public class MapLoader {
                 return maze;
             }
 
+            JSONArray edgesList = (JSONArray) jsonObject.get("ligacoes");
+            int expectedCorridors = edgesList != null ? edgesList.size() : 0;
+            NetworkBuilder<Room> builder = new NetworkBuilder<>(roomsList.size(), expectedCorridors);
+            ArrayUnorderedList<Room> rooms = new ArrayUnorderedList<>(roomsList.size());
+            ArrayUnorderedList<Corridor> corridors = new ArrayUnorderedList<>(expectedCorridors);
+            ObjectIntHashMap<String> roomIndex = new ObjectIntHashMap<>(roomsList.size());
+
             int roomCount = 0;
             for (Object roomObj : roomsList) {
                 try {
@@ -104,7 +118,9 @@ public class MapLoader {
 
                     Room newRoom = createRoomFromType(id, type, description, availableRiddles, usedRiddles);
                     if (newRoom != null) {
-                        maze.addRoom(newRoom);
+                        int index = builder.addVertex(newRoom);
+                        roomIndex.putIfAbsent(id.toLowerCase(Locale.ROOT), index);
+                        rooms.addToRear(newRoom);
                         roomCount++;
                     }
                 } catch (Exception e) {
@@ -115,7 +131,6 @@ public class MapLoader {
             System.out.println("✓ Carregadas " + roomCount + " salas!");
 
             if (jsonObject.containsKey("ligacoes")) {
-                JSONArray edgesList = (JSONArray) jsonObject.get("ligacoes");
                 if (edgesList != null) {
                     int corridorCount = 0;
                     for (Object edgeObj : edgesList) {
@@ -162,7 +177,21 @@ public class MapLoader {
                                 }
                             }
 
-                            maze.addCorridor(from, to, weight, event);
+                            int fromIndex = roomIndex.get(from.toLowerCase(Locale.ROOT));
+                            int toIndex = roomIndex.get(to.toLowerCase(Locale.ROOT));
+                            if (fromIndex == ObjectIntHashMap.NO_VALUE || toIndex == ObjectIntHashMap.NO_VALUE) {
+                                System.err.println("Sala não encontrada para corredor " + from + " -> " + to);
+                                continue;
+                            }
+
+                            boolean oneWay = Boolean.TRUE.equals(edgeJson.get("sentido_unico"));
+                            if (oneWay) {
+                                builder.addArc(fromIndex, toIndex, weight);
+                            } else {
+                                builder.addEdge(fromIndex, toIndex, weight);
+                            }
+                            corridors.addToRear(new Corridor(builder.getVertex(fromIndex),
+                                    builder.getVertex(toIndex), weight, event, oneWay));
                             corridorCount++;
                         } catch (Exception e) {
                             System.err.println("Erro ao processar corredor: " + e.getMessage());
@@ -174,6 +203,14 @@ public class MapLoader {
                 System.err.println("Nenhum corredor ('ligacoes') encontrado no mapa");
             }
 
+            NetworkList<Room> network = builder.build();
+            network.setSearchStrategy(network.hasIntegralWeights()
+                    ? SearchStrategy.RADIX_HEAP : SearchStrategy.BINARY_HEAP);
+            maze = new Maze(network, rooms, corridors);
+            if (jsonObject.containsKey("ligacoes")) {
+                maze.optimizeLayout();
+            }
+
         } catch (IOException e) {
             System.err.println("Erro de leitura de ficheiro: " + e.getMessage());
             throw new InvalidJsonException("Erro ao ler ficheiro JSON: " + fileName);
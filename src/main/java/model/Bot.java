@@ -48,7 +48,8 @@ public class Bot extends Player {
      * Decides the next move for the bot based on its assigned strategy.
      * <p>
      * If the bot is <b>Smart</b>:
-     * 1. It calculates the shortest path to the {@link Center} (Treasure).
+     * 1. It calculates the shortest path to the {@link Center} (Treasure), avoiding
+     *    unsolved riddle rooms and trapped corridors when a safe route exists.
      * 2. Has a 20% chance to get "distracted" and make a random move instead.
      * <br>
      * If the bot is <b>Random</b> (or distracted):
@@ -70,7 +71,7 @@ public class Bot extends Player {
             } else {
                 Room treasure = maze.getTreasureRoom();
                 if (treasure != null) {
-                    Iterator<Room> pathIt = maze.getShortestPath(current, treasure);
+                    Iterator<Room> pathIt = maze.getSafeOrShortestPath(current, treasure);
 
                     if (pathIt.hasNext()) {
                         pathIt.next();
@@ -87,25 +88,16 @@ public class Bot extends Player {
 
         ArrayUnorderedList<Room> neighborsList = new ArrayUnorderedList<>();
         Iterator<Room> it = maze.getNeighbors(current);
-
-        int count = 0;
         while (it.hasNext()) {
             neighborsList.addToRear(it.next());
-            count++;
         }
 
-        if (count == 0) {
+        if (neighborsList.isEmpty()) {
             System.out.println(getName() + " (Bot) está num beco sem saída!");
             return null;
         }
 
-        int randomIndex = random.nextInt(count);
-        Iterator<Room> choiceIt = neighborsList.iterator();
-        Room chosenRoom = null;
-
-        for (int i = 0; i <= randomIndex; i++) {
-            chosenRoom = choiceIt.next();
-        }
+        Room chosenRoom = neighborsList.get(random.nextInt(neighborsList.size()));
 
         if (chosenRoom != null) {
             String strategyLabel = isSmart ? "(Fallback)" : "(Random)";
@@ -20,6 +20,7 @@ public class Corridor {
     private final Room target;
     private final double weight;
     private final RandomEvent event;
+    private final boolean oneWay;
 
     /**
      * Constructs a corridor with a specific weight and an optional random event.
@@ -30,10 +31,24 @@ public class Corridor {
      * @param event  A {@link RandomEvent} associated with this corridor (can be null).
      */
     public Corridor(Room source, Room target, double weight, RandomEvent event) {
+        this(source, target, weight, event, false);
+    }
+
+    /**
+     * Constructs a corridor that may only be travelled from source to target.
+     *
+     * @param source The starting room of the corridor.
+     * @param target The destination room of the corridor.
+     * @param weight The cost or weight associated with traversing this corridor.
+     * @param event  A {@link RandomEvent} associated with this corridor (can be null).
+     * @param oneWay True if the corridor cannot be travelled from target to source.
+     */
+    public Corridor(Room source, Room target, double weight, RandomEvent event, boolean oneWay) {
         this.source = source;
         this.target = target;
         this.weight = weight;
         this.event = event;
+        this.oneWay = oneWay;
     }
 
     /**
@@ -64,6 +79,13 @@ public class Corridor {
      */
     public RandomEvent getEvent() { return event; }
 
+    /**
+     * Checks whether this corridor can only be travelled from source to target.
+     *
+     * @return True for one-way corridors.
+     */
+    public boolean isOneWay() { return oneWay; }
+
     /**
      * Triggers the random event associated with this corridor, if one exists.
      * <p>
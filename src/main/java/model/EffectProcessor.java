@@ -117,14 +117,9 @@ public class EffectProcessor {
      * @param activePlayer The player triggering the swap.
      */
     public void performSwap(Player activePlayer) {
-        ArrayUnorderedList<Player> otherPlayers = new ArrayUnorderedList<>();
-        Iterator<Player> it = allPlayers.iterator();
-        while (it.hasNext()) {
-            Player p = it.next();
-            if (!p.equals(activePlayer)) {
-                otherPlayers.addToRear(p);
-            }
-        }
+        ArrayUnorderedList<Player> otherPlayers = new ArrayUnorderedList<>(allPlayers.size());
+        otherPlayers.addAll(allPlayers);
+        otherPlayers.removeIf(p -> p.equals(activePlayer));
 
         if (otherPlayers.isEmpty()) {
             System.out.println("Não há mais ninguém com quem trocar!");
@@ -148,10 +143,7 @@ public class EffectProcessor {
                 try {
                     int choice = Integer.parseInt(scanner.nextLine());
                     if (choice >= 1 && choice < index) {
-                        Iterator<Player> choiceIt = otherPlayers.iterator();
-                        for (int i = 1; i <= choice; i++) {
-                            target = choiceIt.next();
-                        }
+                        target = otherPlayers.get(choice - 1);
                     } else {
                         System.out.println("Escolha inválida. Cancelando troca.");
                         return;
@@ -163,10 +155,7 @@ public class EffectProcessor {
             }
         } else {
             int randomIndex = new java.util.Random().nextInt(otherPlayers.size());
-            Iterator<Player> botIt = otherPlayers.iterator();
-            for (int i = 0; i <= randomIndex; i++) {
-                target = botIt.next();
-            }
+            target = otherPlayers.get(randomIndex);
         }
 
         if (target == null) {
@@ -196,23 +185,16 @@ public class EffectProcessor {
             return;
         }
 
-        ArrayUnorderedList<Room> currentRooms = new ArrayUnorderedList<>();
-        Iterator<Player> it = allPlayers.iterator();
-        while (it.hasNext()) {
-            Player p = it.next();
-            currentRooms.addToRear(p.getCurrentRoom());
+        Player[] players = allPlayers.toArray(new Player[0]);
+        Room[] currentRooms = new Room[players.length];
+        for (int i = 0; i < players.length; i++) {
+            currentRooms[i] = players[i].getCurrentRoom();
         }
 
-        ArrayUnorderedList<Player> playerList = new ArrayUnorderedList<>();
-        it = allPlayers.iterator();
-        while (it.hasNext()) {
-            playerList.addToRear(it.next());
-        }
-        
-        for (int i = 0; i < playerList.size(); i++) {
-            Player p = getPlayerAtIndex(playerList, i);
-            Room newRoom = getRoomAtIndex(currentRooms, (i + 1) % currentRooms.size());
-            
+        for (int i = 0; i < players.length; i++) {
+            Player p = players[i];
+            Room newRoom = currentRooms[(i + 1) % currentRooms.length];
+
             if (p != null && newRoom != null) {
                 p.setCurrentRoomSilent(newRoom);
                 p.setLastSwappedPosition(newRoom);
@@ -220,38 +202,6 @@ public class EffectProcessor {
             }
         }
     }
-    
-    /**
-     * Helper method to get a player at a specific index.
-     */
-    private Player getPlayerAtIndex(ArrayUnorderedList<Player> list, int index) {
-        Iterator<Player> it = list.iterator();
-        int current = 0;
-        while (it.hasNext()) {
-            Player p = it.next();
-            if (current == index) {
-                return p;
-            }
-            current++;
-        }
-        return null;
-    }
-    
-    /**
-     * Helper method to get a room at a specific index.
-     */
-    private Room getRoomAtIndex(ArrayUnorderedList<Room> list, int index) {
-        Iterator<Room> it = list.iterator();
-        int current = 0;
-        while (it.hasNext()) {
-            Room r = it.next();
-            if (current == index) {
-                return r;
-            }
-            current++;
-        }
-        return null;
-    }
 
     /**
      * Makes the player step back through their movement history.
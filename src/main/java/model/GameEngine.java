@@ -22,6 +22,9 @@ import structures.queue.LinkedQueue;
  * @version 2025/2026
  */
 public class GameEngine {
+    /** Free nodes kept by the turn queue, which dequeues and re-enqueues a player every turn. */
+    private static final int TURN_QUEUE_POOL = 2;
+
     private Maze maze;
     private LinkedQueue<Player> turnQueue;
     private ArrayUnorderedList<Player> allPlayers;
@@ -40,7 +43,7 @@ public class GameEngine {
      */
     public GameEngine() {
         this.scanner = new Scanner(System.in);
-        this.turnQueue = new LinkedQueue<>();
+        this.turnQueue = new LinkedQueue<>(TURN_QUEUE_POOL);
         this.allPlayers = new ArrayUnorderedList<>();
         this.isRunning = false;
         this.availableEntrances = new ArrayUnorderedList<>();
@@ -1,8 +1,23 @@
 package model;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.DoubleSummaryStatistics;
 import java.util.Iterator;
-
+import java.util.Locale;
+
+import structures.graph.EdgeFilter;
+import structures.graph.GraphEdge;
+import structures.graph.HierarchicalPathFinder;
+import structures.graph.IntNetwork;
+import structures.graph.IntNetworkAdapter;
+import structures.graph.NetworkExporter;
 import structures.graph.NetworkList;
+import structures.graph.ShardedNetwork;
+import structures.graph.ShortestPathTree;
+import structures.graph.VertexFilter;
+import structures.hash.OpenHashMap;
+import structures.hash.OpenHashSet;
 import structures.linear.ArrayUnorderedList;
 
 /**
@@ -39,11 +54,52 @@ public class Maze {
     private ArrayUnorderedList<Room> allRooms;
 
     /**
-     * Tracks which lever rooms have been activated globally.
+     * Index of {@link #allRooms} by lower-cased room ID, so lookups by ID are O(1).
+     * When two rooms share an ID the first one added wins, as in a linear scan.
+     */
+    private OpenHashMap<String, Room> roomsById;
+
+    /**
+     * Tracks which lever rooms have been activated globally, in activation order.
      * Used to apply unlock effects to all players.
      */
     private ArrayUnorderedList<String> activatedLevers;
 
+    /** The IDs in {@link #activatedLevers}, for O(1) membership checks. */
+    private OpenHashSet<String> activatedLeverIds;
+
+    /**
+     * Rooms that can be entered through at least one corridor without a trap, by
+     * the room the corridor is left from. A two-way corridor is recorded in both
+     * directions, a one-way corridor only in its own, so a move is trapped only
+     * when every corridor between the two rooms in that direction has a trap.
+     */
+    private OpenHashMap<Room, OpenHashSet<Room>> safeExits;
+
+    /** Maps with at least this many rooms use zone-based pathfinding. */
+    private static final int ZONED_PATHFINDING_THRESHOLD = 1024;
+
+    /** Maximum number of rooms grouped into one pathfinding zone. */
+    private static final int ZONE_SIZE = 64;
+
+    /**
+     * Hierarchical path finder over zones of rooms, or null when the map is small.
+     * Rooms and two-way corridors added later are passed on to it, so it only
+     * recomputes the zones they touch.
+     */
+    private HierarchicalPathFinder<Room> zonedPaths;
+
+    /** Whether this maze is large enough to route through {@link #zonedPaths}. */
+    private boolean zonedPathfinding;
+
+    /**
+     * Reverse shortest-path tree towards the most recent route destination, used
+     * when zone-based pathfinding is off.
+     * Bots ask for the route to the same room every turn, so each query is a walk up
+     * the tree; secret passages repair it incrementally instead of discarding it.
+     */
+    private ShortestPathTree<Room> routeTree;
+
     /**
      * Constructs a new, empty Maze.
      * Initializes the graph and auxiliary lists.
@@ -52,7 +108,40 @@ public class Maze {
         this.map = new NetworkList<>();
         this.allCorridors = new ArrayUnorderedList<>();
         this.allRooms = new ArrayUnorderedList<>();
+        this.roomsById = new OpenHashMap<>();
+        this.activatedLevers = new ArrayUnorderedList<>();
+        this.activatedLeverIds = new OpenHashSet<>();
+        this.safeExits = new OpenHashMap<>();
+    }
+
+    /**
+     * Constructs a Maze around a network that was already built in bulk, e.g. by a
+     * {@link structures.graph.NetworkBuilder}.
+     * <p>
+     * {@code rooms} must hold the network's vertices in index order and
+     * {@code corridors} one entry per network edge; the lists are adopted, not copied.
+     * </p>
+     *
+     * @param map       the finished room graph
+     * @param rooms     every room of the graph, in vertex order
+     * @param corridors every corridor of the graph
+     */
+    public Maze(NetworkList<Room> map, ArrayUnorderedList<Room> rooms, ArrayUnorderedList<Corridor> corridors) {
+        this.map = map;
+        this.allRooms = rooms;
+        this.allCorridors = corridors;
+        this.roomsById = new OpenHashMap<>(rooms.size());
+        Iterator<Room> it = rooms.iterator();
+        while (it.hasNext()) {
+            indexRoom(it.next());
+        }
         this.activatedLevers = new ArrayUnorderedList<>();
+        this.activatedLeverIds = new OpenHashSet<>();
+        this.safeExits = new OpenHashMap<>();
+        Iterator<Corridor> corridorIt = corridors.iterator();
+        while (corridorIt.hasNext()) {
+            indexSafeExits(corridorIt.next());
+        }
     }
 
     /**
@@ -67,6 +156,22 @@ public class Maze {
         if (room != null) {
             this.map.addVertex(room);
             this.allRooms.addToRear(room);
+            indexRoom(room);
+            if (zonedPaths != null) {
+                zonedPaths.addVertex(room);
+            }
+        }
+    }
+
+    /**
+     * Adds a room to the ID index unless a room with the same ID is already there.
+     */
+    private void indexRoom(Room room) {
+        if (room.getId() != null) {
+            String key = room.getId().toLowerCase(Locale.ROOT);
+            if (!roomsById.containsKey(key)) {
+                roomsById.put(key, room);
+            }
         }
     }
 
@@ -79,6 +184,24 @@ public class Maze {
      * @param event  Random event associated with the corridor (can be null).
      */
     public void addCorridor(String fromId, String toId, double cost, RandomEvent event) {
+        addCorridor(fromId, toId, cost, event, false);
+    }
+
+    /**
+     * Creates a corridor that may be one-way, i.e. only travelled from the source
+     * room to the destination room.
+     * <p>
+     * One-way corridors disable zone-based pathfinding, which needs corridors usable
+     * in both directions; routes then use the plain searches, which respect direction.
+     * </p>
+     *
+     * @param fromId ID of the source room.
+     * @param toId   ID of the destination room.
+     * @param cost   Movement cost/weight.
+     * @param event  Random event associated with the corridor (can be null).
+     * @param oneWay True if the corridor can only be travelled from source to destination.
+     */
+    public void addCorridor(String fromId, String toId, double cost, RandomEvent event, boolean oneWay) {
         Room from = findRoomById(fromId);
         Room to = findRoomById(toId);
 
@@ -88,11 +211,51 @@ public class Maze {
             return;
         }
 
-        Corridor corridor = new Corridor(from, to, cost, event);
+        Corridor corridor = new Corridor(from, to, cost, event, oneWay);
 
-        map.addEdge(from, to, cost);
+        if (oneWay) {
+            map.addArc(from, to, cost);
+            zonedPathfinding = false;
+            zonedPaths = null;
+        } else {
+            map.addEdge(from, to, cost);
+            if (zonedPaths != null) {
+                zonedPaths.addEdge(from, to, cost);
+            }
+        }
 
         allCorridors.addToRear(corridor);
+        indexSafeExits(corridor);
+    }
+
+    /**
+     * Records the directions in which a corridor without a trap event is travelled.
+     */
+    private void indexSafeExits(Corridor corridor) {
+        if (corridor.getEvent() != null && corridor.getEvent().getDirectEffect() == Effect.TRAP) {
+            return;
+        }
+        addSafeExit(corridor.getSource(), corridor.getTarget());
+        if (!corridor.isOneWay()) {
+            addSafeExit(corridor.getTarget(), corridor.getSource());
+        }
+    }
+
+    private void addSafeExit(Room from, Room to) {
+        OpenHashSet<Room> exits = safeExits.get(from);
+        if (exits == null) {
+            exits = new OpenHashSet<>();
+            safeExits.put(from, exits);
+        }
+        exits.add(to);
+    }
+
+    /**
+     * Returns true if every corridor from one room to the other has a trap.
+     */
+    private boolean isTrapped(Room from, Room to) {
+        OpenHashSet<Room> exits = safeExits.get(from);
+        return exits == null || !exits.contains(to);
     }
 
     /**
@@ -114,14 +277,15 @@ public class Maze {
      *
      * @param from The source room.
      * @param to   The destination room.
-     * @return The Corridor object, or null if no direct connection exists.
+     * @return The Corridor object, or null if no direct connection exists
+     *         (one-way corridors only match in their own direction).
      */
     public Corridor getCorridorBetween(Room from, Room to) {
         Iterator<Corridor> it = allCorridors.iterator();
         while (it.hasNext()) {
             Corridor c = it.next();
             boolean direct = c.getSource().equals(from) && c.getTarget().equals(to);
-            boolean reverse = c.getSource().equals(to) && c.getTarget().equals(from);
+            boolean reverse = !c.isOneWay() && c.getSource().equals(to) && c.getTarget().equals(from);
 
             if (direct || reverse) {
                 return c;
@@ -131,10 +295,10 @@ public class Maze {
     }
 
     /**
-     * Finds a room by its unique ID using the auxiliary list.
+     * Finds a room by its unique ID (ignoring case) using the auxiliary index.
      * <p>
      * This is robust because it does not rely on graph traversal (BFS),
-     * preventing errors during the map loading phase.
+     * preventing errors during the map loading phase, and takes O(1) expected time.
      * </p>
      *
      * @param id The identifier of the room.
@@ -144,15 +308,7 @@ public class Maze {
         if (id == null){
             return null;
         }
-
-        Iterator<Room> it = allRooms.iterator();
-        while (it.hasNext()) {
-            Room room = it.next();
-            if (id.equalsIgnoreCase(room.getId())) {
-                return room;
-            }
-        }
-        return null;
+        return roomsById.get(id.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -193,12 +349,7 @@ public class Maze {
 
         java.util.Random rnd = new java.util.Random();
         int randomIndex = rnd.nextInt(candidates.size());
-
-        Iterator<Room> candidateIt = candidates.iterator();
-        Room target = null;
-        for (int i = 0; i <= randomIndex; i++) {
-            if (candidateIt.hasNext()) target = candidateIt.next();
-        }
+        Room target = candidates.get(randomIndex);
 
         if (target != null) {
             addCorridor(fromRoom.getId(), target.getId(), 0.5);
@@ -215,7 +366,93 @@ public class Maze {
      * @return An iterator of rooms comprising the path.
      */
     public Iterator<Room> getShortestPath(Room start, Room end) {
-        return map.iteratorShortestPath(start, end);
+        if (zonedPathfinding) {
+            if (zonedPaths == null) {
+                zonedPaths = new HierarchicalPathFinder<>(map, ZONE_SIZE);
+            }
+            return zonedPaths.iteratorShortestPath(start, end);
+        }
+        if (routeTree == null || routeTree.getSource() != end) {
+            if (routeTree != null) {
+                routeTree.detach();
+            }
+            routeTree = map.shortestPathTreeTo(end);
+        }
+        return routeTree.pathFrom(start);
+    }
+
+    /**
+     * Gets the shortest path between two rooms that avoids hazards: rooms with an
+     * unsolved riddle (other than the start and end) and corridors whose event is a
+     * {@link Effect#TRAP}.
+     * <p>
+     * The search runs on a filtered view of the map, so no copy of the graph is built.
+     * Safe moves are looked up in a hash index kept as corridors are added: a move
+     * between two rooms is avoided only when every corridor joining them in that
+     * direction has a trap, and a trap on a one-way corridor only blocks its own
+     * direction.
+     * </p>
+     *
+     * @param start The starting room.
+     * @param end   The destination room.
+     * @return An iterator of rooms comprising the safe path, or empty if none exists.
+     */
+    public Iterator<Room> getSafeShortestPath(Room start, Room end) {
+        VertexFilter<Room> avoidRiddles = room -> room == start || room == end || !isUnsolvedRiddle(room);
+        EdgeFilter<Room> avoidTraps = (from, to, weight) -> !isTrapped(from, to);
+
+        return map.filtered(avoidRiddles, avoidTraps).iteratorShortestPath(start, end);
+    }
+
+    /**
+     * Gets the safe shortest path between two rooms when one exists, or else the
+     * plain shortest path.
+     * <p>
+     * The plain route comes from {@link #getShortestPath}, which reuses its cached
+     * search. When that route already avoids every hazard it is also the safe
+     * shortest path and is returned directly; only otherwise is the safe search run.
+     * </p>
+     *
+     * @param start The starting room.
+     * @param end   The destination room.
+     * @return An iterator of rooms comprising the path, or empty if end is unreachable.
+     */
+    public Iterator<Room> getSafeOrShortestPath(Room start, Room end) {
+        ArrayUnorderedList<Room> route = new ArrayUnorderedList<>();
+        Iterator<Room> it = getShortestPath(start, end);
+        while (it.hasNext()) {
+            route.addToRear(it.next());
+        }
+        if (route.isEmpty() || isSafe(route, start, end)) {
+            return route.iterator();
+        }
+
+        Iterator<Room> safe = getSafeShortestPath(start, end);
+        return safe.hasNext() ? safe : route.iterator();
+    }
+
+    /**
+     * Returns true if a route crosses no trapped corridor and no unsolved riddle
+     * room other than its endpoints.
+     */
+    private boolean isSafe(ArrayUnorderedList<Room> route, Room start, Room end) {
+        Room previous = null;
+        Iterator<Room> it = route.iterator();
+        while (it.hasNext()) {
+            Room room = it.next();
+            if (room != start && room != end && isUnsolvedRiddle(room)) {
+                return false;
+            }
+            if (previous != null && isTrapped(previous, room)) {
+                return false;
+            }
+            previous = room;
+        }
+        return true;
+    }
+
+    private static boolean isUnsolvedRiddle(Room room) {
+        return room instanceof RiddleRoom && !((RiddleRoom) room).isSolved();
     }
 
     /**
@@ -322,13 +559,9 @@ public class Maze {
      * @param leverId The ID of the lever room.
      */
     public void activateLever(String leverId) {
-        Iterator<String> it = activatedLevers.iterator();
-        while (it.hasNext()) {
-            if (it.next().equals(leverId)) {
-                return;
-            }
+        if (leverId != null && activatedLeverIds.add(leverId)) {
+            activatedLevers.addToRear(leverId);
         }
-        activatedLevers.addToRear(leverId);
     }
 
     /**
@@ -338,13 +571,7 @@ public class Maze {
      * @return true if activated, false otherwise.
      */
     public boolean isLeverActivated(String leverId) {
-        Iterator<String> it = activatedLevers.iterator();
-        while (it.hasNext()) {
-            if (it.next().equals(leverId)) {
-                return true;
-            }
-        }
-        return false;
+        return activatedLeverIds.contains(leverId);
     }
 
     /**
@@ -365,6 +592,19 @@ public class Maze {
         return allCorridors.iterator();
     }
 
+    /**
+     * Summarises corridor costs: count, total, minimum, maximum and average.
+     * <p>
+     * The room graph's edges are streamed in parallel, so each corridor is counted
+     * once and large maps use every core.
+     * </p>
+     *
+     * @return statistics over the cost of every corridor
+     */
+    public DoubleSummaryStatistics getCorridorCostStatistics() {
+        return map.edges().parallel().mapToDouble(GraphEdge::getWeight).summaryStatistics();
+    }
+
     /**
      * Returns all rooms in the maze.
      *
@@ -376,7 +616,10 @@ public class Maze {
 
     /**
      * Validates graph connectivity with detailed error reporting.
-     * Ensures all rooms are reachable from the entrance.
+     * Ensures all rooms are reachable from the entrance, following one-way
+     * corridors only in their direction. The search starts at the entrance
+     * itself rather than at the first graph vertex, whose room changes when
+     * {@link #optimizeLayout()} renumbers the graph.
      *
      * @return true if all rooms are connected, false otherwise.
      */
@@ -386,28 +629,118 @@ public class Maze {
             return false;
         }
 
-        if (getEntrance() == null) {
+        Room entrance = getEntrance();
+        if (entrance == null) {
             System.err.println("Nenhuma entrada encontrada no mapa.");
             return false;
         }
 
-        boolean connected = map.isConnected();
+        Iterator<Room> it = map.iteratorBFS(entrance);
+        int reachable = 0;
+        while (it.hasNext()) {
+            it.next();
+            reachable++;
+        }
+        boolean connected = reachable == map.size();
 
         if (!connected) {
             System.err.println("Salas inalcançáveis detectadas!");
-            System.err.println("  - Total de salas: " + allRooms.size());
-            Iterator<Room> it = map.iteratorBFS(0);
-            int reachable = 0;
-            while (it.hasNext()) {
-                it.next();
-                reachable++;
-            }
+            System.err.println("  - Total de salas: " + map.size());
             System.err.println("  - Salas alcançáveis: " + reachable);
         }
 
         return connected;
     }
 
+    /**
+     * Renumbers the rooms inside the graph so that connected rooms are stored close
+     * together (Reverse Cuthill–McKee order).
+     * <p>
+     * Intended to run once after the map is fully loaded; it only changes internal
+     * indices, so rooms, corridors and neighbour order are preserved.
+     * </p>
+     */
+    public void optimizeLayout() {
+        map.reorderRCM();
+        buildZones();
+    }
+
+    /**
+     * Splits large maps into zones of nearby rooms and builds the abstract zone graph
+     * used by {@link #getShortestPath}.
+     * <p>
+     * Bots query a route every turn; on maps with thousands of rooms a plain Dijkstra
+     * over the whole graph is too slow, so routes are planned between zone borders first
+     * and refined only inside the zones they cross. Small maps keep the plain search.
+     * Rooms and corridors added afterwards (e.g. secret passages) only refresh the
+     * zones they touch.
+     * </p>
+     */
+    public void buildZones() {
+        zonedPathfinding = map.size() >= ZONED_PATHFINDING_THRESHOLD && !map.hasArcs();
+        zonedPaths = zonedPathfinding ? new HierarchicalPathFinder<>(map, ZONE_SIZE) : null;
+    }
+
+    /**
+     * Splits the maze's rooms into balanced shards with few corridors between them.
+     * <p>
+     * Each shard holds its rooms and internal corridors as a separate network; the
+     * returned view answers neighbour and route queries by routing them to the shards
+     * involved and stitches cross-shard routes at border rooms. One-way corridors
+     * keep their direction.
+     * </p>
+     *
+     * @param shardCount the number of shards
+     * @return a sharded snapshot of the current maze
+     * @throws IllegalArgumentException if shardCount is not positive
+     */
+    public ShardedNetwork<Room> shard(int shardCount) {
+        return new ShardedNetwork<>(map, shardCount);
+    }
+
+    /**
+     * Builds a copy of the maze on a primitive {@link IntNetwork}, numbering rooms in
+     * load order (the first room added gets id 0).
+     * <p>
+     * Analyses that run many traversals can work on the returned adapter's
+     * {@link IntNetworkAdapter#network()} with plain int ids and map results back
+     * with {@link IntNetworkAdapter#vertexAt(int)}. The copy is undirected, so mazes
+     * with one-way corridors are rejected rather than silently made two-way.
+     * </p>
+     *
+     * @return an adapter holding every room and corridor of this maze
+     * @throws IllegalStateException if the maze has one-way corridors
+     */
+    public IntNetworkAdapter<Room> toNumberedNetwork() {
+        if (map.hasArcs()) {
+            throw new IllegalStateException("Mapas com corredores de sentido único não podem ser numerados");
+        }
+        IntNetworkAdapter<Room> numbered = new IntNetworkAdapter<>();
+        Iterator<Room> rooms = allRooms.iterator();
+        while (rooms.hasNext()) {
+            numbered.addVertex(rooms.next());
+        }
+
+        Iterator<Corridor> corridors = allCorridors.iterator();
+        while (corridors.hasNext()) {
+            Corridor c = corridors.next();
+            numbered.addEdge(c.getSource(), c.getTarget(), c.getWeight());
+        }
+        return numbered;
+    }
+
+    /**
+     * Streams the maze graph to a writer in the given format (DOT, GraphML or an
+     * edge list), in time linear in the number of rooms and corridors.
+     *
+     * @param format the output format
+     * @param out    the destination writer (flushed, not closed)
+     * @throws IOException if writing fails
+     */
+    public void export(NetworkExporter.Format format, Writer out) throws IOException {
+        NetworkExporter.write(map, format, out);
+    }
+
     /**
      * Returns the string representation of the maze structure.
      *
@@ -0,0 +1,249 @@
+package model;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import exceptions.NoSuchRoomException;
+import structures.graph.IntNetwork;
+import structures.graph.IntNetworkAdapter;
+import structures.hash.OpenHashSet;
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Computes topology metrics used to rate how hard a maze is.
+ * <p>
+ * On construction the maze is copied into a numbered {@link IntNetwork} and analysed
+ * once:
+ * </p>
+ * <ul>
+ *   <li>the eccentricity of every room (the cost of reaching the farthest room), from
+ *       one shortest-path search per room; the searches are split into ranges of
+ *       rooms and run in parallel on a {@link ForkJoinPool}. When every corridor has
+ *       the same cost a breadth-first search replaces Dijkstra;</li>
+ *   <li>the diameter and radius (largest and smallest eccentricity);</li>
+ *   <li>chokepoints: rooms (articulation points) and corridors (bridges) whose loss
+ *       would split the maze, found in linear time with Tarjan's low-link search.</li>
+ * </ul>
+ * <p>
+ * The analyser is a snapshot; changes made to the maze afterwards are not reflected.
+ * The metrics assume corridors usable in both directions, so mazes with one-way
+ * corridors are rejected.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class MazeAnalyzer {
+
+    /** Rooms per task below which the eccentricity searches run sequentially. */
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+
+    private final Maze maze;
+    private final IntNetworkAdapter<Room> numbered;
+    private final double[] eccentricity;
+    private final boolean[] articulation;
+    private final int[][] bridges;
+    private double diameter;
+    private double radius;
+
+    /**
+     * Analyses a maze using the common fork/join pool.
+     *
+     * @param maze the maze to analyse
+     * @throws IllegalStateException if the maze has one-way corridors
+     */
+    public MazeAnalyzer(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Analyses a maze running the eccentricity searches on the given pool.
+     *
+     * @param maze the maze to analyse
+     * @param pool the pool that runs the per-room searches
+     * @throws IllegalStateException if the maze has one-way corridors
+     */
+    public MazeAnalyzer(Maze maze, ForkJoinPool pool) {
+        this.maze = maze;
+        this.numbered = maze.toNumberedNetwork();
+
+        IntNetwork network = numbered.network();
+        int rooms = network.size();
+        this.eccentricity = new double[rooms];
+        if (rooms > 0) {
+            pool.invoke(new EccentricityTask(network, eccentricity, uniformWeight(network), 0, rooms));
+        }
+        this.articulation = network.articulationPoints();
+        this.bridges = network.bridges();
+
+        diameter = rooms > 0 ? 0.0 : Double.POSITIVE_INFINITY;
+        radius = Double.POSITIVE_INFINITY;
+        for (double e : eccentricity) {
+            diameter = Math.max(diameter, e);
+            radius = Math.min(radius, e);
+        }
+    }
+
+    /**
+     * Returns the largest shortest-path cost between any two rooms.
+     *
+     * @return the diameter, or positive infinity if the maze is empty or not connected
+     */
+    public double getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Returns the smallest eccentricity of any room.
+     *
+     * @return the radius, or positive infinity if the maze is empty or not connected
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Returns the cost of reaching the room farthest from the given room.
+     *
+     * @param room a room of the analysed maze
+     * @return its eccentricity, or positive infinity if some room is unreachable from it
+     * @throws NoSuchRoomException if the room is not part of the analysed maze
+     */
+    public double getEccentricity(Room room) {
+        int id = numbered.indexOf(room);
+        if (id == -1) {
+            throw new NoSuchRoomException("Sala não pertence ao labirinto analisado: " + room);
+        }
+        return eccentricity[id];
+    }
+
+    /**
+     * Returns the rooms whose removal would split the maze.
+     *
+     * @return the articulation rooms, in load order
+     */
+    public ArrayUnorderedList<Room> getChokepointRooms() {
+        ArrayUnorderedList<Room> result = new ArrayUnorderedList<>();
+        for (int id = 0; id < articulation.length; id++) {
+            if (articulation[id]) {
+                result.addToRear(numbered.vertexAt(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the corridors whose removal would split the maze.
+     * <p>
+     * The bridges are put in a hash set keyed by their pair of room ids, so the
+     * corridors are matched in a single pass over the corridor list.
+     * </p>
+     *
+     * @return the bridge corridors, in load order
+     */
+    public ArrayUnorderedList<Corridor> getChokepointCorridors() {
+        ArrayUnorderedList<Corridor> result = new ArrayUnorderedList<>(bridges.length);
+        if (bridges.length == 0) {
+            return result;
+        }
+        OpenHashSet<Long> pending = new OpenHashSet<>(bridges.length);
+        for (int[] bridge : bridges) {
+            pending.add(pairKey(bridge[0], bridge[1]));
+        }
+
+        Iterator<Corridor> it = maze.getAllCorridors();
+        while (it.hasNext() && !pending.isEmpty()) {
+            Corridor corridor = it.next();
+            int source = numbered.indexOf(corridor.getSource());
+            int target = numbered.indexOf(corridor.getTarget());
+            if (source != -1 && target != -1 && pending.remove(pairKey(source, target))) {
+                result.addToRear(corridor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packs an unordered pair of room ids into one key.
+     */
+    private static long pairKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    /**
+     * Returns a one-line summary of the metrics.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return "Salas: " + eccentricity.length
+                + " | Diâmetro: " + diameter
+                + " | Raio: " + radius
+                + " | Salas críticas: " + getChokepointRooms().size()
+                + " | Corredores críticos: " + bridges.length;
+    }
+
+    /**
+     * Returns the weight shared by every edge, or NaN if weights differ or there
+     * are no edges.
+     */
+    private static double uniformWeight(IntNetwork network) {
+        double shared = Double.NaN;
+        for (int v = 0; v < network.size(); v++) {
+            for (int i = 0; i < network.degree(v); i++) {
+                double w = network.weight(v, i);
+                if (Double.isNaN(shared)) {
+                    shared = w;
+                } else if (w != shared) {
+                    return Double.NaN;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Computes the eccentricities of a range of rooms, splitting the range in half
+     * until it is small enough to run sequentially.
+     */
+    private static final class EccentricityTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntNetwork network;
+        private final double[] result;
+        private final double uniformWeight;
+        private final int from;
+        private final int to;
+
+        EccentricityTask(IntNetwork network, double[] result, double uniformWeight, int from, int to) {
+            this.network = network;
+            this.result = result;
+            this.uniformWeight = uniformWeight;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int v = from; v < to; v++) {
+                    result[v] = eccentricityOf(v);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EccentricityTask(network, result, uniformWeight, from, middle),
+                    new EccentricityTask(network, result, uniformWeight, middle, to));
+        }
+
+        private double eccentricityOf(int v) {
+            if (Double.isNaN(uniformWeight)) {
+                return network.eccentricity(v);
+            }
+            int hops = network.hopEccentricity(v);
+            return hops < 0 ? Double.POSITIVE_INFINITY : hops * uniformWeight;
+        }
+    }
+}
@@ -24,6 +24,12 @@ public class Player {
     private boolean skipNextTurn;
     private Room lastSwappedPosition;
 
+    /**
+     * Free nodes kept by the movement history: a recede pops up to one entry more
+     * than its step count, and the following moves push onto the same stack.
+     */
+    private static final int HISTORY_POOL = Math.abs(Effect.RECEDE.getValue()) + 1;
+
     /**
      * Movement history used for the final report.
      * Stores the IDs of the rooms visited.
@@ -53,7 +59,7 @@ public class Player {
     public Player(String name) {
         this.name = name;
         this.power = 100; 
-        this.movementHistory = new LinkedStack<>();
+        this.movementHistory = new LinkedStack<>(HISTORY_POOL);
         this.skipNextTurn = false;
         this.lastSwappedPosition = null;
         this.solvedRiddles = new ArrayUnorderedList<>();
@@ -212,7 +218,7 @@ public class Player {
      * @return Iterator of riddle IDs.
      */
     public Iterator<String> getSolvedRiddles() {
-        return copyIterator(solvedRiddles.iterator());
+        return copyIterator(solvedRiddles);
     }
 
     /**
@@ -221,7 +227,7 @@ public class Player {
      * @return Iterator of effect names.
      */
     public Iterator<String> getAppliedEffects() {
-        return copyIterator(appliedEffects.iterator());
+        return copyIterator(appliedEffects);
     }
 
     /**
@@ -230,7 +236,7 @@ public class Player {
      * @return Iterator of event descriptions.
      */
     public Iterator<String> getEncounteredEvents() {
-        return copyIterator(encounteredEvents.iterator());
+        return copyIterator(encounteredEvents);
     }
 
     /**
@@ -254,11 +260,9 @@ public class Player {
     /**
      * Returns a defensive-iterator backed by a copy, protecting the original collections.
      */
-    private Iterator<String> copyIterator(Iterator<String> source) {
-        ArrayUnorderedList<String> copy = new ArrayUnorderedList<>();
-        while (source.hasNext()) {
-            copy.addToRear(source.next());
-        }
+    private Iterator<String> copyIterator(ArrayUnorderedList<String> source) {
+        ArrayUnorderedList<String> copy = new ArrayUnorderedList<>(source.size());
+        copy.addAll(source);
         return copy.iterator();
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package model;
 
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Scanner;
 
 import exceptions.GameOverException;
 import exceptions.InvalidMoveException;
+import structures.hash.OpenHashSet;
 import structures.linear.ArrayUnorderedList;
 
 /**
@@ -83,13 +85,14 @@ public class TurnManager {
      */
     private ArrayUnorderedList<Room> listAvailableExits(Room current) {
         ArrayUnorderedList<Room> exits = new ArrayUnorderedList<>();
+        OpenHashSet<String> seen = new OpenHashSet<>();
         Iterator<Room> neighbors = maze.getNeighbors(current);
 
         System.out.println("\nSalas disponíveis:\n");
         int option = 1;
         while (neighbors.hasNext()) {
             Room r = neighbors.next();
-            if (isRoomIdAbsent(exits, r.getId())) {
+            if (seen.add(roomKey(r))) {
                 exits.addToRear(r);
                 System.out.println(option + ". " + r.getId() + " - " + r.getDescription());
                 option++;
@@ -265,13 +268,12 @@ public class TurnManager {
         Room current = p.getCurrentRoom();
         System.out.println("\nLocalização: " + current.getId() + " (" + current.getDescription() + ")");
         System.out.println("Poder: " + p.getPower());
-        ArrayUnorderedList<Room> unique = new ArrayUnorderedList<>();
+        OpenHashSet<String> unique = new OpenHashSet<>();
         Iterator<Room> it = maze.getNeighbors(current);
         StringBuilder sb = new StringBuilder();
         while (it.hasNext()) {
             Room r = it.next();
-            if (isRoomIdAbsent(unique, r.getId())) {
-                unique.addToRear(r);
+            if (unique.add(roomKey(r))) {
                 if (sb.length() > 0) {
                     sb.append(" | ");
                 }
@@ -288,30 +290,13 @@ public class TurnManager {
         if (index < 1 || index > rooms.size()) {
             return null;
         }
-
-        Iterator<Room> it = rooms.iterator();
-        int current = 1;
-        while (it.hasNext()) {
-            Room r = it.next();
-            if (current == index) {
-                return r;
-            }
-            current++;
-        }
-        return null;
+        return rooms.get(index - 1);
     }
 
     /**
-     * Checks if a room ID is absent from the provided list.
+     * Returns the case-insensitive key used to de-duplicate rooms by ID.
      */
-    private boolean isRoomIdAbsent(ArrayUnorderedList<Room> list, String roomId) {
-        Iterator<Room> it = list.iterator();
-        while (it.hasNext()) {
-            Room r = it.next();
-            if (r.getId().equalsIgnoreCase(roomId)) {
-                return false;
-            }
-        }
-        return true;
+    private String roomKey(Room room) {
+        return room.getId().toLowerCase(Locale.ROOT);
     }
 }
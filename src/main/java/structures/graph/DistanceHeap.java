@@ -0,0 +1,99 @@
+package structures.graph;
+
+/**
+ * Binary min-heap of (vertex, distance) pairs used by the graph searches.
+ * <p>
+ * Keys and vertices live in parallel primitive arrays, so pushes do not box or
+ * allocate once the heap has grown to its working size. Decrease-key is handled
+ * lazily: a vertex may be pushed several times and callers skip entries whose
+ * vertex is already settled.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class DistanceHeap {
+
+    private double[] keys = new double[16];
+    private int[] items = new int[16];
+    private int size;
+
+    /**
+     * Returns true if the heap holds no entries.
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry while keeping the allocated arrays.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Inserts a vertex with the given distance.
+     *
+     * @param vertex vertex index
+     * @param key    distance used for ordering
+     */
+    void push(int vertex, double key) {
+        if (size == keys.length) {
+            double[] largerKeys = new double[size * 2];
+            int[] largerItems = new int[size * 2];
+            System.arraycopy(keys, 0, largerKeys, 0, size);
+            System.arraycopy(items, 0, largerItems, 0, size);
+            keys = largerKeys;
+            items = largerItems;
+        }
+
+        int node = size++;
+        while (node > 0) {
+            int parent = (node - 1) / 2;
+            if (keys[parent] <= key) break;
+            keys[node] = keys[parent];
+            items[node] = items[parent];
+            node = parent;
+        }
+        keys[node] = key;
+        items[node] = vertex;
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     *
+     * @return the minimum distance in the heap
+     */
+    double minKey() {
+        return keys[0];
+    }
+
+    /**
+     * Removes the entry with the smallest key and returns its vertex.
+     *
+     * @return vertex index of the removed entry
+     */
+    int pop() {
+        int result = items[0];
+        size--;
+        double key = keys[size];
+        int item = items[size];
+
+        int node = 0;
+        int child = 1;
+        while (child < size) {
+            if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            keys[node] = keys[child];
+            items[node] = items[child];
+            node = child;
+            child = 2 * node + 1;
+        }
+        keys[node] = key;
+        items[node] = item;
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package structures.graph;
+
+/**
+ * Predicate deciding whether an edge may be followed by a filtered traversal.
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+@FunctionalInterface
+public interface EdgeFilter<T> {
+
+    /**
+     * Returns true if the edge from {@code source} to {@code target} is part of the
+     * filtered view.
+     *
+     * @param source the vertex the edge leaves from
+     * @param target the vertex the edge leads to
+     * @param weight the weight of the edge
+     * @return true to keep the edge, false to hide it
+     */
+    boolean accept(T source, T target, double weight);
+}
@@ -0,0 +1,116 @@
+package structures.graph;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the edges owned by a range of source vertices.
+ * <p>
+ * Each graph decides which of its adjacency entries a vertex owns, so that every
+ * connection is reported exactly once; this class walks a range of vertices and
+ * splits it in half for parallel streams. The size is an estimate proportional to
+ * the number of vertices in the range. The graph must not be modified while the
+ * stream runs.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class EdgeSpliterator<T> implements Spliterator<GraphEdge<T>> {
+
+    /**
+     * Supplies the edges owned by one vertex.
+     *
+     * @param <T> the type of elements stored as vertices
+     */
+    interface Source<T> {
+        /**
+         * Passes every edge owned by a vertex to the action.
+         *
+         * @param vertex the vertex index
+         * @param action the receiver of the edges
+         */
+        void ownedEdges(int vertex, Consumer<? super GraphEdge<T>> action);
+    }
+
+    private final Source<T> source;
+    private int from;
+    private final int to;
+    private final double edgesPerVertex;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private GraphEdge<T>[] buffer = new GraphEdge[4];
+    private int bufferSize;
+    private int bufferNext;
+
+    /**
+     * Creates a spliterator over the edges owned by vertices {@code from..to-1}.
+     *
+     * @param source         the graph's edge ownership rule
+     * @param from           first vertex index, inclusive
+     * @param to             last vertex index, exclusive
+     * @param edgesPerVertex average number of owned edges per vertex, for estimates
+     */
+    EdgeSpliterator(Source<T> source, int from, int to, double edgesPerVertex) {
+        this.source = source;
+        this.from = from;
+        this.to = to;
+        this.edgesPerVertex = edgesPerVertex;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GraphEdge<T>> action) {
+        while (bufferNext == bufferSize) {
+            if (from >= to) return false;
+            bufferSize = 0;
+            bufferNext = 0;
+            source.ownedEdges(from++, this::buffer);
+        }
+        GraphEdge<T> edge = buffer[bufferNext];
+        buffer[bufferNext++] = null;
+        action.accept(edge);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super GraphEdge<T>> action) {
+        while (bufferNext < bufferSize) {
+            GraphEdge<T> edge = buffer[bufferNext];
+            buffer[bufferNext++] = null;
+            action.accept(edge);
+        }
+        while (from < to) {
+            source.ownedEdges(from++, action);
+        }
+    }
+
+    @Override
+    public Spliterator<GraphEdge<T>> trySplit() {
+        int middle = (from + to) >>> 1;
+        if (middle <= from || bufferNext < bufferSize) return null;
+        Spliterator<GraphEdge<T>> prefix = new EdgeSpliterator<>(source, from, middle, edgesPerVertex);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (long) Math.ceil((to - from) * edgesPerVertex) + (bufferSize - bufferNext);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void buffer(GraphEdge<T> edge) {
+        if (bufferSize == buffer.length) {
+            GraphEdge<T>[] larger = new GraphEdge[bufferSize * 2];
+            System.arraycopy(buffer, 0, larger, 0, bufferSize);
+            buffer = larger;
+        }
+        buffer[bufferSize++] = edge;
+    }
+}
@@ -0,0 +1,89 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+/**
+ * Read-only view of a {@link NetworkList} restricted by vertex and edge filters.
+ * <p>
+ * The view copies nothing: every traversal runs directly over the underlying
+ * network and evaluates the filters on the fly, skipping hidden vertices and
+ * edges. Changes to the network are visible through the view immediately.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class FilteredNetworkView<T> {
+
+    private final NetworkList<T> network;
+    private final VertexFilter<T> vertexFilter;
+    private final EdgeFilter<T> edgeFilter;
+
+    /**
+     * Creates a view over a network. Either filter may be null to accept everything.
+     *
+     * @param network      the underlying network
+     * @param vertexFilter filter for vertices, or null
+     * @param edgeFilter   filter for edges, or null
+     */
+    FilteredNetworkView(NetworkList<T> network, VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        this.network = network;
+        this.vertexFilter = vertexFilter;
+        this.edgeFilter = edgeFilter;
+    }
+
+    /**
+     * Returns a breadth-first traversal of the visible vertices.
+     *
+     * @param startVertex the starting vertex
+     * @return iterator in BFS order, empty if the start is hidden or missing
+     */
+    public Iterator<T> iteratorBFS(T startVertex) {
+        return network.iteratorBFS(network.getIndex(startVertex), vertexFilter, edgeFilter);
+    }
+
+    /**
+     * Returns a depth-first traversal of the visible vertices.
+     *
+     * @param startVertex the starting vertex
+     * @return iterator in DFS order, empty if the start is hidden or missing
+     */
+    public Iterator<T> iteratorDFS(T startVertex) {
+        return network.iteratorDFS(network.getIndex(startVertex), vertexFilter, edgeFilter);
+    }
+
+    /**
+     * Returns the shortest path using only visible vertices and edges.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the destination vertex
+     * @return iterator over the path, or empty if unreachable in the view
+     */
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        return network.iteratorShortestPath(network.getIndex(startVertex), network.getIndex(targetVertex),
+                vertexFilter, edgeFilter);
+    }
+
+    /**
+     * Returns the shortest path weight using only visible vertices and edges.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the destination vertex
+     * @return the path weight, or positive infinity if unreachable in the view
+     */
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        return network.shortestPathWeight(network.getIndex(startVertex), network.getIndex(targetVertex),
+                vertexFilter, edgeFilter);
+    }
+
+    /**
+     * Returns the visible neighbours of a vertex.
+     *
+     * @param vertex the vertex whose neighbours are wanted
+     * @return iterator over visible neighbours, empty if the vertex is hidden or missing
+     */
+    public Iterator<T> getNeighbors(T vertex) {
+        return network.getNeighbors(network.getIndex(vertex), vertexFilter, edgeFilter);
+    }
+}
@@ -3,8 +3,7 @@ package structures.graph;
 import java.util.Iterator;
 
 import structures.linear.ArrayUnorderedList;
-import structures.queue.LinkedQueue;
-import structures.stack.LinkedStack;
+import structures.primitive.IntDeque;
 
 /**
  * Graph represents an adjacency matrix implementation of a graph.
@@ -85,8 +84,8 @@ public class Graph<T> implements GraphADT<T> {
      * @return a breadth first iterator beginning at the given vertex
      */
     public Iterator<T> iteratorBFS(int startIndex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        int x;
+        IntDeque traversalQueue = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
 
         if (!indexIsValid(startIndex))
@@ -96,16 +95,16 @@ public class Graph<T> implements GraphADT<T> {
         for (int i = 0; i < numVertices; i++)
             visited[i] = false;
 
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x.intValue()]);
+            x = traversalQueue.removeFirst();
+            resultList.addToRear(vertices[x]);
 
             for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x.intValue()][i] && !visited[i]) {
-                    traversalQueue.enqueue(i);
+                if (adjMatrix[x][i] && !visited[i]) {
+                    traversalQueue.addLast(i);
                     visited[i] = true;
                 }
             }
@@ -125,9 +124,9 @@ public class Graph<T> implements GraphADT<T> {
      * @return a depth first iterator starting at the given vertex
      */
     public Iterator<T> iteratorDFS(int startIndex) {
-        Integer x;
+        int x;
         boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
+        IntDeque traversalStack = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
         boolean[] visited = new boolean[numVertices];
 
@@ -137,24 +136,24 @@ public class Graph<T> implements GraphADT<T> {
         for (int i = 0; i < numVertices; i++)
             visited[i] = false;
 
-        traversalStack.push(startIndex);
+        traversalStack.addLast(startIndex);
         resultList.addToRear(vertices[startIndex]);
         visited[startIndex] = true;
 
         while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
+            x = traversalStack.peekLast();
             found = false;
 
             for (int i = 0; (i < numVertices) && !found; i++) {
-                if (adjMatrix[x.intValue()][i] && !visited[i]) {
-                    traversalStack.push(i);
+                if (adjMatrix[x][i] && !visited[i]) {
+                    traversalStack.addLast(i);
                     resultList.addToRear(vertices[i]);
                     visited[i] = true;
                     found = true;
                 }
             }
             if (!found && !traversalStack.isEmpty())
-                traversalStack.pop();
+                traversalStack.removeLast();
         }
         return resultList.iterator();
     }
@@ -293,7 +292,7 @@ public class Graph<T> implements GraphADT<T> {
             return resultList.iterator();
         }
 
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        IntDeque traversalQueue = new IntDeque();
         boolean[] visited = new boolean[numVertices];
         int[] predecessor = new int[numVertices];
 
@@ -303,22 +302,22 @@ public class Graph<T> implements GraphADT<T> {
         }
 
         boolean found = false;
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty() && !found) {
-            Integer x = traversalQueue.dequeue();
+            int x = traversalQueue.removeFirst();
 
-            if (x.intValue() == targetIndex) {
+            if (x == targetIndex) {
                 found = true;
                 break;
             }
 
             for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x.intValue()][i] && !visited[i]) {
+                if (adjMatrix[x][i] && !visited[i]) {
                     visited[i] = true;
-                    predecessor[i] = x.intValue();
-                    traversalQueue.enqueue(i);
+                    predecessor[i] = x;
+                    traversalQueue.addLast(i);
 
                     if (i == targetIndex) {
                         found = true;
@@ -330,17 +329,17 @@ public class Graph<T> implements GraphADT<T> {
 
         if (!found) return resultList.iterator();
 
-        LinkedStack<Integer> pathStack = new LinkedStack<Integer>();
+        IntDeque pathStack = new IntDeque();
         int current = targetIndex;
 
         while (current != startIndex && current != -1) {
-            pathStack.push(current);
+            pathStack.addLast(current);
             current = predecessor[current];
         }
-        pathStack.push(startIndex);
+        pathStack.addLast(startIndex);
 
         while (!pathStack.isEmpty()) {
-            resultList.addToRear(vertices[pathStack.pop().intValue()]);
+            resultList.addToRear(vertices[pathStack.removeLast()]);
         }
 
         return resultList.iterator();
@@ -0,0 +1,73 @@
+package structures.graph;
+
+/**
+ * Immutable view of one connection of a graph, as produced by the edge streams of
+ * {@link NetworkList#edges()} and {@link GraphList#edges()}.
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public final class GraphEdge<T> {
+
+    private final T source;
+    private final T target;
+    private final double weight;
+    private final boolean oneWay;
+
+    /**
+     * Creates an edge view.
+     *
+     * @param source the first endpoint (the origin of a one-way arc)
+     * @param target the second endpoint (the end of a one-way arc)
+     * @param weight the cost of the connection
+     * @param oneWay true if the connection can only be travelled from source to target
+     */
+    GraphEdge(T source, T target, double weight, boolean oneWay) {
+        this.source = source;
+        this.target = target;
+        this.weight = weight;
+        this.oneWay = oneWay;
+    }
+
+    /**
+     * Returns the first endpoint, or the origin of a one-way arc.
+     *
+     * @return the source vertex
+     */
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the second endpoint, or the end of a one-way arc.
+     *
+     * @return the target vertex
+     */
+    public T getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the cost of the connection (1.0 for unweighted graphs).
+     *
+     * @return the weight
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns true if the connection can only be travelled from source to target.
+     *
+     * @return true for one-way arcs
+     */
+    public boolean isOneWay() {
+        return oneWay;
+    }
+
+    @Override
+    public String toString() {
+        return source + (oneWay ? " -> " : " -- ") + target + " (" + weight + ")";
+    }
+}
@@ -1,10 +1,13 @@
 package structures.graph;
 
 import structures.linear.ArrayUnorderedList;
-import structures.queue.LinkedQueue;
-import structures.stack.LinkedStack;
+import structures.primitive.IntArrayList;
+import structures.primitive.IntDeque;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Graph implementation using adjacency lists.
@@ -20,19 +23,27 @@ public class GraphList<T> implements GraphADT<T> {
     /** Array of vertex payloads. */
     protected T[] vertices;
 
-    /** Adjacency list per vertex storing neighbor indices. */
-    protected ArrayUnorderedList<Integer>[] adjList;
+    /** Adjacency list per vertex storing neighbor indices, unboxed. */
+    protected IntArrayList[] adjList;
 
     /**
      * Creates an empty graph with default capacity.
      */
     public GraphList() {
+        this(10);
+    }
+
+    /**
+     * Creates an empty graph with room for {@code initialCapacity} vertices
+     * before the internal arrays need to grow.
+     *
+     * @param initialCapacity the initial vertex capacity (at least 1 is used)
+     */
+    public GraphList(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
         numVertices = 0;
-        this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
-        this.adjList = new ArrayUnorderedList[DEFAULT_CAPACITY];
-        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
-            this.adjList[i] = new ArrayUnorderedList<Integer>();
-        }
+        this.vertices = (T[]) (new Object[capacity]);
+        this.adjList = new IntArrayList[capacity];
     }
 
     @Override
@@ -41,7 +52,7 @@ public class GraphList<T> implements GraphADT<T> {
             expandCapacity();
 
         vertices[numVertices] = vertex;
-        adjList[numVertices] = new ArrayUnorderedList<Integer>();
+        adjList[numVertices] = new IntArrayList();
         numVertices++;
     }
 
@@ -58,8 +69,8 @@ public class GraphList<T> implements GraphADT<T> {
      */
     private void addEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjList[index1].addToRear(index2);
-            adjList[index2].addToRear(index1);
+            adjList[index1].add(index2);
+            adjList[index2].add(index1);
         }
     }
 
@@ -79,25 +90,8 @@ public class GraphList<T> implements GraphADT<T> {
             adjList[numVertices] = null;
 
             for (int i = 0; i < numVertices; i++) {
-                ArrayUnorderedList<Integer> currentList = adjList[i];
-                ArrayUnorderedList<Integer> newList = new ArrayUnorderedList<>();
-
-                Iterator<Integer> it = currentList.iterator();
-
-                while (it.hasNext()) {
-                    Integer neighbor = it.next();
-
-                    if (neighbor == indexToRemove) {
-                        continue;
-                    }
-                    else if (neighbor > indexToRemove) {
-                        newList.addToRear(neighbor - 1);
-                    }
-                    else {
-                        newList.addToRear(neighbor);
-                    }
-                }
-                adjList[i] = newList;
+                adjList[i].removeIf(neighbor -> neighbor == indexToRemove);
+                adjList[i].replaceAll(neighbor -> neighbor > indexToRemove ? neighbor - 1 : neighbor);
             }
         }
     }
@@ -115,8 +109,8 @@ public class GraphList<T> implements GraphADT<T> {
      */
     private void removeEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjList[index1].remove(Integer.valueOf(index2));
-            adjList[index2].remove(Integer.valueOf(index1));
+            adjList[index1].removeValue(index2);
+            adjList[index2].removeValue(index1);
         }
     }
 
@@ -133,8 +127,8 @@ public class GraphList<T> implements GraphADT<T> {
      * @return a breadth first iterator beginning at the given vertex
      */
     public Iterator<T> iteratorBFS(int startIndex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        int x;
+        IntDeque traversalQueue = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
 
         if (!indexIsValid(startIndex))
@@ -144,18 +138,18 @@ public class GraphList<T> implements GraphADT<T> {
         for (int i = 0; i < numVertices; i++)
             visited[i] = false;
 
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x.intValue()]);
+            x = traversalQueue.removeFirst();
+            resultList.addToRear(vertices[x]);
 
-            Iterator<Integer> it = adjList[x.intValue()].iterator();
-            while (it.hasNext()) {
-                Integer neighborIndex = it.next();
+            IntArrayList neighbors = adjList[x];
+            for (int k = 0; k < neighbors.size(); k++) {
+                int neighborIndex = neighbors.get(k);
                 if (!visited[neighborIndex]) {
-                    traversalQueue.enqueue(neighborIndex);
+                    traversalQueue.addLast(neighborIndex);
                     visited[neighborIndex] = true;
                 }
             }
@@ -176,9 +170,9 @@ public class GraphList<T> implements GraphADT<T> {
      * @return a depth first iterator starting at the given vertex
      */
     public Iterator<T> iteratorDFS(int startIndex) {
-        Integer x;
+        int x;
         boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
+        IntDeque traversalStack = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
         boolean[] visited = new boolean[numVertices];
 
@@ -188,19 +182,19 @@ public class GraphList<T> implements GraphADT<T> {
         for (int i = 0; i < numVertices; i++)
             visited[i] = false;
 
-        traversalStack.push(startIndex);
+        traversalStack.addLast(startIndex);
         resultList.addToRear(vertices[startIndex]);
         visited[startIndex] = true;
 
         while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
+            x = traversalStack.peekLast();
             found = false;
 
-            Iterator<Integer> it = adjList[x.intValue()].iterator();
-            while (it.hasNext() && !found) {
-                Integer neighborIndex = it.next();
+            IntArrayList neighbors = adjList[x];
+            for (int k = 0; k < neighbors.size() && !found; k++) {
+                int neighborIndex = neighbors.get(k);
                 if (!visited[neighborIndex]) {
-                    traversalStack.push(neighborIndex);
+                    traversalStack.addLast(neighborIndex);
                     resultList.addToRear(vertices[neighborIndex]);
                     visited[neighborIndex] = true;
                     found = true;
@@ -208,7 +202,7 @@ public class GraphList<T> implements GraphADT<T> {
             }
 
             if (!found && !traversalStack.isEmpty())
-                traversalStack.pop();
+                traversalStack.removeLast();
         }
         return resultList.iterator();
     }
@@ -242,20 +236,75 @@ public class GraphList<T> implements GraphADT<T> {
      */
     protected void expandCapacity() {
         T[] largerVertices = (T[]) (new Object[vertices.length * 2]);
-        ArrayUnorderedList<Integer>[] largerAdjList = new ArrayUnorderedList[vertices.length * 2];
+        IntArrayList[] largerAdjList = new IntArrayList[vertices.length * 2];
 
         for (int i = 0; i < numVertices; i++) {
             largerVertices[i] = vertices[i];
             largerAdjList[i] = adjList[i];
         }
-        for (int i = numVertices; i < largerVertices.length; i++) {
-            largerAdjList[i] = new ArrayUnorderedList<Integer>();
-        }
 
         vertices = largerVertices;
         adjList = largerAdjList;
     }
 
+    /**
+     * Renumbers the vertices in breadth-first order so that adjacent vertices
+     * sit close together in the internal arrays.
+     *
+     * @return mapping where {@code result[newIndex]} is the vertex's previous index
+     */
+    public int[] reorderBFS() {
+        int[] order = VertexOrdering.bfs(neighborTable());
+        applyOrdering(order);
+        return order;
+    }
+
+    /**
+     * Renumbers the vertices in Reverse Cuthill–McKee order, minimising the
+     * index distance between adjacent vertices.
+     *
+     * @return mapping where {@code result[newIndex]} is the vertex's previous index
+     */
+    public int[] reorderRCM() {
+        int[] order = VertexOrdering.reverseCuthillMcKee(neighborTable());
+        applyOrdering(order);
+        return order;
+    }
+
+    /**
+     * Copies the adjacency lists into a plain neighbour-index table.
+     *
+     * @return neighbour indices per vertex
+     */
+    private int[][] neighborTable() {
+        int[][] table = new int[numVertices][];
+        for (int i = 0; i < numVertices; i++) {
+            table[i] = adjList[i].toArray();
+        }
+        return table;
+    }
+
+    /**
+     * Permutes vertices and adjacency lists, rewriting every neighbour index.
+     *
+     * @param order permutation mapping new indices to old indices
+     */
+    private void applyOrdering(int[] order) {
+        int[] newIndex = VertexOrdering.invert(order);
+        T[] newVertices = (T[]) (new Object[vertices.length]);
+        IntArrayList[] newAdjList = new IntArrayList[vertices.length];
+
+        for (int i = 0; i < numVertices; i++) {
+            newVertices[i] = vertices[order[i]];
+            IntArrayList list = adjList[order[i]];
+            list.replaceAll(neighbor -> newIndex[neighbor]);
+            newAdjList[i] = list;
+        }
+
+        vertices = newVertices;
+        adjList = newAdjList;
+    }
+
     @Override
     public boolean isEmpty() { return numVertices == 0; }
     @Override
@@ -273,16 +322,69 @@ public class GraphList<T> implements GraphADT<T> {
         return count == numVertices;
     }
 
+    /**
+     * Returns the vertices as a stream, in index order.
+     * <p>
+     * The stream's spliterator splits by index range, so {@code vertices().parallel()}
+     * spreads the work evenly across cores. The graph must not be modified while
+     * the stream runs.
+     * </p>
+     *
+     * @return stream of the vertices
+     */
+    public Stream<T> vertices() {
+        return StreamSupport.stream(new VertexSpliterator<>(vertices, 0, numVertices), false);
+    }
+
+    /**
+     * Returns every edge exactly once as a stream, from its lower-indexed endpoint,
+     * with weight 1.0.
+     * <p>
+     * The stream's spliterator splits by source vertex range, so it can run in
+     * parallel. The graph must not be modified while the stream runs.
+     * </p>
+     *
+     * @return stream of the edges
+     */
+    public Stream<GraphEdge<T>> edges() {
+        long entries = 0;
+        for (int i = 0; i < numVertices; i++) entries += adjList[i].size();
+        double perVertex = numVertices == 0 ? 0 : entries / 2.0 / numVertices;
+        return StreamSupport.stream(new EdgeSpliterator<T>(this::ownedEdges, 0, numVertices, perVertex), false);
+    }
+
+    /**
+     * Reports the edges a vertex owns for {@link #edges()}: those to higher indices
+     * and every other entry of a self-loop (which is stored twice).
+     */
+    private void ownedEdges(int u, Consumer<? super GraphEdge<T>> action) {
+        boolean skipLoop = false;
+        IntArrayList neighbors = adjList[u];
+        for (int k = 0; k < neighbors.size(); k++) {
+            int v = neighbors.get(k);
+            boolean owned;
+            if (v == u) {
+                owned = !skipLoop;
+                skipLoop = !skipLoop;
+            } else {
+                owned = u < v;
+            }
+            if (owned) {
+                action.accept(new GraphEdge<>(vertices[u], vertices[v], 1.0, false));
+            }
+        }
+    }
+
     @Override
     public int size() { return numVertices; }
 
     @Override
     public String toString() {
-        String result = "";
+        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < numVertices; i++) {
-            result += vertices[i].toString() + " -> " + adjList[i].toString() + "\n";
+            sb.append(vertices[i]).append(" -> ").append(adjList[i]).append('\n');
         }
-        return result;
+        return sb.toString();
     }
 
     @Override
@@ -308,7 +410,7 @@ public class GraphList<T> implements GraphADT<T> {
             return resultList.iterator();
         }
 
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        IntDeque traversalQueue = new IntDeque();
         boolean[] visited = new boolean[numVertices];
         int[] predecessor = new int[numVertices];
 
@@ -318,27 +420,27 @@ public class GraphList<T> implements GraphADT<T> {
         }
 
         boolean found = false;
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty() && !found) {
-            Integer x = traversalQueue.dequeue();
+            int x = traversalQueue.removeFirst();
 
-            if (x.intValue() == targetIndex) {
+            if (x == targetIndex) {
                 found = true;
                 break;
             }
 
-            Iterator<Integer> it = adjList[x.intValue()].iterator();
-            while (it.hasNext()) {
-                Integer neighborIndex = it.next();
+            IntArrayList neighbors = adjList[x];
+            for (int k = 0; k < neighbors.size(); k++) {
+                int neighborIndex = neighbors.get(k);
 
                 if (!visited[neighborIndex]) {
                     visited[neighborIndex] = true;
-                    predecessor[neighborIndex] = x.intValue();
-                    traversalQueue.enqueue(neighborIndex);
+                    predecessor[neighborIndex] = x;
+                    traversalQueue.addLast(neighborIndex);
 
-                    if (neighborIndex.intValue() == targetIndex) {
+                    if (neighborIndex == targetIndex) {
                         found = true;
                         break;
                     }
@@ -348,17 +450,17 @@ public class GraphList<T> implements GraphADT<T> {
 
         if (!found) return resultList.iterator();
 
-        LinkedStack<Integer> pathStack = new LinkedStack<Integer>();
+        IntDeque pathStack = new IntDeque();
         int current = targetIndex;
 
         while (current != startIndex && current != -1) {
-            pathStack.push(current);
+            pathStack.addLast(current);
             current = predecessor[current];
         }
-        pathStack.push(startIndex);
+        pathStack.addLast(startIndex);
 
         while (!pathStack.isEmpty()) {
-            resultList.addToRear(vertices[pathStack.pop().intValue()]);
+            resultList.addToRear(vertices[pathStack.removeLast()]);
         }
 
         return resultList.iterator();
@@ -0,0 +1,147 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+/**
+ * Splits the vertices of a {@link NetworkList} into balanced parts with few edges
+ * between them.
+ * <p>
+ * Parts are grown one at a time by breadth-first search from the lowest unassigned
+ * vertex until they reach their share of the vertices, so each part is a compact
+ * region of the graph (a part may span several components when one runs out).
+ * A few greedy refinement sweeps then move border vertices to the neighbouring part
+ * they share the most edges with, whenever that cuts fewer edges and keeps every
+ * part within {@link #IMBALANCE} of its target size.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public final class GraphPartitioner {
+
+    /** Fraction by which a part may exceed or fall short of its target size. */
+    public static final double IMBALANCE = 0.1;
+
+    /** Maximum number of refinement sweeps over all vertices. */
+    private static final int REFINEMENT_PASSES = 4;
+
+    /**
+     * Utility class; prevent instantiation.
+     */
+    private GraphPartitioner() { }
+
+    /**
+     * Assigns every vertex of a network to one of {@code parts} parts.
+     *
+     * @param network the network to split
+     * @param parts   the number of parts
+     * @param <T>     the vertex type
+     * @return the part of each vertex, indexed like the network's vertices
+     * @throws IllegalArgumentException if parts is not positive
+     */
+    public static <T> int[] partition(NetworkList<T> network, int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Number of parts must be positive");
+        }
+
+        int n = network.numVertices;
+        int[] part = new int[n];
+        int[] size = new int[parts];
+        for (int v = 0; v < n; v++) part[v] = -1;
+
+        int[] queue = new int[n];
+        int seed = 0;
+        for (int p = 0; p < parts; p++) {
+            int target = (n - assignedCount(size, p) + (parts - p) - 1) / (parts - p);
+            while (size[p] < target) {
+                while (part[seed] != -1) seed++;
+                int head = 0;
+                int tail = 0;
+                queue[tail++] = seed;
+                part[seed] = p;
+                size[p]++;
+
+                while (head < tail && size[p] < target) {
+                    Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[queue[head++]].iterator();
+                    while (it.hasNext() && size[p] < target) {
+                        int v = it.next().getNeighborIndex();
+                        if (part[v] == -1) {
+                            part[v] = p;
+                            size[p]++;
+                            queue[tail++] = v;
+                        }
+                    }
+                }
+            }
+        }
+
+        refine(network, part, size, parts);
+        return part;
+    }
+
+    /**
+     * Counts the edges (and one-way arcs) whose endpoints lie in different parts.
+     *
+     * @param network the partitioned network
+     * @param part    the part of each vertex
+     * @param <T>     the vertex type
+     * @return the number of cut edges
+     */
+    public static <T> int cutSize(NetworkList<T> network, int[] part) {
+        int cut = 0;
+        for (int u = 0; u < network.numVertices; u++) {
+            Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[u].iterator();
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                int v = edge.getNeighborIndex();
+                if ((u < v || edge.isOneWay()) && part[u] != part[v]) cut++;
+            }
+        }
+        return cut;
+    }
+
+    private static int assignedCount(int[] size, int parts) {
+        int total = 0;
+        for (int p = 0; p < parts; p++) total += size[p];
+        return total;
+    }
+
+    /**
+     * Greedy boundary refinement: moves a vertex to the part holding most of its
+     * neighbours when that strictly reduces the cut and respects the size bounds.
+     */
+    private static <T> void refine(NetworkList<T> network, int[] part, int[] size, int parts) {
+        int n = network.numVertices;
+        if (parts < 2 || n == 0) return;
+
+        double share = (double) n / parts;
+        int minSize = (int) Math.floor(share * (1 - IMBALANCE));
+        int maxSize = (int) Math.ceil(share * (1 + IMBALANCE));
+        int[] links = new int[parts];
+
+        for (int pass = 0; pass < REFINEMENT_PASSES; pass++) {
+            boolean moved = false;
+            for (int u = 0; u < n; u++) {
+                int from = part[u];
+                Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[u].iterator();
+                while (it.hasNext()) {
+                    links[part[it.next().getNeighborIndex()]]++;
+                }
+
+                int best = from;
+                for (int p = 0; p < parts; p++) {
+                    if (links[p] > links[best] && size[p] < maxSize) best = p;
+                }
+                if (best != from && size[from] > minSize) {
+                    part[u] = best;
+                    size[from]--;
+                    size[best]++;
+                    moved = true;
+                }
+
+                for (int p = 0; p < parts; p++) links[p] = 0;
+            }
+            if (!moved) return;
+        }
+    }
+}
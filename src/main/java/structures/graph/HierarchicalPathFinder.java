@@ -0,0 +1,537 @@
+package structures.graph;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import structures.hash.ObjectIntHashMap;
+import structures.linear.ArrayUnorderedList;
+import structures.primitive.IntArrayList;
+
+/**
+ * Zone-based hierarchical path finder (HPA*) over a {@link NetworkList}.
+ * <p>
+ * On construction the network is split into zones of connected vertices grown
+ * breadth-first up to a maximum size. Vertices with an edge into another zone are
+ * <em>border</em> vertices; they form a small abstract graph whose edges are the
+ * corridors between zones plus, inside each zone, the exact shortest distance
+ * between every pair of its border vertices.
+ * </p>
+ * <p>
+ * A query searches only the start and target zones, runs Dijkstra on the abstract
+ * graph, and then refines each abstract hop inside its own zone. Because the
+ * intra-zone distances are exact, the resulting paths are true shortest paths.
+ * </p>
+ * <p>
+ * The finder copies the network at construction and assumes symmetric (undirected)
+ * edges, which is how {@link NetworkList#addEdge} stores them. Later changes are
+ * applied with {@link #addVertex} and {@link #addEdge}: they only mark the zones
+ * whose borders or inner distances changed, and those zones are recomputed on the
+ * next query. A new vertex starts a zone of its own. Instances are not thread-safe.
+ * </p>
+ * <p>
+ * Zone, abstract and refinement searches queue vertices as the network's
+ * {@link SearchStrategy} said at construction (see {@link SearchQueue}); an added
+ * edge the radix heap cannot key moves the finder to the binary heap, as it does
+ * the network.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class HierarchicalPathFinder<T> {
+
+    private final int zoneSize;
+    private int numVertices;
+    private T[] vertices;
+    private final ObjectIntHashMap<T> vertexIndex;
+
+    /** Adjacency: vertex v has degree[v] edges in edgeTarget[v] / edgeWeight[v]. */
+    private int[] degree;
+    private int[][] edgeTarget;
+    private double[][] edgeWeight;
+
+    private int[] zoneOf;
+    private int zoneCount;
+    private IntArrayList[] zoneMembers;
+
+    /** Border vertices of each zone, as of the zone's last refresh. */
+    private int[][] zoneBorders;
+    /** Exact in-zone distance between every pair of a zone's border vertices. */
+    private double[][][] borderDistance;
+    /** Position of each vertex in its zone's border list, or -1 if interior. */
+    private int[] borderSlot;
+    private int borderCount;
+
+    /** Zones whose borders or inner distances must be recomputed before the next query. */
+    private boolean[] stale;
+    private final IntArrayList staleZones = new IntArrayList();
+
+    private final SearchContext sourceSearch = new SearchContext();
+    private final SearchContext targetSearch = new SearchContext();
+    private final SearchContext abstractSearch = new SearchContext();
+    private final SearchContext refineSearch = new SearchContext();
+    private final SearchQueue frontier = new SearchQueue();
+    /** Strategy of the source network, dropped to a binary heap by non-integral edges. */
+    private SearchStrategy strategy;
+
+    /**
+     * Builds the zone hierarchy for the current state of a network.
+     *
+     * @param network  the network to index
+     * @param zoneSize maximum number of vertices per zone
+     * @throws IllegalArgumentException if zoneSize is not positive or the network
+     *                                  has one-way arcs
+     */
+    public HierarchicalPathFinder(NetworkList<T> network, int zoneSize) {
+        if (zoneSize <= 0) {
+            throw new IllegalArgumentException("Zone size must be positive");
+        }
+        if (network.hasArcs()) {
+            throw new IllegalArgumentException("Zoned paths require edges usable in both directions");
+        }
+
+        this.zoneSize = zoneSize;
+        this.strategy = network.getSearchStrategy();
+        this.numVertices = network.numVertices;
+        int capacity = Math.max(1, numVertices);
+        this.vertices = (T[]) (new Object[capacity]);
+        System.arraycopy(network.vertices, 0, vertices, 0, numVertices);
+        this.vertexIndex = new ObjectIntHashMap<>(capacity);
+        for (int v = 0; v < numVertices; v++) {
+            if (vertices[v] != null) vertexIndex.putIfAbsent(vertices[v], v);
+        }
+
+        this.degree = new int[capacity];
+        this.edgeTarget = new int[capacity][];
+        this.edgeWeight = new double[capacity][];
+        for (int v = 0; v < numVertices; v++) {
+            int d = network.adjList[v].size();
+            edgeTarget[v] = new int[d];
+            edgeWeight[v] = new double[d];
+            Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[v].iterator();
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                edgeTarget[v][degree[v]] = edge.getNeighborIndex();
+                edgeWeight[v][degree[v]] = edge.getWeight();
+                degree[v]++;
+            }
+        }
+
+        this.zoneOf = new int[capacity];
+        this.borderSlot = new int[capacity];
+        Arrays.fill(borderSlot, -1);
+        buildZones();
+        for (int z = 0; z < zoneCount; z++) {
+            refreshZone(z);
+        }
+    }
+
+    /**
+     * Returns the number of zones the network was split into.
+     *
+     * @return number of zones
+     */
+    public int zoneCount() {
+        return zoneCount;
+    }
+
+    /**
+     * Returns the number of border vertices in the abstract graph.
+     *
+     * @return number of border vertices
+     */
+    public int borderCount() {
+        refreshStaleZones();
+        return borderCount;
+    }
+
+    /**
+     * Adds a vertex in a zone of its own.
+     *
+     * @param vertex the vertex to add
+     */
+    public void addVertex(T vertex) {
+        if (numVertices == vertices.length) {
+            expandCapacity();
+        }
+        int v = numVertices++;
+        vertices[v] = vertex;
+        if (vertex != null) vertexIndex.putIfAbsent(vertex, v);
+        degree[v] = 0;
+        edgeTarget[v] = new int[0];
+        edgeWeight[v] = new double[0];
+        borderSlot[v] = -1;
+        zoneOf[v] = newZone();
+        zoneMembers[zoneOf[v]].add(v);
+    }
+
+    /**
+     * Adds an edge usable in both directions. Only the zones it changes are marked
+     * for refresh: the shared zone for an inner edge, or the zone of each endpoint
+     * that was not a border vertex yet for an edge between zones. Unknown vertices
+     * are ignored.
+     *
+     * @param vertex1 one end of the edge
+     * @param vertex2 the other end of the edge
+     * @param weight  cost of the edge
+     */
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        int a = indexOf(vertex1);
+        int b = indexOf(vertex2);
+        if (a == -1 || b == -1) return;
+
+        appendEdge(a, b, weight);
+        appendEdge(b, a, weight);
+        if (strategy == SearchStrategy.RADIX_HEAP && !RadixHeap.accepts(weight)) {
+            strategy = SearchStrategy.BINARY_HEAP;
+        }
+
+        if (zoneOf[a] == zoneOf[b]) {
+            markStale(zoneOf[a]);
+        } else {
+            if (borderSlot[a] == -1) markStale(zoneOf[a]);
+            if (borderSlot[b] == -1) markStale(zoneOf[b]);
+        }
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the destination vertex
+     * @return the path weight, or positive infinity if unreachable or unknown
+     */
+    public double shortestPathWeight(T startVertex, T targetVertex) {
+        int start = indexOf(startVertex);
+        int target = indexOf(targetVertex);
+        if (start == -1 || target == -1) return Double.POSITIVE_INFINITY;
+        if (start == target) return 0.0;
+
+        return plan(start, target);
+    }
+
+    /**
+     * Returns an iterator over the vertices of the shortest path between two vertices.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the destination vertex
+     * @return iterator over the path (start first), or empty if unreachable
+     */
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int start = indexOf(startVertex);
+        int target = indexOf(targetVertex);
+        if (start == -1 || target == -1) return resultList.iterator();
+
+        if (start == target) {
+            resultList.addToRear(vertices[start]);
+            return resultList.iterator();
+        }
+
+        double weight = plan(start, target);
+        if (weight == Double.POSITIVE_INFINITY) return resultList.iterator();
+
+        int virtualTarget = numVertices;
+        if (!abstractSearch.isSettled(virtualTarget)
+                || targetSearch.distanceTo(start) <= abstractSearch.distance[virtualTarget]) {
+            // Best route stays inside the shared zone; the target-rooted search holds it.
+            appendTreePath(resultList, targetSearch, start, false, true);
+            return resultList.iterator();
+        }
+
+        int[] hops = abstractSearch.path;
+        int hopCount = 0;
+        int node = abstractSearch.predecessor[virtualTarget];
+        while (node != -1) {
+            hops[hopCount++] = node;
+            node = abstractSearch.predecessor[node];
+        }
+
+        appendTreePath(resultList, sourceSearch, hops[hopCount - 1], true, true);
+
+        for (int h = hopCount - 1; h > 0; h--) {
+            int from = hops[h];
+            int to = hops[h - 1];
+            if (zoneOf[from] == zoneOf[to]) {
+                zoneSearch(refineSearch, from, to);
+                appendTreePath(resultList, refineSearch, to, true, false);
+            } else {
+                resultList.addToRear(vertices[to]);
+            }
+        }
+
+        int last = hops[0];
+        if (last != target) {
+            appendTreePath(resultList, targetSearch, targetSearch.predecessor[last], false, true);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Runs the zone searches for both endpoints and the abstract search between them.
+     *
+     * @return the shortest distance from start to target
+     */
+    private double plan(int start, int target) {
+        refreshStaleZones();
+        zoneSearch(sourceSearch, start, -1);
+        zoneSearch(targetSearch, target, -1);
+
+        double best = targetSearch.distanceTo(start);
+        double viaBorders = abstractSearch(start, target);
+        return Math.min(best, viaBorders);
+    }
+
+    /**
+     * Dijkstra over border vertices, seeded from the start zone and finishing at a
+     * virtual node connected to the target zone's border vertices. Hops between zones
+     * follow the corridors themselves; hops inside a zone use its border distances.
+     */
+    private double abstractSearch(int start, int target) {
+        int virtualTarget = numVertices;
+        abstractSearch.begin(numVertices + 1);
+        frontier.clear(strategy);
+
+        for (int b : zoneBorders[zoneOf[start]]) {
+            double d = sourceSearch.distanceTo(b);
+            if (d < Double.POSITIVE_INFINITY) {
+                abstractSearch.reach(b, d, -1);
+                frontier.push(b, d);
+            }
+        }
+
+        int targetZone = zoneOf[target];
+        while (!frontier.isEmpty()) {
+            double d = frontier.minKey();
+            int u = frontier.pop();
+            if (abstractSearch.isSettled(u) || d > abstractSearch.distance[u]) continue;
+            abstractSearch.settle(u);
+
+            if (u == virtualTarget) return d;
+
+            int zone = zoneOf[u];
+            if (zone == targetZone) {
+                relax(u, virtualTarget, d + targetSearch.distanceTo(u));
+            }
+
+            for (int e = 0; e < degree[u]; e++) {
+                int v = edgeTarget[u][e];
+                if (zoneOf[v] != zone) relax(u, v, d + edgeWeight[u][e]);
+            }
+
+            int[] borders = zoneBorders[zone];
+            double[] row = borderDistance[zone][borderSlot[u]];
+            for (int i = 0; i < borders.length; i++) {
+                if (borders[i] != u) relax(u, borders[i], d + row[i]);
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Offers an abstract-search candidate distance for {@code v} through {@code u}.
+     */
+    private void relax(int u, int v, double candidate) {
+        if (!abstractSearch.isSettled(v) && candidate < abstractSearch.distanceTo(v)) {
+            abstractSearch.reach(v, candidate, u);
+            frontier.push(v, candidate);
+        }
+    }
+
+    /**
+     * Dijkstra restricted to the source's zone. Stops early once {@code stopAt} is
+     * settled, or explores the whole zone when {@code stopAt} is -1.
+     */
+    private void zoneSearch(SearchContext context, int source, int stopAt) {
+        int zone = zoneOf[source];
+        context.begin(numVertices);
+        frontier.clear(strategy);
+        context.reach(source, 0.0, -1);
+        frontier.push(source, 0.0);
+
+        while (!frontier.isEmpty()) {
+            double d = frontier.minKey();
+            int u = frontier.pop();
+            if (context.isSettled(u) || d > context.distance[u]) continue;
+            context.settle(u);
+            if (u == stopAt) return;
+
+            for (int e = 0; e < degree[u]; e++) {
+                int v = edgeTarget[u][e];
+                if (zoneOf[v] != zone || context.isSettled(v)) continue;
+                double candidate = d + edgeWeight[u][e];
+                if (candidate < context.distanceTo(v)) {
+                    context.reach(v, candidate, u);
+                    frontier.push(v, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the tree path between a search's root and {@code end}.
+     *
+     * @param forward     true to append root-to-end, false to append end-to-root
+     * @param includeRoot false to leave out the root (already in the list)
+     */
+    private void appendTreePath(ArrayUnorderedList<T> resultList, SearchContext context, int end,
+                                boolean forward, boolean includeRoot) {
+        int[] path = context.path;
+        int length = 0;
+        for (int v = end; v != -1; v = context.predecessor[v]) {
+            path[length++] = v;
+        }
+        if (!includeRoot) length--;
+
+        if (forward) {
+            while (length > 0) {
+                resultList.addToRear(vertices[path[--length]]);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                resultList.addToRear(vertices[path[i]]);
+            }
+        }
+    }
+
+    /**
+     * Grows zones breadth-first from the lowest unassigned index.
+     */
+    private void buildZones() {
+        for (int v = 0; v < numVertices; v++) zoneOf[v] = -1;
+        zoneMembers = new IntArrayList[Math.max(1, numVertices)];
+        zoneBorders = new int[zoneMembers.length][];
+        borderDistance = new double[zoneMembers.length][][];
+        stale = new boolean[zoneMembers.length];
+
+        int[] queue = new int[numVertices];
+        for (int root = 0; root < numVertices; root++) {
+            if (zoneOf[root] != -1) continue;
+
+            int zone = newZone();
+            IntArrayList members = zoneMembers[zone];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            zoneOf[root] = zone;
+            members.add(root);
+
+            while (head < tail && members.size() < zoneSize) {
+                int u = queue[head++];
+                for (int e = 0; e < degree[u] && members.size() < zoneSize; e++) {
+                    int v = edgeTarget[u][e];
+                    if (zoneOf[v] == -1) {
+                        zoneOf[v] = zone;
+                        queue[tail++] = v;
+                        members.add(v);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes a zone's border vertices and the exact in-zone distance between
+     * every pair of them.
+     */
+    private void refreshZone(int zone) {
+        int[] oldBorders = zoneBorders[zone];
+        if (oldBorders != null) {
+            for (int b : oldBorders) borderSlot[b] = -1;
+            borderCount -= oldBorders.length;
+        }
+
+        IntArrayList members = zoneMembers[zone];
+        IntArrayList borders = new IntArrayList();
+        for (int i = 0; i < members.size(); i++) {
+            int v = members.get(i);
+            for (int e = 0; e < degree[v]; e++) {
+                if (zoneOf[edgeTarget[v][e]] != zone) {
+                    borderSlot[v] = borders.size();
+                    borders.add(v);
+                    break;
+                }
+            }
+        }
+
+        int[] result = borders.toArray();
+        double[][] distances = new double[result.length][result.length];
+        for (int i = 0; i < result.length; i++) {
+            zoneSearch(refineSearch, result[i], -1);
+            for (int j = 0; j < result.length; j++) {
+                distances[i][j] = refineSearch.distanceTo(result[j]);
+            }
+        }
+        zoneBorders[zone] = result;
+        borderDistance[zone] = distances;
+        borderCount += result.length;
+    }
+
+    /**
+     * Recomputes every zone marked stale since the last query.
+     */
+    private void refreshStaleZones() {
+        while (!staleZones.isEmpty()) {
+            int zone = staleZones.removeLast();
+            stale[zone] = false;
+            refreshZone(zone);
+        }
+    }
+
+    private void markStale(int zone) {
+        if (!stale[zone]) {
+            stale[zone] = true;
+            staleZones.add(zone);
+        }
+    }
+
+    /**
+     * Opens an empty zone with no border vertices.
+     */
+    private int newZone() {
+        if (zoneCount == zoneMembers.length) {
+            int larger = zoneMembers.length * 2;
+            zoneMembers = Arrays.copyOf(zoneMembers, larger);
+            zoneBorders = Arrays.copyOf(zoneBorders, larger);
+            borderDistance = Arrays.copyOf(borderDistance, larger);
+            stale = Arrays.copyOf(stale, larger);
+        }
+        int zone = zoneCount++;
+        zoneMembers[zone] = new IntArrayList(Math.min(zoneSize, 16));
+        zoneBorders[zone] = new int[0];
+        borderDistance[zone] = new double[0][];
+        return zone;
+    }
+
+    private void appendEdge(int from, int to, double weight) {
+        int d = degree[from];
+        if (d == edgeTarget[from].length) {
+            int larger = Math.max(4, d * 2);
+            edgeTarget[from] = Arrays.copyOf(edgeTarget[from], larger);
+            edgeWeight[from] = Arrays.copyOf(edgeWeight[from], larger);
+        }
+        edgeTarget[from][d] = to;
+        edgeWeight[from][d] = weight;
+        degree[from] = d + 1;
+    }
+
+    private void expandCapacity() {
+        int larger = vertices.length * 2;
+        vertices = Arrays.copyOf(vertices, larger);
+        degree = Arrays.copyOf(degree, larger);
+        edgeTarget = Arrays.copyOf(edgeTarget, larger);
+        edgeWeight = Arrays.copyOf(edgeWeight, larger);
+        zoneOf = Arrays.copyOf(zoneOf, larger);
+        int oldLength = borderSlot.length;
+        borderSlot = Arrays.copyOf(borderSlot, larger);
+        Arrays.fill(borderSlot, oldLength, larger, -1);
+    }
+
+    /**
+     * Finds a vertex's index through the hash index.
+     */
+    private int indexOf(T vertex) {
+        return vertex == null ? -1 : vertexIndex.get(vertex);
+    }
+}
@@ -0,0 +1,618 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Weighted undirected network specialised for vertices that are plain integers.
+ * <p>
+ * Vertices are the dense ids {@code 0 .. size() - 1}, so a vertex is its own index
+ * and no lookup or {@code equals} call is ever needed. Each vertex keeps its
+ * neighbours and weights in {@code int[]}/{@code double[]} arrays that are only
+ * allocated with the vertex's first edge and then grow by doubling, and
+ * traversals use primitive array queues and stacks, so the primitive API below
+ * never boxes.
+ * </p>
+ * <p>
+ * The {@link NetworkADT} methods taking {@link Integer} are provided for
+ * interoperability and simply unbox into the primitive ones; only their
+ * {@link Iterator} results box. Use {@link IntNetworkAdapter} to number arbitrary
+ * objects (such as rooms) onto an IntNetwork.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class IntNetwork implements NetworkADT<Integer> {
+    /** Initial capacity for vertices. */
+    protected final int DEFAULT_CAPACITY = 10;
+    /** Capacity of a vertex's adjacency arrays when it gets its first edge. */
+    private static final int FIRST_EDGE_CAPACITY = 4;
+    /** Shared adjacency of vertices without edges. */
+    private static final int[] NO_TARGETS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+    /** Current number of vertices; ids range over 0 .. numVertices - 1. */
+    protected int numVertices;
+    /** Neighbour ids per vertex; only the first degree[v] entries are used. */
+    protected int[][] adjTargets;
+    /** Edge weights per vertex, parallel to adjTargets. */
+    protected double[][] adjWeights;
+    /** Number of neighbours of each vertex. */
+    protected int[] degree;
+
+    /** Per-thread scratch buffers reused by the shortest-path searches. */
+    private final ThreadLocal<SearchContext> searchContext = ThreadLocal.withInitial(SearchContext::new);
+
+    /**
+     * Creates an empty network with default capacity.
+     */
+    public IntNetwork() {
+        numVertices = 0;
+        adjTargets = new int[DEFAULT_CAPACITY][];
+        adjWeights = new double[DEFAULT_CAPACITY][];
+        degree = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds a new vertex and returns its id.
+     *
+     * @return the id of the new vertex (equal to the previous size)
+     */
+    public int addVertex() {
+        if (numVertices == degree.length)
+            expandCapacity();
+
+        adjTargets[numVertices] = NO_TARGETS;
+        adjWeights[numVertices] = NO_WEIGHTS;
+        degree[numVertices] = 0;
+        return numVertices++;
+    }
+
+    /**
+     * Adds the vertex with the given id. Ids are dense, so the only id that can be
+     * added is the next one, {@link #size()}.
+     *
+     * @param vertex the vertex id to create
+     * @throws IllegalArgumentException if vertex is not the next id
+     */
+    @Override
+    public void addVertex(Integer vertex) {
+        if (vertex == null || vertex != numVertices) {
+            throw new IllegalArgumentException("Vertex ids are dense; the next id is " + numVertices);
+        }
+        addVertex();
+    }
+
+    /**
+     * Inserts an undirected weighted edge between two vertex ids.
+     *
+     * @param vertex1 the first vertex id
+     * @param vertex2 the second vertex id
+     * @param weight  the weight of the edge
+     */
+    public void addEdge(int vertex1, int vertex2, double weight) {
+        if (indexIsValid(vertex1) && indexIsValid(vertex2)) {
+            appendEdge(vertex1, vertex2, weight);
+            appendEdge(vertex2, vertex1, weight);
+        }
+    }
+
+    /**
+     * Inserts an undirected edge of weight 1.0 between two vertex ids.
+     *
+     * @param vertex1 the first vertex id
+     * @param vertex2 the second vertex id
+     */
+    public void addEdge(int vertex1, int vertex2) {
+        addEdge(vertex1, vertex2, 1.0);
+    }
+
+    @Override
+    public void addEdge(Integer vertex1, Integer vertex2, double weight) {
+        addEdge(vertex1.intValue(), vertex2.intValue(), weight);
+    }
+
+    @Override
+    public void addEdge(Integer vertex1, Integer vertex2) {
+        addEdge(vertex1.intValue(), vertex2.intValue(), 1.0);
+    }
+
+    private void appendEdge(int source, int target, double weight) {
+        int d = degree[source];
+        if (d == adjTargets[source].length) {
+            int capacity = Math.max(FIRST_EDGE_CAPACITY, d * 2);
+            int[] largerTargets = new int[capacity];
+            double[] largerWeights = new double[capacity];
+            System.arraycopy(adjTargets[source], 0, largerTargets, 0, d);
+            System.arraycopy(adjWeights[source], 0, largerWeights, 0, d);
+            adjTargets[source] = largerTargets;
+            adjWeights[source] = largerWeights;
+        }
+        adjTargets[source][d] = target;
+        adjWeights[source][d] = weight;
+        degree[source] = d + 1;
+    }
+
+    /**
+     * Removes every edge between two vertex ids.
+     *
+     * @param vertex1 the first vertex id
+     * @param vertex2 the second vertex id
+     */
+    public void removeEdge(int vertex1, int vertex2) {
+        if (indexIsValid(vertex1) && indexIsValid(vertex2)) {
+            removeEdgeFromList(vertex1, vertex2);
+            removeEdgeFromList(vertex2, vertex1);
+        }
+    }
+
+    @Override
+    public void removeEdge(Integer vertex1, Integer vertex2) {
+        removeEdge(vertex1.intValue(), vertex2.intValue());
+    }
+
+    private void removeEdgeFromList(int source, int target) {
+        int[] targets = adjTargets[source];
+        double[] weights = adjWeights[source];
+        int kept = 0;
+        for (int i = 0; i < degree[source]; i++) {
+            if (targets[i] != target) {
+                targets[kept] = targets[i];
+                weights[kept] = weights[i];
+                kept++;
+            }
+        }
+        degree[source] = kept;
+    }
+
+    /**
+     * Removes a vertex. Like the other graphs, higher ids shift down by one.
+     *
+     * @param vertex the vertex id to remove
+     */
+    public void removeVertex(int vertex) {
+        if (!indexIsValid(vertex)) return;
+
+        numVertices--;
+        for (int i = vertex; i < numVertices; i++) {
+            adjTargets[i] = adjTargets[i + 1];
+            adjWeights[i] = adjWeights[i + 1];
+            degree[i] = degree[i + 1];
+        }
+        adjTargets[numVertices] = null;
+        adjWeights[numVertices] = null;
+        degree[numVertices] = 0;
+
+        for (int v = 0; v < numVertices; v++) {
+            int[] targets = adjTargets[v];
+            double[] weights = adjWeights[v];
+            int kept = 0;
+            for (int i = 0; i < degree[v]; i++) {
+                int t = targets[i];
+                if (t == vertex) continue;
+                targets[kept] = t > vertex ? t - 1 : t;
+                weights[kept] = weights[i];
+                kept++;
+            }
+            degree[v] = kept;
+        }
+    }
+
+    @Override
+    public void removeVertex(Integer vertex) {
+        removeVertex(vertex.intValue());
+    }
+
+    /**
+     * Returns the number of neighbours of a vertex.
+     *
+     * @param vertex the vertex id
+     * @return its degree, or 0 for an invalid id
+     */
+    public int degree(int vertex) {
+        return indexIsValid(vertex) ? degree[vertex] : 0;
+    }
+
+    /**
+     * Returns the i-th neighbour of a vertex, for allocation-free iteration.
+     *
+     * @param vertex the vertex id
+     * @param i      position in the vertex's adjacency, below {@link #degree(int)}
+     * @return the neighbour id
+     */
+    public int neighbor(int vertex, int i) {
+        return adjTargets[vertex][i];
+    }
+
+    /**
+     * Returns the weight of the i-th edge of a vertex.
+     *
+     * @param vertex the vertex id
+     * @param i      position in the vertex's adjacency, below {@link #degree(int)}
+     * @return the edge weight
+     */
+    public double weight(int vertex, int i) {
+        return adjWeights[vertex][i];
+    }
+
+    /**
+     * Returns the vertex ids in breadth-first order from a start id.
+     *
+     * @param start the starting vertex id
+     * @return ids in visit order, empty if start is invalid
+     */
+    public int[] bfsOrder(int start) {
+        if (!indexIsValid(start)) return new int[0];
+
+        int[] queue = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start] = true;
+
+        while (head < tail) {
+            int u = queue[head++];
+            int[] targets = adjTargets[u];
+            for (int i = 0; i < degree[u]; i++) {
+                int v = targets[i];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return trim(queue, tail);
+    }
+
+    /**
+     * Returns the vertex ids in depth-first order from a start id.
+     *
+     * @param start the starting vertex id
+     * @return ids in visit order, empty if start is invalid
+     */
+    public int[] dfsOrder(int start) {
+        if (!indexIsValid(start)) return new int[0];
+
+        int[] order = new int[numVertices];
+        int[] stack = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int count = 0;
+        int top = 0;
+
+        stack[top++] = start;
+        order[count++] = start;
+        visited[start] = true;
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            boolean found = false;
+            while (nextEdge[u] < degree[u] && !found) {
+                int v = adjTargets[u][nextEdge[u]++];
+                if (!visited[v]) {
+                    visited[v] = true;
+                    order[count++] = v;
+                    stack[top++] = v;
+                    found = true;
+                }
+            }
+            if (!found) top--;
+        }
+        return trim(order, count);
+    }
+
+    /**
+     * Returns the ids on the shortest path between two vertices (Dijkstra).
+     *
+     * @param start  the starting vertex id
+     * @param target the destination vertex id
+     * @return ids from start to target, empty if unreachable or invalid
+     */
+    public int[] shortestPath(int start, int target) {
+        if (!indexIsValid(start) || !indexIsValid(target)) return new int[0];
+
+        SearchContext context = searchContext.get();
+        if (!dijkstra(context, start, target)) return new int[0];
+
+        int length = 0;
+        for (int v = target; v != -1; v = context.predecessor[v]) length++;
+
+        int[] path = new int[length];
+        for (int v = target; v != -1; v = context.predecessor[v]) path[--length] = v;
+        return path;
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertex ids.
+     *
+     * @param start  the starting vertex id
+     * @param target the destination vertex id
+     * @return the path weight, or positive infinity if unreachable or invalid
+     */
+    public double shortestPathWeight(int start, int target) {
+        if (!indexIsValid(start) || !indexIsValid(target)) return Double.POSITIVE_INFINITY;
+        if (start == target) return 0.0;
+
+        SearchContext context = searchContext.get();
+        dijkstra(context, start, target);
+        return context.distanceTo(target);
+    }
+
+    @Override
+    public double shortestPathWeight(Integer vertex1, Integer vertex2) {
+        return shortestPathWeight(vertex1.intValue(), vertex2.intValue());
+    }
+
+    /**
+     * Heap-based Dijkstra from start until target is settled (or, with target -1,
+     * until every reachable vertex is settled).
+     *
+     * @return true if the target is reachable
+     */
+    private boolean dijkstra(SearchContext context, int start, int target) {
+        context.begin(numVertices);
+        DistanceHeap heap = context.heap;
+        context.reach(start, 0.0, -1);
+        heap.push(start, 0.0);
+
+        while (!heap.isEmpty()) {
+            double d = heap.minKey();
+            int u = heap.pop();
+            if (context.isSettled(u) || d > context.distance[u]) continue;
+            context.settle(u);
+            if (u == target) return true;
+
+            int[] targets = adjTargets[u];
+            double[] weights = adjWeights[u];
+            for (int i = 0; i < degree[u]; i++) {
+                int v = targets[i];
+                double candidate = d + weights[i];
+                if (!context.isSettled(v) && candidate < context.distanceTo(v)) {
+                    context.reach(v, candidate, u);
+                    heap.push(v, candidate);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the largest shortest-path weight from a vertex to any other vertex.
+     * <p>
+     * Runs a full Dijkstra on the calling thread's scratch buffers, so different
+     * threads may compute eccentricities of the same network concurrently as long
+     * as nobody modifies it.
+     * </p>
+     *
+     * @param source the vertex id
+     * @return the eccentricity, or positive infinity if some vertex is unreachable
+     *         or the id is invalid
+     */
+    public double eccentricity(int source) {
+        if (!indexIsValid(source)) return Double.POSITIVE_INFINITY;
+
+        SearchContext context = searchContext.get();
+        dijkstra(context, source, -1);
+
+        double farthest = 0.0;
+        for (int v = 0; v < numVertices; v++) {
+            if (!context.isSettled(v)) return Double.POSITIVE_INFINITY;
+            farthest = Math.max(farthest, context.distance[v]);
+        }
+        return farthest;
+    }
+
+    /**
+     * Returns the largest number of edges on a shortest (fewest-hops) path from a
+     * vertex to any other vertex, using a breadth-first search.
+     * <p>
+     * Equals the weighted eccentricity divided by the weight when every edge has
+     * the same weight, at a fraction of the cost. Safe to call concurrently like
+     * {@link #eccentricity(int)}.
+     * </p>
+     *
+     * @param source the vertex id
+     * @return the hop eccentricity, or -1 if some vertex is unreachable or the id is invalid
+     */
+    public int hopEccentricity(int source) {
+        if (!indexIsValid(source)) return -1;
+
+        SearchContext context = searchContext.get();
+        context.begin(numVertices);
+        int[] queue = context.path;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        context.reach(source, 0.0, -1);
+
+        while (head < tail) {
+            int u = queue[head++];
+            double next = context.distance[u] + 1;
+            int[] targets = adjTargets[u];
+            for (int i = 0; i < degree[u]; i++) {
+                int v = targets[i];
+                if (!context.isReached(v)) {
+                    context.reach(v, next, u);
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return tail == numVertices ? (int) context.distance[queue[tail - 1]] : -1;
+    }
+
+    /**
+     * Finds the articulation points: vertices whose removal disconnects the part of
+     * the network they belong to.
+     *
+     * @return flags indexed by vertex id, true for articulation points
+     */
+    public boolean[] articulationPoints() {
+        boolean[] cut = new boolean[numVertices];
+        lowLinks(cut, new int[2 * numVertices]);
+        return cut;
+    }
+
+    /**
+     * Finds the bridges: edges whose removal disconnects their endpoints. Parallel
+     * edges between the same pair of vertices are never bridges.
+     *
+     * @return one {source, target} pair per bridge
+     */
+    public int[][] bridges() {
+        int[] ends = new int[2 * numVertices];
+        int count = lowLinks(new boolean[numVertices], ends);
+
+        int[][] result = new int[count][];
+        for (int b = 0; b < count; b++) {
+            result[b] = new int[] {ends[2 * b], ends[2 * b + 1]};
+        }
+        return result;
+    }
+
+    /**
+     * Iterative Tarjan low-link search over every component in O(V + E).
+     * Only the first edge back to a vertex's DFS parent is ignored, so a second
+     * parallel edge counts as a back edge.
+     *
+     * @param cut  receives the articulation-point flags
+     * @param ends receives bridge endpoints as consecutive pairs
+     * @return the number of bridges written to ends
+     */
+    private int lowLinks(boolean[] cut, int[] ends) {
+        int[] discovered = new int[numVertices];
+        int[] low = new int[numVertices];
+        int[] parent = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+        boolean[] parentSkipped = new boolean[numVertices];
+        int[] stack = new int[numVertices];
+        int time = 0;
+        int bridgeCount = 0;
+
+        for (int root = 0; root < numVertices; root++) {
+            if (discovered[root] != 0) continue;
+
+            int rootChildren = 0;
+            int top = 0;
+            stack[top++] = root;
+            discovered[root] = low[root] = ++time;
+            parent[root] = -1;
+
+            while (top > 0) {
+                int u = stack[top - 1];
+                if (nextEdge[u] < degree[u]) {
+                    int v = adjTargets[u][nextEdge[u]++];
+                    if (v == parent[u] && !parentSkipped[u]) {
+                        parentSkipped[u] = true;
+                    } else if (discovered[v] == 0) {
+                        parent[v] = u;
+                        discovered[v] = low[v] = ++time;
+                        stack[top++] = v;
+                        if (u == root) rootChildren++;
+                    } else {
+                        low[u] = Math.min(low[u], discovered[v]);
+                    }
+                } else {
+                    top--;
+                    int p = parent[u];
+                    if (p != -1) {
+                        low[p] = Math.min(low[p], low[u]);
+                        if (low[u] > discovered[p]) {
+                            ends[2 * bridgeCount] = p;
+                            ends[2 * bridgeCount + 1] = u;
+                            bridgeCount++;
+                        }
+                        if (p != root && low[u] >= discovered[p]) cut[p] = true;
+                    }
+                }
+            }
+            if (rootChildren > 1) cut[root] = true;
+        }
+        return bridgeCount;
+    }
+
+    @Override
+    public Iterator<Integer> iteratorBFS(Integer startVertex) {
+        return boxed(bfsOrder(startVertex.intValue()));
+    }
+
+    @Override
+    public Iterator<Integer> iteratorDFS(Integer startVertex) {
+        return boxed(dfsOrder(startVertex.intValue()));
+    }
+
+    @Override
+    public Iterator<Integer> iteratorShortestPath(Integer startVertex, Integer targetVertex) {
+        return boxed(shortestPath(startVertex.intValue(), targetVertex.intValue()));
+    }
+
+    @Override
+    public boolean isEmpty() { return numVertices == 0; }
+
+    @Override
+    public boolean isConnected() {
+        if (isEmpty()) return false;
+        return bfsOrder(0).length == numVertices;
+    }
+
+    @Override
+    public int size() { return numVertices; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int v = 0; v < numVertices; v++) {
+            sb.append(v).append(" -> [");
+            for (int i = 0; i < degree[v]; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append('(').append(adjTargets[v][i]).append(", ").append(adjWeights[v][i]).append(')');
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks if a vertex id is within bounds.
+     *
+     * @param index id to validate
+     * @return true when the id refers to an existing vertex
+     */
+    protected boolean indexIsValid(int index) {
+        return ((index < numVertices) && (index >= 0));
+    }
+
+    /**
+     * Doubles storage for the per-vertex arrays.
+     */
+    protected void expandCapacity() {
+        int capacity = degree.length * 2;
+        int[][] largerTargets = new int[capacity][];
+        double[][] largerWeights = new double[capacity][];
+        int[] largerDegree = new int[capacity];
+
+        System.arraycopy(adjTargets, 0, largerTargets, 0, numVertices);
+        System.arraycopy(adjWeights, 0, largerWeights, 0, numVertices);
+        System.arraycopy(degree, 0, largerDegree, 0, numVertices);
+
+        adjTargets = largerTargets;
+        adjWeights = largerWeights;
+        degree = largerDegree;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        if (array.length == length) return array;
+        int[] result = new int[length];
+        System.arraycopy(array, 0, result, 0, length);
+        return result;
+    }
+
+    private static Iterator<Integer> boxed(int[] ids) {
+        ArrayUnorderedList<Integer> resultList = new ArrayUnorderedList<>();
+        for (int id : ids) {
+            resultList.addToRear(id);
+        }
+        return resultList.iterator();
+    }
+}
@@ -0,0 +1,176 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import structures.hash.ObjectIntHashMap;
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Numbers arbitrary vertex objects onto an {@link IntNetwork}.
+ * <p>
+ * Each vertex added receives the next integer id; the adapter keeps the objects in
+ * an array indexed by id, so translating ids back to objects is a direct array
+ * access, and a hash index translates objects to ids in O(1). All graph work
+ * (traversals, Dijkstra) runs on the primitive network; objects are only looked
+ * up at the boundary of each call. Callers that already hold ids can use
+ * {@link #network()} and {@link #vertexAt(int)} directly.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class IntNetworkAdapter<T> implements NetworkADT<T> {
+    /** Initial capacity for the vertex array. */
+    protected final int DEFAULT_CAPACITY = 10;
+
+    private final IntNetwork network;
+    private T[] vertices;
+    private final ObjectIntHashMap<T> ids = new ObjectIntHashMap<>();
+
+    /**
+     * Creates an empty adapter over a new IntNetwork.
+     */
+    public IntNetworkAdapter() {
+        this.network = new IntNetwork();
+        this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
+    }
+
+    /**
+     * Returns the underlying primitive network.
+     *
+     * @return the IntNetwork holding the edges
+     */
+    public IntNetwork network() {
+        return network;
+    }
+
+    /**
+     * Returns the id assigned to a vertex.
+     *
+     * @param vertex the vertex to find
+     * @return its id, or -1 if not present
+     */
+    public int indexOf(T vertex) {
+        return ids.get(vertex);
+    }
+
+    /**
+     * Returns the vertex with a given id.
+     *
+     * @param id the vertex id
+     * @return the vertex object
+     */
+    public T vertexAt(int id) {
+        return vertices[id];
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        int id = network.addVertex();
+        if (id == vertices.length) {
+            T[] larger = (T[]) (new Object[vertices.length * 2]);
+            System.arraycopy(vertices, 0, larger, 0, id);
+            vertices = larger;
+        }
+        vertices[id] = vertex;
+        if (vertex != null) ids.putIfAbsent(vertex, id);
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        int id = indexOf(vertex);
+        if (id == -1) return;
+
+        int n = network.size();
+        network.removeVertex(id);
+        System.arraycopy(vertices, id + 1, vertices, id, n - id - 1);
+        vertices[n - 1] = null;
+
+        ids.clear();
+        for (int i = 0; i < n - 1; i++) {
+            if (vertices[i] != null) ids.putIfAbsent(vertices[i], i);
+        }
+    }
+
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        network.addEdge(indexOf(vertex1), indexOf(vertex2), weight);
+    }
+
+    @Override
+    public void addEdge(T vertex1, T vertex2) {
+        addEdge(vertex1, vertex2, 1.0);
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        network.removeEdge(indexOf(vertex1), indexOf(vertex2));
+    }
+
+    @Override
+    public Iterator<T> iteratorBFS(T startVertex) {
+        return toVertices(network.bfsOrder(indexOf(startVertex)));
+    }
+
+    @Override
+    public Iterator<T> iteratorDFS(T startVertex) {
+        return toVertices(network.dfsOrder(indexOf(startVertex)));
+    }
+
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        return toVertices(network.shortestPath(indexOf(startVertex), indexOf(targetVertex)));
+    }
+
+    @Override
+    public double shortestPathWeight(T vertex1, T vertex2) {
+        return network.shortestPathWeight(indexOf(vertex1), indexOf(vertex2));
+    }
+
+    /**
+     * Returns the vertices adjacent to a given vertex.
+     *
+     * @param vertex the vertex whose neighbours are wanted
+     * @return iterator over its neighbours
+     */
+    public Iterator<T> getNeighbors(T vertex) {
+        ArrayUnorderedList<T> neighbors = new ArrayUnorderedList<>();
+        int id = indexOf(vertex);
+        for (int i = 0; i < network.degree(id); i++) {
+            neighbors.addToRear(vertices[network.neighbor(id, i)]);
+        }
+        return neighbors.iterator();
+    }
+
+    @Override
+    public boolean isEmpty() { return network.isEmpty(); }
+
+    @Override
+    public boolean isConnected() { return network.isConnected(); }
+
+    @Override
+    public int size() { return network.size(); }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int v = 0; v < network.size(); v++) {
+            sb.append(vertices[v]).append(" -> [");
+            for (int i = 0; i < network.degree(v); i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(vertices[network.neighbor(v, i)]).append(" (").append(network.weight(v, i)).append(')');
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+
+    private Iterator<T> toVertices(int[] ids) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        for (int id : ids) {
+            resultList.addToRear(vertices[id]);
+        }
+        return resultList.iterator();
+    }
+}
@@ -1,8 +1,7 @@
 package structures.graph;
 
 import structures.linear.ArrayUnorderedList;
-import structures.queue.LinkedQueue;
-import structures.stack.LinkedStack;
+import structures.primitive.IntDeque;
 
 import java.util.Iterator;
 
@@ -121,8 +120,8 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     @Override
     public Iterator<T> iteratorBFS(int startIndex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        int x;
+        IntDeque traversalQueue = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
 
         if (!indexIsValid(startIndex)) return resultList.iterator();
@@ -130,16 +129,16 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         boolean[] visited = new boolean[numVertices];
         for (int i = 0; i < numVertices; i++) visited[i] = false;
 
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x.intValue()]);
+            x = traversalQueue.removeFirst();
+            resultList.addToRear(vertices[x]);
 
             for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x.intValue()][i] < Double.POSITIVE_INFINITY && !visited[i]) {
-                    traversalQueue.enqueue(i);
+                if (adjMatrix[x][i] < Double.POSITIVE_INFINITY && !visited[i]) {
+                    traversalQueue.addLast(i);
                     visited[i] = true;
                 }
             }
@@ -156,9 +155,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     @Override
     public Iterator<T> iteratorDFS(int startIndex) {
-        Integer x;
+        int x;
         boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
+        IntDeque traversalStack = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
         boolean[] visited = new boolean[numVertices];
 
@@ -166,24 +165,24 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         for (int i = 0; i < numVertices; i++) visited[i] = false;
 
-        traversalStack.push(startIndex);
+        traversalStack.addLast(startIndex);
         resultList.addToRear(vertices[startIndex]);
         visited[startIndex] = true;
 
         while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
+            x = traversalStack.peekLast();
             found = false;
 
             for (int i = 0; (i < numVertices) && !found; i++) {
-                if (adjMatrix[x.intValue()][i] < Double.POSITIVE_INFINITY && !visited[i]) {
-                    traversalStack.push(i);
+                if (adjMatrix[x][i] < Double.POSITIVE_INFINITY && !visited[i]) {
+                    traversalStack.addLast(i);
                     resultList.addToRear(vertices[i]);
                     visited[i] = true;
                     found = true;
                 }
             }
             if (!found && !traversalStack.isEmpty())
-                traversalStack.pop();
+                traversalStack.removeLast();
         }
         return resultList.iterator();
     }
@@ -230,13 +229,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
             if (u == targetIndex) return pathWeight[u];
 
-            for (int v = 0; v < numVertices; v++) {
-                if (!visited[v] && adjMatrix[u][v] < Double.POSITIVE_INFINITY) {
-                    if (pathWeight[u] + adjMatrix[u][v] < pathWeight[v]) {
-                        pathWeight[v] = pathWeight[u] + adjMatrix[u][v];
-                    }
-                }
-            }
+            relaxRow(pathWeight, pathWeight[u], adjMatrix[u], numVertices);
         }
 
         return pathWeight[targetIndex];
@@ -288,34 +281,81 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
             if (u == targetIndex) break;
 
+            double base = pathWeight[u];
+            double[] row = adjMatrix[u];
             for (int v = 0; v < numVertices; v++) {
-                if (!visited[v] && adjMatrix[u][v] < Double.POSITIVE_INFINITY) {
-                    if (pathWeight[u] + adjMatrix[u][v] < pathWeight[v]) {
-                        pathWeight[v] = pathWeight[u] + adjMatrix[u][v];
-                        predecessor[v] = u;
-                    }
+                double candidate = base + row[v];
+                if (candidate < pathWeight[v]) {
+                    pathWeight[v] = candidate;
+                    predecessor[v] = u;
                 }
             }
         }
 
         if (pathWeight[targetIndex] == Double.POSITIVE_INFINITY) return resultList.iterator();
 
-        LinkedStack<Integer> pathStack = new LinkedStack<Integer>();
+        IntDeque pathStack = new IntDeque();
         int current = targetIndex;
 
         while (current != startIndex && current != -1) {
-            pathStack.push(current);
+            pathStack.addLast(current);
             current = predecessor[current];
         }
-        pathStack.push(startIndex);
+        pathStack.addLast(startIndex);
 
         while (!pathStack.isEmpty()) {
-            resultList.addToRear(vertices[pathStack.pop().intValue()]);
+            resultList.addToRear(vertices[pathStack.removeLast()]);
         }
 
         return resultList.iterator();
     }
 
+    /**
+     * Computes the shortest path weight between every pair of vertices
+     * (Floyd–Warshall), relaxing one full matrix row at a time.
+     *
+     * @return matrix where {@code result[i][j]} is the shortest path weight from
+     *         vertex index i to vertex index j, or positive infinity if unreachable
+     */
+    public double[][] allPairsShortestPathWeights() {
+        double[][] dist = new double[numVertices][numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            System.arraycopy(adjMatrix[i], 0, dist[i], 0, numVertices);
+            dist[i][i] = 0.0;
+        }
+
+        for (int k = 0; k < numVertices; k++) {
+            double[] rowK = dist[k];
+            for (int i = 0; i < numVertices; i++) {
+                double viaK = dist[i][k];
+                if (viaK < Double.POSITIVE_INFINITY) {
+                    relaxRow(dist[i], viaK, rowK, numVertices);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Min/plus relaxation of a whole row: {@code dist[v] = min(dist[v], base + row[v])}.
+     * <p>
+     * The loop is branch-free over contiguous arrays so the JIT can compile it to
+     * packed SIMD min/add instructions. Missing edges are stored as positive
+     * infinity, which leaves {@code dist[v]} unchanged, and already settled vertices
+     * never improve when weights are non-negative, so no per-vertex checks are needed.
+     * </p>
+     *
+     * @param dist  distances being relaxed in place
+     * @param base  distance of the vertex whose row is being applied
+     * @param row   edge weights leaving that vertex
+     * @param count number of entries to relax
+     */
+    static void relaxRow(double[] dist, double base, double[] row, int count) {
+        for (int v = 0; v < count; v++) {
+            dist[v] = Math.min(dist[v], base + row[v]);
+        }
+    }
+
     /**
      * Expands the capacity of the network by doubling the size of arrays.
      * New edge weights are initialized to positive infinity.
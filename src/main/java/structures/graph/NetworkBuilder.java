@@ -0,0 +1,223 @@
+package structures.graph;
+
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Builds a {@link NetworkList} in one pass from a known number of vertices and a
+ * stream of edges given by vertex index.
+ * <p>
+ * Adding vertices and edges one at a time to a network looks each endpoint up by
+ * equality and grows the vertex arrays and adjacency lists by doubling. The builder
+ * instead records edges as plain index/weight triples, counts each vertex's degree
+ * and then allocates every adjacency list at its exact size before filling it, so
+ * loading a map touches each edge a constant number of times and leaves no slack.
+ * </p>
+ * <p>
+ * Edges are undirected, like {@link NetworkList#addEdge}: each one is stored in the
+ * adjacency lists of both endpoints, in insertion order. One-way arcs, like
+ * {@link NetworkList#addArc}, are stored in the source's list and the target's
+ * reverse list. A builder can be used once;
+ * later calls after {@link #build()} throw {@link IllegalStateException}.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class NetworkBuilder<T> {
+
+    private T[] vertices;
+    private int numVertices;
+
+    private int[] edgeSource;
+    private int[] edgeTarget;
+    private double[] edgeWeight;
+    private boolean[] edgeOneWay;
+    private int numEdges;
+    private int numArcs;
+
+    private boolean built;
+
+    /**
+     * Creates a builder sized for the expected number of vertices and edges.
+     * Exceeding either estimate is allowed but costs a reallocation.
+     *
+     * @param expectedVertices number of vertices that will be added
+     * @param expectedEdges    number of edges that will be added
+     * @throws IllegalArgumentException if either estimate is negative
+     */
+    public NetworkBuilder(int expectedVertices, int expectedEdges) {
+        if (expectedVertices < 0 || expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected sizes must not be negative");
+        }
+        this.vertices = (T[]) (new Object[Math.max(1, expectedVertices)]);
+        this.edgeSource = new int[Math.max(1, expectedEdges)];
+        this.edgeTarget = new int[edgeSource.length];
+        this.edgeWeight = new double[edgeSource.length];
+        this.edgeOneWay = new boolean[edgeSource.length];
+    }
+
+    /**
+     * Adds a vertex and returns the index later edges should use to refer to it.
+     *
+     * @param vertex the vertex to add
+     * @return the index of the new vertex
+     * @throws IllegalStateException if the network was already built
+     */
+    public int addVertex(T vertex) {
+        checkNotBuilt();
+        if (numVertices == vertices.length) {
+            T[] larger = (T[]) (new Object[vertices.length * 2]);
+            System.arraycopy(vertices, 0, larger, 0, numVertices);
+            vertices = larger;
+        }
+        vertices[numVertices] = vertex;
+        return numVertices++;
+    }
+
+    /**
+     * Adds an undirected edge between two previously added vertices.
+     *
+     * @param source index of one endpoint
+     * @param target index of the other endpoint
+     * @param weight cost of the connection
+     * @throws IllegalArgumentException if an index does not refer to an added vertex
+     * @throws IllegalStateException    if the network was already built
+     */
+    public void addEdge(int source, int target, double weight) {
+        append(source, target, weight, false);
+    }
+
+    /**
+     * Adds a one-way arc between two previously added vertices.
+     *
+     * @param source index of the vertex the arc leaves
+     * @param target index of the vertex the arc enters
+     * @param weight cost of the arc
+     * @throws IllegalArgumentException if an index does not refer to an added vertex
+     * @throws IllegalStateException    if the network was already built
+     */
+    public void addArc(int source, int target, double weight) {
+        append(source, target, weight, true);
+        numArcs++;
+    }
+
+    private void append(int source, int target, double weight, boolean oneWay) {
+        checkNotBuilt();
+        if (source < 0 || source >= numVertices || target < 0 || target >= numVertices) {
+            throw new IllegalArgumentException("Invalid edge " + source + " -> " + target);
+        }
+        if (numEdges == edgeSource.length) {
+            int capacity = edgeSource.length * 2;
+            int[] largerSource = new int[capacity];
+            int[] largerTarget = new int[capacity];
+            double[] largerWeight = new double[capacity];
+            boolean[] largerOneWay = new boolean[capacity];
+            System.arraycopy(edgeSource, 0, largerSource, 0, numEdges);
+            System.arraycopy(edgeTarget, 0, largerTarget, 0, numEdges);
+            System.arraycopy(edgeWeight, 0, largerWeight, 0, numEdges);
+            System.arraycopy(edgeOneWay, 0, largerOneWay, 0, numEdges);
+            edgeSource = largerSource;
+            edgeTarget = largerTarget;
+            edgeWeight = largerWeight;
+            edgeOneWay = largerOneWay;
+        }
+        edgeSource[numEdges] = source;
+        edgeTarget[numEdges] = target;
+        edgeWeight[numEdges] = weight;
+        edgeOneWay[numEdges] = oneWay;
+        numEdges++;
+    }
+
+    /**
+     * Returns the vertex stored at an index.
+     *
+     * @param index the vertex index
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if no vertex has that index
+     */
+    public T getVertex(int index) {
+        if (index < 0 || index >= numVertices) {
+            throw new IndexOutOfBoundsException("Invalid vertex index: " + index);
+        }
+        return vertices[index];
+    }
+
+    /**
+     * Returns the number of vertices added so far.
+     *
+     * @return the vertex count
+     */
+    public int vertexCount() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of edges and arcs added so far.
+     *
+     * @return the edge count
+     */
+    public int edgeCount() {
+        return numEdges;
+    }
+
+    /**
+     * Creates the network with every array sized exactly for its contents.
+     *
+     * @return the finished network
+     * @throws IllegalStateException if the network was already built
+     */
+    public NetworkList<T> build() {
+        checkNotBuilt();
+        built = true;
+
+        int[] degree = new int[numVertices];
+        int[] inArcs = new int[numVertices];
+        for (int e = 0; e < numEdges; e++) {
+            degree[edgeSource[e]]++;
+            if (edgeOneWay[e]) {
+                inArcs[edgeTarget[e]]++;
+            } else {
+                degree[edgeTarget[e]]++;
+            }
+        }
+
+        NetworkList<T> network = new NetworkList<>(numVertices);
+        if (numArcs > 0) {
+            network.revList = new ArrayUnorderedList[network.vertices.length];
+            network.numArcs = numArcs;
+        }
+        for (int v = 0; v < numVertices; v++) {
+            network.vertices[v] = vertices[v];
+            network.adjList[v] = new ArrayUnorderedList<>(degree[v]);
+            if (numArcs > 0) {
+                network.revList[v] = new ArrayUnorderedList<>(inArcs[v]);
+            }
+        }
+        network.numVertices = numVertices;
+
+        for (int e = 0; e < numEdges; e++) {
+            int s = edgeSource[e];
+            int t = edgeTarget[e];
+            if (edgeOneWay[e]) {
+                network.adjList[s].addToRear(network.new WeightedEdge(t, edgeWeight[e], true));
+                network.revList[t].addToRear(network.new WeightedEdge(s, edgeWeight[e], true));
+            } else {
+                network.adjList[s].addToRear(network.new WeightedEdge(t, edgeWeight[e]));
+                network.adjList[t].addToRear(network.new WeightedEdge(s, edgeWeight[e]));
+            }
+        }
+
+        edgeSource = null;
+        edgeTarget = null;
+        edgeWeight = null;
+        edgeOneWay = null;
+        return network;
+    }
+
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Network already built");
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package structures.graph;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Writes a {@link NetworkList} to a character or byte stream as DOT (Graphviz),
+ * GraphML or a plain tab-separated edge list.
+ * <p>
+ * Output is streamed vertex by vertex through a buffered writer, so exporting takes
+ * time linear in the size of the network and never builds the whole document in
+ * memory. Vertices are written as {@code n<index>} with their {@code toString()} as
+ * label; each undirected edge is written once, with its weight. One-way arcs are
+ * written from source to target: a network with arcs becomes a DOT digraph whose
+ * two-way edges carry {@code dir=none}, and GraphML marks its arcs
+ * {@code directed="true"}. The target stream is flushed but not closed.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public final class NetworkExporter {
+
+    /**
+     * Supported output formats.
+     */
+    public enum Format {
+        /** Graphviz DOT graph (a digraph when the network has one-way arcs). */
+        DOT,
+        /** GraphML XML document. */
+        GRAPHML,
+        /**
+         * One "source TAB target TAB weight" line per edge, using vertex labels in
+         * which backslashes, tabs and line breaks are written as {@code \\},
+         * {@code \t}, {@code \n} and {@code \r}.
+         */
+        EDGE_LIST
+    }
+
+    /**
+     * Utility class; prevent instantiation.
+     */
+    private NetworkExporter() { }
+
+    /**
+     * Writes a network to a byte stream encoded as UTF-8.
+     *
+     * @param network the network to export
+     * @param format  the output format
+     * @param out     the destination stream
+     * @param <T>     the vertex type
+     * @throws IOException if writing fails
+     */
+    public static <T> void write(NetworkList<T> network, Format format, OutputStream out) throws IOException {
+        write(network, format, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a network to a character stream.
+     *
+     * @param network the network to export
+     * @param format  the output format
+     * @param out     the destination writer
+     * @param <T>     the vertex type
+     * @throws IOException if writing fails
+     */
+    public static <T> void write(NetworkList<T> network, Format format, Writer out) throws IOException {
+        BufferedWriter writer = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+        switch (format) {
+            case DOT -> writeDot(network, writer);
+            case GRAPHML -> writeGraphML(network, writer);
+            default -> writeEdgeList(network, writer);
+        }
+        writer.flush();
+    }
+
+    private static <T> void writeDot(NetworkList<T> network, BufferedWriter out) throws IOException {
+        boolean directed = network.hasArcs();
+        out.write(directed ? "digraph G {" : "graph G {");
+        out.newLine();
+        for (int v = 0; v < network.numVertices; v++) {
+            out.write("  n" + v + " [label=\"" + escapeDot(String.valueOf(network.vertices[v])) + "\"];");
+            out.newLine();
+        }
+        for (int u = 0; u < network.numVertices; u++) {
+            Iterator<NetworkList<T>.WeightedEdge> it = undirectedEdges(network, u);
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                String link = directed ? " -> n" : " -- n";
+                String twoWay = directed && !edge.isOneWay() ? ", dir=none" : "";
+                out.write("  n" + u + link + edge.getNeighborIndex() + " [weight=" + edge.getWeight() + twoWay + "];");
+                out.newLine();
+            }
+        }
+        out.write("}");
+        out.newLine();
+    }
+
+    private static <T> void writeGraphML(NetworkList<T> network, BufferedWriter out) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        out.newLine();
+        out.write("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">");
+        out.newLine();
+        out.write("  <key id=\"label\" for=\"node\" attr.name=\"label\" attr.type=\"string\"/>");
+        out.newLine();
+        out.write("  <key id=\"weight\" for=\"edge\" attr.name=\"weight\" attr.type=\"double\"/>");
+        out.newLine();
+        out.write("  <graph id=\"G\" edgedefault=\"undirected\">");
+        out.newLine();
+        for (int v = 0; v < network.numVertices; v++) {
+            out.write("    <node id=\"n" + v + "\"><data key=\"label\">"
+                    + escapeXml(String.valueOf(network.vertices[v])) + "</data></node>");
+            out.newLine();
+        }
+        for (int u = 0; u < network.numVertices; u++) {
+            Iterator<NetworkList<T>.WeightedEdge> it = undirectedEdges(network, u);
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                out.write("    <edge source=\"n" + u + "\" target=\"n" + edge.getNeighborIndex()
+                        + (edge.isOneWay() ? "\" directed=\"true" : "")
+                        + "\"><data key=\"weight\">" + edge.getWeight() + "</data></edge>");
+                out.newLine();
+            }
+        }
+        out.write("  </graph>");
+        out.newLine();
+        out.write("</graphml>");
+        out.newLine();
+    }
+
+    private static <T> void writeEdgeList(NetworkList<T> network, BufferedWriter out) throws IOException {
+        for (int u = 0; u < network.numVertices; u++) {
+            String source = escapeEdgeList(String.valueOf(network.vertices[u]));
+            Iterator<NetworkList<T>.WeightedEdge> it = undirectedEdges(network, u);
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                out.write(source + "\t" + escapeEdgeList(String.valueOf(network.vertices[edge.getNeighborIndex()]))
+                        + "\t" + edge.getWeight());
+                out.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the edges of a vertex that it owns for export: its one-way arcs, its
+     * edges to higher indices, and every other entry of a two-way self-loop (which
+     * is stored twice).
+     */
+    private static <T> Iterator<NetworkList<T>.WeightedEdge> undirectedEdges(NetworkList<T> network, int u) {
+        ArrayUnorderedList<NetworkList<T>.WeightedEdge> owned = new ArrayUnorderedList<>();
+        boolean skipLoop = false;
+        Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[u].iterator();
+        while (it.hasNext()) {
+            NetworkList<T>.WeightedEdge edge = it.next();
+            int v = edge.getNeighborIndex();
+            if (edge.isOneWay()) {
+                owned.addToRear(edge);
+            } else if (v == u) {
+                if (!skipLoop) owned.addToRear(edge);
+                skipLoop = !skipLoop;
+            } else if (u < v) {
+                owned.addToRear(edge);
+            }
+        }
+        return owned.iterator();
+    }
+
+    /**
+     * Escapes a DOT label; line breaks become DOT's {@code \n} line separator.
+     */
+    private static String escapeDot(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"")
+                .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    /**
+     * Escapes an edge-list label so it cannot split a line or a column.
+     */
+    private static String escapeEdgeList(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escapeXml(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&apos;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
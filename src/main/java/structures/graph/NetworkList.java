@@ -1,18 +1,27 @@
 package structures.graph;
 
+import structures.hash.ObjectIntHashMap;
 import structures.linear.ArrayUnorderedList;
-import structures.queue.LinkedQueue;
-import structures.stack.LinkedStack;
+import structures.primitive.IntDeque;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * List-based implementation of a weighted directed graph (Network).
+ * List-based implementation of a weighted graph (Network).
  * <p>
  * This class implements the {@link NetworkADT} interface using adjacency lists.
  * Each vertex stores a list of weighted edges to its neighbors, allowing efficient
  * traversal and weight queries. Supports graph operations like shortest path calculation.
  * </p>
+ * <p>
+ * Connections added with {@link #addEdge} can be travelled both ways and are stored
+ * in both endpoints' lists. One-way arcs added with {@link #addArc} are stored in
+ * the source's list and in a separate reverse list of the target, so searches
+ * respect their direction and can also run backwards towards a vertex.
+ * </p>
  *
  * @param <T> The type of elements stored as vertices.
  * @author Group 27
@@ -29,12 +38,39 @@ public class NetworkList<T> implements NetworkADT<T> {
     /** Adjacency lists storing weighted edges for each vertex index. */
     protected ArrayUnorderedList<WeightedEdge>[] adjList;
 
+    /**
+     * Reverse adjacency: for each vertex, the one-way arcs that end there (the entry
+     * holds the arc's source). Null until the first arc is added; edges usable in
+     * both directions are already their own reverse and are not repeated here.
+     */
+    protected ArrayUnorderedList<WeightedEdge>[] revList;
+
+    /** Number of one-way arcs currently stored. */
+    protected int numArcs;
+
+    /**
+     * Index from vertex to the position of its first occurrence, or null when it
+     * must be rebuilt (removals and reorderings renumber vertices). Built locally and
+     * then published, so concurrent readers never see a partly built index.
+     */
+    private volatile ObjectIntHashMap<T> vertexIndex;
+
+    /** Per-thread scratch buffers reused by the shortest-path searches. */
+    private final ThreadLocal<SearchContext> searchContext = ThreadLocal.withInitial(SearchContext::new);
+
+    /** Priority structure used by the shortest-path searches. */
+    private SearchStrategy searchStrategy = SearchStrategy.LINEAR_SCAN;
+
+    /** Shortest-path trees kept up to date as edges are added. */
+    private final ArrayUnorderedList<ShortestPathTree<T>> trees = new ArrayUnorderedList<>();
+
     /**
      * Lightweight edge container storing neighbor index and weight.
      */
     protected class WeightedEdge {
         private final int neighborIndex;
         private final double weight;
+        private final boolean oneWay;
 
         /**
          * Creates an edge to a neighbor with a given weight.
@@ -43,8 +79,20 @@ public class NetworkList<T> implements NetworkADT<T> {
          * @param weight        cost of the connection
          */
         public WeightedEdge(int neighborIndex, double weight) {
+        	this(neighborIndex, weight, false);
+        }
+
+        /**
+         * Creates an edge entry that may belong to a one-way arc.
+         *
+         * @param neighborIndex index of the adjacent vertex
+         * @param weight        cost of the connection
+         * @param oneWay        true if the entry is half of a one-way arc
+         */
+        public WeightedEdge(int neighborIndex, double weight, boolean oneWay) {
         	this.neighborIndex = neighborIndex;
         	this.weight = weight;
+        	this.oneWay = oneWay;
         }
 
         /**
@@ -65,6 +113,16 @@ public class NetworkList<T> implements NetworkADT<T> {
             return weight;
         }
 
+        /**
+         * Returns true if this entry belongs to a one-way arc rather than an
+         * edge usable in both directions.
+         *
+         * @return true for one-way arcs
+         */
+        public boolean isOneWay() {
+            return oneWay;
+        }
+
         @Override
         public String toString() {
             return "(" + neighborIndex + ", " + weight + ")";
@@ -75,12 +133,20 @@ public class NetworkList<T> implements NetworkADT<T> {
      * Creates an empty network with default capacity.
      */
     public NetworkList() {
+        this(10);
+    }
+
+    /**
+     * Creates an empty network with room for {@code initialCapacity} vertices
+     * before the internal arrays need to grow.
+     *
+     * @param initialCapacity the initial vertex capacity (at least 1 is used)
+     */
+    public NetworkList(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
         numVertices = 0;
-        this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
-        this.adjList = new ArrayUnorderedList[DEFAULT_CAPACITY];
-        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
-            this.adjList[i] = new ArrayUnorderedList<WeightedEdge>();
-        }
+        this.vertices = (T[]) (new Object[capacity]);
+        this.adjList = new ArrayUnorderedList[capacity];
     }
 
 
@@ -90,8 +156,20 @@ public class NetworkList<T> implements NetworkADT<T> {
             expandCapacity();
 
         vertices[numVertices] = vertex;
+        ObjectIntHashMap<T> index = vertexIndex;
+        if (index != null && vertex != null) {
+            index.putIfAbsent(vertex, numVertices);
+        }
         adjList[numVertices] = new ArrayUnorderedList<WeightedEdge>();
+        if (revList != null) {
+            revList[numVertices] = new ArrayUnorderedList<WeightedEdge>();
+        }
         numVertices++;
+
+        if (!trees.isEmpty()) {
+            Iterator<ShortestPathTree<T>> it = trees.iterator();
+            while (it.hasNext()) it.next().vertexAdded();
+        }
     }
 
     @Override
@@ -106,6 +184,12 @@ public class NetworkList<T> implements NetworkADT<T> {
 
             WeightedEdge edge2 = new WeightedEdge(index1, weight);
             adjList[index2].addToRear(edge2);
+            checkWeightForStrategy(weight);
+
+            if (!trees.isEmpty()) {
+                Iterator<ShortestPathTree<T>> it = trees.iterator();
+                while (it.hasNext()) it.next().edgeAdded(index1, index2, weight);
+            }
         }
     }
 
@@ -114,6 +198,123 @@ public class NetworkList<T> implements NetworkADT<T> {
         addEdge(vertex1, vertex2, 1.0);
     }
 
+    /**
+     * Inserts a one-way arc that can only be travelled from source to target.
+     * <p>
+     * The arc is stored once in the source's adjacency list, so every forward
+     * search (traversals, shortest paths) respects its direction, and once in the
+     * target's reverse list for searches towards a vertex.
+     * </p>
+     *
+     * @param source the vertex the arc leaves
+     * @param target the vertex the arc enters
+     * @param weight cost of the arc
+     */
+    public void addArc(T source, T target, double weight) {
+        addArc(getIndex(source), getIndex(target), weight);
+    }
+
+    /**
+     * Inserts a one-way arc between vertex indices.
+     *
+     * @param source index of the vertex the arc leaves
+     * @param target index of the vertex the arc enters
+     * @param weight cost of the arc
+     */
+    void addArc(int source, int target, double weight) {
+        if (indexIsValid(source) && indexIsValid(target)) {
+            ensureReverseLists();
+            adjList[source].addToRear(new WeightedEdge(target, weight, true));
+            revList[target].addToRear(new WeightedEdge(source, weight, true));
+            numArcs++;
+            checkWeightForStrategy(weight);
+
+            if (!trees.isEmpty()) {
+                Iterator<ShortestPathTree<T>> it = trees.iterator();
+                while (it.hasNext()) it.next().arcAdded(source, target, weight);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the network holds at least one one-way arc, i.e. some
+     * connection cannot be travelled in both directions.
+     *
+     * @return true if the network is not symmetric
+     */
+    public boolean hasArcs() {
+        return numArcs > 0;
+    }
+
+    /**
+     * Returns the priority structure used by the shortest-path searches.
+     *
+     * @return the current search strategy
+     */
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    /**
+     * Selects the priority structure used by the shortest-path searches, including
+     * those of {@link ShortestPathTree} and {@link HierarchicalPathFinder}.
+     * <p>
+     * {@link SearchStrategy#RADIX_HEAP} needs non-negative integer weights; if an
+     * edge with any other weight is added later the network falls back to
+     * {@link SearchStrategy#BINARY_HEAP}.
+     * </p>
+     *
+     * @param strategy the strategy to use
+     * @throws IllegalArgumentException if strategy is null, or is RADIX_HEAP and
+     *                                  some weight is not a non-negative integer
+     */
+    public void setSearchStrategy(SearchStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Search strategy must not be null");
+        }
+        if (strategy == SearchStrategy.RADIX_HEAP && !hasIntegralWeights()) {
+            throw new IllegalArgumentException("Radix heap search requires non-negative integer weights");
+        }
+        this.searchStrategy = strategy;
+    }
+
+    /**
+     * Returns true if every edge and arc weight is a non-negative integer small
+     * enough for {@link SearchStrategy#RADIX_HEAP}.
+     *
+     * @return true if the radix heap strategy can be used
+     */
+    public boolean hasIntegralWeights() {
+        for (int i = 0; i < numVertices; i++) {
+            Iterator<WeightedEdge> it = adjList[i].iterator();
+            while (it.hasNext()) {
+                if (!RadixHeap.accepts(it.next().getWeight())) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Leaves the radix heap strategy when a weight it cannot handle is added.
+     */
+    private void checkWeightForStrategy(double weight) {
+        if (searchStrategy == SearchStrategy.RADIX_HEAP && !RadixHeap.accepts(weight)) {
+            searchStrategy = SearchStrategy.BINARY_HEAP;
+        }
+    }
+
+    /**
+     * Allocates the reverse lists the first time an arc is added.
+     */
+    void ensureReverseLists() {
+        if (revList == null) {
+            revList = new ArrayUnorderedList[vertices.length];
+            for (int i = 0; i < numVertices; i++) {
+                revList[i] = new ArrayUnorderedList<WeightedEdge>();
+            }
+        }
+    }
+
     /**
      * Remove um vértice e atualiza todos os índices nas arestas restantes.
      */
@@ -122,38 +323,61 @@ public class NetworkList<T> implements NetworkADT<T> {
         int indexToRemove = getIndex(vertex);
 
         if (indexIsValid(indexToRemove)) {
+            Iterator<WeightedEdge> removed = adjList[indexToRemove].iterator();
+            while (removed.hasNext()) {
+                if (removed.next().isOneWay()) numArcs--;
+            }
             numVertices--;
 
             for (int i = indexToRemove; i < numVertices; i++) {
                 vertices[i] = vertices[i+1];
                 adjList[i] = adjList[i+1];
+                if (revList != null) revList[i] = revList[i+1];
             }
             vertices[numVertices] = null;
+            vertexIndex = null;
             adjList[numVertices] = null;
+            if (revList != null) revList[numVertices] = null;
 
-            for (int i = 0; i < numVertices; i++) {
-                ArrayUnorderedList<WeightedEdge> currentList = adjList[i];
-                ArrayUnorderedList<WeightedEdge> newList = new ArrayUnorderedList<>();
-
-                Iterator<WeightedEdge> it = currentList.iterator();
-                while (it.hasNext()) {
-                    WeightedEdge edge = it.next();
-
-                    if (edge.getNeighborIndex() == indexToRemove) {
-                        continue;
-                    } else if (edge.getNeighborIndex() > indexToRemove) {
-                        newList.addToRear(new WeightedEdge(edge.getNeighborIndex() - 1, edge.getWeight()));
-                    } else {
-                        newList.addToRear(edge);
-                    }
+            numArcs -= dropAndShift(adjList, indexToRemove);
+            if (revList != null) dropAndShift(revList, indexToRemove);
+            invalidateTrees();
+        }
+    }
+
+    /**
+     * Rewrites every list after a vertex removal: entries pointing to the removed
+     * vertex are dropped and higher neighbour indices shift down by one.
+     *
+     * @param lists         the adjacency lists to rewrite
+     * @param indexToRemove index of the removed vertex
+     * @return number of dropped one-way entries
+     */
+    private int dropAndShift(ArrayUnorderedList<WeightedEdge>[] lists, int indexToRemove) {
+        int droppedArcs = 0;
+        for (int i = 0; i < numVertices; i++) {
+            ArrayUnorderedList<WeightedEdge> currentList = lists[i];
+            ArrayUnorderedList<WeightedEdge> newList = new ArrayUnorderedList<>();
+
+            Iterator<WeightedEdge> it = currentList.iterator();
+            while (it.hasNext()) {
+                WeightedEdge edge = it.next();
+
+                if (edge.getNeighborIndex() == indexToRemove) {
+                    if (edge.isOneWay()) droppedArcs++;
+                } else if (edge.getNeighborIndex() > indexToRemove) {
+                    newList.addToRear(new WeightedEdge(edge.getNeighborIndex() - 1, edge.getWeight(), edge.isOneWay()));
+                } else {
+                    newList.addToRear(edge);
                 }
-                adjList[i] = newList;
             }
+            lists[i] = newList;
         }
+        return droppedArcs;
     }
 
     /**
-     * Removes an edge between two vertices.
+     * Removes every edge and arc between two vertices, in either direction.
      */
     @Override
     public void removeEdge(T vertex1, T vertex2) {
@@ -162,23 +386,35 @@ public class NetworkList<T> implements NetworkADT<T> {
 
     private void removeEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            removeEdgeFromList(index1, index2);
-            removeEdgeFromList(index2, index1);
+            numArcs -= removeEdgeFromList(adjList, index1, index2);
+            numArcs -= removeEdgeFromList(adjList, index2, index1);
+            if (revList != null) {
+                removeEdgeFromList(revList, index1, index2);
+                removeEdgeFromList(revList, index2, index1);
+            }
+            invalidateTrees();
         }
     }
 
-    private void removeEdgeFromList(int sourceIndex, int targetIndex) {
-        ArrayUnorderedList<WeightedEdge> currentList = adjList[sourceIndex];
-        ArrayUnorderedList<WeightedEdge> newList = new ArrayUnorderedList<>();
+    /**
+     * Drops the entries of one list that point to a given neighbour.
+     *
+     * @return number of dropped one-way entries
+     */
+    private int removeEdgeFromList(ArrayUnorderedList<WeightedEdge>[] lists, int sourceIndex, int targetIndex) {
+        int droppedArcs = 0;
 
-        Iterator<WeightedEdge> it = currentList.iterator();
+        Iterator<WeightedEdge> it = lists[sourceIndex].iterator();
         while (it.hasNext()) {
             WeightedEdge edge = it.next();
-            if (edge.getNeighborIndex() != targetIndex) {
-                newList.addToRear(edge);
+            if (edge.getNeighborIndex() == targetIndex) {
+                if (edge.isOneWay()) {
+                    droppedArcs++;
+                }
+                it.remove();
             }
         }
-        adjList[sourceIndex] = newList;
+        return droppedArcs;
     }
 
     @Override
@@ -193,27 +429,40 @@ public class NetworkList<T> implements NetworkADT<T> {
      * @return iterator over visited vertices in BFS order
      */
     public Iterator<T> iteratorBFS(int startIndex) {
-        Integer x;
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<Integer>();
+        return iteratorBFS(startIndex, null, null);
+    }
+
+    /**
+     * Breadth-first traversal that only visits vertices and follows edges accepted
+     * by the given filters.
+     *
+     * @param startIndex   index of the starting vertex
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return iterator over visited vertices in BFS order
+     */
+    Iterator<T> iteratorBFS(int startIndex, VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        int x;
+        IntDeque traversalQueue = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
 
-        if (!indexIsValid(startIndex)) return resultList.iterator();
+        if (!indexIsValid(startIndex) || !isVisible(startIndex, vertexFilter)) return resultList.iterator();
 
         boolean[] visited = new boolean[numVertices];
         for (int i = 0; i < numVertices; i++) visited[i] = false;
 
-        traversalQueue.enqueue(startIndex);
+        traversalQueue.addLast(startIndex);
         visited[startIndex] = true;
 
         while (!traversalQueue.isEmpty()) {
-            x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x.intValue()]);
+            x = traversalQueue.removeFirst();
+            resultList.addToRear(vertices[x]);
 
-            Iterator<WeightedEdge> it = adjList[x.intValue()].iterator();
+            Iterator<WeightedEdge> it = adjList[x].iterator();
             while (it.hasNext()) {
                 WeightedEdge edge = it.next();
-                if (!visited[edge.getNeighborIndex()]) {
-                    traversalQueue.enqueue(edge.getNeighborIndex());
+                if (!visited[edge.getNeighborIndex()] && canFollow(x, edge, vertexFilter, edgeFilter)) {
+                    traversalQueue.addLast(edge.getNeighborIndex());
                     visited[edge.getNeighborIndex()] = true;
                 }
             }
@@ -233,36 +482,49 @@ public class NetworkList<T> implements NetworkADT<T> {
      * @return iterator over visited vertices in DFS order
      */
     public Iterator<T> iteratorDFS(int startIndex) {
-        Integer x;
+        return iteratorDFS(startIndex, null, null);
+    }
+
+    /**
+     * Depth-first traversal that only visits vertices and follows edges accepted
+     * by the given filters.
+     *
+     * @param startIndex   index of the starting vertex
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return iterator over visited vertices in DFS order
+     */
+    Iterator<T> iteratorDFS(int startIndex, VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        int x;
         boolean found;
-        LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
+        IntDeque traversalStack = new IntDeque();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
         boolean[] visited = new boolean[numVertices];
 
-        if (!indexIsValid(startIndex)) return resultList.iterator();
+        if (!indexIsValid(startIndex) || !isVisible(startIndex, vertexFilter)) return resultList.iterator();
 
         for (int i = 0; i < numVertices; i++) visited[i] = false;
 
-        traversalStack.push(startIndex);
+        traversalStack.addLast(startIndex);
         resultList.addToRear(vertices[startIndex]);
         visited[startIndex] = true;
 
         while (!traversalStack.isEmpty()) {
-            x = traversalStack.peek();
+            x = traversalStack.peekLast();
             found = false;
 
-            Iterator<WeightedEdge> it = adjList[x.intValue()].iterator();
+            Iterator<WeightedEdge> it = adjList[x].iterator();
             while (it.hasNext() && !found) {
                 WeightedEdge edge = it.next();
-                if (!visited[edge.getNeighborIndex()]) {
-                    traversalStack.push(edge.getNeighborIndex());
+                if (!visited[edge.getNeighborIndex()] && canFollow(x, edge, vertexFilter, edgeFilter)) {
+                    traversalStack.addLast(edge.getNeighborIndex());
                     resultList.addToRear(vertices[edge.getNeighborIndex()]);
                     visited[edge.getNeighborIndex()] = true;
                     found = true;
                 }
             }
             if (!found && !traversalStack.isEmpty())
-                traversalStack.pop();
+                traversalStack.removeLast();
         }
         return resultList.iterator();
     }
@@ -281,65 +543,38 @@ public class NetworkList<T> implements NetworkADT<T> {
      * @return iterator containing the path vertices, or empty if unreachable
      */
     protected Iterator<T> iteratorShortestPath(int startIndex, int targetIndex) {
+        return iteratorShortestPath(startIndex, targetIndex, null, null);
+    }
+
+    /**
+     * Dijkstra shortest path restricted to vertices and edges accepted by the filters.
+     *
+     * @param startIndex   source vertex index
+     * @param targetIndex  destination vertex index
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return iterator containing the path vertices, or empty if unreachable
+     */
+    Iterator<T> iteratorShortestPath(int startIndex, int targetIndex,
+                                     VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex))
             return resultList.iterator();
 
-        double[] pathWeight = new double[numVertices];
-        boolean[] visited = new boolean[numVertices];
-        int[] predecessor = new int[numVertices];
-
-        for (int i = 0; i < numVertices; i++) {
-            pathWeight[i] = Double.POSITIVE_INFINITY;
-            visited[i] = false;
-            predecessor[i] = -1;
-        }
-
-        pathWeight[startIndex] = 0;
-
-        for (int i = 0; i < numVertices; i++) {
-            int u = -1;
-            double minWeight = Double.POSITIVE_INFINITY;
-
-            for (int j = 0; j < numVertices; j++) {
-                if (!visited[j] && pathWeight[j] < minWeight) {
-                    minWeight = pathWeight[j];
-                    u = j;
-                }
-            }
-
-            if (u == -1) break;
-            visited[u] = true;
-
-            if (u == targetIndex) break;
-
-            Iterator<WeightedEdge> it = adjList[u].iterator();
-            while (it.hasNext()) {
-                WeightedEdge edge = it.next();
-                int v = edge.getNeighborIndex();
-                double weight = edge.getWeight();
-
-                if (!visited[v]) {
-                    if (pathWeight[u] + weight < pathWeight[v]) {
-                        pathWeight[v] = pathWeight[u] + weight;
-                        predecessor[v] = u;
-                    }
-                }
-            }
-        }
-
-        if (pathWeight[targetIndex] == Double.POSITIVE_INFINITY)
+        SearchContext context = searchContext.get();
+        if (!dijkstra(context, startIndex, targetIndex, vertexFilter, edgeFilter))
             return resultList.iterator();
 
-        LinkedStack<Integer> pathStack = new LinkedStack<>();
+        int[] path = context.path;
+        int length = 0;
         int current = targetIndex;
         while (current != -1) {
-            pathStack.push(current);
-            current = predecessor[current];
+            path[length++] = current;
+            current = context.predecessor[current];
         }
 
-        while (!pathStack.isEmpty()) {
-            resultList.addToRear(vertices[pathStack.pop()]);
+        while (length > 0) {
+            resultList.addToRear(vertices[path[--length]]);
         }
 
         return resultList.iterator();
@@ -410,54 +645,156 @@ public class NetworkList<T> implements NetworkADT<T> {
 
     @Override
     public double shortestPathWeight(T vertex1, T vertex2) {
-        int startIndex = getIndex(vertex1);
-        int targetIndex = getIndex(vertex2);
+        return shortestPathWeight(getIndex(vertex1), getIndex(vertex2), null, null);
+    }
 
+    /**
+     * Shortest path weight restricted to vertices and edges accepted by the filters.
+     *
+     * @param startIndex   source vertex index
+     * @param targetIndex  destination vertex index
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return the path weight, or positive infinity if unreachable
+     */
+    double shortestPathWeight(int startIndex, int targetIndex,
+                              VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex))
             return Double.POSITIVE_INFINITY;
 
+        if (!isVisible(startIndex, vertexFilter) || !isVisible(targetIndex, vertexFilter))
+            return Double.POSITIVE_INFINITY;
+
         if (startIndex == targetIndex) return 0.0;
 
-        double[] pathWeight = new double[numVertices];
-        boolean[] visited = new boolean[numVertices];
+        SearchContext context = searchContext.get();
+        dijkstra(context, startIndex, targetIndex, vertexFilter, edgeFilter);
+        return context.distanceTo(targetIndex);
+    }
 
-        for (int i = 0; i < numVertices; i++) {
-            pathWeight[i] = Double.POSITIVE_INFINITY;
-            visited[i] = false;
-        }
-        pathWeight[startIndex] = 0;
+    /**
+     * Runs Dijkstra's algorithm from a source until the target is settled, using the
+     * calling thread's scratch buffers instead of freshly allocated arrays. The next
+     * vertex is chosen according to the current {@link SearchStrategy}.
+     *
+     * @param context      scratch buffers; holds distances and predecessors afterwards
+     * @param startIndex   source vertex index
+     * @param targetIndex  destination vertex index
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return true if the target is reachable
+     */
+    private boolean dijkstra(SearchContext context, int startIndex, int targetIndex,
+                             VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        context.begin(numVertices);
+        if (!isVisible(startIndex, vertexFilter)) return false;
+        context.reach(startIndex, 0.0, -1);
+
+        return switch (searchStrategy) {
+            case BINARY_HEAP -> heapDijkstra(context, startIndex, targetIndex, vertexFilter, edgeFilter);
+            case RADIX_HEAP -> radixDijkstra(context, startIndex, targetIndex, vertexFilter, edgeFilter);
+            default -> scanDijkstra(context, targetIndex, vertexFilter, edgeFilter);
+        };
+    }
 
+    /**
+     * Dijkstra picking the closest reached vertex by scanning all of them.
+     */
+    private boolean scanDijkstra(SearchContext context, int targetIndex,
+                                 VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
         for (int i = 0; i < numVertices; i++) {
             int u = -1;
             double minWeight = Double.POSITIVE_INFINITY;
 
             for (int j = 0; j < numVertices; j++) {
-                if (!visited[j] && pathWeight[j] < minWeight) {
-                    minWeight = pathWeight[j];
+                if (context.isReached(j) && !context.isSettled(j) && context.distance[j] < minWeight) {
+                    minWeight = context.distance[j];
                     u = j;
                 }
             }
 
-            if (u == -1) break;
-            visited[u] = true;
+            if (u == -1) return false;
+            context.settle(u);
 
-            if (u == targetIndex) return pathWeight[u];
+            if (u == targetIndex) return true;
 
             Iterator<WeightedEdge> it = adjList[u].iterator();
             while (it.hasNext()) {
                 WeightedEdge edge = it.next();
                 int v = edge.getNeighborIndex();
-                double weight = edge.getWeight();
 
-                if (!visited[v]) {
-                    if (pathWeight[u] + weight < pathWeight[v]) {
-                        pathWeight[v] = pathWeight[u] + weight;
+                if (!context.isSettled(v) && canFollow(u, edge, vertexFilter, edgeFilter)) {
+                    double candidate = minWeight + edge.getWeight();
+                    if (candidate < context.distanceTo(v)) {
+                        context.reach(v, candidate, u);
                     }
                 }
             }
         }
+        return false;
+    }
 
-        return pathWeight[targetIndex];
+    /**
+     * Dijkstra over the context's binary heap.
+     */
+    private boolean heapDijkstra(SearchContext context, int startIndex, int targetIndex,
+                                 VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        DistanceHeap heap = context.heap;
+        heap.push(startIndex, 0.0);
+
+        while (!heap.isEmpty()) {
+            double d = heap.minKey();
+            int u = heap.pop();
+            if (context.isSettled(u) || d > context.distance[u]) continue;
+            context.settle(u);
+            if (u == targetIndex) return true;
+
+            Iterator<WeightedEdge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                WeightedEdge edge = it.next();
+                int v = edge.getNeighborIndex();
+                if (!context.isSettled(v) && canFollow(u, edge, vertexFilter, edgeFilter)) {
+                    double candidate = d + edge.getWeight();
+                    if (candidate < context.distanceTo(v)) {
+                        context.reach(v, candidate, u);
+                        heap.push(v, candidate);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dijkstra over the context's radix heap; all weights must be accepted by
+     * {@link RadixHeap#accepts}, so distances are exact integers.
+     */
+    private boolean radixDijkstra(SearchContext context, int startIndex, int targetIndex,
+                                  VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        RadixHeap heap = context.radix;
+        heap.push(startIndex, 0L);
+
+        while (!heap.isEmpty()) {
+            long d = heap.minKey();
+            int u = heap.pop();
+            if (context.isSettled(u) || d > context.distance[u]) continue;
+            context.settle(u);
+            if (u == targetIndex) return true;
+
+            Iterator<WeightedEdge> it = adjList[u].iterator();
+            while (it.hasNext()) {
+                WeightedEdge edge = it.next();
+                int v = edge.getNeighborIndex();
+                if (!context.isSettled(v) && canFollow(u, edge, vertexFilter, edgeFilter)) {
+                    long candidate = d + (long) edge.getWeight();
+                    if (candidate < context.distanceTo(v)) {
+                        context.reach(v, candidate, u);
+                        heap.push(v, candidate);
+                    }
+                }
+            }
+        }
+        return false;
     }
 
 
@@ -472,16 +809,22 @@ public class NetworkList<T> implements NetworkADT<T> {
     }
 
     /**
-     * Returns the internal index for a vertex element.
+     * Returns the internal index for a vertex element, in O(1) expected time
+     * through a hash index that is rebuilt after vertices are renumbered.
      *
      * @param vertex vertex element to locate
      * @return index of the vertex or -1 if not found
      */
     protected int getIndex(T vertex) {
-        for (int i = 0; i < numVertices; i++)
-            if (vertices[i].equals(vertex))
-                return i;
-        return -1;
+        ObjectIntHashMap<T> index = vertexIndex;
+        if (index == null) {
+            index = new ObjectIntHashMap<>(numVertices);
+            for (int i = 0; i < numVertices; i++) {
+                if (vertices[i] != null) index.putIfAbsent(vertices[i], i);
+            }
+            vertexIndex = index;
+        }
+        return index.get(vertex);
     }
 
     /**
@@ -495,14 +838,138 @@ public class NetworkList<T> implements NetworkADT<T> {
             largerVertices[i] = vertices[i];
             largerAdjList[i] = adjList[i];
         }
-        for (int i = numVertices; i < largerVertices.length; i++) {
-            largerAdjList[i] = new ArrayUnorderedList<WeightedEdge>();
-        }
 
+        if (revList != null) {
+            ArrayUnorderedList<WeightedEdge>[] largerRevList = new ArrayUnorderedList[vertices.length * 2];
+            System.arraycopy(revList, 0, largerRevList, 0, numVertices);
+            revList = largerRevList;
+        }
         vertices = largerVertices;
         adjList = largerAdjList;
     }
 
+    /**
+     * Renumbers the vertices in breadth-first order so that adjacent vertices
+     * sit close together in the internal arrays.
+     *
+     * @return mapping where {@code result[newIndex]} is the vertex's previous index
+     */
+    public int[] reorderBFS() {
+        int[] order = VertexOrdering.bfs(neighborTable());
+        applyOrdering(order);
+        return order;
+    }
+
+    /**
+     * Renumbers the vertices in Reverse Cuthill–McKee order, minimising the
+     * index distance between adjacent vertices.
+     *
+     * @return mapping where {@code result[newIndex]} is the vertex's previous index
+     */
+    public int[] reorderRCM() {
+        int[] order = VertexOrdering.reverseCuthillMcKee(neighborTable());
+        applyOrdering(order);
+        return order;
+    }
+
+    /**
+     * Copies the adjacency lists into a plain neighbour-index table.
+     *
+     * @return neighbour indices per vertex
+     */
+    private int[][] neighborTable() {
+        int[][] table = new int[numVertices][];
+        for (int i = 0; i < numVertices; i++) {
+            table[i] = new int[adjList[i].size()];
+            int k = 0;
+            Iterator<WeightedEdge> it = adjList[i].iterator();
+            while (it.hasNext()) {
+                table[i][k++] = it.next().getNeighborIndex();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Permutes vertices and adjacency lists, rewriting every edge's neighbour index.
+     *
+     * @param order permutation mapping new indices to old indices
+     */
+    private void applyOrdering(int[] order) {
+        int[] newIndex = VertexOrdering.invert(order);
+        T[] newVertices = (T[]) (new Object[vertices.length]);
+        for (int i = 0; i < numVertices; i++) {
+            newVertices[i] = vertices[order[i]];
+        }
+
+        vertices = newVertices;
+        vertexIndex = null;
+        adjList = permute(adjList, order, newIndex);
+        if (revList != null) revList = permute(revList, order, newIndex);
+        invalidateTrees();
+    }
+
+    /**
+     * Returns lists moved to their new positions with neighbour indices renumbered.
+     */
+    private ArrayUnorderedList<WeightedEdge>[] permute(ArrayUnorderedList<WeightedEdge>[] lists,
+                                                       int[] order, int[] newIndex) {
+        ArrayUnorderedList<WeightedEdge>[] result = new ArrayUnorderedList[vertices.length];
+        for (int i = 0; i < numVertices; i++) {
+            ArrayUnorderedList<WeightedEdge> list = new ArrayUnorderedList<>(lists[order[i]].size());
+            Iterator<WeightedEdge> it = lists[order[i]].iterator();
+            while (it.hasNext()) {
+                WeightedEdge edge = it.next();
+                list.addToRear(new WeightedEdge(newIndex[edge.getNeighborIndex()], edge.getWeight(), edge.isOneWay()));
+            }
+            result[i] = list;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a shortest-path tree rooted at a vertex that this network keeps up to
+     * date: adding edges repairs it incrementally, other changes make it recompute
+     * lazily. Call {@link ShortestPathTree#detach()} once it is no longer needed.
+     *
+     * @param source the root vertex
+     * @return the tree
+     */
+    public ShortestPathTree<T> shortestPathTree(T source) {
+        ShortestPathTree<T> tree = new ShortestPathTree<>(this, source, false);
+        trees.addToRear(tree);
+        return tree;
+    }
+
+    /**
+     * Returns a tree of shortest paths from every vertex to a target, computed over
+     * the reverse adjacency so one-way arcs are followed in their direction. Its
+     * {@link ShortestPathTree#pathFrom} gives the route from any vertex to the
+     * target. Kept up to date like {@link #shortestPathTree}.
+     *
+     * @param target the vertex every path leads to
+     * @return the tree
+     */
+    public ShortestPathTree<T> shortestPathTreeTo(T target) {
+        ShortestPathTree<T> tree = new ShortestPathTree<>(this, target, true);
+        trees.addToRear(tree);
+        return tree;
+    }
+
+    /**
+     * Stops updating a tree created by {@link #shortestPathTree}.
+     *
+     * @param tree the tree to release
+     */
+    void releaseTree(ShortestPathTree<T> tree) {
+        trees.remove(tree);
+    }
+
+    private void invalidateTrees() {
+        Iterator<ShortestPathTree<T>> it = trees.iterator();
+        while (it.hasNext()) it.next().invalidate();
+    }
+
     @Override
     public boolean isEmpty() { return numVertices == 0; }
 
@@ -518,16 +985,73 @@ public class NetworkList<T> implements NetworkADT<T> {
         return count == numVertices;
     }
 
+    /**
+     * Returns the vertices as a stream, in index order.
+     * <p>
+     * The stream's spliterator splits by index range, so {@code vertices().parallel()}
+     * spreads the work evenly across cores. The network must not be modified while
+     * the stream runs.
+     * </p>
+     *
+     * @return stream of the vertices
+     */
+    public Stream<T> vertices() {
+        return StreamSupport.stream(new VertexSpliterator<>(vertices, 0, numVertices), false);
+    }
+
+    /**
+     * Returns every connection exactly once as a stream: each two-way edge from its
+     * lower-indexed endpoint and each one-way arc from its source.
+     * <p>
+     * The stream's spliterator splits by source vertex range, so it can run in
+     * parallel. The network must not be modified while the stream runs.
+     * </p>
+     *
+     * @return stream of the edges and arcs
+     */
+    public Stream<GraphEdge<T>> edges() {
+        long entries = 0;
+        for (int i = 0; i < numVertices; i++) entries += adjList[i].size();
+        double perVertex = numVertices == 0 ? 0 : (entries + numArcs) / 2.0 / numVertices;
+        return StreamSupport.stream(new EdgeSpliterator<T>(this::ownedEdges, 0, numVertices, perVertex), false);
+    }
+
+    /**
+     * Reports the connections a vertex owns for {@link #edges()}: its one-way arcs,
+     * its edges to higher indices and every other entry of a two-way self-loop
+     * (which is stored twice).
+     */
+    private void ownedEdges(int u, Consumer<? super GraphEdge<T>> action) {
+        boolean skipLoop = false;
+        Iterator<WeightedEdge> it = adjList[u].iterator();
+        while (it.hasNext()) {
+            WeightedEdge edge = it.next();
+            int v = edge.getNeighborIndex();
+            boolean owned;
+            if (edge.isOneWay()) {
+                owned = true;
+            } else if (v == u) {
+                owned = !skipLoop;
+                skipLoop = !skipLoop;
+            } else {
+                owned = u < v;
+            }
+            if (owned) {
+                action.accept(new GraphEdge<>(vertices[u], vertices[v], edge.getWeight(), edge.isOneWay()));
+            }
+        }
+    }
+
     @Override
     public int size() { return numVertices; }
 
     @Override
     public String toString() {
-        String result = "";
+        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < numVertices; i++) {
-            result += vertices[i].toString() + " -> " + adjList[i].toString() + "\n";
+            sb.append(vertices[i]).append(" -> ").append(adjList[i]).append('\n');
         }
-        return result;
+        return sb.toString();
     }
 
     /**
@@ -538,19 +1062,71 @@ public class NetworkList<T> implements NetworkADT<T> {
      * @return Iterator with the neighbors.
      */
     public Iterator<T> getNeighbors(T vertex) {
-        int index = getIndex(vertex);
+        return getNeighbors(getIndex(vertex), null, null);
+    }
+
+    /**
+     * Returns the neighbours of a vertex reachable through edges accepted by the filters.
+     *
+     * @param index        index of the vertex
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return iterator with the visible neighbours
+     */
+    Iterator<T> getNeighbors(int index, VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
         ArrayUnorderedList<T> neighbors = new ArrayUnorderedList<>();
 
-        if (!indexIsValid(index)) {
+        if (!indexIsValid(index) || !isVisible(index, vertexFilter)) {
             return neighbors.iterator();
         }
 
         Iterator<WeightedEdge> it = adjList[index].iterator();
         while (it.hasNext()) {
             WeightedEdge edge = it.next();
-            neighbors.addToRear(vertices[edge.neighborIndex]);
+            if (canFollow(index, edge, vertexFilter, edgeFilter)) {
+                neighbors.addToRear(vertices[edge.neighborIndex]);
+            }
         }
 
         return neighbors.iterator();
     }
+
+    /**
+     * Returns a view of this network that hides the vertices and edges rejected by
+     * the given filters. The view copies nothing; filters are evaluated during each
+     * traversal.
+     *
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return a filtered view backed by this network
+     */
+    public FilteredNetworkView<T> filtered(VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        return new FilteredNetworkView<>(this, vertexFilter, edgeFilter);
+    }
+
+    /**
+     * Checks whether a vertex passes the vertex filter.
+     *
+     * @param index        index of the vertex
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @return true if the vertex is visible
+     */
+    private boolean isVisible(int index, VertexFilter<T> vertexFilter) {
+        return vertexFilter == null || vertexFilter.accept(vertices[index]);
+    }
+
+    /**
+     * Checks whether an edge and the vertex it leads to pass the filters.
+     *
+     * @param source       index of the vertex the edge leaves from
+     * @param edge         the edge to follow
+     * @param vertexFilter filter for vertices, or null to accept all
+     * @param edgeFilter   filter for edges, or null to accept all
+     * @return true if the edge may be followed
+     */
+    private boolean canFollow(int source, WeightedEdge edge, VertexFilter<T> vertexFilter, EdgeFilter<T> edgeFilter) {
+        int target = edge.getNeighborIndex();
+        return isVisible(target, vertexFilter)
+                && (edgeFilter == null || edgeFilter.accept(vertices[source], vertices[target], edge.getWeight()));
+    }
 }
\ No newline at end of file
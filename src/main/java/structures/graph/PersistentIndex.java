@@ -0,0 +1,163 @@
+package structures.graph;
+
+/**
+ * Immutable map from keys to non-negative ints, stored as a 32-way hash trie.
+ * <p>
+ * Each level consumes five bits of the key's hash; keys whose full hashes collide
+ * share a short chain. {@link #put} and {@link #remove} copy only the nodes on
+ * the path to the key, so older versions remain valid and each edit costs
+ * O(log n).
+ * </p>
+ *
+ * @param <K> the key type
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class PersistentIndex<K> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentIndex<Object> EMPTY = new PersistentIndex<>(new Object[WIDTH], 0);
+
+    /**
+     * Immutable collision chain of entries sharing one hash.
+     */
+    private static final class Entry {
+        private final Object key;
+        private final int hash;
+        private final int value;
+        private final Entry next;
+
+        Entry(Object key, int hash, int value, Entry next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private final Object[] root;
+    private final int size;
+
+    private PersistentIndex(Object[] root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty index.
+     *
+     * @param <K> the key type
+     * @return an index with no keys
+     */
+    static <K> PersistentIndex<K> empty() {
+        return (PersistentIndex<K>) EMPTY;
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value stored for a key.
+     *
+     * @param key the key
+     * @return its value, or -1 if absent
+     */
+    int get(K key) {
+        int hash = key.hashCode();
+        Object[] node = root;
+        for (int shift = 0; ; shift += BITS) {
+            Object slot = node[(hash >>> shift) & MASK];
+            if (slot instanceof Object[]) {
+                node = (Object[]) slot;
+                continue;
+            }
+            for (Entry e = (Entry) slot; e != null; e = e.next) {
+                if (e.hash == hash && e.key.equals(key)) return e.value;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Returns an index mapping the key to the value, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value, not negative
+     * @return the new version
+     */
+    PersistentIndex<K> put(K key, int value) {
+        boolean[] added = new boolean[1];
+        Object[] newRoot = put(root, 0, new Entry(key, key.hashCode(), value, null), added);
+        return new PersistentIndex<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns an index without the key.
+     *
+     * @param key the key
+     * @return the new version, or this index if the key was absent
+     */
+    PersistentIndex<K> remove(K key) {
+        if (get(key) == -1) return this;
+        return new PersistentIndex<>(remove(root, 0, key, key.hashCode()), size - 1);
+    }
+
+    private static Object[] put(Object[] node, int shift, Entry entry, boolean[] added) {
+        Object[] copy = node.clone();
+        int slot = (entry.hash >>> shift) & MASK;
+        Object current = node[slot];
+        if (current == null) {
+            copy[slot] = entry;
+            added[0] = true;
+        } else if (current instanceof Object[]) {
+            copy[slot] = put((Object[]) current, shift + BITS, entry, added);
+        } else {
+            Entry chain = (Entry) current;
+            if (chain.hash == entry.hash) {
+                copy[slot] = putInChain(chain, entry, added);
+            } else {
+                Object[] child = new Object[WIDTH];
+                child[(chain.hash >>> (shift + BITS)) & MASK] = chain;
+                copy[slot] = put(child, shift + BITS, entry, added);
+            }
+        }
+        return copy;
+    }
+
+    private static Entry putInChain(Entry chain, Entry entry, boolean[] added) {
+        if (chain == null) {
+            added[0] = true;
+            return entry;
+        }
+        if (chain.key.equals(entry.key)) {
+            return new Entry(chain.key, chain.hash, entry.value, chain.next);
+        }
+        return new Entry(chain.key, chain.hash, chain.value, putInChain(chain.next, entry, added));
+    }
+
+    private static Object[] remove(Object[] node, int shift, Object key, int hash) {
+        Object[] copy = node.clone();
+        int slot = (hash >>> shift) & MASK;
+        Object current = node[slot];
+        if (current instanceof Object[]) {
+            copy[slot] = remove((Object[]) current, shift + BITS, key, hash);
+        } else {
+            copy[slot] = removeFromChain((Entry) current, key);
+        }
+        return copy;
+    }
+
+    private static Entry removeFromChain(Entry chain, Object key) {
+        if (chain.key.equals(key)) return chain.next;
+        return new Entry(chain.key, chain.hash, chain.value, removeFromChain(chain.next, key));
+    }
+}
@@ -0,0 +1,499 @@
+package structures.graph;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.linear.ArrayUnorderedList;
+import structures.stack.LinkedStack;
+
+/**
+ * Weighted graph whose every state is kept as an immutable, structure-sharing
+ * {@link Version}, giving cheap snapshots, undo and redo.
+ * <p>
+ * Vertices get a stable slot number when added; slots live in a persistent
+ * 32-way trie and the vertex-to-slot index in a persistent hash trie, so an edit
+ * copies only the O(log n) trie nodes on its path plus the adjacency arrays of the
+ * vertices it touches, and shares the rest with the previous version. Removing a
+ * vertex empties its slot instead of renumbering the others.
+ * </p>
+ * <p>
+ * The network itself is a mutable handle on the current version: each change
+ * that alters the graph pushes the previous version onto the undo history and
+ * clears the redo history. {@link #snapshot()} is O(1), and {@link #restore}
+ * returns to any earlier snapshot (as an edit that can itself be undone).
+ * Connections are undirected and may carry a label (for example the record that
+ * describes them), which is versioned together with the edge. Instances are not thread-safe, but versions are
+ * immutable and may be shared freely.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class PersistentNetwork<T> implements NetworkADT<T> {
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+    private static final Object[] NO_LABELS = new Object[0];
+
+    /**
+     * Immutable state of a {@link PersistentNetwork} at one point in its history.
+     *
+     * @param <T> the type of elements stored as vertices
+     */
+    public static final class Version<T> {
+        private final PersistentVector<Slot<T>> slots;
+        private final PersistentIndex<T> index;
+        private final int edgeCount;
+
+        private Version(PersistentVector<Slot<T>> slots, PersistentIndex<T> index, int edgeCount) {
+            this.slots = slots;
+            this.index = index;
+            this.edgeCount = edgeCount;
+        }
+
+        /**
+         * Returns the number of vertices in this version.
+         *
+         * @return the vertex count
+         */
+        public int size() {
+            return index.size();
+        }
+
+        /**
+         * Returns the number of edges in this version.
+         *
+         * @return the edge count
+         */
+        public int edgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * Returns true if the vertex belongs to this version.
+         *
+         * @param vertex the vertex
+         * @return true if present
+         */
+        public boolean containsVertex(T vertex) {
+            return vertex != null && index.get(vertex) != -1;
+        }
+    }
+
+    /**
+     * Immutable vertex entry: the element and parallel neighbour/weight/label arrays.
+     */
+    private static final class Slot<T> {
+        private final T element;
+        private final int[] neighbors;
+        private final double[] weights;
+        private final Object[] labels;
+
+        Slot(T element, int[] neighbors, double[] weights, Object[] labels) {
+            this.element = element;
+            this.neighbors = neighbors;
+            this.weights = weights;
+            this.labels = labels;
+        }
+
+        Slot<T> withEdge(int neighbor, double weight, Object label) {
+            int n = neighbors.length;
+            int[] newNeighbors = new int[n + 1];
+            double[] newWeights = new double[n + 1];
+            Object[] newLabels = new Object[n + 1];
+            System.arraycopy(neighbors, 0, newNeighbors, 0, n);
+            System.arraycopy(weights, 0, newWeights, 0, n);
+            System.arraycopy(labels, 0, newLabels, 0, n);
+            newNeighbors[n] = neighbor;
+            newWeights[n] = weight;
+            newLabels[n] = label;
+            return new Slot<>(element, newNeighbors, newWeights, newLabels);
+        }
+
+        /** Drops the first entry to the neighbour, or all of them if {@code all}. */
+        Slot<T> withoutEdge(int neighbor, boolean all) {
+            int keep = 0;
+            boolean dropped = false;
+            for (int n : neighbors) {
+                if (n != neighbor || (dropped && !all)) keep++;
+                else dropped = true;
+            }
+            if (!dropped) return this;
+
+            int[] newNeighbors = new int[keep];
+            double[] newWeights = new double[keep];
+            Object[] newLabels = new Object[keep];
+            int k = 0;
+            dropped = false;
+            for (int i = 0; i < neighbors.length; i++) {
+                if (neighbors[i] != neighbor || (dropped && !all)) {
+                    newNeighbors[k] = neighbors[i];
+                    newWeights[k] = weights[i];
+                    newLabels[k++] = labels[i];
+                } else {
+                    dropped = true;
+                }
+            }
+            return new Slot<>(element, newNeighbors, newWeights, newLabels);
+        }
+    }
+
+    private Version<T> current = new Version<>(PersistentVector.empty(), PersistentIndex.empty(), 0);
+    private LinkedStack<Version<T>> undoHistory = new LinkedStack<>();
+    private LinkedStack<Version<T>> redoHistory = new LinkedStack<>();
+
+    /**
+     * Returns the current version in O(1). It stays valid after later edits.
+     *
+     * @return the current version
+     */
+    public Version<T> snapshot() {
+        return current;
+    }
+
+    /**
+     * Makes an earlier snapshot the current version. The change can be undone.
+     *
+     * @param version a version taken from this network
+     * @throws IllegalArgumentException if version is null
+     */
+    public void restore(Version<T> version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version must not be null");
+        }
+        commit(version);
+    }
+
+    /**
+     * Returns to the version before the last change.
+     *
+     * @return true if there was a change to undo
+     */
+    public boolean undo() {
+        if (undoHistory.isEmpty()) return false;
+        redoHistory.push(current);
+        current = undoHistory.pop();
+        return true;
+    }
+
+    /**
+     * Reapplies the last undone change.
+     *
+     * @return true if there was a change to redo
+     */
+    public boolean redo() {
+        if (redoHistory.isEmpty()) return false;
+        undoHistory.push(current);
+        current = redoHistory.pop();
+        return true;
+    }
+
+    /**
+     * Returns true if {@link #undo()} would change the network.
+     *
+     * @return true if there is undo history
+     */
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * Returns true if {@link #redo()} would change the network.
+     *
+     * @return true if there is redo history
+     */
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Returns true if the vertex belongs to the current version.
+     *
+     * @param vertex the vertex
+     * @return true if present
+     */
+    public boolean containsVertex(T vertex) {
+        return current.containsVertex(vertex);
+    }
+
+    /**
+     * Returns the number of edges in the current version.
+     *
+     * @return the edge count
+     */
+    public int edgeCount() {
+        return current.edgeCount;
+    }
+
+    /**
+     * Returns the vertices of the current version as a stream, in insertion order.
+     *
+     * @return stream of the vertices
+     */
+    public Stream<T> vertices() {
+        T[] live = (T[]) (new Object[current.size()]);
+        int count = 0;
+        for (int s = 0; s < current.slots.size(); s++) {
+            Slot<T> slot = current.slots.get(s);
+            if (slot != null) live[count++] = slot.element;
+        }
+        return StreamSupport.stream(new VertexSpliterator<>(live, 0, count), false);
+    }
+
+    /**
+     * Returns the labels of the current version's edges as a stream, one per
+     * labelled edge, grouped by the earlier-added endpoint. Unlabelled edges are
+     * skipped.
+     *
+     * @return stream of the edge labels
+     */
+    public Stream<Object> edgeLabels() {
+        Object[] found = new Object[current.edgeCount];
+        int count = 0;
+        for (int s = 0; s < current.slots.size(); s++) {
+            Slot<T> slot = current.slots.get(s);
+            if (slot == null) continue;
+            for (int i = 0; i < slot.neighbors.length; i++) {
+                if (slot.labels[i] != null && slot.neighbors[i] >= s) {
+                    found[count++] = slot.labels[i];
+                }
+            }
+        }
+        return StreamSupport.stream(new VertexSpliterator<>(found, 0, count), false);
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        if (vertex == null || current.containsVertex(vertex)) return;
+        int id = current.slots.size();
+        commit(new Version<>(current.slots.append(new Slot<>(vertex, NO_NEIGHBORS, NO_WEIGHTS, NO_LABELS)),
+                current.index.put(vertex, id), current.edgeCount));
+    }
+
+    @Override
+    public void removeVertex(T vertex) {
+        int id = slotOf(vertex);
+        if (id == -1) return;
+
+        Slot<T> removed = current.slots.get(id);
+        PersistentVector<Slot<T>> slots = current.slots;
+        int edges = current.edgeCount;
+        for (int i = 0; i < removed.neighbors.length; i++) {
+            int v = removed.neighbors[i];
+            if (v != id) {
+                slots = slots.set(v, slots.get(v).withoutEdge(id, false));
+            }
+            edges--;
+        }
+        commit(new Version<>(slots.set(id, null), current.index.remove(vertex), edges));
+    }
+
+    @Override
+    public void addEdge(T vertex1, T vertex2) {
+        addEdge(vertex1, vertex2, 1.0);
+    }
+
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        addEdge(vertex1, vertex2, weight, null);
+    }
+
+    /**
+     * Adds a weighted edge carrying a label; the label is kept and undone with
+     * the edge and listed by {@link #edgeLabels()}.
+     *
+     * @param vertex1 one end of the edge
+     * @param vertex2 the other end of the edge
+     * @param weight  cost of the edge
+     * @param label   the edge's label, or null for none
+     */
+    public void addEdge(T vertex1, T vertex2, double weight, Object label) {
+        int u = slotOf(vertex1);
+        int v = slotOf(vertex2);
+        if (u == -1 || v == -1) return;
+
+        PersistentVector<Slot<T>> slots = current.slots.set(u, current.slots.get(u).withEdge(v, weight, label));
+        if (u != v) {
+            slots = slots.set(v, slots.get(v).withEdge(u, weight, label));
+        }
+        commit(new Version<>(slots, current.index, current.edgeCount + 1));
+    }
+
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        int u = slotOf(vertex1);
+        int v = slotOf(vertex2);
+        if (u == -1 || v == -1) return;
+
+        Slot<T> from = current.slots.get(u);
+        Slot<T> shorter = from.withoutEdge(v, false);
+        if (shorter == from) return;
+
+        PersistentVector<Slot<T>> slots = current.slots.set(u, shorter);
+        if (u != v) {
+            slots = slots.set(v, slots.get(v).withoutEdge(u, false));
+        }
+        commit(new Version<>(slots, current.index, current.edgeCount - 1));
+    }
+
+    @Override
+    public Iterator<T> iteratorBFS(T startVertex) {
+        return traverse(startVertex, false);
+    }
+
+    @Override
+    public Iterator<T> iteratorDFS(T startVertex) {
+        return traverse(startVertex, true);
+    }
+
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int target = slotOf(targetVertex);
+        int[] predecessor = new int[current.slots.size()];
+        if (target == -1 || dijkstra(slotOf(startVertex), target, predecessor) == Double.POSITIVE_INFINITY) {
+            return resultList.iterator();
+        }
+        for (int v = target; v != -1; v = predecessor[v]) {
+            resultList.addToFront(current.slots.get(v).element);
+        }
+        return resultList.iterator();
+    }
+
+    @Override
+    public double shortestPathWeight(T vertex1, T vertex2) {
+        int target = slotOf(vertex2);
+        if (target == -1) return Double.POSITIVE_INFINITY;
+        return dijkstra(slotOf(vertex1), target, new int[current.slots.size()]);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return current.size() == 0;
+    }
+
+    @Override
+    public boolean isConnected() {
+        if (isEmpty()) return false;
+        Iterator<T> it = iteratorBFS(vertices().findFirst().orElse(null));
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count == current.size();
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int s = 0; s < current.slots.size(); s++) {
+            Slot<T> slot = current.slots.get(s);
+            if (slot == null) continue;
+            sb.append(slot.element).append(" -> [");
+            for (int i = 0; i < slot.neighbors.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(current.slots.get(slot.neighbors[i]).element).append(" (").append(slot.weights[i]).append(')');
+            }
+            sb.append("]\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Makes a new version current, recording the old one for undo.
+     */
+    private void commit(Version<T> next) {
+        if (next == current) return;
+        undoHistory.push(current);
+        redoHistory = new LinkedStack<>();
+        current = next;
+    }
+
+    private int slotOf(T vertex) {
+        return vertex == null ? -1 : current.index.get(vertex);
+    }
+
+    /**
+     * Breadth- or depth-first traversal over the current version's slots.
+     */
+    private Iterator<T> traverse(T startVertex, boolean depthFirst) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int start = slotOf(startVertex);
+        if (start == -1) return resultList.iterator();
+
+        int[] pending = new int[Math.max(1, 2 * current.edgeCount + 1)];
+        boolean[] visited = new boolean[current.slots.size()];
+        int head = 0;
+        int tail = 0;
+        pending[tail++] = start;
+        if (!depthFirst) visited[start] = true;
+
+        while (head < tail) {
+            int u = depthFirst ? pending[--tail] : pending[head++];
+            if (depthFirst) {
+                if (visited[u]) continue;
+                visited[u] = true;
+            }
+            Slot<T> slot = current.slots.get(u);
+            resultList.addToRear(slot.element);
+
+            for (int i = depthFirst ? slot.neighbors.length - 1 : 0;
+                 depthFirst ? i >= 0 : i < slot.neighbors.length;
+                 i += depthFirst ? -1 : 1) {
+                int v = slot.neighbors[i];
+                if (!visited[v]) {
+                    if (!depthFirst) visited[v] = true;
+                    pending[tail++] = v;
+                }
+            }
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Heap-based Dijkstra over the current version.
+     *
+     * @return the distance to the target, or positive infinity if unreachable
+     */
+    private double dijkstra(int start, int target, int[] predecessor) {
+        if (start == -1) return Double.POSITIVE_INFINITY;
+        int n = current.slots.size();
+        double[] distance = new double[n];
+        boolean[] settled = new boolean[n];
+        for (int v = 0; v < n; v++) {
+            distance[v] = Double.POSITIVE_INFINITY;
+            predecessor[v] = -1;
+        }
+
+        DistanceHeap heap = new DistanceHeap();
+        distance[start] = 0.0;
+        heap.push(start, 0.0);
+        while (!heap.isEmpty()) {
+            double d = heap.minKey();
+            int u = heap.pop();
+            if (settled[u] || d > distance[u]) continue;
+            settled[u] = true;
+            if (u == target) return d;
+
+            Slot<T> slot = current.slots.get(u);
+            for (int i = 0; i < slot.neighbors.length; i++) {
+                int v = slot.neighbors[i];
+                double candidate = d + slot.weights[i];
+                if (!settled[v] && candidate < distance[v]) {
+                    distance[v] = candidate;
+                    predecessor[v] = u;
+                    heap.push(v, candidate);
+                }
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,115 @@
+package structures.graph;
+
+/**
+ * Immutable array indexed by position, stored as a 32-way trie.
+ * <p>
+ * {@link #set} and {@link #append} return a new vector that copies only the
+ * nodes on the path to the changed slot (at most one per five bits of the
+ * index) and shares everything else with the original, so every version stays
+ * valid and each edit costs O(log n). Reads walk the same path.
+ * </p>
+ *
+ * @param <E> the element type
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class PersistentVector<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> the element type
+     * @return a vector with no elements
+     */
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at a position.
+     *
+     * @param index the position, between 0 and size - 1
+     * @return the element (possibly null)
+     */
+    E get(int index) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (E) node[index & MASK];
+    }
+
+    /**
+     * Returns a vector with one position replaced.
+     *
+     * @param index   the position, between 0 and size - 1
+     * @param element the new element
+     * @return the new version
+     */
+    PersistentVector<E> set(int index, E element) {
+        return new PersistentVector<>(size, shift, assoc(root, shift, index, element));
+    }
+
+    /**
+     * Returns a vector with an element added at the end.
+     *
+     * @param element the element to add
+     * @return the new version
+     */
+    PersistentVector<E> append(E element) {
+        if (size == 1 << (shift + BITS)) {
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, element);
+            return new PersistentVector<>(size + 1, shift + BITS, newRoot);
+        }
+        return new PersistentVector<>(size + 1, shift, assoc(root, shift, size, element));
+    }
+
+    /**
+     * Copies the path to a slot, creating missing nodes, and stores the element.
+     */
+    private static Object[] assoc(Object[] node, int level, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            Object[] child = (Object[]) node[slot];
+            copy[slot] = child == null ? newPath(level - BITS, element)
+                    : assoc(child, level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object element) {
+        Object[] node = new Object[WIDTH];
+        node[0] = level == 0 ? element : newPath(level - BITS, element);
+        return node;
+    }
+}
@@ -0,0 +1,138 @@
+package structures.graph;
+
+/**
+ * Monotone radix heap of (vertex, distance) pairs with non-negative integer keys.
+ * <p>
+ * Dijkstra never pushes a key smaller than the last one popped, so entries can be
+ * kept in buckets by the highest bit in which they differ from that last minimum:
+ * bucket 0 holds keys equal to it and bucket {@code b} keys that first differ at
+ * bit {@code b - 1}. Popping drains bucket 0; when it is empty the first non-empty
+ * bucket is redistributed around its own minimum, and every entry lands in a
+ * strictly lower bucket. Each entry therefore moves at most 64 times, and in
+ * practice only as many times as its key has significant bits.
+ * </p>
+ * <p>
+ * Like {@link DistanceHeap}, keys and vertices live in parallel primitive arrays
+ * and decrease-key is handled lazily by pushing duplicates.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class RadixHeap {
+
+    /** Largest weight accepted, so that path sums stay exact as doubles and longs. */
+    static final double MAX_WEIGHT = 1L << 40;
+
+    private static final int BUCKETS = 65;
+
+    private final long[][] keys = new long[BUCKETS][];
+    private final int[][] items = new int[BUCKETS][];
+    private final int[] sizes = new int[BUCKETS];
+    private long last;
+    private int size;
+
+    /**
+     * Returns true if a weight can be used as a radix heap key increment.
+     *
+     * @param weight the edge weight
+     * @return true for non-negative integers up to {@link #MAX_WEIGHT}
+     */
+    static boolean accepts(double weight) {
+        return weight >= 0 && weight <= MAX_WEIGHT && weight == Math.rint(weight);
+    }
+
+    /**
+     * Returns true if the heap holds no entries.
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry while keeping the allocated buckets.
+     */
+    void clear() {
+        for (int b = 0; b < BUCKETS; b++) sizes[b] = 0;
+        size = 0;
+        last = 0;
+    }
+
+    /**
+     * Inserts a vertex with the given distance.
+     *
+     * @param vertex vertex index
+     * @param key    distance, not smaller than the last popped minimum
+     */
+    void push(int vertex, long key) {
+        add(bucketOf(key), vertex, key);
+        size++;
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     *
+     * @return the minimum distance in the heap
+     */
+    long minKey() {
+        if (sizes[0] == 0) redistribute();
+        return last;
+    }
+
+    /**
+     * Removes an entry with the smallest key and returns its vertex.
+     *
+     * @return vertex index of the removed entry
+     */
+    int pop() {
+        if (sizes[0] == 0) redistribute();
+        size--;
+        return items[0][--sizes[0]];
+    }
+
+    /**
+     * Empties the first non-empty bucket into lower buckets around its minimum.
+     */
+    private void redistribute() {
+        int b = 1;
+        while (sizes[b] == 0) b++;
+
+        long[] bucketKeys = keys[b];
+        int[] bucketItems = items[b];
+        int count = sizes[b];
+        long min = bucketKeys[0];
+        for (int i = 1; i < count; i++) {
+            if (bucketKeys[i] < min) min = bucketKeys[i];
+        }
+
+        last = min;
+        sizes[b] = 0;
+        for (int i = 0; i < count; i++) {
+            add(bucketOf(bucketKeys[i]), bucketItems[i], bucketKeys[i]);
+        }
+    }
+
+    private int bucketOf(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void add(int bucket, int vertex, long key) {
+        int n = sizes[bucket];
+        if (keys[bucket] == null) {
+            keys[bucket] = new long[8];
+            items[bucket] = new int[8];
+        } else if (n == keys[bucket].length) {
+            long[] largerKeys = new long[n * 2];
+            int[] largerItems = new int[n * 2];
+            System.arraycopy(keys[bucket], 0, largerKeys, 0, n);
+            System.arraycopy(items[bucket], 0, largerItems, 0, n);
+            keys[bucket] = largerKeys;
+            items[bucket] = largerItems;
+        }
+        keys[bucket][n] = key;
+        items[bucket][n] = vertex;
+        sizes[bucket] = n + 1;
+    }
+}
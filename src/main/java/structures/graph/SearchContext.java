@@ -0,0 +1,114 @@
+package structures.graph;
+
+/**
+ * Reusable scratch buffers for shortest-path searches.
+ * <p>
+ * Instead of allocating and clearing distance, visited and predecessor arrays on
+ * every query, a search stamps each vertex with the current epoch number. A vertex
+ * whose stamp differs from the epoch is treated as untouched, so starting a new
+ * search costs a single increment. Buffers only grow, so steady-state queries on
+ * a graph of stable size allocate nothing.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; {@link NetworkList} keeps one per thread.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class SearchContext {
+
+    /** Tentative distance per vertex, valid only while {@link #isReached} holds. */
+    double[] distance = new double[0];
+    /** Predecessor per vertex on the best known path, valid while reached. */
+    int[] predecessor = new int[0];
+    /** Scratch space for rebuilding paths without a stack of boxed indices. */
+    int[] path = new int[0];
+    /** Priority queue for heap-based searches; cleared by {@link #begin}. */
+    final DistanceHeap heap = new DistanceHeap();
+    /** Priority queue for integer-weight searches; cleared by {@link #begin}. */
+    final RadixHeap radix = new RadixHeap();
+
+    private int[] reachedStamp = new int[0];
+    private int[] settledStamp = new int[0];
+    private int epoch;
+
+    /**
+     * Starts a new search over a graph with the given number of vertices.
+     *
+     * @param vertexCount number of vertices in the graph
+     */
+    void begin(int vertexCount) {
+        if (reachedStamp.length < vertexCount) {
+            int capacity = Math.max(vertexCount, reachedStamp.length * 2);
+            distance = new double[capacity];
+            predecessor = new int[capacity];
+            path = new int[capacity];
+            reachedStamp = new int[capacity];
+            settledStamp = new int[capacity];
+            epoch = 0;
+        }
+        heap.clear();
+        radix.clear();
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            for (int i = 0; i < reachedStamp.length; i++) {
+                reachedStamp[i] = 0;
+                settledStamp[i] = 0;
+            }
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Returns true if the vertex has a tentative distance in this search.
+     *
+     * @param v vertex index
+     * @return true if reached
+     */
+    boolean isReached(int v) {
+        return reachedStamp[v] == epoch;
+    }
+
+    /**
+     * Returns true if the vertex's distance is final in this search.
+     *
+     * @param v vertex index
+     * @return true if settled
+     */
+    boolean isSettled(int v) {
+        return settledStamp[v] == epoch;
+    }
+
+    /**
+     * Records a (possibly improved) tentative distance for a vertex.
+     *
+     * @param v      vertex index
+     * @param dist   new tentative distance
+     * @param parent predecessor on the path, or -1 for the source
+     */
+    void reach(int v, double dist, int parent) {
+        reachedStamp[v] = epoch;
+        distance[v] = dist;
+        predecessor[v] = parent;
+    }
+
+    /**
+     * Marks a vertex's distance as final.
+     *
+     * @param v vertex index
+     */
+    void settle(int v) {
+        settledStamp[v] = epoch;
+    }
+
+    /**
+     * Returns the current distance of a vertex, or positive infinity if unreached.
+     *
+     * @param v vertex index
+     * @return tentative distance
+     */
+    double distanceTo(int v) {
+        return isReached(v) ? distance[v] : Double.POSITIVE_INFINITY;
+    }
+}
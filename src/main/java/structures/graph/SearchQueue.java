@@ -0,0 +1,71 @@
+package structures.graph;
+
+/**
+ * Priority queue of (vertex, distance) pairs for the searches that keep their own
+ * distances: {@link ShortestPathTree} and {@link HierarchicalPathFinder}.
+ * <p>
+ * Each search picks the structure when it {@link #clear clears} the queue: the
+ * {@link RadixHeap} for {@link SearchStrategy#RADIX_HEAP}, the {@link DistanceHeap}
+ * otherwise. {@link SearchStrategy#LINEAR_SCAN} also gets the binary heap, because
+ * these searches start from several seeds or from the middle of a finished search,
+ * which a scan over settled flags cannot resume.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class SearchQueue {
+
+    private final DistanceHeap heap = new DistanceHeap();
+    private final RadixHeap radix = new RadixHeap();
+    private boolean radixKeys;
+
+    /**
+     * Empties the queue and selects the structure for the next search.
+     *
+     * @param strategy the strategy in force; radix keys need integral weights
+     */
+    void clear(SearchStrategy strategy) {
+        radixKeys = strategy == SearchStrategy.RADIX_HEAP;
+        heap.clear();
+        radix.clear();
+    }
+
+    /**
+     * Returns true if the queue holds no entries.
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return radixKeys ? radix.isEmpty() : heap.isEmpty();
+    }
+
+    /**
+     * Inserts a vertex with the given distance.
+     *
+     * @param vertex vertex index
+     * @param key    distance; with radix keys an integer not smaller than the last popped minimum
+     */
+    void push(int vertex, double key) {
+        if (radixKeys) radix.push(vertex, (long) key);
+        else heap.push(vertex, key);
+    }
+
+    /**
+     * Returns the smallest key without removing it.
+     *
+     * @return the minimum distance in the queue
+     */
+    double minKey() {
+        return radixKeys ? radix.minKey() : heap.minKey();
+    }
+
+    /**
+     * Removes an entry with the smallest key and returns its vertex.
+     *
+     * @return vertex index of the removed entry
+     */
+    int pop() {
+        return radixKeys ? radix.pop() : heap.pop();
+    }
+}
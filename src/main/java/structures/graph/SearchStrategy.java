@@ -0,0 +1,21 @@
+package structures.graph;
+
+/**
+ * Priority structures {@link NetworkList} can use to pick the next vertex in its
+ * shortest-path searches.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public enum SearchStrategy {
+    /** Scans every vertex for the closest one: O(V²), no extra memory. */
+    LINEAR_SCAN,
+    /** Binary heap with lazy deletion: O(E log V). */
+    BINARY_HEAP,
+    /**
+     * Monotone radix heap for non-negative integer weights: each entry moves down
+     * at most once per bit of the key, so a search costs O(E + V log C) for a
+     * largest weight C.
+     */
+    RADIX_HEAP
+}
@@ -0,0 +1,403 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import structures.hash.ObjectIntHashMap;
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * A network split into shards, each owning its own {@link NetworkList} of vertices
+ * and the edges between them.
+ * <p>
+ * Vertices are assigned to shards with {@link GraphPartitioner}. Edges that cross
+ * shards are not stored in any shard's network; instead each endpoint becomes a
+ * border vertex of its shard and keeps border links to the vertices it reaches in
+ * other shards. The facade itself holds no copy of the vertices, only a hash index
+ * from each vertex to the shard that owns it, so every query is routed to shards:
+ * </p>
+ * <ul>
+ *   <li>neighbours come from the owning shard's network plus the vertex's border links;</li>
+ *   <li>a shortest path is stitched at border vertices. Each shard measures, once,
+ *       the distances between its own border vertices. A query asks the start's shard
+ *       for the distances from the start to its borders and the target's shard for the
+ *       distances from its borders to the target, then runs Dijkstra over border
+ *       vertices only (in-shard border distances plus border links). The chosen route
+ *       is expanded back into vertices by asking each shard it crosses for the path
+ *       between the two border vertices it enters and leaves by.</li>
+ * </ul>
+ * <p>
+ * Stitched routes are exact, one-way arcs included. The sharded copy is a snapshot
+ * of the source network. Instances are not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class ShardedNetwork<T> {
+
+    /**
+     * One shard: its own network plus the border vertices that connect it to others.
+     *
+     * @param <T> the type of elements stored as vertices
+     */
+    private static final class Shard<T> {
+        /** Vertices and internal edges of the shard. */
+        final NetworkList<T> network;
+        /** Border slot of each local vertex, or -1 if it has no crossing edge. */
+        final int[] borderSlot;
+        /** Local index of the vertex in each border slot. */
+        int[] borders;
+        /** Border links leaving each slot: owning shard, local index there and weight. */
+        int[][] linkShard;
+        int[][] linkLocal;
+        double[][] linkWeight;
+        /** In-shard shortest-path weight between every pair of border slots. */
+        double[][] borderDistance;
+        /**
+         * Number of the first border slot in the facade's border numbering (while
+         * building, the number of border slots taken so far).
+         */
+        int base;
+
+        Shard(int capacity) {
+            network = new NetworkList<>(capacity);
+            borderSlot = new int[capacity];
+            borders = new int[capacity];
+            for (int i = 0; i < capacity; i++) borderSlot[i] = -1;
+        }
+
+        T borderVertex(int slot) {
+            return network.vertices[borders[slot]];
+        }
+
+        /**
+         * Measures the in-shard distances between border vertices, one
+         * shortest-path tree per border vertex.
+         */
+        void measureBorders() {
+            borderDistance = new double[borders.length][borders.length];
+            for (int i = 0; i < borders.length; i++) {
+                ShortestPathTree<T> tree = network.shortestPathTree(borderVertex(i));
+                for (int j = 0; j < borders.length; j++) {
+                    borderDistance[i][j] = tree.distanceTo(borderVertex(j));
+                }
+                tree.detach();
+            }
+        }
+    }
+
+    private final Shard<T>[] shards;
+    private final ObjectIntHashMap<T> owner;
+    /** Shard of each border vertex in the facade's border numbering. */
+    private final int[] borderShard;
+    private final int cutEdges;
+
+    private final SearchContext context = new SearchContext();
+
+    /**
+     * Splits a network into the given number of shards.
+     *
+     * @param network    the network to shard
+     * @param shardCount the number of shards
+     * @throws IllegalArgumentException if shardCount is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public ShardedNetwork(NetworkList<T> network, int shardCount) {
+        int n = network.numVertices;
+        int[] part = GraphPartitioner.partition(network, shardCount);
+        this.cutEdges = GraphPartitioner.cutSize(network, part);
+        this.owner = new ObjectIntHashMap<>(n);
+
+        int[] shardSize = new int[shardCount];
+        for (int v = 0; v < n; v++) shardSize[part[v]]++;
+        this.shards = new Shard[shardCount];
+        for (int s = 0; s < shardCount; s++) shards[s] = new Shard<>(shardSize[s]);
+
+        int[] local = new int[n];
+        for (int v = 0; v < n; v++) {
+            NetworkList<T> shard = shards[part[v]].network;
+            local[v] = shard.numVertices;
+            shard.addVertex(network.vertices[v]);
+            owner.put(network.vertices[v], part[v]);
+        }
+
+        // First pass: internal edges go to their shard; crossing edges are counted.
+        int[] linkCount = new int[n];
+        Iterator<GraphEdge<T>> it = network.edges().iterator();
+        while (it.hasNext()) {
+            GraphEdge<T> edge = it.next();
+            int u = network.getIndex(edge.getSource());
+            int v = network.getIndex(edge.getTarget());
+            if (part[u] == part[v]) {
+                NetworkList<T> shard = shards[part[u]].network;
+                if (edge.isOneWay()) shard.addArc(edge.getSource(), edge.getTarget(), edge.getWeight());
+                else shard.addEdge(edge.getSource(), edge.getTarget(), edge.getWeight());
+            } else {
+                linkCount[u]++;
+                if (!edge.isOneWay()) linkCount[v]++;
+                markBorder(part[u], local[u]);
+                markBorder(part[v], local[v]);
+            }
+        }
+
+        int borderTotal = 0;
+        for (Shard<T> shard : shards) {
+            int[] borders = new int[shard.base];
+            System.arraycopy(shard.borders, 0, borders, 0, borders.length);
+            shard.borders = borders;
+            shard.base = borderTotal;
+            borderTotal += shard.borders.length;
+            shard.linkShard = new int[shard.borders.length][];
+            shard.linkLocal = new int[shard.borders.length][];
+            shard.linkWeight = new double[shard.borders.length][];
+        }
+        this.borderShard = new int[borderTotal];
+        for (int v = 0; v < n; v++) {
+            Shard<T> shard = shards[part[v]];
+            int slot = shard.borderSlot[local[v]];
+            if (slot == -1) continue;
+            borderShard[shard.base + slot] = part[v];
+            shard.linkShard[slot] = new int[linkCount[v]];
+            shard.linkLocal[slot] = new int[linkCount[v]];
+            shard.linkWeight[slot] = new double[linkCount[v]];
+            linkCount[v] = 0;
+        }
+
+        // Second pass: record the border links of the crossing edges.
+        it = network.edges().iterator();
+        while (it.hasNext()) {
+            GraphEdge<T> edge = it.next();
+            int u = network.getIndex(edge.getSource());
+            int v = network.getIndex(edge.getTarget());
+            if (part[u] == part[v]) continue;
+            addLink(part[u], local[u], linkCount[u]++, part[v], local[v], edge.getWeight());
+            if (!edge.isOneWay()) {
+                addLink(part[v], local[v], linkCount[v]++, part[u], local[u], edge.getWeight());
+            }
+        }
+
+        for (Shard<T> shard : shards) shard.measureBorders();
+    }
+
+    private void markBorder(int shard, int local) {
+        Shard<T> s = shards[shard];
+        if (s.borderSlot[local] != -1) return;
+        s.borders[s.base] = local;
+        s.borderSlot[local] = s.base++;
+    }
+
+    private void addLink(int shard, int local, int k, int targetShard, int targetLocal, double weight) {
+        Shard<T> s = shards[shard];
+        int slot = s.borderSlot[local];
+        s.linkShard[slot][k] = targetShard;
+        s.linkLocal[slot][k] = targetLocal;
+        s.linkWeight[slot][k] = weight;
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return the shard count
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Returns a shard's local network (its vertices and internal edges only).
+     *
+     * @param shard the shard number
+     * @return the shard's network
+     */
+    public NetworkList<T> shard(int shard) {
+        return shards[shard].network;
+    }
+
+    /**
+     * Returns the shard that owns a vertex.
+     *
+     * @param vertex the vertex
+     * @return its shard number, or -1 if the vertex is unknown
+     */
+    public int shardOf(T vertex) {
+        return owner.get(vertex);
+    }
+
+    /**
+     * Returns the number of edges whose endpoints lie in different shards.
+     *
+     * @return the cut size
+     */
+    public int cutEdges() {
+        return cutEdges;
+    }
+
+    /**
+     * Returns the number of border vertices over all shards.
+     *
+     * @return the border vertex count
+     */
+    public int borderCount() {
+        return borderShard.length;
+    }
+
+    /**
+     * Returns the neighbours of a vertex, from its shard and across borders.
+     *
+     * @param vertex the vertex
+     * @return iterator over its neighbours (empty if the vertex is unknown)
+     */
+    public Iterator<T> getNeighbors(T vertex) {
+        ArrayUnorderedList<T> neighbors = new ArrayUnorderedList<>();
+        int s = owner.get(vertex);
+        if (s == -1) return neighbors.iterator();
+
+        Shard<T> shard = shards[s];
+        Iterator<T> it = shard.network.getNeighbors(vertex);
+        while (it.hasNext()) neighbors.addToRear(it.next());
+
+        int slot = shard.borderSlot[shard.network.getIndex(vertex)];
+        if (slot != -1) {
+            for (int k = 0; k < shard.linkShard[slot].length; k++) {
+                neighbors.addToRear(shards[shard.linkShard[slot][k]].network.vertices[shard.linkLocal[slot][k]]);
+            }
+        }
+        return neighbors.iterator();
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices.
+     *
+     * @param start  the starting vertex
+     * @param target the destination vertex
+     * @return the path weight, or positive infinity if unreachable or unknown
+     */
+    public double shortestPathWeight(T start, T target) {
+        int a = owner.get(start);
+        int b = owner.get(target);
+        if (a == -1 || b == -1) return Double.POSITIVE_INFINITY;
+
+        ShortestPathTree<T> out = shards[a].network.shortestPathTree(start);
+        ShortestPathTree<T> in = shards[b].network.shortestPathTreeTo(target);
+        double direct = a == b ? out.distanceTo(target) : Double.POSITIVE_INFINITY;
+        double stitched = stitch(a, b, out, in);
+        out.detach();
+        in.detach();
+        return Math.min(direct, stitched);
+    }
+
+    /**
+     * Returns the shortest path between two vertices, possibly crossing shards.
+     *
+     * @param start  the starting vertex
+     * @param target the destination vertex
+     * @return iterator over the path, empty if unreachable or unknown
+     */
+    public Iterator<T> iteratorShortestPath(T start, T target) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        int a = owner.get(start);
+        int b = owner.get(target);
+        if (a == -1 || b == -1) return resultList.iterator();
+
+        ShortestPathTree<T> out = shards[a].network.shortestPathTree(start);
+        ShortestPathTree<T> in = shards[b].network.shortestPathTreeTo(target);
+        double direct = a == b ? out.distanceTo(target) : Double.POSITIVE_INFINITY;
+        double stitched = stitch(a, b, out, in);
+
+        if (direct <= stitched) {
+            if (direct < Double.POSITIVE_INFINITY) append(resultList, out.pathTo(target), false);
+        } else {
+            expand(resultList, out, in);
+        }
+        out.detach();
+        in.detach();
+        return resultList.iterator();
+    }
+
+    /**
+     * Dijkstra over border vertices, seeded with the start's distances to the
+     * borders of its shard and closed by a virtual node one past the last border,
+     * reached from the borders of the target's shard.
+     *
+     * @return the stitched path weight, or positive infinity if there is none
+     */
+    private double stitch(int startShard, int targetShard, ShortestPathTree<T> out, ShortestPathTree<T> in) {
+        int virtual = borderShard.length;
+        context.begin(virtual + 1);
+        DistanceHeap heap = context.heap;
+
+        Shard<T> first = shards[startShard];
+        for (int i = 0; i < first.borders.length; i++) {
+            double d = out.distanceTo(first.borderVertex(i));
+            if (d < Double.POSITIVE_INFINITY) relax(-1, first.base + i, d);
+        }
+
+        while (!heap.isEmpty()) {
+            double d = heap.minKey();
+            int u = heap.pop();
+            if (context.isSettled(u) || d > context.distance[u]) continue;
+            context.settle(u);
+            if (u == virtual) return d;
+
+            Shard<T> shard = shards[borderShard[u]];
+            int i = u - shard.base;
+            double[] row = shard.borderDistance[i];
+            for (int j = 0; j < row.length; j++) {
+                if (j != i && row[j] < Double.POSITIVE_INFINITY) relax(u, shard.base + j, d + row[j]);
+            }
+            for (int k = 0; k < shard.linkShard[i].length; k++) {
+                Shard<T> next = shards[shard.linkShard[i][k]];
+                relax(u, next.base + next.borderSlot[shard.linkLocal[i][k]], d + shard.linkWeight[i][k]);
+            }
+            if (borderShard[u] == targetShard) {
+                double rest = in.distanceTo(shard.borderVertex(i));
+                if (rest < Double.POSITIVE_INFINITY) relax(u, virtual, d + rest);
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private void relax(int u, int v, double candidate) {
+        if (!context.isSettled(v) && candidate < context.distanceTo(v)) {
+            context.reach(v, candidate, u);
+            context.heap.push(v, candidate);
+        }
+    }
+
+    /**
+     * Expands the border route found by the last {@link #stitch} into vertices:
+     * start to the first border, then each in-shard hop or border link, then the
+     * last border to the target.
+     */
+    private void expand(ArrayUnorderedList<T> resultList, ShortestPathTree<T> out, ShortestPathTree<T> in) {
+        int length = 0;
+        for (int u = context.predecessor[borderShard.length]; u != -1; u = context.predecessor[u]) {
+            context.path[length++] = u;
+        }
+
+        int u = context.path[--length];
+        Shard<T> shard = shards[borderShard[u]];
+        append(resultList, out.pathTo(shard.borderVertex(u - shard.base)), false);
+        while (length > 0) {
+            int v = context.path[--length];
+            Shard<T> next = shards[borderShard[v]];
+            T to = next.borderVertex(v - next.base);
+            if (next == shard) {
+                ShortestPathTree<T> hop = shard.network.shortestPathTree(shard.borderVertex(u - shard.base));
+                append(resultList, hop.pathTo(to), true);
+                hop.detach();
+            } else {
+                resultList.addToRear(to);
+            }
+            u = v;
+            shard = next;
+        }
+        append(resultList, in.pathFrom(shard.borderVertex(u - shard.base)), true);
+    }
+
+    private static <T> void append(ArrayUnorderedList<T> resultList, Iterator<T> path, boolean skipFirst) {
+        if (skipFirst && path.hasNext()) path.next();
+        while (path.hasNext()) resultList.addToRear(path.next());
+    }
+}
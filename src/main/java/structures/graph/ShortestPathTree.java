@@ -0,0 +1,261 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Shortest-path distances and predecessors from one source vertex of a
+ * {@link NetworkList} (or, for a reverse tree, towards one target vertex), kept
+ * up to date as the network changes.
+ * <p>
+ * The tree is computed once with Dijkstra and registered with its network. Adding
+ * an edge can only shorten paths, so the network reports each insertion and the
+ * tree repairs itself incrementally: if the new edge improves one endpoint, the
+ * improvement is propagated outward with a Dijkstra seeded at that endpoint and
+ * stops wherever distances do not change, so the cost is proportional to the part
+ * of the tree that actually moved. Adding a vertex just extends the tree with an
+ * unreachable entry. Removals and reorderings may lengthen paths or renumber
+ * vertices; they mark the tree stale and it is recomputed on the next query.
+ * </p>
+ * <p>
+ * A reverse tree ({@link NetworkList#shortestPathTreeTo}) runs over incoming
+ * connections, so {@link #pathFrom} gives the route from any vertex to the root
+ * even when the network has one-way arcs. On networks without arcs both kinds of
+ * tree hold the same distances. Call {@link #detach()} when the tree is no longer
+ * needed so the network stops updating it. Instances are not thread-safe.
+ * </p>
+ * <p>
+ * Every computation and repair queues vertices as the network's
+ * {@link SearchStrategy} says: on a radix heap while all weights are integral, on
+ * a binary heap otherwise (see {@link SearchQueue}).
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class ShortestPathTree<T> {
+
+    private final NetworkList<T> network;
+    private final T source;
+    private final boolean reverse;
+    private final SearchQueue queue = new SearchQueue();
+
+    private double[] distance = new double[0];
+    private int[] predecessor = new int[0];
+    private boolean stale = true;
+    private boolean attached = true;
+
+    /** Number of vertices whose distance changed in the last update (for diagnostics). */
+    int lastUpdateSize;
+
+    /**
+     * Creates and computes a tree rooted at a vertex.
+     *
+     * @param network the network to follow
+     * @param source  the root vertex
+     * @param reverse true to measure paths towards the root instead of from it
+     */
+    ShortestPathTree(NetworkList<T> network, T source, boolean reverse) {
+        this.network = network;
+        this.source = source;
+        this.reverse = reverse;
+        recompute();
+    }
+
+    /**
+     * Returns the root vertex.
+     *
+     * @return the source
+     */
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the shortest-path weight from the root to a vertex (to the root, for
+     * a reverse tree).
+     *
+     * @param vertex the other endpoint
+     * @return the weight, or positive infinity if unreachable or unknown
+     */
+    public double distanceTo(T vertex) {
+        refresh();
+        int v = network.getIndex(vertex);
+        return v == -1 ? Double.POSITIVE_INFINITY : distance[v];
+    }
+
+    /**
+     * Returns the shortest path from the root to a vertex. For a reverse tree this
+     * is the route from the vertex to the root, listed backwards.
+     *
+     * @param vertex the destination vertex
+     * @return iterator from the root to the vertex, empty if unreachable or unknown
+     */
+    public Iterator<T> pathTo(T vertex) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        refresh();
+        int v = network.getIndex(vertex);
+        if (v == -1 || distance[v] == Double.POSITIVE_INFINITY) return resultList.iterator();
+
+        for (; v != -1; v = predecessor[v]) {
+            resultList.addToFront(network.vertices[v]);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns the path from a vertex back to the root by following predecessors.
+     * For a reverse tree (or any tree on a network without arcs) this is the
+     * shortest route from the vertex to the root.
+     *
+     * @param vertex the starting vertex
+     * @return iterator from the vertex to the root, empty if unreachable or unknown
+     */
+    public Iterator<T> pathFrom(T vertex) {
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
+        refresh();
+        int v = network.getIndex(vertex);
+        if (v == -1 || distance[v] == Double.POSITIVE_INFINITY) return resultList.iterator();
+
+        for (; v != -1; v = predecessor[v]) {
+            resultList.addToRear(network.vertices[v]);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Stops receiving updates from the network. Queries keep working but are
+     * only correct until the network next changes.
+     */
+    public void detach() {
+        if (attached) {
+            attached = false;
+            network.releaseTree(this);
+        }
+    }
+
+    /**
+     * Extends the tree with a newly added, unreachable vertex.
+     */
+    void vertexAdded() {
+        if (stale) return;
+        int n = network.numVertices;
+        if (distance.length < n) {
+            int capacity = Math.max(n, distance.length * 2);
+            double[] largerDistance = new double[capacity];
+            int[] largerPredecessor = new int[capacity];
+            System.arraycopy(distance, 0, largerDistance, 0, distance.length);
+            System.arraycopy(predecessor, 0, largerPredecessor, 0, predecessor.length);
+            distance = largerDistance;
+            predecessor = largerPredecessor;
+        }
+        distance[n - 1] = Double.POSITIVE_INFINITY;
+        predecessor[n - 1] = -1;
+    }
+
+    /**
+     * Propagates the improvements an inserted undirected edge causes.
+     *
+     * @param a      index of one endpoint
+     * @param b      index of the other endpoint
+     * @param weight the edge weight
+     */
+    void edgeAdded(int a, int b, double weight) {
+        if (stale) return;
+        lastUpdateSize = 0;
+        queue.clear(network.getSearchStrategy());
+        improve(b, distance[a] + weight, a);
+        improve(a, distance[b] + weight, b);
+        propagate();
+    }
+
+    /**
+     * Propagates the improvements an inserted one-way arc causes.
+     *
+     * @param from   index of the vertex the arc leaves
+     * @param to     index of the vertex the arc enters
+     * @param weight the arc weight
+     */
+    void arcAdded(int from, int to, double weight) {
+        if (stale) return;
+        lastUpdateSize = 0;
+        queue.clear(network.getSearchStrategy());
+        if (reverse) {
+            improve(from, distance[to] + weight, to);
+        } else {
+            improve(to, distance[from] + weight, from);
+        }
+        propagate();
+    }
+
+    /**
+     * Marks the tree for recomputation after a change that may lengthen paths.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    private void refresh() {
+        if (stale) recompute();
+    }
+
+    private void recompute() {
+        int n = network.numVertices;
+        if (distance.length < n) {
+            distance = new double[n];
+            predecessor = new int[n];
+        }
+        for (int v = 0; v < n; v++) {
+            distance[v] = Double.POSITIVE_INFINITY;
+            predecessor[v] = -1;
+        }
+        stale = false;
+        lastUpdateSize = 0;
+        queue.clear(network.getSearchStrategy());
+
+        int s = network.getIndex(source);
+        if (s != -1) {
+            improve(s, 0.0, -1);
+            propagate();
+        }
+    }
+
+    private void improve(int v, double candidate, int parent) {
+        if (candidate < distance[v]) {
+            distance[v] = candidate;
+            predecessor[v] = parent;
+            queue.push(v, candidate);
+            lastUpdateSize++;
+        }
+    }
+
+    /**
+     * Dijkstra from whatever vertices are on the queue; vertices whose distance does
+     * not improve are never expanded, which bounds the work to the changed region.
+     * A reverse tree follows two-way edges plus the incoming arcs of the reverse lists.
+     */
+    private void propagate() {
+        while (!queue.isEmpty()) {
+            double d = queue.minKey();
+            int u = queue.pop();
+            if (d > distance[u]) continue;
+
+            Iterator<NetworkList<T>.WeightedEdge> it = network.adjList[u].iterator();
+            while (it.hasNext()) {
+                NetworkList<T>.WeightedEdge edge = it.next();
+                if (!reverse || !edge.isOneWay()) {
+                    improve(edge.getNeighborIndex(), d + edge.getWeight(), u);
+                }
+            }
+            if (reverse && network.revList != null) {
+                it = network.revList[u].iterator();
+                while (it.hasNext()) {
+                    NetworkList<T>.WeightedEdge edge = it.next();
+                    improve(edge.getNeighborIndex(), d + edge.getWeight(), u);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package structures.graph;
+
+/**
+ * Predicate deciding whether a vertex may be visited by a filtered traversal.
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+@FunctionalInterface
+public interface VertexFilter<T> {
+
+    /**
+     * Returns true if the vertex is part of the filtered view.
+     *
+     * @param vertex the vertex being considered
+     * @return true to keep the vertex, false to hide it
+     */
+    boolean accept(T vertex);
+}
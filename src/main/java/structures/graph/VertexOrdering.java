@@ -0,0 +1,152 @@
+package structures.graph;
+
+/**
+ * Computes locality-improving vertex orderings for the list-based graphs.
+ * <p>
+ * The orderings work over a plain neighbour table ({@code neighbors[v]} holds the
+ * indices adjacent to {@code v}) so that {@link GraphList} and {@link NetworkList}
+ * can share them regardless of how each one stores its edges. Every method returns
+ * a permutation {@code order} where {@code order[newIndex] = oldIndex}.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class VertexOrdering {
+
+    /** Utility class; no instances required. */
+    private VertexOrdering() { }
+
+    /**
+     * Breadth-first ordering: each connected component is numbered in BFS order,
+     * starting from its lowest index, so that neighbours receive close indices.
+     *
+     * @param neighbors neighbour indices per vertex
+     * @return permutation mapping new indices to old indices
+     */
+    static int[] bfs(int[][] neighbors) {
+        int n = neighbors.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) continue;
+
+            int head = tail;
+            order[tail++] = root;
+            visited[root] = true;
+
+            while (head < tail) {
+                int u = order[head++];
+                for (int v : neighbors[u]) {
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[tail++] = v;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Reverse Cuthill–McKee ordering: each component is traversed breadth-first from
+     * a vertex of minimum degree, visiting neighbours by increasing degree, and the
+     * final sequence is reversed. This keeps the adjacency bandwidth small.
+     * Component roots are taken from a cursor over the vertices sorted once by
+     * degree, so picking them costs O(n) overall rather than a scan per component.
+     *
+     * @param neighbors neighbour indices per vertex
+     * @return permutation mapping new indices to old indices
+     */
+    static int[] reverseCuthillMcKee(int[][] neighbors) {
+        int n = neighbors.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] candidates = new int[n];
+        int[] byDegree = sortedByDegree(neighbors);
+        int cursor = 0;
+        int tail = 0;
+
+        while (tail < n) {
+            while (visited[byDegree[cursor]]) cursor++;
+            int root = byDegree[cursor];
+
+            int head = tail;
+            order[tail++] = root;
+            visited[root] = true;
+
+            while (head < tail) {
+                int u = order[head++];
+                int count = 0;
+                for (int v : neighbors[u]) {
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        candidates[count++] = v;
+                    }
+                }
+                sortByDegree(candidates, count, neighbors);
+                for (int i = 0; i < count; i++) {
+                    order[tail++] = candidates[i];
+                }
+            }
+        }
+
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * Counting sort of all vertices by ascending degree; vertices of equal degree
+     * keep their index order.
+     */
+    private static int[] sortedByDegree(int[][] neighbors) {
+        int n = neighbors.length;
+        int maxDegree = 0;
+        for (int[] adjacent : neighbors) maxDegree = Math.max(maxDegree, adjacent.length);
+
+        int[] start = new int[maxDegree + 2];
+        for (int[] adjacent : neighbors) start[adjacent.length + 1]++;
+        for (int d = 1; d < start.length; d++) start[d] += start[d - 1];
+
+        int[] sorted = new int[n];
+        for (int v = 0; v < n; v++) sorted[start[neighbors[v].length]++] = v;
+        return sorted;
+    }
+
+    /**
+     * Insertion sort of the first {@code count} candidates by ascending degree.
+     * Candidate runs are a single vertex's neighbourhood, so they stay short.
+     */
+    private static void sortByDegree(int[] candidates, int count, int[][] neighbors) {
+        for (int i = 1; i < count; i++) {
+            int v = candidates[i];
+            int degree = neighbors[v].length;
+            int j = i - 1;
+            while (j >= 0 && neighbors[candidates[j]].length > degree) {
+                candidates[j + 1] = candidates[j];
+                j--;
+            }
+            candidates[j + 1] = v;
+        }
+    }
+
+    /**
+     * Builds the inverse of a permutation ({@code inverse[oldIndex] = newIndex}).
+     *
+     * @param order permutation mapping new indices to old indices
+     * @return permutation mapping old indices to new indices
+     */
+    static int[] invert(int[] order) {
+        int[] inverse = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            inverse[order[i]] = i;
+        }
+        return inverse;
+    }
+}
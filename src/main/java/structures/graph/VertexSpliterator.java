@@ -0,0 +1,68 @@
+package structures.graph;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a range of a graph's vertex array.
+ * <p>
+ * Splitting halves the index range, so parallel streams get balanced, exactly
+ * sized chunks. The graph must not be modified while the stream runs.
+ * </p>
+ *
+ * @param <T> the type of elements stored as vertices
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class VertexSpliterator<T> implements Spliterator<T> {
+
+    private final T[] vertices;
+    private int from;
+    private final int to;
+
+    /**
+     * Creates a spliterator over {@code vertices[from..to)}.
+     *
+     * @param vertices the vertex array
+     * @param from     first index, inclusive
+     * @param to       last index, exclusive
+     */
+    VertexSpliterator(T[] vertices, int from, int to) {
+        this.vertices = vertices;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (from >= to) return false;
+        action.accept(vertices[from++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (from < to) {
+            action.accept(vertices[from++]);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int middle = (from + to) >>> 1;
+        if (middle <= from) return null;
+        Spliterator<T> prefix = new VertexSpliterator<>(vertices, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
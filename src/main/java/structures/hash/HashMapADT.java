@@ -0,0 +1,82 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+/**
+ * Defines a map from keys to values where each key appears at most once.
+ * Keys are compared with {@code equals} and located by {@code hashCode}, so both
+ * must be consistent and must not change while the key is in the map. Null keys
+ * are not allowed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public interface HashMapADT<K, V> {
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value to store
+     * @return the previous value for the key, or null if there was none
+     * @throws IllegalArgumentException if key is null
+     */
+    V put(K key, V value);
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key to look up
+     * @return its value, or null if the key is not in the map
+     */
+    V get(K key);
+
+    /**
+     * Returns true if the map holds the key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in the map
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key the key to remove
+     * @return the removed value, or null if the key was not in the map
+     */
+    V remove(K key);
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns true if the map holds no keys.
+     *
+     * @return true if the map is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes every entry.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the keys, in no particular order.
+     *
+     * @return an iterator over the keys
+     */
+    Iterator<K> keyIterator();
+
+    /**
+     * Returns an iterator over the values, in the same order as {@link #keyIterator()}.
+     *
+     * @return an iterator over the values
+     */
+    Iterator<V> valueIterator();
+}
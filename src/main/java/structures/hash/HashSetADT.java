@@ -0,0 +1,65 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+/**
+ * Defines a set of distinct elements. Elements are compared with {@code equals}
+ * and located by {@code hashCode}, so both must be consistent and must not change
+ * while the element is in the set. Null elements are not allowed.
+ *
+ * @param <T> the type of elements stored in this set
+ */
+public interface HashSetADT<T> extends Iterable<T> {
+
+    /**
+     * Adds an element if it is not already present.
+     *
+     * @param element the element to add
+     * @return true if the set did not already contain the element
+     * @throws IllegalArgumentException if element is null
+     */
+    boolean add(T element);
+
+    /**
+     * Returns true if the set contains the element.
+     *
+     * @param element the element to look for
+     * @return true if the element is present
+     */
+    boolean contains(T element);
+
+    /**
+     * Removes an element.
+     *
+     * @param element the element to remove
+     * @return true if the element was present
+     */
+    boolean remove(T element);
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Returns true if the set contains no elements.
+     *
+     * @return true if the set is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes every element.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the elements, in no particular order.
+     *
+     * @return an iterator over the elements
+     */
+    @Override
+    Iterator<T> iterator();
+}
@@ -0,0 +1,72 @@
+package structures.hash;
+
+/**
+ * Hashing arithmetic shared by the open-addressing tables.
+ * <p>
+ * Tables have a power-of-two capacity and are filled to at most three quarters.
+ * Hash codes are spread with a Fibonacci multiply so that keys whose hash codes
+ * differ only in their high bits (or form arithmetic sequences, like small
+ * integers) still land on different home slots.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+final class Hashing {
+
+    /** Capacity of a table created without a size hint. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest supported table capacity. */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Utility class; prevent instantiation.
+     */
+    private Hashing() { }
+
+    /**
+     * Spreads a hash code over all 32 bits.
+     *
+     * @param h the raw hash code
+     * @return the spread hash
+     */
+    static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns how far a stored entry sits from its home slot.
+     *
+     * @param hash the entry's spread hash
+     * @param slot the slot holding it
+     * @param mask the table capacity minus one
+     * @return the probe distance
+     */
+    static int distance(int hash, int slot, int mask) {
+        return (slot - (hash & mask)) & mask;
+    }
+
+    /**
+     * Returns the capacity needed to hold a number of entries without growing.
+     *
+     * @param expectedSize the number of entries expected
+     * @return a power of two at least {@link #DEFAULT_CAPACITY}
+     */
+    static int capacityFor(int expectedSize) {
+        long needed = Math.max(DEFAULT_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        if (needed >= MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Returns how many entries a table of the given capacity may hold.
+     *
+     * @param capacity the table capacity
+     * @return the resize threshold
+     */
+    static int threshold(int capacity) {
+        return capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+}
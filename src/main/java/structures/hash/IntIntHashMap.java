@@ -0,0 +1,230 @@
+package structures.hash;
+
+/**
+ * Open-addressing map from primitive {@code int} keys to {@code int} values, using
+ * the same Robin Hood probing as {@link OpenHashMap}.
+ * <p>
+ * Keys and values are stored unboxed in parallel arrays, with a flag array marking
+ * the occupied slots, so any {@code int} can be a key. Lookups of a missing key
+ * return {@link #NO_VALUE}; use {@link #containsKey} when that value can also be
+ * stored. Instances are not thread-safe.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class IntIntHashMap {
+
+    /** Value returned for keys that are not in the map. */
+    public static final int NO_VALUE = -1;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public IntIntHashMap() {
+        allocate(Hashing.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} entries before it
+     * needs to grow.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public IntIntHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        threshold = Hashing.threshold(capacity);
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value to store
+     * @return the previous value, or {@link #NO_VALUE} if there was none
+     */
+    public int put(int key, int value) {
+        int slot = find(key);
+        if (slot >= 0) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        if (size >= threshold) {
+            grow();
+        }
+        insert(key, value);
+        size++;
+        return NO_VALUE;
+    }
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key to look up
+     * @return its value, or {@link #NO_VALUE} if the key is not in the map
+     */
+    public int get(int key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    /**
+     * Returns the value associated with a key, or a fallback.
+     *
+     * @param key the key to look up
+     * @param defaultValue the value to return if the key is not in the map
+     * @return its value, or defaultValue
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Returns true if the map holds the key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key the key to remove
+     * @return the removed value, or {@link #NO_VALUE} if the key was not in the map
+     */
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+
+        int previous = values[slot];
+        int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (used[next] && Hashing.distance(Hashing.mix(keys[next]), next, mask) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        used[slot] = false;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map holds no keys.
+     *
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (int i = 0; i < used.length; i++) {
+            used[i] = false;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the keys, in no particular order.
+     *
+     * @return a new array holding every key
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int i = 0;
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) {
+                result[i++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    private int find(int key) {
+        int hash = Hashing.mix(key);
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (int dist = 0; used[slot]; dist++) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (Hashing.distance(Hashing.mix(keys[slot]), slot, mask) < dist) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(int key, int value) {
+        int mask = keys.length - 1;
+        int slot = Hashing.mix(key) & mask;
+        int dist = 0;
+        while (used[slot]) {
+            int resident = Hashing.distance(Hashing.mix(keys[slot]), slot, mask);
+            if (resident < dist) {
+                int displacedKey = keys[slot];
+                int displacedValue = values[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                key = displacedKey;
+                value = displacedValue;
+                dist = resident;
+            }
+            slot = (slot + 1) & mask;
+            dist++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+    }
+
+    private void grow() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+import exceptions.NoSuchElementException;
+
+/**
+ * Open-addressing map from objects to primitive {@code int} values, using the
+ * same Robin Hood probing as {@link OpenHashMap}.
+ * <p>
+ * Values are stored unboxed, which suits indexes from objects to array positions.
+ * Lookups of a missing key return {@link #NO_VALUE}; use {@link #containsKey} when
+ * that value can also be stored. Null keys are not allowed. Instances are not
+ * thread-safe.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class ObjectIntHashMap<K> {
+
+    /** Value returned for keys that are not in the map. */
+    public static final int NO_VALUE = -1;
+
+    private K[] keys;
+    private int[] values;
+    private int[] hashes;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public ObjectIntHashMap() {
+        allocate(Hashing.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} entries before it
+     * needs to grow.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public ObjectIntHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = new int[capacity];
+        hashes = new int[capacity];
+        threshold = Hashing.threshold(capacity);
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value to store
+     * @return the previous value, or {@link #NO_VALUE} if there was none
+     * @throws IllegalArgumentException if key is null
+     */
+    public int put(K key, int value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * Associates a value with a key only if the key is not yet in the map.
+     *
+     * @param key the key
+     * @param value the value to store
+     * @return the value already stored, or {@link #NO_VALUE} if the key was added
+     * @throws IllegalArgumentException if key is null
+     */
+    public int putIfAbsent(K key, int value) {
+        return put(key, value, false);
+    }
+
+    private int put(K key, int value, boolean replace) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            int previous = values[slot];
+            if (replace) {
+                values[slot] = value;
+            }
+            return previous;
+        }
+
+        if (size >= threshold) {
+            grow();
+        }
+        insert(key, value, hash);
+        size++;
+        return NO_VALUE;
+    }
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key to look up
+     * @return its value, or {@link #NO_VALUE} if the key is not in the map
+     */
+    public int get(K key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    /**
+     * Returns the value associated with a key, or a fallback.
+     *
+     * @param key the key to look up
+     * @param defaultValue the value to return if the key is not in the map
+     * @return its value, or defaultValue
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Returns true if the map holds the key.
+     *
+     * @param key the key to look up
+     * @return true if the key is in the map
+     */
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key the key to remove
+     * @return the removed value, or {@link #NO_VALUE} if the key was not in the map
+     */
+    public int remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+
+        int previous = values[slot];
+        int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (keys[next] != null && Hashing.distance(hashes[next], next, mask) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map holds no keys.
+     *
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator over the keys, in no particular order.
+     *
+     * @return an iterator over the keys
+     */
+    public Iterator<K> keyIterator() {
+        return new KeyIterator();
+    }
+
+    private class KeyIterator implements Iterator<K> {
+        private int slot = -1;
+
+        KeyIterator() {
+            advance();
+        }
+
+        private void advance() {
+            do {
+                slot++;
+            } while (slot < keys.length && keys[slot] == null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public K next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            K result = keys[slot];
+            advance();
+            return result;
+        }
+    }
+
+    private int find(K key) {
+        return key == null ? -1 : find(key, Hashing.mix(key.hashCode()));
+    }
+
+    private int find(K key, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (int dist = 0; keys[slot] != null; dist++) {
+            if (Hashing.distance(hashes[slot], slot, mask) < dist) {
+                return -1;
+            }
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(K key, int value, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        int dist = 0;
+        while (keys[slot] != null) {
+            int resident = Hashing.distance(hashes[slot], slot, mask);
+            if (resident < dist) {
+                K displacedKey = keys[slot];
+                int displacedValue = values[slot];
+                int displacedHash = hashes[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                dist = resident;
+            }
+            slot = (slot + 1) & mask;
+            dist++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    private void grow() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+
+        K[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+import exceptions.NoSuchElementException;
+
+/**
+ * Open-addressing hash map using Robin Hood linear probing.
+ * <p>
+ * Entries live directly in parallel key, value and hash arrays, so there is no
+ * node object per entry. A key is stored at its home slot or the first free slot
+ * after it. On insertion, an entry that has probed further than the resident of a
+ * slot takes that slot and the resident moves on ("robbing the rich"). This keeps
+ * probe lengths even, and lets a lookup stop as soon as it passes a resident that
+ * is closer to home than the key would be. Removal shifts the following entries
+ * one slot back instead of leaving tombstones. Lookups, insertions and removals
+ * take O(1) expected time. The table doubles when it is three quarters full.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class OpenHashMap<K, V> implements HashMapADT<K, V> {
+
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int size;
+    private int threshold;
+
+    /**
+     * Creates an empty map with the default capacity.
+     */
+    public OpenHashMap() {
+        allocate(Hashing.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} entries before it
+     * needs to grow.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public OpenHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        hashes = new int[capacity];
+        threshold = Hashing.threshold(capacity);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = Hashing.mix(key.hashCode());
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            V previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        if (size >= threshold) {
+            grow();
+        }
+        insert(key, value, hash);
+        size++;
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = find(key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+
+        V previous = values[slot];
+        int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (keys[next] != null && Hashing.distance(hashes[next], next, mask) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public Iterator<K> keyIterator() {
+        return new SlotIterator<>(keys);
+    }
+
+    @Override
+    public Iterator<V> valueIterator() {
+        return new SlotIterator<>(values);
+    }
+
+    /**
+     * Iterates over the occupied slots of the table, reading from one of its arrays.
+     */
+    private class SlotIterator<E> implements Iterator<E> {
+        private final E[] source;
+        private int slot = -1;
+
+        SlotIterator(E[] source) {
+            this.source = source;
+            advance();
+        }
+
+        private void advance() {
+            do {
+                slot++;
+            } while (slot < keys.length && keys[slot] == null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = source[slot];
+            advance();
+            return result;
+        }
+    }
+
+    private int find(K key) {
+        return key == null ? -1 : find(key, Hashing.mix(key.hashCode()));
+    }
+
+    /**
+     * Returns the slot holding the key, or -1. The probe stops early at a resident
+     * closer to its home than the key would be, since Robin Hood insertion would
+     * have placed the key there.
+     */
+    private int find(K key, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (int dist = 0; keys[slot] != null; dist++) {
+            if (Hashing.distance(hashes[slot], slot, mask) < dist) {
+                return -1;
+            }
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Places a key that is known to be absent, displacing residents that are
+     * closer to home.
+     */
+    private void insert(K key, V value, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        int dist = 0;
+        while (keys[slot] != null) {
+            int resident = Hashing.distance(hashes[slot], slot, mask);
+            if (resident < dist) {
+                K displacedKey = keys[slot];
+                V displacedValue = values[slot];
+                int displacedHash = hashes[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                dist = resident;
+            }
+            slot = (slot + 1) & mask;
+            dist++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    private void grow() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full");
+        }
+
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+}
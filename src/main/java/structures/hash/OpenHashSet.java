@@ -0,0 +1,90 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+/**
+ * Open-addressing hash set, stored as the keys of an {@link OpenHashMap}.
+ * <p>
+ * Adding, removing and testing membership take O(1) expected time. Instances are
+ * not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of elements stored in this set
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class OpenHashSet<T> implements HashSetADT<T> {
+
+    private static final Object PRESENT = new Object();
+
+    private final OpenHashMap<T, Object> map;
+
+    /**
+     * Creates an empty set with the default capacity.
+     */
+    public OpenHashSet() {
+        map = new OpenHashMap<>();
+    }
+
+    /**
+     * Creates an empty set able to hold {@code expectedSize} elements before it
+     * needs to grow.
+     *
+     * @param expectedSize the number of elements expected
+     */
+    public OpenHashSet(int expectedSize) {
+        map = new OpenHashMap<>(expectedSize);
+    }
+
+    @Override
+    public boolean add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        return map.put(element, PRESENT) == null;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return map.containsKey(element);
+    }
+
+    @Override
+    public boolean remove(T element) {
+        return map.remove(element) != null;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return map.keyIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -1,19 +1,38 @@
 package structures.linear;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
  * Array-based ordered list that maintains elements in natural order (Comparable).
- * Insertions shift elements to keep the array sorted.
+ * Insertions and lookups locate their position by binary search, so
+ * {@link #contains} and {@link #indexOf} take O(log n) and insertions and removals
+ * shift the tail with a single block copy. Elements can also be read by position in
+ * O(1). Lookups assume that elements which are equal also compare as equal.
+ * Elements that compare as equal keep the order they were added in, whether
+ * they arrive through {@link #add} or {@link #addAll}.
+ * <p>
+ * Large lists are best built with {@link #addAll} (or the copying constructor),
+ * which sorts the new elements once and merges them in.
+ * </p>
+ * <p>
+ * Iterators are fail-fast: a structural change made other than through the
+ * iterator's own {@code remove} makes its next call to {@code next} throw
+ * {@link ConcurrentModificationException}.
+ * </p>
  *
  * @param <T> element type (must be {@link Comparable})
  */
-public class ArrayOrderedList<T> implements OrderedListADT<T> {
+public class ArrayOrderedList<T> implements OrderedListADT<T>, IndexedListADT<T>, RandomAccess {
 
     private final int DEFAULT_CAPACITY = 10;
     private int rear;
+    private int modCount;
     private T[] list;
 
     /**
@@ -24,6 +43,19 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
         rear = 0;
     }
 
+    /**
+     * Creates an ordered list holding the elements of another list, sorted once
+     * instead of inserted one by one.
+     *
+     * @param elements the elements to load
+     * @throws IllegalArgumentException if an element is not Comparable
+     */
+    public ArrayOrderedList(ListADT<? extends T> elements) {
+        list = (T[]) new Object[Math.max(DEFAULT_CAPACITY, elements.size())];
+        rear = 0;
+        addAll(elements);
+    }
+
     @Override
     /**
      * Adds an element to the list, maintaining natural ordering.
@@ -40,29 +72,86 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
         if (rear == list.length)
             expandCapacity();
 
-        Comparable<T> comparableElement = (Comparable<T>) element;
-        int i = 0;
+        int i = upperBound((Comparable<T>) element);
+        System.arraycopy(list, i, list, i + 1, rear - i);
+        list[i] = element;
+        rear++;
+        modCount++;
+    }
 
-        while (i < rear && comparableElement.compareTo(list[i]) > 0) {
-            i++;
+    /**
+     * Adds every element of another list. The new elements are copied, sorted
+     * once and merged with the current contents, which takes O(m log m + n) for
+     * m new and n existing elements instead of m separate insertions. The result
+     * is the same as adding the elements one by one in the other list's order.
+     *
+     * @param other the list whose elements are added
+     * @throws IllegalArgumentException if an element is not Comparable
+     */
+    public void addAll(ListADT<? extends T> other) {
+        Object[] incoming = other.toArray();
+        for (Object element : incoming) {
+            if (!(element instanceof Comparable)) {
+                throw new IllegalArgumentException("Element must be Comparable!");
+            }
         }
+        Arrays.sort(incoming);
 
-        for (int j = rear; j > i; j--) {
-            list[j] = list[j - 1];
+        T[] merged = (T[]) new Object[Math.max(list.length, rear + incoming.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < rear && j < incoming.length) {
+            if (((Comparable<T>) incoming[j]).compareTo(list[i]) < 0) {
+                merged[k++] = (T) incoming[j++];
+            } else {
+                merged[k++] = list[i++];
+            }
         }
+        System.arraycopy(list, i, merged, k, rear - i);
+        System.arraycopy(incoming, j, merged, k + rear - i, incoming.length - j);
 
-        list[i] = element;
-        rear++;
+        list = merged;
+        rear += incoming.length;
+        modCount++;
     }
 
     private void expandCapacity() {
-        T[] newList = (T[]) new Object[list.length * 2];
+        list = Arrays.copyOf(list, list.length * 2);
+    }
 
-        for (int i = 0; i < rear; i++) {
-            newList[i] = list[i];
+    /**
+     * Returns the first position whose element is greater than the key.
+     */
+    private int upperBound(Comparable<T> key) {
+        int low = 0;
+        int high = rear;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.compareTo(list[mid]) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
+    }
 
-        list = newList;
+    /**
+     * Returns the first position whose element is not smaller than the key.
+     */
+    private int lowerBound(Comparable<T> key) {
+        int low = 0;
+        int high = rear;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.compareTo(list[mid]) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     @Override
@@ -74,14 +163,7 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
      */
     public T removeFirst() {
         if (isEmpty()) throw new ElementNotFoundException("Ordered List");
-        T result = list[0];
-
-        for (int i = 0; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
-
-        rear--;
-        return result;
+        return removeAt(0);
     }
 
     @Override
@@ -96,6 +178,7 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
         T result = list[rear - 1];
         list[rear - 1] = null;
         rear--;
+        modCount++;
         return result;
     }
 
@@ -108,24 +191,22 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
      * @throws ElementNotFoundException if element is not found
      */
     public T remove(T element) {
-        int index = -1;
-        for (int i = 0; i < rear; i++) {
-            if (list[i].equals(element)) {
-                index = i;
-                break;
-            }
-        }
+        int index = indexOf(element);
         if (index == -1)
         {
             throw new ElementNotFoundException("Ordered List");
         }
+        return removeAt(index);
+    }
 
+    /**
+     * Removes the element at a position, closing the gap with a block copy.
+     */
+    private T removeAt(int index) {
         T result = list[index];
-        for (int i = index; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
-
-        rear--;
+        System.arraycopy(list, index + 1, list, index, rear - index - 1);
+        list[--rear] = null;
+        modCount++;
         return result;
     }
 
@@ -165,11 +246,113 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
      * @return true if the element is found, false otherwise
      */
     public boolean contains(T target) {
-        for (int i = 0; i < rear; i++) {
+        return indexOf(target) != -1;
+    }
+
+    @Override
+    /**
+     * Returns the element at the specified position in the sorted order.
+     *
+     * @param index the position of the element
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return list[index];
+    }
+
+    @Override
+    /**
+     * Replaces the element at the specified position. The new element must fit
+     * between its neighbours so the list stays sorted.
+     *
+     * @param index the position of the element
+     * @param element the new element
+     * @return the element previously at that position
+     * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1
+     * @throws IllegalArgumentException if the element is not Comparable or would break the ordering
+     */
+    public T set(int index, T element) {
+        checkIndex(index);
+        if (!(element instanceof Comparable)) {
+            throw new IllegalArgumentException("Element must be Comparable!");
+        }
+
+        Comparable<T> comparableElement = (Comparable<T>) element;
+        if ((index > 0 && comparableElement.compareTo(list[index - 1]) < 0)
+                || (index < rear - 1 && comparableElement.compareTo(list[index + 1]) > 0)) {
+            throw new IllegalArgumentException("Element does not fit at position " + index);
+        }
+
+        T result = list[index];
+        list[index] = element;
+        return result;
+    }
+
+    @Override
+    /**
+     * Returns the position of the first element equal to the target, found by
+     * binary search and a scan over the elements that compare equal to it.
+     *
+     * @param target the element to search for
+     * @return its position, or -1 if not found
+     */
+    public int indexOf(T target) {
+        if (!(target instanceof Comparable)) {
+            return -1;
+        }
+
+        Comparable<T> key = (Comparable<T>) target;
+        for (int i = lowerBound(key); i < rear && key.compareTo(list[i]) == 0; i++) {
             if (list[i].equals(target))
-                return true;
+                return i;
+        }
+        return -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    @Override
+    /**
+     * Returns the elements in order, copied with a single block copy.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[rear];
+        System.arraycopy(list, 0, result, 0, rear);
+        return result;
+    }
+
+    @Override
+    /**
+     * Removes every element that satisfies the filter, compacting the array in a
+     * single pass; the remaining elements stay sorted.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int kept = 0;
+        for (int i = 0; i < rear; i++) {
+            if (!filter.test(list[i])) {
+                list[kept++] = list[i];
+            }
+        }
+        for (int i = kept; i < rear; i++) {
+            list[i] = null;
+        }
+        boolean removed = kept < rear;
+        rear = kept;
+        if (removed) {
+            modCount++;
         }
-        return false;
+        return removed;
     }
 
     @Override
@@ -205,6 +388,8 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
 
     private class BasicIterator implements Iterator<T> {
         private int current = 0;
+        private boolean okToRemove = false;
+        private int expectedModCount = modCount;
 
         @Override
         /**
@@ -222,13 +407,38 @@ public class ArrayOrderedList<T> implements OrderedListADT<T> {
          *
          * @return the next element
          * @throws ElementNotFoundException if there are no more elements
+         * @throws ConcurrentModificationException if the list changed since the last call
          */
         public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             if (!hasNext()) {
                 throw new ElementNotFoundException("Ordered List");
             }
+            okToRemove = true;
             return list[current++];
         }
+
+        @Override
+        /**
+         * Removes the element last returned by {@link #next()}; the remaining
+         * elements stay sorted.
+         *
+         * @throws IllegalStateException if next has not been called since the last removal
+         * @throws ConcurrentModificationException if the list changed since the last call
+         */
+        public void remove() {
+            if (!okToRemove) {
+                throw new IllegalStateException("next() has not been called");
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(--current);
+            okToRemove = false;
+            expectedModCount = modCount;
+        }
     }
 
     @Override
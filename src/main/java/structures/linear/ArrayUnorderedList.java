@@ -1,7 +1,10 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.NoSuchElementException;
 
 /**
@@ -12,96 +15,182 @@ import exceptions.NoSuchElementException;
  * rear, or after a specific element. Removal operations are also supported.
  * </p>
  * <p>
- * The array grows by doubling its capacity when needed, ensuring amortized O(1) insertion
- * and removal operations (except when shifting is required).
+ * The array is used as a circular buffer: {@code front} is the slot of the first
+ * element and indices wrap around the end of the array, so adding or removing at
+ * either end is O(1) and never shifts elements. Inserting after or removing an
+ * element in the middle shifts whichever side of it is shorter. The array grows by
+ * doubling its capacity, unrolling the buffer with two block copies.
+ * </p>
+ * <p>
+ * Positional access through {@link #get(int)} and {@link #set(int, Object)} is O(1).
+ * </p>
+ * <p>
+ * Iterators are fail-fast: once the list is structurally changed other than
+ * through the iterator's own {@code remove}, the iterator's next call to
+ * {@code next} throws {@link ConcurrentModificationException}.
  * </p>
  *
  * @param <T> The type of elements stored in the list.
  * @author Group 27
  * @version 2025/2026
  */
-public class ArrayUnorderedList<T> implements UnorderedListADT<T> {
+public class ArrayUnorderedList<T> implements UnorderedListADT<T>, IndexedListADT<T>, RandomAccess {
 
     private final int DEFAULT_CAPACITY = 10;
     private T[] list;
-    private int rear;
+    private int front;
+    private int count;
+    private int modCount;
 
     /**
      * Creates an empty list with the default initial capacity.
      */
     public ArrayUnorderedList() {
         list = (T[]) new Object[DEFAULT_CAPACITY];
-        rear = 0;
+        front = 0;
+        count = 0;
+    }
+
+    /**
+     * Creates an empty list able to hold {@code initialCapacity} elements before
+     * it needs to grow. Useful when the final size is known in advance.
+     *
+     * @param initialCapacity the initial capacity (at least 1 is used)
+     */
+    public ArrayUnorderedList(int initialCapacity) {
+        list = (T[]) new Object[Math.max(1, initialCapacity)];
+        front = 0;
+        count = 0;
+    }
+
+    /**
+     * Maps a position in the list to its slot in the circular array.
+     */
+    private int slot(int position) {
+        int index = front + position;
+        return index < list.length ? index : index - list.length;
     }
 
     private void expandCapacity() {
-        T[] newList = (T[]) new Object[list.length * 2];
-        for (int i = 0; i < rear; i++) {
-            newList[i] = list[i];
-        }
+        ensureCapacity(list.length * 2);
+    }
+
+    /**
+     * Grows the array to at least {@code capacity} slots, unrolling the ring so
+     * the first element lands in slot 0.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= list.length) return;
+        T[] newList = (T[]) new Object[Math.max(capacity, list.length * 2)];
+        copyTo(newList);
         list = newList;
+        front = 0;
+    }
+
+    /**
+     * Copies the elements, in order, to the start of another array with at most
+     * two block copies.
+     */
+    private void copyTo(Object[] target) {
+        int head = Math.min(count, list.length - front);
+        System.arraycopy(list, front, target, 0, head);
+        System.arraycopy(list, 0, target, head, count - head);
     }
 
     @Override
     public void addToFront(T element) {
-        if (rear == list.length) {
+        if (count == list.length) {
             expandCapacity();
         }
 
-        for (int i = rear; i > 0; i--) {
-            list[i] = list[i - 1];
-        }
-
-        list[0] = element;
-        rear++;
+        front = (front == 0 ? list.length : front) - 1;
+        list[front] = element;
+        count++;
+        modCount++;
     }
 
     @Override
     public void addToRear(T element) {
-        if (rear == list.length) {
+        if (count == list.length) {
             expandCapacity();
         }
 
-        list[rear] = element;
-        rear++;
+        list[slot(count)] = element;
+        count++;
+        modCount++;
     }
 
     @Override
     public void addAfter(T element, T target) {
-        int index = -1;
-        for (int i = 0; i < rear; i++) {
-            if (list[i].equals(target)) {
-                index = i;
-                break;
-            }
-        }
+        int index = indexOf(target);
         if (index == -1)
             throw new NoSuchElementException("Target not found.");
 
-        if (rear == list.length) {
+        if (count == list.length) {
             expandCapacity();
         }
 
-        for (int i = rear; i > index + 1; i--) {
-            list[i] = list[i - 1];
+        int position = index + 1;
+        if (position < count - position) {
+            front = (front == 0 ? list.length : front) - 1;
+            for (int i = 0; i < position; i++) {
+                list[slot(i)] = list[slot(i + 1)];
+            }
+        } else {
+            for (int i = count; i > position; i--) {
+                list[slot(i)] = list[slot(i - 1)];
+            }
         }
 
-        list[index + 1] = element;
-        rear++;
+        list[slot(position)] = element;
+        count++;
+        modCount++;
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the other list is also an {@code ArrayUnorderedList} its elements are
+     * moved with block copies (at most four, as both arrays may wrap around).
+     * </p>
+     */
+    @Override
+    public void addAll(ListADT<? extends T> other) {
+        int n = other.size();
+        ensureCapacity(count + n);
+
+        if (other instanceof ArrayUnorderedList) {
+            ArrayUnorderedList<? extends T> source = (ArrayUnorderedList<? extends T>) other;
+            int copied = 0;
+            while (copied < n) {
+                int from = source.slot(copied);
+                int to = slot(count + copied);
+                int chunk = Math.min(n - copied, Math.min(source.list.length - from, list.length - to));
+                System.arraycopy(source.list, from, list, to, chunk);
+                copied += chunk;
+            }
+        } else {
+            Iterator<? extends T> it = other.iterator();
+            for (int i = 0; i < n; i++) {
+                list[slot(count + i)] = it.next();
+            }
+        }
+        count += n;
+        modCount++;
+    }
+
     @Override
     public T removeFirst() {
         if (isEmpty()) {
             throw new NoSuchElementException("List is empty.");
         }
 
-        T result = list[0];
-        for (int i = 0; i < rear - 1; i++) {
-            list[i] = list[i + 1];
-        }
-        rear--;
+        T result = list[front];
+        list[front] = null;
+        front = slot(1);
+        count--;
+        modCount++;
 
         return result;
     }
@@ -111,31 +200,43 @@ public class ArrayUnorderedList<T> implements UnorderedListADT<T> {
         if (isEmpty()){
             throw new NoSuchElementException("List is empty.");
         }
-        T result = list[rear - 1];
-        list[rear - 1] = null;
-        rear--;
+        int last = slot(count - 1);
+        T result = list[last];
+        list[last] = null;
+        count--;
+        modCount++;
 
         return result;
     }
 
     @Override
     public T remove(T element) {
-        int index = -1;
-        for (int i = 0; i < rear; i++) {
-            if (list[i].equals(element)) {
-                index = i;
-                break;
-            }
-        }
+        int index = indexOf(element);
         if (index == -1) {
             throw new NoSuchElementException("Element not found.");
         }
+        return removeAt(index);
+    }
 
-        T result = list[index];
-        for (int i = index; i < rear - 1; i++) {
-            list[i] = list[i + 1];
+    /**
+     * Removes the element at a position, shifting whichever side of it is shorter.
+     */
+    private T removeAt(int index) {
+        T result = list[slot(index)];
+        if (index < count - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                list[slot(i)] = list[slot(i - 1)];
+            }
+            list[front] = null;
+            front = slot(1);
+        } else {
+            for (int i = index; i < count - 1; i++) {
+                list[slot(i)] = list[slot(i + 1)];
+            }
+            list[slot(count - 1)] = null;
         }
-        rear--;
+        count--;
+        modCount++;
         return result;
     }
 
@@ -144,7 +245,7 @@ public class ArrayUnorderedList<T> implements UnorderedListADT<T> {
         if (isEmpty()){
             throw new NoSuchElementException("List is empty.");
         }
-        return list[0];
+        return list[front];
     }
 
     @Override
@@ -152,27 +253,80 @@ public class ArrayUnorderedList<T> implements UnorderedListADT<T> {
         if (isEmpty()){
             throw new NoSuchElementException("List is empty.");
         }
-        return list[rear - 1];
+        return list[slot(count - 1)];
     }
 
     @Override
     public boolean contains(T target) {
-        for (int i = 0; i < rear; i++) {
-            if (list[i].equals(target)) {
-                return true;
+        return indexOf(target) != -1;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return list[slot(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index);
+        int i = slot(index);
+        T result = list[i];
+        list[i] = element;
+        return result;
+    }
+
+    @Override
+    public int indexOf(T target) {
+        for (int i = 0; i < count; i++) {
+            if (list[slot(i)].equals(target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        copyTo(result);
+        return result;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            T element = list[slot(i)];
+            if (!filter.test(element)) {
+                list[slot(kept++)] = element;
             }
         }
-        return false;
+        for (int i = kept; i < count; i++) {
+            list[slot(i)] = null;
+        }
+        boolean removed = kept < count;
+        count = kept;
+        if (removed) {
+            modCount++;
+        }
+        return removed;
     }
 
     @Override
     public boolean isEmpty() {
-        return rear == 0;
+        return count == 0;
     }
 
     @Override
     public int size() {
-        return rear;
+        return count;
     }
 
     @Override
@@ -182,27 +336,50 @@ public class ArrayUnorderedList<T> implements UnorderedListADT<T> {
 
     private class BasicIterator implements Iterator<T> {
         private int current = 0;
+        private boolean okToRemove = false;
+        private int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
-            return current < rear;
+            return current < count;
         }
 
         @Override
         public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             if (!hasNext()){
                 throw new NoSuchElementException();
             }
-            return list[current++];
+            okToRemove = true;
+            return list[slot(current++)];
+        }
+
+        /**
+         * Removes the element last returned by {@link #next()}, shifting the
+         * shorter side of the list.
+         */
+        @Override
+        public void remove() {
+            if (!okToRemove) {
+                throw new IllegalStateException("next() has not been called");
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(--current);
+            okToRemove = false;
+            expectedModCount = modCount;
         }
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < rear; i++) {
-            sb.append(list[i]);
-            if (i < rear - 1){
+        for (int i = 0; i < count; i++) {
+            sb.append(list[slot(i)]);
+            if (i < count - 1){
                 sb.append(", ");
             }
         }
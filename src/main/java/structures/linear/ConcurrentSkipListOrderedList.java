@@ -0,0 +1,369 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.Predicate;
+
+import exceptions.ElementNotFoundException;
+
+/**
+ * Lock-free skip-list ordered list that many threads may read and modify at once.
+ * <p>
+ * The layout matches {@link SkipListOrderedList}, but every link is an
+ * {@link AtomicMarkableReference} updated with compare-and-set, following the
+ * lock-free skip list of Herlihy and Shavit. A removal first marks the node's links
+ * from the top level down; marking level 0 is the moment the element leaves the
+ * list, and the thread that manages it wins the removal. Any later search that
+ * meets a marked node unlinks it. An insertion links level 0 first (the moment the
+ * element joins) and then the levels above.
+ * </p>
+ * <p>
+ * Equal elements are allowed: each node also gets a unique sequence number, and
+ * ties are ordered by it, so every node has a distinct position. Iterators,
+ * {@link #toArray()} and {@link #toString()} are weakly consistent: they never fail
+ * because of concurrent changes, but may or may not see changes made while they
+ * run. An iterator's {@code remove()} removes the node it last returned.
+ * {@link #size()} is exact whenever no modification is in progress.
+ * </p>
+ *
+ * @param <T> element type (must be {@link Comparable})
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class ConcurrentSkipListOrderedList<T> implements OrderedListADT<T> {
+
+    private static final int MAX_LEVEL = SkipListOrderedList.MAX_LEVEL;
+
+    private final SkipNode<T> head = new SkipNode<>(null, Long.MIN_VALUE, MAX_LEVEL);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Creates an empty concurrent skip list.
+     */
+    public ConcurrentSkipListOrderedList() {
+    }
+
+    /**
+     * Adds an element to the list, maintaining natural ordering. Among equal
+     * elements, the new one goes last.
+     *
+     * @param element the element to be added
+     * @throws IllegalArgumentException if element is not Comparable
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void add(T element) {
+        if (!(element instanceof Comparable))
+            throw new IllegalArgumentException("Element must be Comparable!");
+
+        Comparable<T> key = (Comparable<T>) element;
+        long seq = sequence.getAndIncrement();
+        int height = SkipListOrderedList.randomLevel(ThreadLocalRandom.current().nextInt());
+        SkipNode<T>[] preds = new SkipNode[MAX_LEVEL];
+        SkipNode<T>[] succs = new SkipNode[MAX_LEVEL];
+        SkipNode<T> node = new SkipNode<>(element, seq, height);
+
+        do {
+            find(key, seq, preds, succs);
+            for (int i = 0; i < height; i++) {
+                node.next[i].set(succs[i], false);
+            }
+        } while (!preds[0].next[0].compareAndSet(succs[0], node, false, false));
+        count.incrementAndGet();
+
+        boolean[] marked = {false};
+        for (int i = 1; i < height; i++) {
+            while (true) {
+                SkipNode<T> current = node.next[i].get(marked);
+                if (marked[0]) {
+                    return;
+                }
+                if (current != succs[i] && !node.next[i].compareAndSet(current, succs[i], false, false)) {
+                    continue;
+                }
+                if (preds[i].next[i].compareAndSet(succs[i], node, false, false)) {
+                    break;
+                }
+                find(key, seq, preds, succs);
+            }
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        while (true) {
+            SkipNode<T> node = firstNode();
+            if (node == null)
+                throw new ElementNotFoundException("List");
+            if (removeNode(node))
+                return node.element;
+        }
+    }
+
+    @Override
+    public T removeLast() {
+        while (true) {
+            SkipNode<T> node = lastNode();
+            if (node == null)
+                throw new ElementNotFoundException("List");
+            if (removeNode(node))
+                return node.element;
+        }
+    }
+
+    @Override
+    public T remove(T element) {
+        while (true) {
+            SkipNode<T> node = locate(element);
+            if (node == null)
+                throw new ElementNotFoundException("List");
+            if (removeNode(node))
+                return node.element;
+        }
+    }
+
+    @Override
+    public T first() {
+        SkipNode<T> node = firstNode();
+        if (node == null)
+            throw new ElementNotFoundException("List");
+        return node.element;
+    }
+
+    @Override
+    public T last() {
+        SkipNode<T> node = lastNode();
+        if (node == null)
+            throw new ElementNotFoundException("List");
+        return node.element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return locate(target) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstNode() == null;
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public Object[] toArray() {
+        ArrayUnorderedList<T> snapshot = new ArrayUnorderedList<>(Math.max(1, count.get()));
+        for (SkipNode<T> node = firstNode(); node != null; node = nextLive(node)) {
+            snapshot.addToRear(node.element);
+        }
+        return snapshot.toArray();
+    }
+
+    /**
+     * Removes every element that satisfies the filter. Each match is removed on its
+     * own, so other threads may see the removals happen one at a time.
+     *
+     * @param filter the condition for removal
+     * @return true if this call removed any element
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        for (SkipNode<T> node = firstNode(); node != null; node = nextLive(node)) {
+            if (filter.test(node.element) && removeNode(node)) {
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BasicIterator();
+    }
+
+    private class BasicIterator implements Iterator<T> {
+        private SkipNode<T> current = firstNode();
+        private SkipNode<T> lastReturned;
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new ElementNotFoundException("List");
+            lastReturned = current;
+            current = nextLive(current);
+            return lastReturned.element;
+        }
+
+        /**
+         * Removes the node last returned by {@link #next()}, unless another thread
+         * already removed it.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null)
+                throw new IllegalStateException("next() has not been called");
+            removeNode(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (SkipNode<T> node = firstNode(); node != null; node = nextLive(node)) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(node.element);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Compares a search position (key, then sequence number) with a node.
+     *
+     * @return a positive number if the node comes before the position
+     */
+    private int compare(Comparable<T> key, long seq, SkipNode<T> node) {
+        int c = key.compareTo(node.element);
+        return c != 0 ? c : Long.compare(seq, node.seq);
+    }
+
+    /**
+     * Fills {@code preds} with the last node before the position at each level and
+     * {@code succs} with the node after it, unlinking marked nodes on the way.
+     * Restarts from the head when another thread changes a link first.
+     */
+    private void find(Comparable<T> key, long seq, SkipNode<T>[] preds, SkipNode<T>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            SkipNode<T> pred = head;
+            for (int i = MAX_LEVEL - 1; i >= 0; i--) {
+                SkipNode<T> curr = pred.next[i].getReference();
+                while (curr != null) {
+                    SkipNode<T> succ = curr.next[i].get(marked);
+                    if (marked[0]) {
+                        if (!pred.next[i].compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                    } else if (compare(key, seq, curr) > 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[i] = pred;
+                succs[i] = curr;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Marks a node's links from the top level down. Returns true if this call
+     * marked level 0, i.e. removed the element.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean removeNode(SkipNode<T> node) {
+        boolean[] marked = {false};
+        for (int i = node.next.length - 1; i >= 1; i--) {
+            SkipNode<T> succ = node.next[i].get(marked);
+            while (!marked[0]) {
+                node.next[i].compareAndSet(succ, succ, false, true);
+                succ = node.next[i].get(marked);
+            }
+        }
+
+        SkipNode<T> succ = node.next[0].get(marked);
+        while (!marked[0]) {
+            if (node.next[0].compareAndSet(succ, succ, false, true)) {
+                count.decrementAndGet();
+                find((Comparable<T>) node.element, node.seq, new SkipNode[MAX_LEVEL], new SkipNode[MAX_LEVEL]);
+                return true;
+            }
+            succ = node.next[0].get(marked);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first live node equal to the target, or null if there is none.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SkipNode<T> locate(T target) {
+        if (!(target instanceof Comparable))
+            return null;
+
+        Comparable<T> key = (Comparable<T>) target;
+        SkipNode<T>[] preds = new SkipNode[MAX_LEVEL];
+        SkipNode<T>[] succs = new SkipNode[MAX_LEVEL];
+        find(key, Long.MIN_VALUE, preds, succs);
+        for (SkipNode<T> node = succs[0]; node != null && key.compareTo(node.element) == 0;
+             node = node.next[0].getReference()) {
+            if (!node.next[0].isMarked() && node.element.equals(target))
+                return node;
+        }
+        return null;
+    }
+
+    private SkipNode<T> firstNode() {
+        return nextLive(head);
+    }
+
+    private SkipNode<T> nextLive(SkipNode<T> node) {
+        SkipNode<T> next = node.next[0].getReference();
+        while (next != null && next.next[0].isMarked()) {
+            next = next.next[0].getReference();
+        }
+        return next;
+    }
+
+    /**
+     * Descends to the last live node, stepping past marked nodes at every level.
+     */
+    private SkipNode<T> lastNode() {
+        SkipNode<T> pred = head;
+        for (int i = MAX_LEVEL - 1; i >= 0; i--) {
+            for (SkipNode<T> curr = pred.next[i].getReference(); curr != null;
+                 curr = curr.next[i].getReference()) {
+                if (!curr.next[0].isMarked()) {
+                    pred = curr;
+                }
+            }
+        }
+        return pred == head ? null : pred;
+    }
+
+    private static final class SkipNode<T> {
+        private final T element;
+        private final long seq;
+        private final AtomicMarkableReference<SkipNode<T>>[] next;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipNode(T element, long seq, int height) {
+            this.element = element;
+            this.seq = seq;
+            this.next = new AtomicMarkableReference[height];
+            for (int i = 0; i < height; i++) {
+                next[i] = new AtomicMarkableReference<>(null, false);
+            }
+        }
+    }
+}
@@ -1,25 +1,47 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
  * Doubly linked implementation of an unordered list.
  * Supports insertions/removals at both ends and iteration in linear time.
+ * A list built with a pool capacity keeps up to that many removed nodes on a
+ * free list and reuses them for later insertions.
  *
  * @param <T> element type stored
  */
 public class DoubleLinkedList<T> implements UnorderedListADT<T> {
 
     private int count;
+    private int modCount;
     private DoubleNode<T> head;
     private DoubleNode<T> tail;
+    private final int poolCapacity;
+    private DoubleNode<T> pool;
+    private int pooled;
 
     /**
      * Creates an empty doubly-linked list.
      */
     public DoubleLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty doubly-linked list that recycles up to poolCapacity nodes.
+     *
+     * @param poolCapacity maximum number of free nodes kept for reuse
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public DoubleLinkedList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.poolCapacity = poolCapacity;
         count = 0;
         head = null;
         tail = null;
@@ -32,7 +54,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
      * @param element the element to be added
      */
     public void addToFront(T element) {
-        DoubleNode<T> newNode = new DoubleNode<>(element);
+        DoubleNode<T> newNode = newNode(element);
 
         if (isEmpty()) {
             head = tail = newNode;
@@ -43,6 +65,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         }
 
         count++;
+        modCount++;
     }
 
     @Override
@@ -52,7 +75,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
      * @param element the element to be added
      */
     public void addToRear(T element) {
-        DoubleNode<T> newNode = new DoubleNode<>(element);
+        DoubleNode<T> newNode = newNode(element);
 
         if (isEmpty()) {
             head = tail = newNode;
@@ -63,6 +86,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         }
 
         count++;
+        modCount++;
     }
 
     @Override
@@ -87,7 +111,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
             throw new ElementNotFoundException("List");
         }
 
-        DoubleNode<T> newNode = new DoubleNode<>(element);
+        DoubleNode<T> newNode = newNode(element);
 
         newNode.setNext(current.getNext());
         newNode.setPrevious(current);
@@ -101,6 +125,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
 
         current.setNext(newNode);
         count++;
+        modCount++;
     }
 
     @Override
@@ -115,8 +140,9 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
             throw new ElementNotFoundException("List");
         }
 
-        T result = head.getElement();
-        head = head.getNext();
+        DoubleNode<T> node = head;
+        T result = node.getElement();
+        head = node.getNext();
 
         if (head == null) {
             tail = null;
@@ -126,6 +152,8 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         }
 
         count--;
+        modCount++;
+        recycle(node);
         return result;
     }
 
@@ -141,8 +169,9 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
             throw new ElementNotFoundException("List");
         }
 
-        T result = tail.getElement();
-        tail = tail.getPrevious();
+        DoubleNode<T> node = tail;
+        T result = node.getElement();
+        tail = node.getPrevious();
 
         if (tail == null) {
             head = null;
@@ -152,6 +181,8 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         }
 
         count--;
+        modCount++;
+        recycle(node);
         return result;
     }
 
@@ -186,9 +217,7 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
             removeLast();
         }
         else {
-            current.getPrevious().setNext(current.getNext());
-            current.getNext().setPrevious(current.getPrevious());
-            count--;
+            unlink(current);
         }
 
         return result;
@@ -260,6 +289,81 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         return count;
     }
 
+    @Override
+    /**
+     * Returns the elements from head to tail in a new array.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (DoubleNode<T> current = head; current != null; current = current.getNext()) {
+            result[i++] = current.getElement();
+        }
+        return result;
+    }
+
+    @Override
+    /**
+     * Removes every element that satisfies the filter, unlinking nodes in a
+     * single pass from head to tail.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = count;
+        DoubleNode<T> current = head;
+        while (current != null) {
+            DoubleNode<T> next = current.getNext();
+            if (filter.test(current.getElement())) {
+                DoubleNode<T> previous = current.getPrevious();
+                if (previous == null) head = next;
+                else previous.setNext(next);
+                if (next == null) tail = previous;
+                else next.setPrevious(previous);
+                count--;
+                modCount++;
+                recycle(current);
+            }
+            current = next;
+        }
+        return count < before;
+    }
+
+    @Override
+    /**
+     * Adds every element of another list to the rear: the new nodes are chained
+     * in one pass over the other list and spliced after the tail at once.
+     *
+     * @param other the list whose elements are added
+     */
+    public void addAll(ListADT<? extends T> other) {
+        int n = other.size();
+        if (n == 0) return;
+
+        Iterator<? extends T> it = other.iterator();
+        DoubleNode<T> first = newNode(it.next());
+        DoubleNode<T> last = first;
+        for (int i = 1; i < n; i++) {
+            DoubleNode<T> node = newNode(it.next());
+            node.setPrevious(last);
+            last.setNext(node);
+            last = node;
+        }
+
+        if (isEmpty()) {
+            head = first;
+        } else {
+            tail.setNext(first);
+            first.setPrevious(tail);
+        }
+        tail = last;
+        count += n;
+        modCount++;
+    }
+
     @Override
     /**
      * Returns an iterator over the elements in this list.
@@ -270,8 +374,64 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
         return new BasicIterator();
     }
 
+    /**
+     * Returns the number of free nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Unlinks a node from the list in O(1) and recycles it.
+     */
+    private void unlink(DoubleNode<T> node) {
+        DoubleNode<T> previous = node.getPrevious();
+        DoubleNode<T> next = node.getNext();
+        if (previous == null) head = next;
+        else previous.setNext(next);
+        if (next == null) tail = previous;
+        else next.setPrevious(previous);
+        count--;
+        modCount++;
+        recycle(node);
+    }
+
+    /**
+     * Takes a node from the pool, or allocates one when the pool is empty.
+     */
+    private DoubleNode<T> newNode(T element) {
+        if (pool == null) {
+            return new DoubleNode<>(element);
+        }
+        DoubleNode<T> node = pool;
+        pool = node.getNext();
+        pooled--;
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /**
+     * Clears a removed node and keeps it in the pool if there is room.
+     */
+    private void recycle(DoubleNode<T> node) {
+        node.setElement(null);
+        node.setPrevious(null);
+        if (pooled < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            pooled++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
     private class BasicIterator implements Iterator<T> {
         private DoubleNode<T> current = head;
+        private DoubleNode<T> lastReturned = null;
+        private int expectedModCount = modCount;
 
         @Override
         /**
@@ -289,12 +449,29 @@ public class DoubleLinkedList<T> implements UnorderedListADT<T> {
          *
          * @return the next element
          * @throws ElementNotFoundException if there are no more elements
+         * @throws ConcurrentModificationException if the list changed since the last call
          */
         public T next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
             if (!hasNext()) throw new ElementNotFoundException("List");
-            T element = current.getElement();
+            lastReturned = current;
             current = current.getNext();
-            return element;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        /**
+         * Unlinks the element last returned by {@link #next()} in O(1).
+         *
+         * @throws IllegalStateException if next has not been called since the last removal
+         * @throws ConcurrentModificationException if the list changed since the last call
+         */
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("next() has not been called");
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
         }
     }
 
@@ -1,7 +1,9 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 
@@ -13,6 +15,7 @@ import exceptions.ElementNotFoundException;
 public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
 
     private int count;
+    private int modCount;
     private DoubleNode<T> head;
     private DoubleNode<T> tail;
 
@@ -67,6 +70,7 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
         }
 
         count++;
+        modCount++;
     }
 
     @Override
@@ -89,6 +93,7 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
             tail = null;
         }
         count--;
+        modCount++;
         return result;
     }
 
@@ -115,6 +120,7 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
         }
 
         count--;
+        modCount++;
         return result;
     }
 
@@ -152,6 +158,7 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
             current.getPrevious().setNext(current.getNext());
             current.getNext().setPrevious(current.getPrevious());
             count--;
+            modCount++;
         }
 
         return result;
@@ -224,6 +231,48 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
         return count;
     }
 
+    @Override
+    /**
+     * Returns the elements from head to tail in a new array.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (DoubleNode<T> current = head; current != null; current = current.getNext()) {
+            result[i++] = current.getElement();
+        }
+        return result;
+    }
+
+    @Override
+    /**
+     * Removes every element that satisfies the filter, unlinking nodes in a
+     * single pass from head to tail.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = count;
+        DoubleNode<T> current = head;
+        while (current != null) {
+            DoubleNode<T> next = current.getNext();
+            if (filter.test(current.getElement())) {
+                DoubleNode<T> previous = current.getPrevious();
+                if (previous == null) head = next;
+                else previous.setNext(next);
+                if (next == null) tail = previous;
+                else next.setPrevious(previous);
+                count--;
+                modCount++;
+            }
+            current = next;
+        }
+        return count < before;
+    }
+
     @Override
     /**
      * Returns an iterator over the elements in this list.
@@ -234,8 +283,24 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
         return new BasicIterator();
     }
 
+    /**
+     * Unlinks a node from the list in O(1).
+     */
+    private void unlink(DoubleNode<T> node) {
+        DoubleNode<T> previous = node.getPrevious();
+        DoubleNode<T> next = node.getNext();
+        if (previous == null) head = next;
+        else previous.setNext(next);
+        if (next == null) tail = previous;
+        else next.setPrevious(previous);
+        count--;
+        modCount++;
+    }
+
     private class BasicIterator implements Iterator<T> {
         private DoubleNode<T> current = head;
+        private DoubleNode<T> lastReturned = null;
+        private int expectedModCount = modCount;
 
         @Override
         /**
@@ -253,15 +318,29 @@ public class DoubleLinkedOrderedList<T> implements OrderedListADT<T> {
          *
          * @return the next element
          * @throws ElementNotFoundException if there are no more elements
+         * @throws ConcurrentModificationException if the list changed since the last call
          */
         public T next() {
-            if (!hasNext()){
-                throw new ElementNotFoundException("List");
-            }
-
-            T element = current.getElement();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new ElementNotFoundException("List");
+            lastReturned = current;
             current = current.getNext();
-            return element;
+            return lastReturned.getElement();
+        }
+
+        @Override
+        /**
+         * Unlinks the element last returned by {@link #next()} in O(1).
+         *
+         * @throws IllegalStateException if next has not been called since the last removal
+         * @throws ConcurrentModificationException if the list changed since the last call
+         */
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("next() has not been called");
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
         }
     }
 
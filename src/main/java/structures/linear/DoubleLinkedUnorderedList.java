@@ -1,7 +1,9 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.NoSuchElementException;
 
 /**
@@ -24,6 +26,7 @@ import exceptions.NoSuchElementException;
 public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
 
     private int count;
+    private int modCount;
     private DoubleNode<T> head;
     private DoubleNode<T> tail;
 
@@ -49,6 +52,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
         }
 
         count++;
+        modCount++;
     }
 
     @Override
@@ -64,6 +68,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
         }
 
         count++;
+        modCount++;
     }
 
     @Override
@@ -95,6 +100,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
 
         current.setNext(newNode);
         count++;
+        modCount++;
     }
 
     @Override
@@ -114,6 +120,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
         }
 
         count--;
+        modCount++;
         return result;
     }
 
@@ -134,6 +141,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
         }
 
         count--;
+        modCount++;
         return result;
     }
 
@@ -164,6 +172,7 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
             current.getPrevious().setNext(current.getNext());
             current.getNext().setPrevious(current.getPrevious());
             count--;
+            modCount++;
         }
 
         return result;
@@ -207,13 +216,98 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
         return count;
     }
 
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (DoubleNode<T> current = head; current != null; current = current.getNext()) {
+            result[i++] = current.getElement();
+        }
+        return result;
+    }
+
+    /**
+     * Removes every element that satisfies the filter, unlinking nodes in a
+     * single pass from head to tail.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = count;
+        DoubleNode<T> current = head;
+        while (current != null) {
+            DoubleNode<T> next = current.getNext();
+            if (filter.test(current.getElement())) {
+                DoubleNode<T> previous = current.getPrevious();
+                if (previous == null) head = next;
+                else previous.setNext(next);
+                if (next == null) tail = previous;
+                else next.setPrevious(previous);
+                count--;
+                modCount++;
+            }
+            current = next;
+        }
+        return count < before;
+    }
+
+    /**
+     * Adds every element of another list to the rear: the new nodes are chained
+     * in one pass over the other list and spliced after the tail at once.
+     *
+     * @param other the list whose elements are added
+     */
+    @Override
+    public void addAll(ListADT<? extends T> other) {
+        int n = other.size();
+        if (n == 0) return;
+
+        Iterator<? extends T> it = other.iterator();
+        DoubleNode<T> first = new DoubleNode<>(it.next());
+        DoubleNode<T> last = first;
+        for (int i = 1; i < n; i++) {
+            DoubleNode<T> node = new DoubleNode<>(it.next());
+            node.setPrevious(last);
+            last.setNext(node);
+            last = node;
+        }
+
+        if (isEmpty()) {
+            head = first;
+        } else {
+            tail.setNext(first);
+            first.setPrevious(tail);
+        }
+        tail = last;
+        count += n;
+        modCount++;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new BasicIterator();
     }
 
+    /**
+     * Unlinks a node from the list in O(1).
+     */
+    private void unlink(DoubleNode<T> node) {
+        DoubleNode<T> previous = node.getPrevious();
+        DoubleNode<T> next = node.getNext();
+        if (previous == null) head = next;
+        else previous.setNext(next);
+        if (next == null) tail = previous;
+        else next.setPrevious(previous);
+        count--;
+        modCount++;
+    }
+
     private class BasicIterator implements Iterator<T> {
         private DoubleNode<T> current = head;
+        private DoubleNode<T> lastReturned = null;
+        private int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
@@ -222,10 +316,23 @@ public class DoubleLinkedUnorderedList<T> implements UnorderedListADT<T> {
 
         @Override
         public T next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
             if (!hasNext()) throw new NoSuchElementException();
-            T element = current.getElement();
+            lastReturned = current;
             current = current.getNext();
-            return element;
+            return lastReturned.getElement();
+        }
+
+        /**
+         * Unlinks the element last returned by {@link #next()} in O(1).
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("next() has not been called");
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
         }
     }
 
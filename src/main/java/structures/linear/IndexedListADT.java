@@ -0,0 +1,43 @@
+package structures.linear;
+
+/**
+ * Defines a list whose elements can be reached by their position.
+ * <p>
+ * Positions run from 0 (the first element) to {@code size() - 1} (the last), in
+ * iteration order. Array-backed implementations also implement
+ * {@link java.util.RandomAccess}, so callers can test for it and use positional
+ * access in loops instead of walking an iterator.
+ * </p>
+ *
+ * @param <T> the type of elements stored in this list
+ */
+public interface IndexedListADT<T> extends ListADT<T> {
+
+  /**
+   * Returns the element at the specified position.
+   *
+   * @param index the position of the element
+   * @return the element at that position
+   * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1
+   */
+  public T get(int index);
+
+  /**
+   * Replaces the element at the specified position.
+   *
+   * @param index the position of the element
+   * @param element the new element
+   * @return the element previously at that position
+   * @throws IndexOutOfBoundsException if index is not between 0 and size() - 1
+   */
+  public T set(int index, T element);
+
+  /**
+   * Returns the position of the first element equal to the target.
+   *
+   * @param target the element being sought
+   * @return its position, or -1 if the list does not contain it
+   */
+  public int indexOf(T target);
+
+}
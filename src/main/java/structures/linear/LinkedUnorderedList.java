@@ -1,5 +1,7 @@
 package structures.linear;
 
+import java.util.Iterator;
+
 import exceptions.ElementNotFoundException;
 import exceptions.EmptyCollectionException;
 
@@ -18,6 +20,15 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
         super();
     }
 
+    /**
+     * Constructor for a list that recycles up to poolCapacity removed nodes
+     *
+     * @param poolCapacity maximum number of free nodes kept for reuse
+     */
+    public LinkedUnorderedList(int poolCapacity) {
+        super(poolCapacity);
+    }
+
     /**
      * Method that adds an element to the front of the list
      *
@@ -25,7 +36,7 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
      */
     @Override
     public void addToFront(T element) {
-        Node<T> newNode = new Node<>(element);
+        Node<T> newNode = newNode(element);
         if (isEmpty()) {
             this.head = newNode;
             this.tail = newNode;
@@ -35,6 +46,7 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
         }
         this.size++;
         this.count++;
+        this.modCount++;
     }
 
     /**
@@ -44,7 +56,7 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
      */
     @Override
     public void addToRear(T element) {
-        Node<T> newNode = new Node<>(element);
+        Node<T> newNode = newNode(element);
         if (isEmpty()) {
             this.head = newNode;
             this.tail = newNode;
@@ -54,6 +66,7 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
         }
         this.size++;
         this.count++;
+        this.modCount++;
     }
 
     /**
@@ -71,7 +84,7 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
             throw new ElementNotFoundException("Element not found");
         }
 
-        Node<T> newNode = new Node<>(element);
+        Node<T> newNode = newNode(element);
         Node<T> current = this.head;
 
         while (!current.getElement().equals(target)) {
@@ -87,7 +100,37 @@ public class LinkedUnorderedList<T> extends SingleLinkedList<T> implements Unord
 
         size++;
         count++;
+        modCount++;
     }
 
+    /**
+     * Adds every element of another list to the rear: the new nodes are chained
+     * in one pass over the other list and spliced after the tail at once.
+     *
+     * @param other the list whose elements are added
+     */
+    @Override
+    public void addAll(ListADT<? extends T> other) {
+        int n = other.size();
+        if (n == 0) return;
+
+        Iterator<? extends T> it = other.iterator();
+        Node<T> first = newNode(it.next());
+        Node<T> last = first;
+        for (int i = 1; i < n; i++) {
+            Node<T> node = newNode(it.next());
+            last.next = node;
+            last = node;
+        }
 
+        if (isEmpty()) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        size += n;
+        count += n;
+        modCount++;
+    }
 }
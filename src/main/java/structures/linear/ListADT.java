@@ -1,6 +1,8 @@
 package structures.linear;
 
+import java.lang.reflect.Array;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 /**
  * Defines the interface for a generic list data structure.
@@ -74,6 +76,50 @@ public interface ListADT<T> extends Iterable<T> {
    */
   public Iterator<T> iterator();
 
+  /**
+   * Returns an array holding the elements of this list in iteration order.
+   *
+   * @return a new array with the elements of this list
+   */
+  public Object[] toArray();
+
+  /**
+   * Returns the elements of this list, in iteration order, in an array of the
+   * same runtime type as the given one. The given array is used if it is large
+   * enough (the slot after the last element is then set to null).
+   *
+   * @param array an array of the desired type, possibly empty
+   * @return an array with the elements of this list
+   */
+  public default T[] toArray(T[] array) {
+    Object[] elements = toArray();
+    T[] result = array.length >= elements.length ? array
+        : (T[]) Array.newInstance(array.getClass().getComponentType(), elements.length);
+    System.arraycopy(elements, 0, result, 0, elements.length);
+    if (result.length > elements.length) {
+      result[elements.length] = null;
+    }
+    return result;
+  }
+
+  /**
+   * Removes every element that satisfies the filter, in a single pass.
+   *
+   * @param filter the condition for removal
+   * @return true if any element was removed
+   */
+  public boolean removeIf(Predicate<? super T> filter);
+
+  /**
+   * Keeps only the elements that are also contained in the other list.
+   *
+   * @param other the list of elements to keep
+   * @return true if any element was removed
+   */
+  public default boolean retainAll(ListADT<? extends T> other) {
+    return removeIf(element -> !((ListADT<T>) other).contains(element));
+  }
+
   /**
    * Returns a string representation of this list.
    *
@@ -1,11 +1,17 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
+
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
  * Singly-linked list implementation of the ListADT interface.
  * Maintains references to head and tail nodes for efficient operations.
+ * Iterators are fail-fast and can remove the element they last returned in O(1).
+ * A list built with a pool capacity keeps up to that many removed nodes on a
+ * free list and reuses them for later insertions.
  *
  * @param <T> the type of elements stored in this list
  */
@@ -28,10 +34,34 @@ public class SingleLinkedList<T> implements ListADT<T> {
     /** Number of elements currently stored (legacy counter). */
     protected int count;
 
+    /**
+     * Number of structural modifications, checked by iterators to fail fast.
+     * Subclasses increment it whenever they add or remove nodes.
+     */
+    protected int modCount;
+
+    private final int poolCapacity;
+    private Node<T> pool;
+    private int pooled;
+
     /**
      * Constructor for an empty linked list.
      */
     public SingleLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructor for an empty linked list that recycles up to poolCapacity nodes.
+     *
+     * @param poolCapacity maximum number of free nodes kept for reuse
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public SingleLinkedList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.poolCapacity = poolCapacity;
         this.head = null;
         this.tail = null;
         this.size = 0;
@@ -43,18 +73,24 @@ public class SingleLinkedList<T> implements ListADT<T> {
      * @param element the element to be added to the front of the list
      */
     public void add(T element) {
-        Node<T> newNode = new Node<>(element);
+        Node<T> newNode = newNode(element);
         newNode.next = head;
         head = newNode;
+        if (tail == null) tail = newNode;
         count++;
+        modCount++;
     }
 
     @Override
     public T removeFirst() {
         if (isEmpty()) throw new ElementNotFoundException("List");
-        T result = head.element;
-        head = head.next;
+        Node<T> node = head;
+        T result = node.element;
+        head = node.next;
+        if (head == null) tail = null;
         count--;
+        modCount++;
+        recycle(node);
         return result;
     }
 
@@ -67,9 +103,13 @@ public class SingleLinkedList<T> implements ListADT<T> {
         while (current.next.next != null)
             current = current.next;
 
-        T result = current.next.element;
+        Node<T> node = current.next;
+        T result = node.element;
         current.next = null;
+        tail = current;
         count--;
+        modCount++;
+        recycle(node);
         return result;
     }
 
@@ -86,9 +126,13 @@ public class SingleLinkedList<T> implements ListADT<T> {
         if (current.next == null)
             throw new ElementNotFoundException("List");
 
-        T result = current.next.element;
-        current.next = current.next.next;
+        Node<T> node = current.next;
+        T result = node.element;
+        if (node == tail) tail = current;
+        current.next = node.next;
         count--;
+        modCount++;
+        recycle(node);
         return result;
     }
 
@@ -132,6 +176,9 @@ public class SingleLinkedList<T> implements ListADT<T> {
     public Iterator<T> iterator() {
         return new Iterator<T>() {
             Node<T> current = head;
+            Node<T> lastReturned = null;
+            Node<T> previous = null;
+            int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -140,14 +187,120 @@ public class SingleLinkedList<T> implements ListADT<T> {
 
             @Override
             public T next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
                 if (!hasNext()) throw new ElementNotFoundException("List");
-                T elem = current.element;
+                if (lastReturned != null) previous = lastReturned;
+                lastReturned = current;
                 current = current.next;
-                return elem;
+                return lastReturned.element;
+            }
+
+            /**
+             * Unlinks the node last returned by {@link #next()} through the
+             * node before it, in O(1).
+             */
+            @Override
+            public void remove() {
+                if (lastReturned == null) throw new IllegalStateException("next() has not been called");
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (previous == null) head = current;
+                else previous.next = current;
+                if (lastReturned == tail) tail = previous;
+                recycle(lastReturned);
+                lastReturned = null;
+                count--;
+                modCount++;
+                expectedModCount = modCount;
             }
         };
     }
 
+    /**
+     * Returns the number of free nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Takes a node from the pool, or allocates one when the pool is empty.
+     * Subclasses create their nodes through this method.
+     *
+     * @param element the element for the node
+     * @return a node holding the element and no successor
+     */
+    protected Node<T> newNode(T element) {
+        if (pool == null) {
+            return new Node<>(element);
+        }
+        Node<T> node = pool;
+        pool = node.next;
+        pooled--;
+        node.next = null;
+        node.element = element;
+        return node;
+    }
+
+    /**
+     * Clears a node that was unlinked from the list and keeps it in the pool if
+     * there is room.
+     *
+     * @param node the removed node
+     */
+    protected void recycle(Node<T> node) {
+        node.element = null;
+        if (pooled < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            pooled++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (Node<T> current = head; current != null; current = current.next) {
+            result[i++] = current.element;
+        }
+        return result;
+    }
+
+    /**
+     * Removes every element that satisfies the filter, unlinking nodes in a
+     * single pass.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = count;
+        Node<T> kept = null;
+        Node<T> current = head;
+        head = null;
+        while (current != null) {
+            Node<T> next = current.next;
+            if (filter.test(current.element)) {
+                count--;
+                recycle(current);
+            } else {
+                if (kept == null) head = current;
+                else kept.next = current;
+                kept = current;
+            }
+            current = next;
+        }
+        if (kept != null) kept.next = null;
+        tail = kept;
+        if (count < before) modCount++;
+        return count < before;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("[");
@@ -163,6 +316,11 @@ public class SingleLinkedList<T> implements ListADT<T> {
 
     /**
      * Returns the head node of this list.
+     * <p>
+     * The node is live, not a copy. On a list with a pool capacity a removed node is
+     * cleared and handed out again by a later insertion, so callers must not keep the
+     * returned node (or nodes reached from it) across a removal.
+     * </p>
      *
      * @return the head node
      * @throws ElementNotFoundException if the list is empty
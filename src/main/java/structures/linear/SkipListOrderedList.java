@@ -0,0 +1,347 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import exceptions.ConcurrentModificationException;
+import exceptions.ElementNotFoundException;
+
+/**
+ * Skip-list ordered list that keeps elements in natural order (Comparable).
+ * <p>
+ * Every element sits in a linked list at level 0. Some are also linked at higher
+ * levels: each node climbs one more level with probability 1/2, so level {@code i}
+ * skips over about {@code 2^i} elements. Searches start at the top and drop a level
+ * whenever the next node would overshoot. {@link #add}, {@link #remove} and
+ * {@link #contains} therefore take O(log n) expected time, and iteration walks
+ * level 0 in order. Equal elements are kept, and a new element is inserted before
+ * the ones equal to it. Lookups assume that elements which are equal also compare
+ * as equal.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; {@link ConcurrentSkipListOrderedList} is the
+ * variant for many writer threads. Iterators are fail-fast: changing the list
+ * other than through the iterator's own {@code remove()} makes the next call to
+ * {@code next()} throw {@link ConcurrentModificationException}.
+ * </p>
+ *
+ * @param <T> element type (must be {@link Comparable})
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class SkipListOrderedList<T> implements OrderedListADT<T> {
+
+    /** Highest level a node can reach. */
+    static final int MAX_LEVEL = 32;
+
+    private final SkipNode<T> head = new SkipNode<>(null, MAX_LEVEL);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final SkipNode<T>[] update = new SkipNode[MAX_LEVEL];
+    private final Random random;
+    private int level;
+    private int count;
+    private int modCount;
+
+    /**
+     * Creates an empty skip list.
+     */
+    public SkipListOrderedList() {
+        this(new Random());
+    }
+
+    /**
+     * Creates an empty skip list whose node heights come from a seeded generator,
+     * so its shape is reproducible.
+     *
+     * @param seed the seed for the level generator
+     */
+    public SkipListOrderedList(long seed) {
+        this(new Random(seed));
+    }
+
+    private SkipListOrderedList(Random random) {
+        this.random = random;
+        this.level = 1;
+        this.count = 0;
+    }
+
+    /**
+     * Maps random bits to a node height between 1 and {@link #MAX_LEVEL}, where
+     * each extra level has probability 1/2.
+     */
+    static int randomLevel(int bits) {
+        return Integer.numberOfTrailingZeros(bits | (1 << (MAX_LEVEL - 1))) + 1;
+    }
+
+    /**
+     * Adds an element to the list, maintaining natural ordering.
+     *
+     * @param element the element to be added
+     * @throws IllegalArgumentException if element is not Comparable
+     */
+    @Override
+    public void add(T element) {
+        if (!(element instanceof Comparable))
+            throw new IllegalArgumentException("Element must be Comparable!");
+
+        findPredecessors((Comparable<T>) element);
+        int height = randomLevel(random.nextInt());
+        for (int i = level; i < height; i++) {
+            update[i] = head;
+        }
+        level = Math.max(level, height);
+
+        SkipNode<T> node = new SkipNode<>(element, height);
+        for (int i = 0; i < height; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+        }
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty())
+            throw new ElementNotFoundException("List");
+
+        SkipNode<T> node = head.next[0];
+        for (int i = 0; i < node.next.length; i++) {
+            head.next[i] = node.next[i];
+        }
+        shrink();
+        count--;
+        modCount++;
+        return node.element;
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty())
+            throw new ElementNotFoundException("List");
+
+        SkipNode<T> node = lastNode();
+        findPredecessors((Comparable<T>) node.element);
+        unlink(node);
+        return node.element;
+    }
+
+    @Override
+    public T remove(T element) {
+        SkipNode<T> node = locate(element);
+        if (node == null)
+            throw new ElementNotFoundException("List");
+
+        unlink(node);
+        return node.element;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty())
+            throw new ElementNotFoundException("List");
+        return head.next[0].element;
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty())
+            throw new ElementNotFoundException("List");
+        return lastNode().element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return locate(target) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (SkipNode<T> node = head.next[0]; node != null; node = node.next[0]) {
+            result[i++] = node.element;
+        }
+        return result;
+    }
+
+    /**
+     * Removes every element that satisfies the filter in a single pass over
+     * level 0, relinking each level past the removed nodes as it goes.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        for (int i = 0; i < level; i++) {
+            update[i] = head;
+        }
+
+        boolean removed = false;
+        for (SkipNode<T> node = head.next[0]; node != null; node = node.next[0]) {
+            if (filter.test(node.element)) {
+                for (int i = 0; i < node.next.length; i++) {
+                    update[i].next[i] = node.next[i];
+                }
+                count--;
+                removed = true;
+            } else {
+                for (int i = 0; i < node.next.length; i++) {
+                    update[i] = node;
+                }
+            }
+        }
+        shrink();
+        if (removed) {
+            modCount++;
+        }
+        return removed;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BasicIterator();
+    }
+
+    private class BasicIterator implements Iterator<T> {
+        private SkipNode<T> current = head.next[0];
+        private SkipNode<T> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new ElementNotFoundException("List");
+            lastReturned = current;
+            current = current.next[0];
+            return lastReturned.element;
+        }
+
+        /**
+         * Removes the element last returned by {@link #next()} in O(log n) expected
+         * time.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null)
+                throw new IllegalStateException("next() has not been called");
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+
+            findPredecessors((Comparable<T>) lastReturned.element);
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (SkipNode<T> node = head.next[0]; node != null; node = node.next[0]) {
+            sb.append(node.element);
+            if (node.next[0] != null) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Fills {@code update} with the last node smaller than the key at each level.
+     */
+    private void findPredecessors(Comparable<T> key) {
+        SkipNode<T> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && key.compareTo(node.next[i].element) > 0) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+    }
+
+    /**
+     * Returns the first node equal to the target, leaving its predecessors in
+     * {@code update}, or null if there is none.
+     */
+    private SkipNode<T> locate(T target) {
+        if (!(target instanceof Comparable))
+            return null;
+
+        Comparable<T> key = (Comparable<T>) target;
+        findPredecessors(key);
+        for (SkipNode<T> node = update[0].next[0];
+             node != null && key.compareTo(node.element) == 0; node = node.next[0]) {
+            if (node.element.equals(target))
+                return node;
+        }
+        return null;
+    }
+
+    /**
+     * Unlinks a node whose strict predecessors are in {@code update}; at each level
+     * the walk only passes over nodes that compare equal to it.
+     */
+    private void unlink(SkipNode<T> node) {
+        for (int i = 0; i < node.next.length; i++) {
+            SkipNode<T> previous = update[i];
+            while (previous.next[i] != node) {
+                previous = previous.next[i];
+            }
+            previous.next[i] = node.next[i];
+        }
+        shrink();
+        count--;
+        modCount++;
+    }
+
+    private SkipNode<T> lastNode() {
+        SkipNode<T> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null) {
+                node = node.next[i];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Drops empty top levels after a removal.
+     */
+    private void shrink() {
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    private static final class SkipNode<T> {
+        private final T element;
+        private final SkipNode<T>[] next;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipNode(T element, int height) {
+            this.element = element;
+            this.next = new SkipNode[height];
+        }
+    }
+}
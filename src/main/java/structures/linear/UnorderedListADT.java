@@ -27,5 +27,13 @@ public interface UnorderedListADT<T> extends ListADT<T> {
      * @param element the element to be added after the target
     * @param target the target is the item that the element will be added after
     */
-    public void addAfter(T element, T target);}
+    public void addAfter(T element, T target);
+
+
+    /** Adds every element of another list, in its iteration order, to the rear of
+     * this list. Adding a list to itself doubles it.
+     *
+     * @param other the list whose elements are added
+     */
+    public void addAll(ListADT<? extends T> other);}
 
@@ -0,0 +1,397 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import exceptions.ConcurrentModificationException;
+import exceptions.NoSuchElementException;
+
+/**
+ * Unrolled linked list implementation of an unordered list.
+ * <p>
+ * Instead of one node per element, the list links a chain of small blocks that
+ * each hold up to {@code nodeCapacity} elements in an array. Scans walk whole
+ * arrays at a time and the list allocates one block per several elements, while
+ * the ends are still spliced in O(1): {@link #addToRear} appends to the tail block
+ * (or links a new one) and {@link #removeFirst}/{@link #removeLast} shrink the
+ * end blocks. Inserting or removing inside a block shifts at most
+ * {@code nodeCapacity} elements; a full block is split in half on insertion and a
+ * block that drops below half full absorbs its successor when they fit together.
+ * No block is ever left empty.
+ * </p>
+ * <p>
+ * Iterators are fail-fast and support {@code remove()}.
+ * </p>
+ *
+ * @param <T> The type of elements stored in the list.
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class UnrolledLinkedList<T> implements UnorderedListADT<T> {
+
+    /** Number of elements a block holds unless another capacity is given. */
+    public static final int DEFAULT_NODE_CAPACITY = 16;
+
+    private final int nodeCapacity;
+    private Block<T> head;
+    private Block<T> tail;
+    private int count;
+    private int modCount;
+
+    /**
+     * Creates an empty list with blocks of {@link #DEFAULT_NODE_CAPACITY} elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with blocks of the given capacity.
+     *
+     * @param nodeCapacity number of elements per block
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.count = 0;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        if (head == null || head.size == nodeCapacity) {
+            linkAfter(null, new Block<>(nodeCapacity));
+        }
+        head.insert(0, element);
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public void addToRear(T element) {
+        if (tail == null || tail.size == nodeCapacity) {
+            linkAfter(tail, new Block<>(nodeCapacity));
+        }
+        tail.elements[tail.size++] = element;
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+
+        for (Block<T> block = head; block != null; block = block.next) {
+            int index = block.indexOf(target);
+            if (index < 0) continue;
+
+            int position = index + 1;
+            if (block.size == nodeCapacity) {
+                Block<T> upper = split(block);
+                if (position > block.size) {
+                    position -= block.size;
+                    block = upper;
+                }
+            }
+            block.insert(position, element);
+            count++;
+            modCount++;
+            return;
+        }
+        throw new NoSuchElementException("Target not found.");
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        return removeAt(head, 0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        return removeAt(tail, tail.size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+
+        for (Block<T> block = head; block != null; block = block.next) {
+            int index = block.indexOf(element);
+            if (index >= 0) {
+                return removeAt(block, index);
+            }
+        }
+        throw new NoSuchElementException("Element not found.");
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        return head.elements[0];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty.");
+        }
+        return tail.elements[tail.size - 1];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        for (Block<T> block = head; block != null; block = block.next) {
+            if (block.indexOf(target) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[count];
+        int i = 0;
+        for (Block<T> block = head; block != null; block = block.next) {
+            System.arraycopy(block.elements, 0, result, i, block.size);
+            i += block.size;
+        }
+        return result;
+    }
+
+    /**
+     * Removes every element that satisfies the filter in a single pass,
+     * compacting each block in place and unlinking the blocks left empty.
+     *
+     * @param filter the condition for removal
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = count;
+        Block<T> block = head;
+        while (block != null) {
+            Block<T> next = block.next;
+            int kept = 0;
+            for (int i = 0; i < block.size; i++) {
+                T element = block.elements[i];
+                if (!filter.test(element)) {
+                    block.elements[kept++] = element;
+                }
+            }
+            for (int i = kept; i < block.size; i++) {
+                block.elements[i] = null;
+            }
+            count -= block.size - kept;
+            block.size = kept;
+            if (kept == 0) {
+                unlink(block);
+            }
+            block = next;
+        }
+        if (count < before) modCount++;
+        return count < before;
+    }
+
+    /**
+     * Adds every element of another list to the rear, filling the tail block
+     * before linking new ones.
+     *
+     * @param other the list whose elements are added
+     */
+    @Override
+    public void addAll(ListADT<? extends T> other) {
+        Object[] elements = other.toArray();
+        if (elements.length == 0) return;
+
+        for (Object element : elements) {
+            if (tail == null || tail.size == nodeCapacity) {
+                linkAfter(tail, new Block<>(nodeCapacity));
+            }
+            tail.elements[tail.size++] = (T) element;
+        }
+        count += elements.length;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BasicIterator();
+    }
+
+    /**
+     * Removes the element at an index of a block, unlinking the block if it
+     * becomes empty or merging its successor into it if both fit in one block.
+     */
+    private T removeAt(Block<T> block, int index) {
+        T result = block.elements[index];
+        block.size--;
+        System.arraycopy(block.elements, index + 1, block.elements, index, block.size - index);
+        block.elements[block.size] = null;
+
+        if (block.size == 0) {
+            unlink(block);
+        } else if (block.size < nodeCapacity / 2 && block.next != null
+                && block.size + block.next.size <= nodeCapacity) {
+            Block<T> next = block.next;
+            System.arraycopy(next.elements, 0, block.elements, block.size, next.size);
+            block.size += next.size;
+            unlink(next);
+        }
+        count--;
+        modCount++;
+        return result;
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block linked after it.
+     *
+     * @return the new block
+     */
+    private Block<T> split(Block<T> block) {
+        Block<T> upper = new Block<>(nodeCapacity);
+        int half = block.size / 2;
+        upper.size = block.size - half;
+        System.arraycopy(block.elements, half, upper.elements, 0, upper.size);
+        for (int i = half; i < block.size; i++) {
+            block.elements[i] = null;
+        }
+        block.size = half;
+        linkAfter(block, upper);
+        return upper;
+    }
+
+    /**
+     * Links a block after another one, or at the front when previous is null.
+     */
+    private void linkAfter(Block<T> previous, Block<T> block) {
+        Block<T> next = previous == null ? head : previous.next;
+        block.previous = previous;
+        block.next = next;
+        if (previous == null) head = block;
+        else previous.next = block;
+        if (next == null) tail = block;
+        else next.previous = block;
+    }
+
+    /**
+     * Unlinks a block in O(1), leaving its own links intact so an iterator
+     * standing on it can still step forward.
+     */
+    private void unlink(Block<T> block) {
+        Block<T> previous = block.previous;
+        Block<T> next = block.next;
+        if (previous == null) head = next;
+        else previous.next = next;
+        if (next == null) tail = previous;
+        else next.previous = previous;
+    }
+
+    private class BasicIterator implements Iterator<T> {
+        private Block<T> block = head;
+        private int index = 0;
+        private boolean okToRemove = false;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return block != null && (index < block.size || block.next != null);
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            if (index == block.size) {
+                block = block.next;
+                index = 0;
+            }
+            okToRemove = true;
+            return block.elements[index++];
+        }
+
+        /**
+         * Removes the element last returned by {@link #next()}, shifting at most
+         * one block.
+         */
+        @Override
+        public void remove() {
+            if (!okToRemove) throw new IllegalStateException("next() has not been called");
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+            Block<T> next = block.next;
+            removeAt(block, --index);
+            if (block.size == 0) {
+                block = next;
+                index = 0;
+            }
+            okToRemove = false;
+            expectedModCount = modCount;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Block<T> block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.size; i++) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(block.elements[i]);
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private static final class Block<T> {
+        private final T[] elements;
+        private int size;
+        private Block<T> previous;
+        private Block<T> next;
+
+        Block(int capacity) {
+            this.elements = (T[]) new Object[capacity];
+        }
+
+        void insert(int index, T element) {
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+            elements[index] = element;
+            size++;
+        }
+
+        int indexOf(T target) {
+            for (int i = 0; i < size; i++) {
+                if (elements[i].equals(target)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
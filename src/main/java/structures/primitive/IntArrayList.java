@@ -0,0 +1,250 @@
+package structures.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import exceptions.EmptyCollectionException;
+
+/**
+ * Growable list of {@code int} values backed by a plain {@code int[]}.
+ * <p>
+ * Values are stored unboxed, so the list holds no per-element objects and
+ * scans read one contiguous array. Besides positional access it works as a
+ * stack through {@link #add}, {@link #last} and {@link #removeLast}. The
+ * array doubles when full, giving amortised O(1) appends.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] values;
+    private int count;
+
+    /**
+     * Creates an empty list with the default capacity.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for {@code initialCapacity} values.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.values = new int[initialCapacity];
+        this.count = 0;
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, values.length * 2));
+        }
+        values[count++] = value;
+    }
+
+    /**
+     * Returns the value at an index.
+     *
+     * @param index the position, from 0 to size() - 1
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at an index.
+     *
+     * @param index the position, from 0 to size() - 1
+     * @param value the new value
+     * @return the value previously at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes the value at an index, shifting the later values down.
+     *
+     * @param index the position, from 0 to size() - 1
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int result = values[index];
+        count--;
+        System.arraycopy(values, index + 1, values, index, count - index);
+        return result;
+    }
+
+    /**
+     * Removes the first occurrence of a value.
+     *
+     * @param value the value to remove
+     * @return true if the value was found and removed
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Returns the last value without removing it.
+     *
+     * @return the last value
+     * @throws EmptyCollectionException if the list is empty
+     */
+    public int last() {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("List");
+        }
+        return values[count - 1];
+    }
+
+    /**
+     * Removes and returns the last value.
+     *
+     * @return the removed value
+     * @throws EmptyCollectionException if the list is empty
+     */
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("List");
+        }
+        return values[--count];
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value.
+     *
+     * @param value the value to look for
+     * @return its index, or -1 if it is not in the list
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the list contains a value.
+     *
+     * @param value the value to look for
+     * @return true if it is in the list
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Removes every value that satisfies the filter in a single pass.
+     *
+     * @param filter the condition for removal
+     * @return true if any value was removed
+     */
+    public boolean removeIf(IntPredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(values[i])) {
+                values[kept++] = values[i];
+            }
+        }
+        boolean removed = kept < count;
+        count = kept;
+        return removed;
+    }
+
+    /**
+     * Replaces every value with the result of applying an operator to it.
+     *
+     * @param operator the operator to apply
+     */
+    public void replaceAll(IntUnaryOperator operator) {
+        for (int i = 0; i < count; i++) {
+            values[i] = operator.applyAsInt(values[i]);
+        }
+    }
+
+    /**
+     * Removes every value; the capacity is kept.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Returns true if the list holds no values.
+     *
+     * @return true if the list is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the values in order in a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, count);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
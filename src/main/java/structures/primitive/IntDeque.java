@@ -0,0 +1,211 @@
+package structures.primitive;
+
+import exceptions.EmptyCollectionException;
+
+/**
+ * Double-ended queue of {@code int} values in a circular array.
+ * <p>
+ * Values are added and removed at both ends in amortised O(1) without boxing
+ * or per-element nodes, so the same class serves as a FIFO queue
+ * ({@link #addLast} and {@link #removeFirst}) and as a stack ({@link #addLast},
+ * {@link #peekLast} and {@link #removeLast}). The array length is a power of
+ * two, so wrapping an index is a single mask.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class IntDeque {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int head;
+    private int count;
+
+    /**
+     * Creates an empty deque with the default capacity.
+     */
+    public IntDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty deque with room for at least {@code initialCapacity} values.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntDeque(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, initialCapacity) - 1) << 1;
+        this.values = new int[capacity];
+        this.head = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Adds a value at the front.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(int value) {
+        if (count == values.length) {
+            expandCapacity();
+        }
+        head = (head - 1) & (values.length - 1);
+        values[head] = value;
+        count++;
+    }
+
+    /**
+     * Adds a value at the back.
+     *
+     * @param value the value to add
+     */
+    public void addLast(int value) {
+        if (count == values.length) {
+            expandCapacity();
+        }
+        values[slot(count)] = value;
+        count++;
+    }
+
+    /**
+     * Removes and returns the value at the front.
+     *
+     * @return the removed value
+     * @throws EmptyCollectionException if the deque is empty
+     */
+    public int removeFirst() {
+        int result = peekFirst();
+        head = (head + 1) & (values.length - 1);
+        count--;
+        return result;
+    }
+
+    /**
+     * Removes and returns the value at the back.
+     *
+     * @return the removed value
+     * @throws EmptyCollectionException if the deque is empty
+     */
+    public int removeLast() {
+        int result = peekLast();
+        count--;
+        return result;
+    }
+
+    /**
+     * Returns the value at the front without removing it.
+     *
+     * @return the front value
+     * @throws EmptyCollectionException if the deque is empty
+     */
+    public int peekFirst() {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Deque");
+        }
+        return values[head];
+    }
+
+    /**
+     * Returns the value at the back without removing it.
+     *
+     * @return the back value
+     * @throws EmptyCollectionException if the deque is empty
+     */
+    public int peekLast() {
+        if (isEmpty()) {
+            throw new EmptyCollectionException("Deque");
+        }
+        return values[slot(count - 1)];
+    }
+
+    /**
+     * Returns the value at a position counted from the front.
+     *
+     * @param index the position, from 0 to size() - 1
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return values[slot(index)];
+    }
+
+    /**
+     * Removes every value; the capacity is kept.
+     */
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Returns true if the deque holds no values.
+     *
+     * @return true if the deque is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of values in the deque.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the values from front to back in a new array.
+     *
+     * @return a new array with the values of this deque
+     */
+    public int[] toArray() {
+        int[] result = new int[count];
+        int firstPart = Math.min(count, values.length - head);
+        System.arraycopy(values, head, result, 0, firstPart);
+        System.arraycopy(values, 0, result, firstPart, count - firstPart);
+        return result;
+    }
+
+    /**
+     * Maps a position counted from the front to an array slot.
+     */
+    private int slot(int index) {
+        return (head + index) & (values.length - 1);
+    }
+
+    /**
+     * Doubles the array, unwrapping the values so the front sits at slot 0.
+     */
+    private void expandCapacity() {
+        int[] larger = new int[values.length * 2];
+        int firstPart = values.length - head;
+        System.arraycopy(values, head, larger, 0, firstPart);
+        System.arraycopy(values, 0, larger, firstPart, head);
+        values = larger;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values[slot(i)]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
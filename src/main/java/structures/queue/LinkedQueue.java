@@ -3,17 +3,40 @@ package structures.queue;
 /**
  * Linked implementation of a queue using LinearNode.
  * Maintains references to both front and rear for efficient operations.
+ * <p>
+ * A queue may be given a pool capacity: dequeued nodes are then kept on a free
+ * list of up to that many nodes and reused by later enqueues, so a queue that
+ * cycles elements through at a steady size stops allocating nodes. The default
+ * queue keeps no pool.
+ * </p>
  *
  * @param <T> the type of elements stored in this queue
  */
 public class LinkedQueue<T> implements QueueADT<T> {
     private int count;
     private LinearNode<T> front, rear;
+    private final int poolCapacity;
+    private LinearNode<T> pool;
+    private int pooled;
 
     /**
      * Creates an empty linked queue.
      */
     public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty linked queue that recycles up to poolCapacity nodes.
+     *
+     * @param poolCapacity maximum number of free nodes kept for reuse
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedQueue(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.poolCapacity = poolCapacity;
         count = 0;
         front = rear = null;
     }
@@ -25,7 +48,7 @@ public class LinkedQueue<T> implements QueueADT<T> {
      * @param element the element to be added
      */
     public void enqueue(T element) {
-        LinearNode<T> node = new LinearNode<>(element);
+        LinearNode<T> node = newNode(element);
 
         if (isEmpty()) {
             front = node;
@@ -50,9 +73,11 @@ public class LinkedQueue<T> implements QueueADT<T> {
             throw new IllegalStateException("Queue is empty");
         }
 
-        T result = front.getElement();
-        front = front.getNext();
+        LinearNode<T> node = front;
+        T result = node.getElement();
+        front = node.getNext();
         count--;
+        recycle(node);
 
         if (isEmpty()) {
             rear = null;
@@ -97,6 +122,44 @@ public class LinkedQueue<T> implements QueueADT<T> {
         return count;
     }
 
+    /**
+     * Returns the number of free nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Takes a node from the pool, or allocates one when the pool is empty.
+     */
+    private LinearNode<T> newNode(T element) {
+        if (pool == null) {
+            return new LinearNode<>(element);
+        }
+        LinearNode<T> node = pool;
+        pool = node.getNext();
+        pooled--;
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /**
+     * Clears a removed node and keeps it in the pool if there is room.
+     */
+    private void recycle(LinearNode<T> node) {
+        node.setElement(null);
+        if (pooled < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            pooled++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
     @Override
     /**
      * Returns a string representation of this queue.
@@ -4,6 +4,11 @@ import exceptions.EmptyCollectionException;
 /**
  * Linked implementation of a stack using LinearNode.
  * Maintains a reference to the top node for efficient operations.
+ * <p>
+ * A stack may be given a pool capacity: popped nodes are then kept on a free list
+ * of up to that many nodes and reused by later pushes, so push/pop cycles stop
+ * allocating nodes. The default stack keeps no pool.
+ * </p>
  *
  * @param <T> the type of elements stored in this stack
  */
@@ -11,12 +16,29 @@ public class LinkedStack<T> implements StackADT<T> {
 
     private int count;
     private LinearNode<T> top;
+    private final int poolCapacity;
+    private LinearNode<T> pool;
+    private int pooled;
 
 
     /**
      * Creates an empty linked stack.
      */
     public LinkedStack() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty linked stack that recycles up to poolCapacity nodes.
+     *
+     * @param poolCapacity maximum number of free nodes kept for reuse
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedStack(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.poolCapacity = poolCapacity;
         count = 0;
         top = null;
     }
@@ -28,7 +50,7 @@ public class LinkedStack<T> implements StackADT<T> {
      * @param element the element to be pushed
      */
     public void push(T element) {
-        LinearNode<T> newNode = new LinearNode<>(element);
+        LinearNode<T> newNode = newNode(element);
         newNode.setNext(top);
         top = newNode;
         count++;
@@ -45,9 +67,11 @@ public class LinkedStack<T> implements StackADT<T> {
         if (isEmpty())
             throw new EmptyCollectionException("Stack");
 
-        T result = top.getElement();
-        top = top.getNext();
+        LinearNode<T> node = top;
+        T result = node.getElement();
+        top = node.getNext();
         count--;
+        recycle(node);
 
         return result;
     }
@@ -86,6 +110,44 @@ public class LinkedStack<T> implements StackADT<T> {
         return count;
     }
 
+    /**
+     * Returns the number of free nodes currently kept for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Takes a node from the pool, or allocates one when the pool is empty.
+     */
+    private LinearNode<T> newNode(T element) {
+        if (pool == null) {
+            return new LinearNode<>(element);
+        }
+        LinearNode<T> node = pool;
+        pool = node.getNext();
+        pooled--;
+        node.setNext(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /**
+     * Clears a removed node and keeps it in the pool if there is room.
+     */
+    private void recycle(LinearNode<T> node) {
+        node.setElement(null);
+        if (pooled < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            pooled++;
+        } else {
+            node.setNext(null);
+        }
+    }
+
     @Override
     /**
      * Returns a string representation of this stack from top to bottom.
@@ -5,7 +5,7 @@ import java.util.Iterator;
 import exceptions.ElementNotFoundException;
 import exceptions.EmptyCollectionException;
 import structures.linear.ArrayUnorderedList;
-import structures.queue.LinkedQueue;
+import structures.primitive.IntDeque;
 
 /**
  * Array-based binary tree implementation.
@@ -236,22 +236,22 @@ public class ArrayBinaryTree<T> implements BinaryTreeADT<T> {
     @Override
     public Iterator<T> iteratorLevelOrder() {
         ArrayUnorderedList<T> tempList = new ArrayUnorderedList<>();
-        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        IntDeque queue = new IntDeque();
 
         if (!isEmpty()) {
-            queue.enqueue(0);
+            queue.addLast(0);
             while (!queue.isEmpty()) {
-                int nodeIndex = queue.dequeue();
+                int nodeIndex = queue.removeFirst();
                 tempList.addToRear(tree[nodeIndex]);
 
                 int leftChildIndex = nodeIndex * 2 + 1;
                 int rightChildIndex = nodeIndex * 2 + 2;
 
                 if (leftChildIndex < size) {
-                    queue.enqueue(leftChildIndex);
+                    queue.addLast(leftChildIndex);
                 }
                 if (rightChildIndex < size) {
-                    queue.enqueue(rightChildIndex);
+                    queue.addLast(rightChildIndex);
                 }
             }
         }
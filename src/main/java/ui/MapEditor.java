@@ -1,7 +1,9 @@
 package ui;
 
 import java.io.FileWriter;
+import java.util.DoubleSummaryStatistics;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Scanner;
 
 import org.json.simple.JSONArray;
@@ -12,16 +14,23 @@ import model.Corridor;
 import model.Effect;
 import model.Entrance;
 import model.Maze;
+import model.MazeAnalyzer;
 import model.RandomEvent;
 import model.RiddleRoom;
 import model.Room;
 import model.RoomStandard;
+import structures.graph.PersistentNetwork;
+import structures.hash.OpenHashMap;
 
 /**
  * Text-based Map Editor.
  * <p>
  * Allows the user to create new mazes manually by adding rooms and corridors,
  * and saving the result to a JSON file.
+ * Edits are kept in a {@link PersistentNetwork}, with each {@link Corridor} stored
+ * as the label of its edge, so every change can be undone and redone without
+ * copying the map; the {@link Maze} used for listing, analysis and saving is
+ * built from the current version when needed.
  * This class fulfills the requirement: "create and save new maps, reusable in
  * future matches."
  * </p>
@@ -31,7 +40,16 @@ import model.RoomStandard;
  */
 public class MapEditor {
     private static Scanner scanner = new Scanner(System.in);
-    private static Maze maze = new Maze();
+
+    /** Rooms and corridors of the map being edited, with its edit history. */
+    private static PersistentNetwork<Room> draft = new PersistentNetwork<>();
+    /**
+     * Latest room created for each lower-cased ID. IDs are unique ignoring case,
+     * so a room found here is the draft's room when the draft contains it.
+     */
+    private static OpenHashMap<String, Room> roomsById = new OpenHashMap<>();
+    /** Maze built from the current version, or null after an edit. */
+    private static Maze maze;
 
     /** Prevent instantiation; all members are static. */
     private MapEditor() { }
@@ -40,18 +58,24 @@ public class MapEditor {
      * Starts the Map Editor interface.
      * <p>
      * Displays a menu loop allowing the user to add rooms, add corridors,
-     * list current components, or save the map to a file.
+     * list current components, analyse the map topology, undo or redo edits, or
+     * save the map to a file.
      * </p>
      */
     public static void start() {
         scanner = new Scanner(System.in);
-        maze = new Maze();
+        draft = new PersistentNetwork<>();
+        roomsById = new OpenHashMap<>();
+        maze = null;
         while (true) {
             System.out.println("\n1. Adicionar Sala");
             System.out.println("2. Adicionar Corredor");
             System.out.println("3. Listar Salas");
             System.out.println("4. Guardar Mapa");
             System.out.println("5. Adicionar Corredor com Evento");
+            System.out.println("6. Analisar Mapa");
+            System.out.println("7. Desfazer");
+            System.out.println("8. Refazer");
             System.out.println("0. Sair");
             System.out.print("\nEscolha uma opção: ");
 
@@ -59,9 +83,12 @@ public class MapEditor {
             switch (op) {
                 case 1 -> addRoom();
                 case 2 -> addCorridor();
-                case 3 -> System.out.println(maze);
+                case 3 -> System.out.println(currentMaze());
                 case 4 -> saveMap();
                 case 5 -> addCorridorWithEvent();
+                case 6 -> analyzeMap();
+                case 7 -> undo();
+                case 8 -> redo();
                 case 0 -> {
                     return;
                 }
@@ -91,7 +118,13 @@ public class MapEditor {
             case "ENIGMA" -> new RiddleRoom(id, desc, null);
             default -> new RoomStandard(id, desc);
         };
-        maze.addRoom(room);
+        if (findRoom(id) != null) {
+            System.out.println("Já existe uma sala com esse ID.");
+            return;
+        }
+        draft.addVertex(room);
+        roomsById.put(id.toLowerCase(Locale.ROOT), room);
+        maze = null;
         System.out.println("Sala adicionada!");
     }
 
@@ -108,7 +141,7 @@ public class MapEditor {
         String to = scanner.nextLine();
         System.out.print("Custo: ");
         double cost = readDouble();
-        maze.addCorridor(from, to, cost);
+        addCorridor(from, to, cost, null);
     }
 
     /**
@@ -122,7 +155,76 @@ public class MapEditor {
         System.out.print("Custo: ");
         double cost = readDouble();
         RandomEvent event = promptEvent();
-        maze.addCorridor(from, to, cost, event);
+        addCorridor(from, to, cost, event);
+    }
+
+    /**
+     * Records a two-way corridor between two rooms of the draft.
+     *
+     * @param fromId ID of the source room
+     * @param toId   ID of the destination room
+     * @param cost   movement cost
+     * @param event  random event of the corridor, or null
+     */
+    private static void addCorridor(String fromId, String toId, double cost, RandomEvent event) {
+        Room from = findRoom(fromId);
+        Room to = findRoom(toId);
+        if (from == null || to == null) {
+            System.err.println("Sala não encontrada para corredor " + fromId + " -> " + toId);
+            return;
+        }
+
+        draft.addEdge(from, to, cost, new Corridor(from, to, cost, event));
+        maze = null;
+    }
+
+    /**
+     * Returns the draft room with the given ID (case-insensitive), or null.
+     */
+    private static Room findRoom(String id) {
+        Room room = roomsById.get(id.toLowerCase(Locale.ROOT));
+        return room != null && draft.containsVertex(room) ? room : null;
+    }
+
+    /**
+     * Reverts the last edit.
+     */
+    private static void undo() {
+        if (!draft.undo()) {
+            System.out.println("Nada para desfazer.");
+            return;
+        }
+        maze = null;
+        System.out.println("Alteração desfeita.");
+    }
+
+    /**
+     * Reapplies the last undone edit.
+     */
+    private static void redo() {
+        if (!draft.redo()) {
+            System.out.println("Nada para refazer.");
+            return;
+        }
+        maze = null;
+        System.out.println("Alteração refeita.");
+    }
+
+    /**
+     * Returns the maze for the current version of the draft, building it on the
+     * first call after an edit.
+     *
+     * @return the current maze
+     */
+    private static Maze currentMaze() {
+        if (maze == null) {
+            Maze built = new Maze();
+            draft.vertices().forEach(built::addRoom);
+            draft.edgeLabels().map(Corridor.class::cast).forEach(c -> built.addCorridor(
+                    c.getSource().getId(), c.getTarget().getId(), c.getWeight(), c.getEvent()));
+            maze = built;
+        }
+        return maze;
     }
 
     /**
@@ -173,11 +275,12 @@ public class MapEditor {
         System.out.print("Nome do ficheiro (sem .json): ");
         String name = scanner.nextLine();
 
+        Maze current = currentMaze();
         JSONObject mazeJson = new JSONObject();
         mazeJson.put("nome", (Object) name);
 
         JSONArray salas = new JSONArray();
-        Iterator<Room> roomsIt = maze.getAllRooms();
+        Iterator<Room> roomsIt = current.getAllRooms();
         while (roomsIt.hasNext()) {
             Room room = roomsIt.next();
             JSONObject roomJson = new JSONObject();
@@ -189,13 +292,16 @@ public class MapEditor {
         mazeJson.put("salas", (Object) salas);
 
         JSONArray ligacoes = new JSONArray();
-        Iterator<Corridor> corridorsIt = maze.getAllCorridors();
+        Iterator<Corridor> corridorsIt = current.getAllCorridors();
         while (corridorsIt.hasNext()) {
             Corridor corridor = corridorsIt.next();
             JSONObject ligacao = new JSONObject();
             ligacao.put("origem", (Object) corridor.getSource().getId());
             ligacao.put("destino", (Object) corridor.getTarget().getId());
             ligacao.put("custo", (Object) corridor.getWeight());
+            if (corridor.isOneWay()) {
+                ligacao.put("sentido_unico", (Object) Boolean.TRUE);
+            }
 
             if (corridor.getEvent() != null) {
                 JSONObject evt = new JSONObject();
@@ -233,6 +339,19 @@ public class MapEditor {
         }
     }
 
+    /**
+     * Prints the topology metrics and corridor cost statistics of the current map.
+     */
+    private static void analyzeMap() {
+        Maze current = currentMaze();
+        System.out.println(new MazeAnalyzer(current));
+        DoubleSummaryStatistics costs = current.getCorridorCostStatistics();
+        if (costs.getCount() > 0) {
+            System.out.printf("Corredores: %d | Custo total: %.1f | Mínimo: %.1f | Máximo: %.1f | Médio: %.2f%n",
+                    costs.getCount(), costs.getSum(), costs.getMin(), costs.getMax(), costs.getAverage());
+        }
+    }
+
     /**
      * Helper method to safely read an integer from the scanner.
      * Consumes invalid input until a valid integer is provided.
@@ -3,6 +3,7 @@ package io;
 import java.util.Iterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -76,4 +77,27 @@ class MapLoaderTest {
         assertNotNull(maze);
         assertNull(maze.getEntrance(), "Maze vazio não deve ter entrada.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that corridors flagged "sentido_unico" can only be travelled one way.
+     */
+    @Test
+    void testLoadOneWayCorridors() {
+        Maze maze = MapLoader.loadMaze("test_map_one_way.json");
+        Room entrada = maze.getRoomById("E1");
+        Room sala = maze.getRoomById("S1");
+        Room centro = maze.getRoomById("C1");
+
+        Iterator<Room> neighbors = maze.getNeighbors(sala);
+        assertEquals(centro, neighbors.next());
+        assertFalse(neighbors.hasNext(), "S1 não deve voltar a E1");
+
+        assertTrue(maze.getCorridorBetween(entrada, sala).isOneWay());
+        assertNull(maze.getCorridorBetween(sala, entrada));
+
+        Iterator<Room> path = maze.getShortestPath(sala, entrada);
+        assertEquals(sala, path.next());
+        assertEquals(centro, path.next());
+        assertEquals(entrada, path.next());
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Scanner;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -196,6 +197,10 @@ class EffectProcessorTest {
         processor.performRecede(p, 2);
 
         assertEquals("E1", p.getCurrentRoom().getId());
+        int pooled = p.getMovementHistory().pooledNodes();
+        assertTrue(pooled > 0, "Os nós removidos ficam disponíveis para reutilização");
+        p.setCurrentRoom(maze.getRoomById("S1"));
+        assertEquals(pooled - 1, p.getMovementHistory().pooledNodes());
     }
 
     @Test
@@ -0,0 +1,141 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exceptions.NoSuchRoomException;
+import structures.linear.ArrayUnorderedList;
+
+/**
+ * Unit tests for the {@link MazeAnalyzer} class.
+ * <p>
+ * Tests diameter, eccentricity and chokepoint detection on small mazes.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class MazeAnalyzerTest {
+
+    private Maze maze;
+    private Room a;
+    private Room b;
+    private Room c;
+    private Room d;
+
+    @BeforeEach
+    void setUp() {
+        maze = new Maze();
+        a = new RoomStandard("A", "A");
+        b = new RoomStandard("B", "B");
+        c = new RoomStandard("C", "C");
+        d = new RoomStandard("D", "D");
+        maze.addRoom(a);
+        maze.addRoom(b);
+        maze.addRoom(c);
+        maze.addRoom(d);
+    }
+
+    /**
+     * Tests weighted metrics on the path A-B-C-D, where every corridor is a bridge.
+     */
+    @Test
+    void testWeightedMetricsAndChokepoints() {
+        maze.addCorridor("A", "B", 2.0);
+        maze.addCorridor("B", "C", 3.0);
+        maze.addCorridor("C", "D", 1.0);
+
+        MazeAnalyzer analyzer = new MazeAnalyzer(maze);
+
+        assertEquals(6.0, analyzer.getDiameter());
+        assertEquals(4.0, analyzer.getRadius());
+        assertEquals(6.0, analyzer.getEccentricity(a));
+        assertEquals(4.0, analyzer.getEccentricity(b));
+
+        ArrayUnorderedList<Room> rooms = analyzer.getChokepointRooms();
+        assertEquals(2, rooms.size());
+        assertTrue(rooms.contains(b));
+        assertTrue(rooms.contains(c));
+        assertEquals(3, analyzer.getChokepointCorridors().size());
+    }
+
+    /**
+     * Tests that uniform corridor costs give the same results through BFS and that
+     * cycles remove chokepoints.
+     */
+    @Test
+    void testUniformWeightsOnCycle() {
+        maze.addCorridor("A", "B", 2.0);
+        maze.addCorridor("B", "C", 2.0);
+        maze.addCorridor("C", "D", 2.0);
+        maze.addCorridor("D", "A", 2.0);
+
+        MazeAnalyzer analyzer = new MazeAnalyzer(maze, new ForkJoinPool(2));
+
+        assertEquals(4.0, analyzer.getDiameter());
+        assertEquals(4.0, analyzer.getRadius());
+        assertTrue(analyzer.getChokepointRooms().isEmpty());
+        assertTrue(analyzer.getChokepointCorridors().isEmpty());
+    }
+
+    /**
+     * Tests a large grid so the work is split across several fork/join tasks.
+     */
+    @Test
+    void testLargeGridMatchesDijkstra() {
+        Maze grid = new Maze();
+        int side = 20;
+        for (int i = 0; i < side * side; i++) {
+            grid.addRoom(new RoomStandard("R" + i, "R" + i));
+        }
+        for (int r = 0; r < side; r++) {
+            for (int col = 0; col < side; col++) {
+                int v = r * side + col;
+                if (col + 1 < side) grid.addCorridor("R" + v, "R" + (v + 1), 1.0 + (v % 3));
+                if (r + 1 < side) grid.addCorridor("R" + v, "R" + (v + side), 1.0);
+            }
+        }
+
+        MazeAnalyzer analyzer = new MazeAnalyzer(grid);
+        Room corner = grid.getRoomById("R0");
+        Room far = grid.getRoomById("R" + (side * side - 1));
+        double cornerToCorner = grid.toNumberedNetwork().network().shortestPathWeight(0, side * side - 1);
+
+        assertTrue(analyzer.getEccentricity(corner) >= cornerToCorner);
+        assertTrue(analyzer.getDiameter() >= analyzer.getEccentricity(far));
+        assertTrue(analyzer.getChokepointRooms().isEmpty());
+    }
+
+    /**
+     * Tests disconnected mazes and rooms from another maze.
+     */
+    @Test
+    void testDisconnectedAndUnknownRoom() {
+        maze.addCorridor("A", "B", 1.0);
+
+        MazeAnalyzer analyzer = new MazeAnalyzer(maze);
+
+        assertEquals(Double.POSITIVE_INFINITY, analyzer.getDiameter());
+        assertEquals(1, analyzer.getChokepointCorridors().size());
+        assertThrows(NoSuchRoomException.class,
+                () -> analyzer.getEccentricity(new RoomStandard("X", "X")));
+        assertTrue(analyzer.toString().contains("Salas: 4"));
+    }
+
+    /**
+     * Tests that mazes with one-way corridors are rejected instead of analysed as two-way.
+     */
+    @Test
+    void testOneWayCorridorsAreRejected() {
+        maze.addCorridor("A", "B", 1.0);
+        maze.addCorridor("B", "C", 1.0, null, true);
+
+        assertThrows(IllegalStateException.class, () -> new MazeAnalyzer(maze));
+        assertThrows(IllegalStateException.class, () -> maze.toNumberedNetwork());
+    }
+}
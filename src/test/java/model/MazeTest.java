@@ -3,13 +3,17 @@ package model;
 import java.util.Iterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import structures.graph.ShardedNetwork;
+
 /**
  * Unit tests for the {@link Maze} class.
  * <p>
@@ -98,4 +102,280 @@ class MazeTest {
         assertEquals("Nenhuma", maze.getAvailableExits(null));
         assertEquals("Sem saídas (Beco sem saída)", maze.getAvailableExits(r1));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that large mazes route through zones and still find the shortest path,
+     * including after a new corridor is added.
+     */
+    @Test
+    void testZonedShortestPathOnLargeMaze() {
+        int rooms = 1200;
+        for (int i = 0; i < rooms; i++) {
+            maze.addRoom(new RoomStandard("R" + i, "Sala " + i));
+        }
+        for (int i = 0; i + 1 < rooms; i++) {
+            maze.addCorridor("R" + i, "R" + (i + 1), 1.0);
+        }
+        maze.buildZones();
+
+        Room start = maze.getRoomById("R0");
+        Room end = maze.getRoomById("R" + (rooms - 1));
+
+        Iterator<Room> path = maze.getShortestPath(start, end);
+        int length = 0;
+        Room last = null;
+        while (path.hasNext()) {
+            last = path.next();
+            length++;
+        }
+        assertEquals(rooms, length);
+        assertEquals(end, last);
+
+        maze.addCorridor("R0", "R" + (rooms - 1), 0.5);
+        path = maze.getShortestPath(start, end);
+        assertEquals(start, path.next());
+        assertEquals(end, path.next());
+    }
+
+    /**
+     * Tests that safe paths avoid unsolved riddle rooms and trapped corridors.
+     */
+    @Test
+    void testSafeShortestPath() {
+        Room a = new RoomStandard("A", "A");
+        Room riddle = new RiddleRoom("R", "Enigma", null);
+        Room b = new RoomStandard("B", "B");
+        Room c = new RoomStandard("C", "C");
+        Room end = new Center("E", "Tesouro");
+
+        maze.addRoom(a);
+        maze.addRoom(riddle);
+        maze.addRoom(b);
+        maze.addRoom(c);
+        maze.addRoom(end);
+
+        maze.addCorridor("A", "R", 1.0);
+        maze.addCorridor("R", "E", 1.0);
+        maze.addCorridor("A", "B", 2.0, new RandomEvent("Armadilha", Effect.TRAP));
+        maze.addCorridor("B", "E", 2.0);
+        maze.addCorridor("A", "C", 5.0);
+        maze.addCorridor("C", "E", 5.0);
+
+        Iterator<Room> path = maze.getSafeShortestPath(a, end);
+        assertEquals(a, path.next());
+        assertEquals(c, path.next());
+        assertEquals(end, path.next());
+
+        ((RiddleRoom) riddle).setSolved(true);
+        path = maze.getSafeShortestPath(a, end);
+        assertEquals(a, path.next());
+        assertEquals(riddle, path.next());
+    }
+
+    /**
+     * Tests that a trapped corridor does not hide a safe corridor between the same rooms.
+     */
+    @Test
+    void testTrapWithParallelSafeCorridor() {
+        Room a = new RoomStandard("A", "A");
+        Room b = new RoomStandard("B", "B");
+        Room c = new RoomStandard("C", "C");
+        maze.addRoom(a);
+        maze.addRoom(b);
+        maze.addRoom(c);
+        maze.addCorridor("A", "B", 1.0, new RandomEvent("Armadilha", Effect.TRAP), true);
+        maze.addCorridor("B", "A", 1.0);
+        maze.addCorridor("B", "C", 1.0);
+
+        Iterator<Room> path = maze.getSafeShortestPath(a, c);
+        assertEquals(a, path.next());
+        assertEquals(b, path.next());
+        assertEquals(c, path.next());
+        assertFalse(path.hasNext());
+    }
+
+    /**
+     * Tests that a trap on a one-way corridor only blocks its own direction, and
+     * that the bot route falls back to the plain shortest path when no safe one exists.
+     */
+    @Test
+    void testOneWayTrapAndSafeOrShortestPath() {
+        Room a = new RoomStandard("A", "A");
+        Room b = new RoomStandard("B", "B");
+        Room c = new RoomStandard("C", "C");
+        maze.addRoom(a);
+        maze.addRoom(b);
+        maze.addRoom(c);
+        maze.addCorridor("A", "B", 1.0, new RandomEvent("Armadilha", Effect.TRAP), true);
+        maze.addCorridor("B", "A", 1.0, null, true);
+        maze.addCorridor("B", "C", 1.0);
+
+        Iterator<Room> back = maze.getSafeShortestPath(b, a);
+        assertEquals(b, back.next());
+        assertEquals(a, back.next());
+        assertFalse(maze.getSafeShortestPath(a, c).hasNext(), "Única saída de A tem armadilha");
+
+        Iterator<Room> route = maze.getSafeOrShortestPath(a, c);
+        assertEquals(a, route.next());
+        assertEquals(b, route.next());
+        assertEquals(c, route.next());
+        assertFalse(route.hasNext());
+
+        Iterator<Room> safeRoute = maze.getSafeOrShortestPath(b, c);
+        assertEquals(b, safeRoute.next());
+        assertEquals(c, safeRoute.next());
+    }
+
+    /**
+     * Tests numbering rooms onto a primitive network in load order.
+     */
+    @Test
+    void testToNumberedNetwork() {
+        Room a = new RoomStandard("A", "A");
+        Room b = new RoomStandard("B", "B");
+        maze.addRoom(a);
+        maze.addRoom(b);
+        maze.addCorridor("A", "B", 3.0);
+
+        structures.graph.IntNetworkAdapter<Room> numbered = maze.toNumberedNetwork();
+
+        assertEquals(2, numbered.size());
+        assertEquals(a, numbered.vertexAt(0));
+        assertEquals(3.0, numbered.network().shortestPathWeight(0, 1));
+    }
+
+    /**
+     * Tests that cached routes pick up a secret passage created mid-game.
+     */
+    @Test
+    void testRouteFollowsSecretPassage() {
+        for (int i = 0; i < 8; i++) {
+            maze.addRoom(new RoomStandard("P" + i, "P" + i));
+        }
+        for (int i = 0; i < 7; i++) {
+            maze.addCorridor("P" + i, "P" + (i + 1), 1.0);
+        }
+        Room start = maze.getRoomById("P0");
+        Room end = maze.getRoomById("P7");
+
+        Iterator<Room> path = maze.getShortestPath(start, end);
+        int length = 0;
+        while (path.hasNext()) {
+            path.next();
+            length++;
+        }
+        assertEquals(8, length);
+
+        maze.addCorridor("P1", "P7", 0.5);
+        path = maze.getShortestPath(start, end);
+        assertEquals(start, path.next());
+        assertEquals(maze.getRoomById("P1"), path.next());
+        assertEquals(end, path.next());
+    }
+
+    /**
+     * Tests exporting the maze graph as DOT.
+     */
+    @Test
+    void testExportDot() throws java.io.IOException {
+        maze.addRoom(new RoomStandard("A", "Sala A"));
+        maze.addRoom(new RoomStandard("B", "Sala B"));
+        maze.addCorridor("A", "B", 2.0);
+
+        java.io.StringWriter out = new java.io.StringWriter();
+        maze.export(structures.graph.NetworkExporter.Format.DOT, out);
+
+        assertTrue(out.toString().contains("n0 -- n1 [weight=2.0];"));
+    }
+
+    /**
+     * Tests the corridor cost statistics over the room graph.
+     */
+    @Test
+    void testCorridorCostStatistics() {
+        maze.addRoom(new RoomStandard("A", "Sala A"));
+        maze.addRoom(new RoomStandard("B", "Sala B"));
+        maze.addRoom(new RoomStandard("C", "Sala C"));
+        maze.addCorridor("A", "B", 2.0);
+        maze.addCorridor("B", "C", 6.0);
+
+        java.util.DoubleSummaryStatistics costs = maze.getCorridorCostStatistics();
+        assertEquals(2, costs.getCount());
+        assertEquals(8.0, costs.getSum());
+        assertEquals(2.0, costs.getMin());
+        assertEquals(6.0, costs.getMax());
+    }
+
+    /**
+     * Tests that connectivity follows one-way corridors forward from the entrance,
+     * even when the entrance is not the first room of the graph.
+     */
+    @Test
+    void testConnectivityFollowsOneWayCorridorsFromEntrance() {
+        maze.addRoom(new RoomStandard("S1", "Sala 1"));
+        maze.addRoom(new Entrance("E1", "Entrada"));
+        maze.addRoom(new RoomStandard("S2", "Sala 2"));
+        maze.addRoom(new Center("C1", "Centro"));
+        maze.addCorridor("E1", "S1", 1.0, null, true);
+        maze.addCorridor("S1", "S2", 1.0);
+        maze.addCorridor("S2", "C1", 1.0);
+
+        assertTrue(maze.isConnected(), "Todas as salas são alcançáveis a partir da entrada");
+        maze.optimizeLayout();
+        assertTrue(maze.isConnected(), "A reordenação do grafo não altera a validação");
+
+        maze.addRoom(new RoomStandard("S3", "Sala 3"));
+        maze.addCorridor("S3", "E1", 1.0, null, true);
+        assertFalse(maze.isConnected(), "Sala só com saída de sentido único para a entrada é inalcançável");
+    }
+
+    @Test
+    void testRoomLookupByIdIgnoresCaseAndKeepsFirst() {
+        Maze maze = new Maze();
+        Room first = new RoomStandard("Sala1", "Primeira");
+        Room duplicate = new RoomStandard("SALA1", "Duplicada");
+        maze.addRoom(first);
+        maze.addRoom(duplicate);
+        maze.addRoom(new RoomStandard("Sala2", "Segunda"));
+
+        assertSame(first, maze.getRoomById("sala1"), "Com IDs repetidos vence a primeira sala");
+        assertEquals("Sala2", maze.getRoomById("SALA2").getId());
+        assertNull(maze.getRoomById("Sala3"));
+        assertNull(maze.getRoomById(null));
+
+        assertFalse(maze.isLeverActivated("L1"));
+        maze.activateLever("L1");
+        maze.activateLever("L1");
+        maze.activateLever("L2");
+        assertTrue(maze.isLeverActivated("L1"));
+        Iterator<String> levers = maze.getActivatedLevers();
+        assertEquals("L1", levers.next());
+        assertEquals("L2", levers.next());
+        assertFalse(levers.hasNext(), "Alavanca ativada duas vezes só aparece uma vez");
+    }
+
+    /**
+     * Tests that a sharded maze still routes between rooms of different shards.
+     */
+    @Test
+    void testShard() {
+        for (int i = 0; i < 6; i++) {
+            maze.addRoom(new RoomStandard("S" + i, "S" + i));
+        }
+        for (int i = 0; i < 5; i++) {
+            maze.addCorridor("S" + i, "S" + (i + 1), 1.0);
+        }
+
+        ShardedNetwork<Room> sharded = maze.shard(2);
+        Room first = maze.getRoomById("S0");
+        Room last = maze.getRoomById("S5");
+
+        assertNotEquals(sharded.shardOf(first), sharded.shardOf(last));
+        assertEquals(5.0, sharded.shortestPathWeight(first, last));
+        Iterator<Room> path = sharded.iteratorShortestPath(first, last);
+        for (int i = 0; i < 6; i++) {
+            assertEquals("S" + i, path.next().getId());
+        }
+        assertFalse(path.hasNext());
+    }
+}
@@ -124,7 +124,7 @@ class TurnManagerTest {
     }
 
     @Test
-    void testGetRoomByIndexAndIsRoomIdAbsentViaReflection() throws Exception {
+    void testGetRoomByIndexViaReflection() throws Exception {
         ArrayUnorderedList<Room> rooms = new ArrayUnorderedList<>();
         Room r1 = maze.getRoomById("E1");
         Room r2 = maze.getRoomById("S1");
@@ -135,13 +135,7 @@ class TurnManagerTest {
         getRoomByIndex.setAccessible(true);
         Room result = (Room) getRoomByIndex.invoke(turnManager, rooms, 2);
         assertEquals(r2, result);
-
-        Method isRoomIdAbsent = TurnManager.class.getDeclaredMethod("isRoomIdAbsent", ArrayUnorderedList.class, String.class);
-        isRoomIdAbsent.setAccessible(true);
-        boolean absent = (boolean) isRoomIdAbsent.invoke(turnManager, rooms, "E1");
-        boolean absentNew = (boolean) isRoomIdAbsent.invoke(turnManager, rooms, "Z9");
-        assertEquals(false, absent);
-        assertEquals(true, absentNew);
+        assertEquals(null, getRoomByIndex.invoke(turnManager, rooms, 3));
     }
 
     @Test
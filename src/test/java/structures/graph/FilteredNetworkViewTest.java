@@ -0,0 +1,110 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link FilteredNetworkView} class.
+ * <p>
+ * Tests traversals and shortest paths over vertex and edge filtered views.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class FilteredNetworkViewTest {
+
+    private NetworkList<String> network;
+
+    @BeforeEach
+    void setUp() {
+        network = new NetworkList<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addVertex("D");
+
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "D", 1.0);
+        network.addEdge("A", "C", 5.0);
+        network.addEdge("C", "D", 5.0);
+    }
+
+    /**
+     * Tests that hidden vertices are routed around.
+     */
+    @Test
+    void testVertexFilterShortestPath() {
+        FilteredNetworkView<String> view = network.filtered(v -> !v.equals("B"), null);
+
+        assertEquals(10.0, view.shortestPathWeight("A", "D"));
+        Iterator<String> path = view.iteratorShortestPath("A", "D");
+        assertEquals("A", path.next());
+        assertEquals("C", path.next());
+        assertEquals("D", path.next());
+        assertFalse(path.hasNext());
+
+        assertEquals(2.0, network.shortestPathWeight("A", "D"), "A rede original não deve mudar");
+    }
+
+    /**
+     * Tests that hidden edges are not followed.
+     */
+    @Test
+    void testEdgeFilter() {
+        FilteredNetworkView<String> view = network.filtered(null,
+                (from, to, w) -> !(from.equals("B") && to.equals("D")));
+
+        assertEquals(10.0, view.shortestPathWeight("A", "D"));
+        assertEquals(1.0, view.shortestPathWeight("D", "B"), "O filtro só esconde o sentido B -> D");
+
+        FilteredNetworkView<String> heavyOnly = network.filtered(null, (from, to, w) -> w > 2.0);
+        Iterator<String> neighbors = heavyOnly.getNeighbors("A");
+        assertEquals("C", neighbors.next());
+        assertFalse(neighbors.hasNext());
+    }
+
+    /**
+     * Tests BFS and DFS honour the filters, and a hidden start yields nothing.
+     */
+    @Test
+    void testTraversalsAndHiddenStart() {
+        FilteredNetworkView<String> view = network.filtered(v -> !v.equals("D"), null);
+
+        int count = 0;
+        Iterator<String> bfs = view.iteratorBFS("A");
+        while (bfs.hasNext()) {
+            assertTrue(!bfs.next().equals("D"));
+            count++;
+        }
+        assertEquals(3, count);
+
+        count = 0;
+        Iterator<String> dfs = view.iteratorDFS("A");
+        while (dfs.hasNext()) {
+            dfs.next();
+            count++;
+        }
+        assertEquals(3, count);
+
+        assertFalse(view.iteratorBFS("D").hasNext());
+        assertFalse(view.iteratorShortestPath("A", "D").hasNext());
+        assertEquals(Double.POSITIVE_INFINITY, view.shortestPathWeight("A", "D"));
+    }
+
+    /**
+     * Tests that the view reflects later changes to the network.
+     */
+    @Test
+    void testViewIsLive() {
+        FilteredNetworkView<String> view = network.filtered(v -> !v.equals("B"), null);
+        network.addEdge("A", "D", 3.0);
+
+        assertEquals(3.0, view.shortestPathWeight("A", "D"));
+    }
+}
@@ -217,4 +217,72 @@ class GraphListTest {
         assertTrue(str.contains("A"));
         assertTrue(str.contains("B"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that RCM reordering keeps vertices and edges and returns a valid mapping.
+     */
+    @Test
+    void testReorderRCM() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("A", "D");
+        graph.addEdge("D", "B");
+        graph.addEdge("B", "C");
+
+        int[] order = graph.reorderRCM();
+
+        assertEquals(4, order.length);
+        assertEquals(4, graph.size());
+        assertTrue(graph.isConnected());
+
+        Iterator<String> path = graph.iteratorShortestPath("A", "C");
+        assertEquals("A", path.next());
+        assertEquals("D", path.next());
+        assertEquals("B", path.next());
+        assertEquals("C", path.next());
+        assertFalse(path.hasNext());
+    }
+
+    /**
+     * Tests that BFS reordering places the start vertex's neighbours right after it.
+     */
+    @Test
+    void testReorderBFS() {
+        graph.addVertex("A");
+        graph.addVertex("X");
+        graph.addVertex("B");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "X");
+
+        int[] order = graph.reorderBFS();
+
+        assertEquals(0, order[0]);
+        assertEquals(2, order[1]);
+        assertEquals(1, order[2]);
+
+        Iterator<String> bfs = graph.iteratorBFS(0);
+        assertEquals("A", bfs.next());
+        assertEquals("B", bfs.next());
+        assertEquals("X", bfs.next());
+    }
+
+    /**
+     * Tests that the vertex and edge streams report every vertex and edge once.
+     */
+    @Test
+    void testVertexAndEdgeStreams() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "C");
+
+        assertEquals("ABC", graph.vertices().reduce("", String::concat));
+        assertEquals(3, graph.edges().parallel().count());
+        assertEquals(3.0, graph.edges().mapToDouble(GraphEdge::getWeight).sum());
+        assertTrue(graph.edges().noneMatch(GraphEdge::isOneWay));
+    }
+}
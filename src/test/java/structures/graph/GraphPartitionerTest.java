@@ -0,0 +1,81 @@
+package structures.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link GraphPartitioner} class.
+ * <p>
+ * Tests balance and cut quality of the BFS-grown partitions.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class GraphPartitionerTest {
+
+    private static NetworkList<Integer> grid(int side) {
+        NetworkList<Integer> network = new NetworkList<>();
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) network.addEdge(v, v + 1, 1.0);
+                if (r + 1 < side) network.addEdge(v, v + side, 1.0);
+            }
+        }
+        return network;
+    }
+
+    /**
+     * Tests that every vertex gets a part and parts stay balanced.
+     */
+    @Test
+    void testBalancedParts() {
+        NetworkList<Integer> network = grid(16);
+        int[] part = GraphPartitioner.partition(network, 4);
+
+        int[] size = new int[4];
+        for (int p : part) {
+            assertTrue(p >= 0 && p < 4, "Parte inválida: " + p);
+            size[p]++;
+        }
+        for (int s : size) {
+            assertTrue(s >= 57 && s <= 71, "Parte desequilibrada: " + s);
+        }
+    }
+
+    /**
+     * Tests that the cut is far below the number of edges of the grid.
+     */
+    @Test
+    void testSmallCut() {
+        NetworkList<Integer> network = grid(16);
+        int[] part = GraphPartitioner.partition(network, 4);
+
+        int edges = 2 * 16 * 15;
+        int cut = GraphPartitioner.cutSize(network, part);
+        assertTrue(cut > 0);
+        assertTrue(cut < edges / 8, "Corte demasiado grande: " + cut);
+    }
+
+    /**
+     * Tests a single part, more parts than vertices and invalid arguments.
+     */
+    @Test
+    void testEdgeCases() {
+        NetworkList<Integer> network = grid(2);
+
+        int[] single = GraphPartitioner.partition(network, 1);
+        assertEquals(0, GraphPartitioner.cutSize(network, single));
+
+        int[] many = GraphPartitioner.partition(network, 6);
+        assertEquals(4, many.length);
+
+        assertThrows(IllegalArgumentException.class, () -> GraphPartitioner.partition(network, 0));
+    }
+}
@@ -0,0 +1,176 @@
+package structures.graph;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link HierarchicalPathFinder} class.
+ * <p>
+ * Compares zone-based routes against plain Dijkstra on {@link NetworkList}.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class HierarchicalPathFinderTest {
+
+    private static final int SIDE = 12;
+
+    private NetworkList<Integer> network;
+    private double[][] weights;
+
+    @BeforeEach
+    void setUp() {
+        network = new NetworkList<>();
+        weights = new double[SIDE * SIDE][SIDE * SIDE];
+        Random rnd = new Random(7);
+
+        for (int i = 0; i < SIDE * SIDE; i++) {
+            network.addVertex(i);
+        }
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) {
+                int v = r * SIDE + c;
+                if (c + 1 < SIDE) connect(v, v + 1, 1 + rnd.nextInt(9));
+                if (r + 1 < SIDE) connect(v, v + SIDE, 1 + rnd.nextInt(9));
+            }
+        }
+    }
+
+    private void connect(int a, int b, double w) {
+        network.addEdge(a, b, w);
+        weights[a][b] = w;
+        weights[b][a] = w;
+    }
+
+    /**
+     * Tests that zone-based weights match flat Dijkstra for many random pairs.
+     */
+    @Test
+    void testWeightsMatchDijkstra() {
+        HierarchicalPathFinder<Integer> finder = new HierarchicalPathFinder<>(network, 7);
+        assertTrue(finder.zoneCount() > 1);
+        assertTrue(finder.borderCount() > 0);
+
+        Random rnd = new Random(3);
+        for (int q = 0; q < 200; q++) {
+            int s = rnd.nextInt(SIDE * SIDE);
+            int t = rnd.nextInt(SIDE * SIDE);
+            assertEquals(network.shortestPathWeight(s, t), finder.shortestPathWeight(s, t), 1e-9);
+        }
+    }
+
+    /**
+     * Tests that refined paths are connected and as cheap as the reported weight.
+     */
+    @Test
+    void testPathsAreValidAndOptimal() {
+        HierarchicalPathFinder<Integer> finder = new HierarchicalPathFinder<>(network, 10);
+
+        Random rnd = new Random(11);
+        for (int q = 0; q < 200; q++) {
+            int s = rnd.nextInt(SIDE * SIDE);
+            int t = rnd.nextInt(SIDE * SIDE);
+
+            Iterator<Integer> path = finder.iteratorShortestPath(s, t);
+            assertTrue(path.hasNext());
+            int previous = path.next();
+            assertEquals(s, previous);
+
+            double total = 0;
+            while (path.hasNext()) {
+                int next = path.next();
+                assertTrue(weights[previous][next] > 0, "Hop " + previous + "->" + next + " não é corredor");
+                total += weights[previous][next];
+                previous = next;
+            }
+            assertEquals(t, previous);
+            assertEquals(network.shortestPathWeight(s, t), total, 1e-9);
+        }
+    }
+
+    /**
+     * Tests that vertices and edges added after construction refresh only the
+     * affected zones and still give the same weights as flat Dijkstra.
+     */
+    @Test
+    void testIncrementalUpdatesMatchDijkstra() {
+        HierarchicalPathFinder<Integer> finder = new HierarchicalPathFinder<>(network, 7);
+        int zones = finder.zoneCount();
+
+        int extra = SIDE * SIDE;
+        network.addVertex(extra);
+        finder.addVertex(extra);
+        assertEquals(zones + 1, finder.zoneCount());
+        assertEquals(Double.POSITIVE_INFINITY, finder.shortestPathWeight(0, extra));
+
+        network.addEdge(extra, 5, 2.0);
+        finder.addEdge(extra, 5, 2.0);
+
+        Random rnd = new Random(19);
+        for (int i = 0; i < 20; i++) {
+            int a = rnd.nextInt(SIDE * SIDE);
+            int b = rnd.nextInt(SIDE * SIDE);
+            double w = 0.5 + rnd.nextInt(4);
+            network.addEdge(a, b, w);
+            finder.addEdge(a, b, w);
+        }
+        finder.addEdge(0, -5, 1.0);
+
+        for (int q = 0; q < 200; q++) {
+            int s = rnd.nextInt(SIDE * SIDE + 1);
+            int t = rnd.nextInt(SIDE * SIDE + 1);
+            assertEquals(network.shortestPathWeight(s, t), finder.shortestPathWeight(s, t), 1e-9);
+        }
+        assertEquals(zones + 1, finder.zoneCount());
+    }
+
+    /**
+     * Tests that a finder built on a radix-heap network keeps exact weights, also
+     * after an edge with a fractional weight moves it to the binary heap.
+     */
+    @Test
+    void testRadixStrategyMatchesDijkstra() {
+        network.setSearchStrategy(SearchStrategy.RADIX_HEAP);
+        HierarchicalPathFinder<Integer> finder = new HierarchicalPathFinder<>(network, 7);
+
+        Random rnd = new Random(23);
+        for (int q = 0; q < 100; q++) {
+            int s = rnd.nextInt(SIDE * SIDE);
+            int t = rnd.nextInt(SIDE * SIDE);
+            assertEquals(network.shortestPathWeight(s, t), finder.shortestPathWeight(s, t), 1e-9);
+        }
+
+        network.addEdge(0, SIDE * SIDE - 1, 0.5);
+        finder.addEdge(0, SIDE * SIDE - 1, 0.5);
+        assertEquals(SearchStrategy.BINARY_HEAP, network.getSearchStrategy());
+        for (int q = 0; q < 100; q++) {
+            int s = rnd.nextInt(SIDE * SIDE);
+            int t = rnd.nextInt(SIDE * SIDE);
+            assertEquals(network.shortestPathWeight(s, t), finder.shortestPathWeight(s, t), 1e-9);
+        }
+    }
+
+    /**
+     * Tests unreachable targets, unknown vertices and invalid zone sizes.
+     */
+    @Test
+    void testUnreachableAndInvalid() {
+        network.addVertex(999);
+        HierarchicalPathFinder<Integer> finder = new HierarchicalPathFinder<>(network, 5);
+
+        assertEquals(Double.POSITIVE_INFINITY, finder.shortestPathWeight(0, 999));
+        assertFalse(finder.iteratorShortestPath(0, 999).hasNext());
+        assertFalse(finder.iteratorShortestPath(0, -5).hasNext());
+        assertEquals(0.0, finder.shortestPathWeight(4, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalPathFinder<>(network, 0));
+    }
+}
@@ -0,0 +1,185 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link IntNetwork} and {@link IntNetworkAdapter} classes.
+ * <p>
+ * Tests primitive vertex ids, traversals, Dijkstra and object-to-id mapping.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class IntNetworkTest {
+
+    private IntNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        network = new IntNetwork();
+    }
+
+    private void addVertices(int count) {
+        for (int i = 0; i < count; i++) {
+            network.addVertex();
+        }
+    }
+
+    /**
+     * Tests that ids are dense and edges grow past the default capacity.
+     */
+    @Test
+    void testAddVerticesAndEdges() {
+        assertTrue(network.isEmpty());
+        for (int i = 0; i < 15; i++) {
+            assertEquals(i, network.addVertex());
+        }
+        for (int i = 1; i < 15; i++) {
+            network.addEdge(0, i, i);
+        }
+
+        assertEquals(15, network.size());
+        assertEquals(14, network.degree(0));
+        assertEquals(14, network.neighbor(0, 13));
+        assertEquals(14.0, network.weight(0, 13));
+        assertTrue(network.isConnected());
+
+        assertThrows(IllegalArgumentException.class, () -> network.addVertex(Integer.valueOf(20)));
+        assertThrows(IllegalArgumentException.class, () -> network.addVertex(Integer.valueOf(3)));
+        assertEquals(15, network.size());
+        network.addVertex(Integer.valueOf(15));
+        assertEquals(16, network.size());
+        assertEquals(0, network.degree(15));
+        assertFalse(network.isConnected());
+    }
+
+    /**
+     * Tests BFS and DFS orders.
+     */
+    @Test
+    void testTraversals() {
+        addVertices(4);
+        network.addEdge(0, 1);
+        network.addEdge(0, 2);
+        network.addEdge(1, 3);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, network.bfsOrder(0));
+        assertArrayEquals(new int[] {0, 1, 3, 2}, network.dfsOrder(0));
+        assertEquals(0, network.bfsOrder(7).length);
+
+        Iterator<Integer> boxed = network.iteratorBFS(0);
+        assertEquals(0, boxed.next());
+        assertEquals(1, boxed.next());
+    }
+
+    /**
+     * Tests shortest paths, edge removal and vertex removal renumbering.
+     */
+    @Test
+    void testShortestPathAndRemoval() {
+        addVertices(4);
+        network.addEdge(0, 1, 1.0);
+        network.addEdge(1, 3, 1.0);
+        network.addEdge(0, 2, 5.0);
+        network.addEdge(2, 3, 5.0);
+
+        assertArrayEquals(new int[] {0, 1, 3}, network.shortestPath(0, 3));
+        assertEquals(2.0, network.shortestPathWeight(0, 3));
+
+        network.removeEdge(1, 3);
+        assertEquals(10.0, network.shortestPathWeight(0, 3));
+
+        network.removeVertex(2);
+        assertEquals(3, network.size());
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight(0, 2));
+        assertEquals(0, network.shortestPath(0, 2).length);
+        assertEquals(1.0, network.shortestPathWeight(Integer.valueOf(0), Integer.valueOf(1)));
+    }
+
+    /**
+     * Tests mapping objects onto ids through the adapter.
+     */
+    @Test
+    void testAdapter() {
+        IntNetworkAdapter<String> adapter = new IntNetworkAdapter<>();
+        for (int i = 0; i < 12; i++) {
+            adapter.addVertex("S" + i);
+        }
+        adapter.addEdge("S0", "S11", 2.0);
+        adapter.addEdge("S11", "S5", 2.0);
+        adapter.addEdge("S0", "S5", 10.0);
+
+        assertEquals(11, adapter.indexOf("S11"));
+        assertEquals("S5", adapter.vertexAt(5));
+        assertEquals(4.0, adapter.shortestPathWeight("S0", "S5"));
+
+        Iterator<String> path = adapter.iteratorShortestPath("S0", "S5");
+        assertEquals("S0", path.next());
+        assertEquals("S11", path.next());
+        assertEquals("S5", path.next());
+        assertFalse(path.hasNext());
+
+        adapter.removeVertex("S11");
+        assertEquals(11, adapter.size());
+        assertEquals(-1, adapter.indexOf("S11"));
+        assertEquals(10.0, adapter.shortestPathWeight("S0", "S5"));
+        assertEquals("S5", adapter.getNeighbors("S0").next());
+        assertTrue(adapter.toString().contains("S0"));
+    }
+
+    /**
+     * Tests weighted and hop eccentricities, including unreachable vertices.
+     */
+    @Test
+    void testEccentricity() {
+        addVertices(4);
+        network.addEdge(0, 1, 2.0);
+        network.addEdge(1, 2, 3.0);
+        network.addEdge(2, 3, 1.0);
+
+        assertEquals(6.0, network.eccentricity(0));
+        assertEquals(5.0, network.eccentricity(2));
+        assertEquals(3, network.hopEccentricity(0));
+        assertEquals(2, network.hopEccentricity(1));
+
+        network.addVertex();
+        assertEquals(Double.POSITIVE_INFINITY, network.eccentricity(0));
+        assertEquals(-1, network.hopEccentricity(0));
+        assertEquals(-1, network.hopEccentricity(99));
+    }
+
+    /**
+     * Tests articulation points and bridges on two triangles joined by a corridor,
+     * plus a parallel edge that must not count as a bridge.
+     */
+    @Test
+    void testArticulationPointsAndBridges() {
+        addVertices(7);
+        network.addEdge(0, 1);
+        network.addEdge(1, 2);
+        network.addEdge(2, 0);
+        network.addEdge(2, 3);
+        network.addEdge(3, 4);
+        network.addEdge(4, 5);
+        network.addEdge(5, 3);
+        network.addEdge(5, 6);
+        network.addEdge(5, 6);
+
+        boolean[] cut = network.articulationPoints();
+        assertArrayEquals(new boolean[] {false, false, true, true, false, true, false}, cut);
+
+        int[][] bridges = network.bridges();
+        assertEquals(1, bridges.length);
+        assertEquals(2, Math.min(bridges[0][0], bridges[0][1]));
+        assertEquals(3, Math.max(bridges[0][0], bridges[0][1]));
+    }
+}
@@ -0,0 +1,122 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link NetworkBuilder} class.
+ * <p>
+ * Checks that bulk-built networks behave exactly like incrementally built ones.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class NetworkBuilderTest {
+
+    /**
+     * Tests that a built network matches one assembled with addVertex/addEdge.
+     */
+    @Test
+    void testMatchesIncrementalNetwork() {
+        String[] names = {"A", "B", "C", "D", "E"};
+        int[][] edges = {{0, 1}, {1, 2}, {0, 3}, {3, 4}, {2, 4}, {1, 4}};
+        double[] weights = {2, 3, 7, 1, 1, 5};
+
+        NetworkBuilder<String> builder = new NetworkBuilder<>(names.length, edges.length);
+        NetworkList<String> incremental = new NetworkList<>();
+        for (String name : names) {
+            builder.addVertex(name);
+            incremental.addVertex(name);
+        }
+        for (int e = 0; e < edges.length; e++) {
+            builder.addEdge(edges[e][0], edges[e][1], weights[e]);
+            incremental.addEdge(names[edges[e][0]], names[edges[e][1]], weights[e]);
+        }
+        assertEquals(5, builder.vertexCount());
+        assertEquals(6, builder.edgeCount());
+
+        NetworkList<String> built = builder.build();
+        assertEquals(incremental.size(), built.size());
+        assertEquals(incremental.toString(), built.toString());
+
+        for (String from : names) {
+            assertSameOrder(incremental.iteratorBFS(from), built.iteratorBFS(from));
+            assertSameOrder(incremental.iteratorDFS(from), built.iteratorDFS(from));
+            for (String to : names) {
+                assertEquals(incremental.shortestPathWeight(from, to), built.shortestPathWeight(from, to));
+            }
+        }
+    }
+
+    /**
+     * Tests that estimates may be exceeded and the built network stays mutable.
+     */
+    @Test
+    void testGrowsBeyondEstimatesAndStaysMutable() {
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(0, 0);
+        for (int i = 0; i < 25; i++) {
+            builder.addVertex(i);
+            if (i > 0) builder.addEdge(i - 1, i, 1.0);
+        }
+
+        NetworkList<Integer> network = builder.build();
+        assertEquals(25, network.size());
+        assertEquals(24.0, network.shortestPathWeight(0, 24));
+
+        network.addVertex(25);
+        network.addEdge(0, 25, 1.0);
+        network.addEdge(25, 24, 1.0);
+        assertEquals(2.0, network.shortestPathWeight(0, 24));
+        assertTrue(network.isConnected());
+    }
+
+    /**
+     * Tests invalid arguments and reuse after building.
+     */
+    @Test
+    void testInvalidUse() {
+        assertThrows(IllegalArgumentException.class, () -> new NetworkBuilder<String>(-1, 0));
+
+        NetworkBuilder<String> builder = new NetworkBuilder<>(2, 1);
+        builder.addVertex("A");
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 1, 1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.getVertex(3));
+
+        builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.addVertex("B"));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private static <T> void assertSameOrder(Iterator<T> expected, Iterator<T> actual) {
+        while (expected.hasNext()) {
+            assertTrue(actual.hasNext(), "Iterador terminou cedo");
+            assertEquals(expected.next(), actual.next());
+        }
+        assertFalse(actual.hasNext(), "Iterador tem elementos a mais");
+    }
+
+    /**
+     * Tests that arcs added through the builder keep their direction.
+     */
+    @Test
+    void testArcs() {
+        NetworkBuilder<String> builder = new NetworkBuilder<>(3, 2);
+        builder.addVertex("A");
+        builder.addVertex("B");
+        builder.addVertex("C");
+        builder.addArc(0, 1, 1.0);
+        builder.addEdge(1, 2, 1.0);
+
+        NetworkList<String> network = builder.build();
+        assertTrue(network.hasArcs());
+        assertEquals(2.0, network.shortestPathWeight("A", "C"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("C", "A"));
+        assertEquals(2.0, network.shortestPathTreeTo("C").distanceTo("A"));
+    }
+}
@@ -0,0 +1,122 @@
+package structures.graph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link NetworkExporter} class.
+ * <p>
+ * Tests DOT, GraphML and edge-list output, including escaping.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class NetworkExporterTest {
+
+    private NetworkList<String> network;
+
+    @BeforeEach
+    void setUp() {
+        network = new NetworkList<>();
+        network.addVertex("A");
+        network.addVertex("B \"x\"");
+        network.addVertex("C & <D>");
+        network.addEdge("A", "B \"x\"", 2.0);
+        network.addEdge("B \"x\"", "C & <D>", 3.5);
+        network.addEdge("A", "A", 1.0);
+    }
+
+    private String export(NetworkExporter.Format format) throws IOException {
+        StringWriter out = new StringWriter();
+        NetworkExporter.write(network, format, out);
+        return out.toString();
+    }
+
+    private static int count(String text, String token) {
+        int n = 0;
+        for (int i = text.indexOf(token); i != -1; i = text.indexOf(token, i + 1)) n++;
+        return n;
+    }
+
+    /**
+     * Tests DOT output: one line per vertex and per undirected edge.
+     */
+    @Test
+    void testDot() throws IOException {
+        String dot = export(NetworkExporter.Format.DOT);
+
+        assertTrue(dot.startsWith("graph G {"));
+        assertTrue(dot.contains("n1 [label=\"B \\\"x\\\"\"];"));
+        assertTrue(dot.contains("n0 -- n1 [weight=2.0];"));
+        assertTrue(dot.contains("n1 -- n2 [weight=3.5];"));
+        assertEquals(3, count(dot, " -- "), "Cada aresta deve aparecer uma vez");
+    }
+
+    /**
+     * Tests GraphML output and XML escaping.
+     */
+    @Test
+    void testGraphML() throws IOException {
+        String xml = export(NetworkExporter.Format.GRAPHML);
+
+        assertTrue(xml.contains("<graph id=\"G\" edgedefault=\"undirected\">"));
+        assertTrue(xml.contains("C &amp; &lt;D&gt;"));
+        assertEquals(3, count(xml, "<node "));
+        assertEquals(3, count(xml, "<edge "));
+        assertTrue(xml.trim().endsWith("</graphml>"));
+    }
+
+    /**
+     * Tests edge-list output through a byte stream.
+     */
+    @Test
+    void testEdgeListToStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NetworkExporter.write(network, NetworkExporter.Format.EDGE_LIST, bytes);
+        String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\\R");
+
+        assertEquals(3, lines.length);
+        assertEquals("A\tB \"x\"\t2.0", lines[0]);
+        assertEquals("A\tA\t1.0", lines[1]);
+        assertEquals("B \"x\"\tC & <D>\t3.5", lines[2]);
+    }
+
+    /**
+     * Tests that line breaks, tabs and backslashes in labels cannot break the DOT
+     * string or the edge-list lines and columns.
+     */
+    @Test
+    void testLabelsWithControlCharacters() throws IOException {
+        network.addVertex("L1\nL2\tX\\");
+        network.addEdge("A", "L1\nL2\tX\\", 1.5);
+
+        String dot = export(NetworkExporter.Format.DOT);
+        assertTrue(dot.contains("n3 [label=\"L1\\nL2\tX\\\\\"];"));
+
+        String[] lines = export(NetworkExporter.Format.EDGE_LIST).split("\\R");
+        assertEquals(4, lines.length);
+        assertEquals("A\tL1\\nL2\\tX\\\\\t1.5", lines[2]);
+    }
+
+    /**
+     * Tests that arcs turn the DOT output into a digraph.
+     */
+    @Test
+    void testDotWithArcs() throws IOException {
+        network.addArc("C & <D>", "A", 4.0);
+        String dot = export(NetworkExporter.Format.DOT);
+
+        assertTrue(dot.startsWith("digraph G {"));
+        assertTrue(dot.contains("n2 -> n0 [weight=4.0];"));
+        assertTrue(dot.contains("n0 -> n1 [weight=2.0, dir=none];"));
+        assertTrue(export(NetworkExporter.Format.GRAPHML).contains("directed=\"true\""));
+    }
+}
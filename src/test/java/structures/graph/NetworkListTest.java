@@ -1,10 +1,12 @@
 package structures.graph;
 
 import java.util.Iterator;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,4 +173,186 @@ class NetworkListTest {
         assertTrue(str.contains("B"));
         assertTrue(str.contains("2.5"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that reordering preserves edge weights and shortest paths.
+     */
+    @Test
+    void testReorderPreservesWeights() {
+        network.addVertex("A");
+        network.addVertex("C");
+        network.addVertex("B");
+        network.addVertex("D");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 2.0);
+        network.addEdge("A", "C", 10.0);
+        network.addEdge("C", "D", 0.5);
+
+        double before = network.shortestPathWeight("A", "D");
+        int[] order = network.reorderRCM();
+
+        assertEquals(4, order.length);
+        assertEquals(before, network.shortestPathWeight("A", "D"));
+        assertEquals(3.5, network.shortestPathWeight("A", "D"));
+
+        network.reorderBFS();
+        Iterator<String> path = network.iteratorShortestPath("A", "D");
+        assertEquals("A", path.next());
+        assertEquals("B", path.next());
+        assertEquals("C", path.next());
+        assertEquals("D", path.next());
+        assertFalse(path.hasNext());
+    }
+
+    /**
+     * Tests that repeated queries reusing scratch buffers stay correct,
+     * including after the network grows between queries.
+     */
+    @Test
+    void testRepeatedShortestPathQueries() {
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2.0, network.shortestPathWeight("A", "B"));
+            assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+            assertFalse(network.iteratorShortestPath("A", "C").hasNext());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            network.addVertex("X" + i);
+        }
+        network.addEdge("B", "X19", 1.0);
+        network.addEdge("X19", "C", 1.0);
+
+        assertEquals(4.0, network.shortestPathWeight("A", "C"));
+        Iterator<String> path = network.iteratorShortestPath("A", "C");
+        assertEquals("A", path.next());
+        assertEquals("B", path.next());
+        assertEquals("X19", path.next());
+        assertEquals("C", path.next());
+        assertFalse(path.hasNext());
+    }
+
+    /**
+     * Tests that one-way arcs are only followed in their direction and can be removed.
+     */
+    @Test
+    void testOneWayArcs() {
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addArc("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+
+        assertTrue(network.hasArcs());
+        assertEquals(2.0, network.shortestPathWeight("A", "C"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("C", "A"));
+        assertFalse(network.getNeighbors("B").next().equals("A"));
+
+        network.reorderRCM();
+        assertEquals(2.0, network.shortestPathWeight("A", "C"));
+
+        network.removeEdge("A", "B");
+        assertFalse(network.hasArcs());
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+
+        network.addArc("C", "A", 3.0);
+        network.removeVertex("A");
+        assertFalse(network.hasArcs());
+        assertEquals(1.0, network.shortestPathWeight("B", "C"));
+    }
+
+    /**
+     * Tests that every search strategy finds the same distances on a random network
+     * with integer weights, one-way arcs and unreachable vertices.
+     */
+    @Test
+    void testSearchStrategiesAgree() {
+        NetworkList<Integer> random = new NetworkList<>();
+        Random rnd = new Random(7L);
+        int n = 120;
+        for (int i = 0; i < n; i++) random.addVertex(i);
+        for (int e = 0; e < 300; e++) {
+            int a = rnd.nextInt(n - 10);
+            int b = rnd.nextInt(n - 10);
+            if (e % 5 == 0) {
+                random.addArc(a, b, rnd.nextInt(1000));
+            } else {
+                random.addEdge(a, b, rnd.nextInt(1000));
+            }
+        }
+        assertTrue(random.hasIntegralWeights());
+
+        for (int q = 0; q < 60; q++) {
+            int s = rnd.nextInt(n);
+            int t = rnd.nextInt(n);
+            random.setSearchStrategy(SearchStrategy.LINEAR_SCAN);
+            double expected = random.shortestPathWeight(s, t);
+            random.setSearchStrategy(SearchStrategy.BINARY_HEAP);
+            assertEquals(expected, random.shortestPathWeight(s, t), "Heap binário deve concordar");
+            random.setSearchStrategy(SearchStrategy.RADIX_HEAP);
+            assertEquals(expected, random.shortestPathWeight(s, t), "Radix heap deve concordar");
+
+            Iterator<Integer> path = random.iteratorShortestPath(s, t);
+            assertEquals(expected == Double.POSITIVE_INFINITY, !path.hasNext());
+        }
+    }
+
+    /**
+     * Tests that the radix heap strategy is refused for fractional weights and is
+     * dropped when a fractional edge is added later.
+     */
+    @Test
+    void testRadixHeapRequiresIntegralWeights() {
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        assertEquals(SearchStrategy.LINEAR_SCAN, network.getSearchStrategy());
+
+        network.setSearchStrategy(SearchStrategy.RADIX_HEAP);
+        assertEquals(2.0, network.shortestPathWeight("A", "B"));
+
+        network.addEdge("B", "C", 0.5);
+        assertEquals(SearchStrategy.BINARY_HEAP, network.getSearchStrategy(),
+                "Peso fracionário deve voltar ao heap binário");
+        assertEquals(2.5, network.shortestPathWeight("A", "C"));
+
+        assertFalse(network.hasIntegralWeights());
+        assertThrows(IllegalArgumentException.class, () -> network.setSearchStrategy(SearchStrategy.RADIX_HEAP));
+        assertThrows(IllegalArgumentException.class, () -> network.setSearchStrategy(null));
+    }
+
+    /**
+     * Tests that the vertex and edge streams report every vertex and connection
+     * once, sequentially and in parallel.
+     */
+    @Test
+    void testVertexAndEdgeStreams() {
+        NetworkList<Integer> grid = new NetworkList<>();
+        int n = 500;
+        for (int i = 0; i < n; i++) grid.addVertex(i);
+        for (int i = 0; i + 1 < n; i++) grid.addEdge(i, i + 1, 2.0);
+        grid.addArc(0, n - 1, 5.0);
+        grid.addEdge(7, 7, 1.0);
+
+        assertEquals(n, grid.vertices().count());
+        assertEquals((long) n * (n - 1) / 2, grid.vertices().parallel().mapToLong(Integer::longValue).sum());
+
+        assertEquals(n + 1, grid.edges().count(), "Cada ligação deve aparecer uma vez");
+        assertEquals(grid.edges().mapToDouble(GraphEdge::getWeight).sum(),
+                grid.edges().parallel().mapToDouble(GraphEdge::getWeight).sum());
+        assertEquals(1, grid.edges().parallel().filter(GraphEdge::isOneWay).count());
+        GraphEdge<Integer> arc = grid.edges().filter(GraphEdge::isOneWay).findFirst().orElseThrow();
+        assertEquals(0, arc.getSource());
+        assertEquals(n - 1, arc.getTarget());
+
+        java.util.Spliterator<Integer> rest = grid.vertices().spliterator();
+        java.util.Spliterator<Integer> prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(n, prefix.estimateSize() + rest.estimateSize());
+    }
+}
@@ -0,0 +1,137 @@
+package structures.graph;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark for the row-wise min/plus relaxation used by {@link Network}.
+ * <p>
+ * Builds dense networks (every room connected to every other) and compares a full
+ * Dijkstra sweep using the original per-vertex branching relaxation against
+ * {@link Network#relaxRow}. Not a unit test; run with
+ * {@code gradle benchmark -PbenchClass=structures.graph.NetworkRelaxationBenchmark --args="2000 5000"}.
+ * A 5000-room matrix needs roughly 400 MB of heap.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class NetworkRelaxationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Entry point.
+     *
+     * @param args room counts to benchmark (defaults to 2000 and 5000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {2000, 5000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        for (int n : sizes) {
+            Network<Integer> network = denseNetwork(n, 42L);
+
+            double checksum = 0;
+            for (int r = 0; r < WARMUP_ROUNDS; r++) {
+                checksum += branchingSweep(network) + rowSweep(network);
+            }
+
+            long branching = 0;
+            long row = 0;
+            for (int r = 0; r < MEASURED_ROUNDS; r++) {
+                long t0 = System.nanoTime();
+                checksum += branchingSweep(network);
+                long t1 = System.nanoTime();
+                checksum += rowSweep(network);
+                long t2 = System.nanoTime();
+                branching += t1 - t0;
+                row += t2 - t1;
+            }
+
+            System.out.printf("n=%d  branching=%.2f ms  row-relax=%.2f ms  speedup=%.2fx  (checksum %.1f)%n",
+                    n, branching / 1e6 / MEASURED_ROUNDS, row / 1e6 / MEASURED_ROUNDS,
+                    (double) branching / row, checksum);
+        }
+    }
+
+    /**
+     * Builds a complete network with random integer weights, writing the matrix
+     * directly to avoid the quadratic vertex lookups of addEdge.
+     */
+    private static Network<Integer> denseNetwork(int n, long seed) {
+        Network<Integer> network = new Network<>();
+        for (int i = 0; i < n; i++) {
+            network.addVertex(i);
+        }
+        Random rnd = new Random(seed);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double w = 1 + rnd.nextInt(100);
+                network.adjMatrix[i][j] = w;
+                network.adjMatrix[j][i] = w;
+            }
+        }
+        return network;
+    }
+
+    /** Full single-source sweep with the original branching relaxation. */
+    private static double branchingSweep(Network<Integer> network) {
+        int n = network.numVertices;
+        double[][] adj = network.adjMatrix;
+        double[] dist = initialDistances(n);
+        boolean[] visited = new boolean[n];
+
+        for (int i = 0; i < n; i++) {
+            int u = nextVertex(dist, visited, n);
+            if (u == -1) break;
+            visited[u] = true;
+            for (int v = 0; v < n; v++) {
+                if (!visited[v] && adj[u][v] < Double.POSITIVE_INFINITY) {
+                    if (dist[u] + adj[u][v] < dist[v]) {
+                        dist[v] = dist[u] + adj[u][v];
+                    }
+                }
+            }
+        }
+        return dist[n - 1];
+    }
+
+    /** Full single-source sweep using {@link Network#relaxRow}. */
+    private static double rowSweep(Network<Integer> network) {
+        int n = network.numVertices;
+        double[][] adj = network.adjMatrix;
+        double[] dist = initialDistances(n);
+        boolean[] visited = new boolean[n];
+
+        for (int i = 0; i < n; i++) {
+            int u = nextVertex(dist, visited, n);
+            if (u == -1) break;
+            visited[u] = true;
+            Network.relaxRow(dist, dist[u], adj[u], n);
+        }
+        return dist[n - 1];
+    }
+
+    private static double[] initialDistances(int n) {
+        double[] dist = new double[n];
+        for (int i = 1; i < n; i++) {
+            dist[i] = Double.POSITIVE_INFINITY;
+        }
+        return dist;
+    }
+
+    private static int nextVertex(double[] dist, boolean[] visited, int n) {
+        int u = -1;
+        double min = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < n; j++) {
+            if (!visited[j] && dist[j] < min) {
+                min = dist[j];
+                u = j;
+            }
+        }
+        return u;
+    }
+}
@@ -226,4 +226,27 @@ class NetworkTest {
 
         assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "Z"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests all-pairs shortest path weights against single-source Dijkstra.
+     */
+    @Test
+    void testAllPairsShortestPathWeights() {
+        Network<String> net = new Network<>();
+        net.addVertex("A");
+        net.addVertex("B");
+        net.addVertex("C");
+        net.addVertex("D");
+        net.addEdge("A", "B", 1.0);
+        net.addEdge("B", "C", 2.0);
+        net.addEdge("A", "C", 10.0);
+
+        double[][] dist = net.allPairsShortestPathWeights();
+
+        assertEquals(0.0, dist[0][0]);
+        assertEquals(3.0, dist[0][2]);
+        assertEquals(3.0, dist[2][0]);
+        assertEquals(net.shortestPathWeight("B", "C"), dist[1][2]);
+        assertEquals(Double.POSITIVE_INFINITY, dist[0][3]);
+    }
+}
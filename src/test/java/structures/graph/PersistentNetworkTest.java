@@ -0,0 +1,173 @@
+package structures.graph;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PersistentNetwork} class.
+ * <p>
+ * Tests graph operations, snapshots, undo and redo.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class PersistentNetworkTest {
+
+    private PersistentNetwork<String> network;
+
+    @BeforeEach
+    void setUp() {
+        network = new PersistentNetwork<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        network.addEdge("B", "C", 3.0);
+    }
+
+    /**
+     * Tests basic graph queries on the current version.
+     */
+    @Test
+    void testGraphOperations() {
+        assertEquals(3, network.size());
+        assertEquals(2, network.edgeCount());
+        assertTrue(network.isConnected());
+        assertEquals(5.0, network.shortestPathWeight("A", "C"));
+
+        Iterator<String> path = network.iteratorShortestPath("A", "C");
+        assertEquals("A", path.next());
+        assertEquals("B", path.next());
+        assertEquals("C", path.next());
+        assertFalse(path.hasNext());
+
+        Iterator<String> bfs = network.iteratorBFS("B");
+        assertEquals("B", bfs.next());
+        bfs.next();
+        bfs.next();
+        assertFalse(bfs.hasNext());
+
+        network.removeVertex("B");
+        assertEquals(2, network.size());
+        assertEquals(0, network.edgeCount());
+        assertFalse(network.isConnected());
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+        assertEquals("AC", network.vertices().reduce("", String::concat));
+    }
+
+    /**
+     * Tests that edge labels are listed once per edge and follow undo, redo and removals.
+     */
+    @Test
+    void testEdgeLabelsAreVersioned() {
+        assertEquals(0, network.edgeLabels().count());
+
+        network.addEdge("C", "A", 1.0, "C-A");
+        network.addEdge("B", "B", 1.0, "B-B");
+        assertEquals("C-AB-B", network.edgeLabels().map(String.class::cast).reduce("", String::concat));
+
+        network.undo();
+        assertEquals("C-A", network.edgeLabels().map(String.class::cast).reduce("", String::concat));
+        network.removeEdge("A", "C");
+        assertEquals(0, network.edgeLabels().count());
+        network.undo();
+        network.redo();
+        assertEquals(0, network.edgeLabels().count());
+
+        network.addEdge("A", "C", 1.0, "A-C");
+        network.removeVertex("A");
+        assertEquals(0, network.edgeLabels().count());
+        network.undo();
+        assertEquals(1, network.edgeLabels().count());
+    }
+
+    /**
+     * Tests that snapshots keep their state after later edits and can be restored.
+     */
+    @Test
+    void testSnapshotsAreImmutable() {
+        PersistentNetwork.Version<String> before = network.snapshot();
+        network.removeEdge("A", "B");
+        network.addVertex("D");
+
+        assertEquals(3, before.size());
+        assertEquals(2, before.edgeCount());
+        assertFalse(before.containsVertex("D"));
+        assertTrue(network.containsVertex("D"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+
+        network.restore(before);
+        assertEquals(5.0, network.shortestPathWeight("A", "C"));
+        assertFalse(network.containsVertex("D"));
+
+        assertTrue(network.undo(), "Restaurar deve poder ser desfeito");
+        assertTrue(network.containsVertex("D"));
+        assertThrows(IllegalArgumentException.class, () -> network.restore(null));
+    }
+
+    /**
+     * Tests undo and redo, and that a new edit clears the redo history.
+     */
+    @Test
+    void testUndoRedo() {
+        network.addEdge("A", "C", 1.0);
+        assertEquals(1.0, network.shortestPathWeight("A", "C"));
+
+        assertTrue(network.undo());
+        assertEquals(5.0, network.shortestPathWeight("A", "C"));
+        assertTrue(network.canRedo());
+
+        assertTrue(network.redo());
+        assertEquals(1.0, network.shortestPathWeight("A", "C"));
+
+        network.undo();
+        network.addVertex("D");
+        assertFalse(network.canRedo(), "Nova edição deve limpar o refazer");
+
+        int steps = 0;
+        while (network.undo()) steps++;
+        assertEquals(6, steps);
+        assertTrue(network.isEmpty());
+        assertFalse(network.canUndo());
+    }
+
+    /**
+     * Tests that edits which change nothing are not recorded.
+     */
+    @Test
+    void testNoOpEditsAreNotRecorded() {
+        PersistentNetwork.Version<String> before = network.snapshot();
+        network.addVertex("A");
+        network.addEdge("A", "Z", 1.0);
+        network.removeEdge("A", "C");
+        network.removeVertex("Z");
+        assertTrue(before == network.snapshot());
+    }
+
+    /**
+     * Tests that many versions stay consistent across trie levels.
+     */
+    @Test
+    void testLargeHistory() {
+        PersistentNetwork<Integer> big = new PersistentNetwork<>();
+        for (int i = 0; i < 2000; i++) {
+            big.addVertex(i);
+            if (i > 0) big.addEdge(i - 1, i, 1.0);
+        }
+        PersistentNetwork.Version<Integer> chain = big.snapshot();
+        big.removeVertex(1000);
+
+        assertEquals(Double.POSITIVE_INFINITY, big.shortestPathWeight(0, 1999));
+        assertEquals(1999, big.size());
+        big.restore(chain);
+        assertEquals(1999.0, big.shortestPathWeight(0, 1999));
+        assertTrue(big.isConnected());
+    }
+}
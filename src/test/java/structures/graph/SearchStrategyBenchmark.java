@@ -0,0 +1,111 @@
+package structures.graph;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark comparing the {@link SearchStrategy} options of {@link NetworkList}.
+ * <p>
+ * Builds sparse grid mazes with random integer corridor costs (1 to 20, like the
+ * "custo" values of the maps) and times the same batch of point-to-point queries
+ * with the binary heap and the radix heap; the linear scan is included only for
+ * small mazes. Not a unit test; run with
+ * {@code gradle benchmark -PbenchClass=structures.graph.SearchStrategyBenchmark --args="10000 100000"}.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+public class SearchStrategyBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int QUERIES = 200;
+    private static final int MAX_SCAN_ROOMS = 5000;
+
+    /**
+     * Entry point.
+     *
+     * @param args room counts to benchmark (defaults to 10000 and 100000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {10000, 100000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        for (int n : sizes) {
+            NetworkList<Integer> network = gridNetwork(n, 42L);
+            int[][] queries = queries(network.numVertices, 7L);
+
+            StringBuilder line = new StringBuilder("n=" + network.numVertices);
+            double checksum = 0;
+            double heapTime = 0;
+            for (SearchStrategy strategy : SearchStrategy.values()) {
+                if (strategy == SearchStrategy.LINEAR_SCAN && network.numVertices > MAX_SCAN_ROOMS) continue;
+                network.setSearchStrategy(strategy);
+
+                for (int r = 0; r < WARMUP_ROUNDS; r++) {
+                    checksum += run(network, queries);
+                }
+                long total = 0;
+                for (int r = 0; r < MEASURED_ROUNDS; r++) {
+                    long t0 = System.nanoTime();
+                    checksum += run(network, queries);
+                    total += System.nanoTime() - t0;
+                }
+
+                double ms = total / 1e6 / MEASURED_ROUNDS;
+                if (strategy == SearchStrategy.BINARY_HEAP) heapTime = ms;
+                line.append(String.format("  %s=%.2f ms", strategy, ms));
+                if (strategy == SearchStrategy.RADIX_HEAP) {
+                    line.append(String.format("  speedup=%.2fx", heapTime / ms));
+                }
+            }
+            System.out.println(line + String.format("  (checksum %.1f)", checksum));
+        }
+    }
+
+    /**
+     * Builds a square grid with random integer costs, plus a few long-range
+     * shortcuts, writing through the builder to avoid vertex lookups.
+     */
+    private static NetworkList<Integer> gridNetwork(int n, long seed) {
+        int side = Math.max(2, (int) Math.sqrt(n));
+        int vertices = side * side;
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(vertices, 2 * vertices + vertices / 50);
+        for (int i = 0; i < vertices; i++) {
+            builder.addVertex(i);
+        }
+
+        Random rnd = new Random(seed);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int v = row * side + col;
+                if (col + 1 < side) builder.addEdge(v, v + 1, 1 + rnd.nextInt(20));
+                if (row + 1 < side) builder.addEdge(v, v + side, 1 + rnd.nextInt(20));
+            }
+        }
+        for (int i = 0; i < vertices / 50; i++) {
+            builder.addEdge(rnd.nextInt(vertices), rnd.nextInt(vertices), 1 + rnd.nextInt(20));
+        }
+        return builder.build();
+    }
+
+    private static int[][] queries(int vertices, long seed) {
+        Random rnd = new Random(seed);
+        int[][] queries = new int[QUERIES][2];
+        for (int[] query : queries) {
+            query[0] = rnd.nextInt(vertices);
+            query[1] = rnd.nextInt(vertices);
+        }
+        return queries;
+    }
+
+    private static double run(NetworkList<Integer> network, int[][] queries) {
+        double sum = 0;
+        for (int[] query : queries) {
+            sum += network.shortestPathWeight(query[0], query[1], null, null);
+        }
+        return sum;
+    }
+}
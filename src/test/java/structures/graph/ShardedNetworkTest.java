@@ -0,0 +1,148 @@
+package structures.graph;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ShardedNetwork} class.
+ * <p>
+ * Compares routed queries against the unsharded {@link NetworkList}.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class ShardedNetworkTest {
+
+    private static final int SIDE = 10;
+
+    private NetworkList<Integer> network;
+    private ShardedNetwork<Integer> sharded;
+
+    @BeforeEach
+    void setUp() {
+        network = new NetworkList<>();
+        Random rnd = new Random(5);
+        for (int i = 0; i < SIDE * SIDE; i++) {
+            network.addVertex(i);
+        }
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) {
+                int v = r * SIDE + c;
+                if (c + 1 < SIDE) network.addEdge(v, v + 1, 1 + rnd.nextInt(5));
+                if (r + 1 < SIDE) network.addEdge(v, v + SIDE, 1 + rnd.nextInt(5));
+            }
+        }
+        sharded = new ShardedNetwork<>(network, 3);
+    }
+
+    /**
+     * Tests that shards hold every vertex once and cross edges leave border vertices.
+     */
+    @Test
+    void testShardsCoverNetwork() {
+        assertEquals(3, sharded.shardCount());
+        int total = 0;
+        for (int s = 0; s < 3; s++) {
+            total += sharded.shard(s).size();
+            assertTrue(sharded.shard(s).size() < SIDE * SIDE, "Cada shard guarda só parte das salas");
+        }
+        assertEquals(SIDE * SIDE, total);
+        assertTrue(sharded.cutEdges() > 0);
+        assertTrue(sharded.borderCount() > 0 && sharded.borderCount() <= 2 * sharded.cutEdges());
+        assertEquals(-1, sharded.shardOf(999));
+    }
+
+    /**
+     * Tests that neighbours include vertices of other shards.
+     */
+    @Test
+    void testNeighborsAcrossShards() {
+        for (int v = 0; v < SIDE * SIDE; v++) {
+            assertEquals(count(network.getNeighbors(v)), count(sharded.getNeighbors(v)), "Vizinhos de " + v);
+        }
+    }
+
+    /**
+     * Tests that stitched shortest paths match the unsharded search.
+     */
+    @Test
+    void testShortestPathsMatch() {
+        assertPathsMatch(network, sharded, 9);
+        assertFalse(sharded.iteratorShortestPath(0, 999).hasNext());
+    }
+
+    /**
+     * Tests that one-way arcs crossing shards are only followed forwards.
+     */
+    @Test
+    void testOneWayArcsAcrossShards() {
+        NetworkList<Integer> ring = new NetworkList<>();
+        int size = 12;
+        for (int i = 0; i < size; i++) {
+            ring.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            ring.addArc(i, (i + 1) % size, 1.0);
+        }
+        ring.addEdge(0, 6, 10.0);
+        ShardedNetwork<Integer> shardedRing = new ShardedNetwork<>(ring, 3);
+
+        assertEquals(size - 1.0, shardedRing.shortestPathWeight(1, 0));
+        assertEquals(1.0, shardedRing.shortestPathWeight(0, 1));
+        assertPathsMatch(ring, shardedRing, 3);
+    }
+
+    /**
+     * Tests that a single shard answers every query on its own.
+     */
+    @Test
+    void testSingleShard() {
+        ShardedNetwork<Integer> single = new ShardedNetwork<>(network, 1);
+        assertEquals(0, single.borderCount());
+        assertPathsMatch(network, single, 4);
+    }
+
+    private static void assertPathsMatch(NetworkList<Integer> network, ShardedNetwork<Integer> sharded, long seed) {
+        Random rnd = new Random(seed);
+        int n = network.size();
+        for (int q = 0; q < 100; q++) {
+            int s = rnd.nextInt(n);
+            int t = rnd.nextInt(n);
+            double expected = network.shortestPathWeight(s, t);
+            assertEquals(expected, sharded.shortestPathWeight(s, t), 1e-9);
+
+            Iterator<Integer> path = sharded.iteratorShortestPath(s, t);
+            int last = path.next();
+            assertEquals(s, last);
+            while (path.hasNext()) {
+                int next = path.next();
+                assertTrue(contains(network.getNeighbors(last), next), "Passo " + last + " -> " + next);
+                last = next;
+            }
+            assertEquals(t, last);
+        }
+    }
+
+    private static int count(Iterator<Integer> it) {
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean contains(Iterator<Integer> it, int value) {
+        while (it.hasNext()) {
+            if (it.next() == value) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package structures.graph;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ShortestPathTree} class.
+ * <p>
+ * Checks incremental repairs against a fresh Dijkstra on {@link NetworkList}.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class ShortestPathTreeTest {
+
+    private static final int SIZE = 60;
+
+    private NetworkList<Integer> network;
+
+    @BeforeEach
+    void setUp() {
+        network = new NetworkList<>();
+        for (int i = 0; i < SIZE; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i + 1 < SIZE; i++) {
+            network.addEdge(i, i + 1, 1.0);
+        }
+    }
+
+    /**
+     * Tests that random insertions keep every distance equal to Dijkstra.
+     */
+    @Test
+    void testInsertionsMatchDijkstra() {
+        ShortestPathTree<Integer> tree = network.shortestPathTree(0);
+        Random rnd = new Random(4);
+
+        for (int round = 0; round < 30; round++) {
+            int a = rnd.nextInt(SIZE);
+            int b = rnd.nextInt(SIZE);
+            network.addEdge(a, b, 0.5 + rnd.nextInt(4));
+
+            for (int v = 0; v < SIZE; v++) {
+                assertEquals(network.shortestPathWeight(0, v), tree.distanceTo(v), 1e-9, "Distância a " + v);
+            }
+        }
+    }
+
+    /**
+     * Tests that a tree on a radix-heap network matches Dijkstra through integral
+     * insertions and after a fractional one moves the network to the binary heap.
+     */
+    @Test
+    void testRadixStrategyRepairs() {
+        network.setSearchStrategy(SearchStrategy.RADIX_HEAP);
+        ShortestPathTree<Integer> tree = network.shortestPathTree(0);
+        Random rnd = new Random(8);
+
+        for (int round = 0; round < 20; round++) {
+            int a = rnd.nextInt(SIZE);
+            int b = rnd.nextInt(SIZE);
+            network.addEdge(a, b, round == 10 ? 0.5 : 1 + rnd.nextInt(4));
+
+            for (int v = 0; v < SIZE; v++) {
+                assertEquals(network.shortestPathWeight(0, v), tree.distanceTo(v), 1e-9, "Distância a " + v);
+            }
+        }
+        assertEquals(SearchStrategy.BINARY_HEAP, network.getSearchStrategy());
+    }
+
+    /**
+     * Tests that an edge far from the source only touches the affected region.
+     */
+    @Test
+    void testUpdateIsLocal() {
+        ShortestPathTree<Integer> tree = network.shortestPathTree(0);
+
+        network.addEdge(50, 55, 0.5);
+        assertEquals(7, tree.lastUpdateSize);
+        assertEquals(50.5, tree.distanceTo(55));
+        assertEquals(53.5, tree.distanceTo(58));
+
+        network.addEdge(3, 4, 5.0);
+        assertEquals(0, tree.lastUpdateSize);
+    }
+
+    /**
+     * Tests paths in both directions and vertices added after the tree.
+     */
+    @Test
+    void testPathsAndNewVertices() {
+        ShortestPathTree<Integer> tree = network.shortestPathTree(10);
+        network.addVertex(100);
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo(100));
+        assertFalse(tree.pathFrom(100).hasNext());
+
+        network.addEdge(100, 12, 1.0);
+        assertEquals(3.0, tree.distanceTo(100));
+
+        Iterator<Integer> from = tree.pathFrom(100);
+        assertEquals(100, from.next());
+        assertEquals(12, from.next());
+        assertEquals(11, from.next());
+        assertEquals(10, from.next());
+        assertFalse(from.hasNext());
+
+        Iterator<Integer> to = tree.pathTo(100);
+        assertEquals(10, to.next());
+        assertEquals(11, to.next());
+    }
+
+    /**
+     * Tests that removals and reorderings trigger a recomputation.
+     */
+    @Test
+    void testRemovalsRecompute() {
+        ShortestPathTree<Integer> tree = network.shortestPathTree(0);
+        network.addEdge(0, 30, 1.0);
+        assertEquals(1.0, tree.distanceTo(30));
+
+        network.removeEdge(0, 30);
+        assertEquals(30.0, tree.distanceTo(30));
+
+        network.reorderRCM();
+        assertEquals(30.0, tree.distanceTo(30));
+
+        network.removeVertex(15);
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo(30));
+        assertEquals(14.0, tree.distanceTo(14));
+    }
+
+    /**
+     * Tests that detached trees no longer follow the network.
+     */
+    @Test
+    void testDetach() {
+        ShortestPathTree<Integer> tree = network.shortestPathTree(0);
+        tree.detach();
+        tree.detach();
+
+        network.addEdge(0, 59, 1.0);
+        assertEquals(59.0, tree.distanceTo(59));
+        assertTrue(network.shortestPathWeight(0, 59) < 59.0);
+    }
+
+    /**
+     * Tests that reverse trees follow one-way arcs towards the root.
+     */
+    @Test
+    void testReverseTreeWithArcs() {
+        network.addArc(59, 0, 1.0);
+        ShortestPathTree<Integer> toZero = network.shortestPathTreeTo(0);
+        ShortestPathTree<Integer> fromZero = network.shortestPathTree(0);
+
+        assertEquals(1.0, toZero.distanceTo(59));
+        assertEquals(59.0, fromZero.distanceTo(59));
+
+        network.addArc(30, 59, 1.0);
+        assertEquals(2.0, toZero.distanceTo(30));
+        assertEquals(30.0, fromZero.distanceTo(30));
+
+        Iterator<Integer> route = toZero.pathFrom(30);
+        assertEquals(30, route.next());
+        assertEquals(59, route.next());
+        assertEquals(0, route.next());
+        assertFalse(route.hasNext());
+
+        for (int v = 0; v < SIZE; v++) {
+            assertEquals(network.shortestPathWeight(v, 0), toZero.distanceTo(v), 1e-9, "Distância de " + v);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package structures.hash;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link IntIntHashMap} class.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see IntIntHashMap
+ */
+class IntIntHashMapTest {
+
+    /**
+     * Tests put, get, removal and keys including zero and negative numbers.
+     */
+    @Test
+    void testOperations() {
+        IntIntHashMap map = new IntIntHashMap();
+        assertTrue(map.isEmpty());
+        assertEquals(IntIntHashMap.NO_VALUE, map.put(0, 10));
+        assertEquals(IntIntHashMap.NO_VALUE, map.put(-5, 20));
+        assertEquals(IntIntHashMap.NO_VALUE, map.put(Integer.MIN_VALUE, 30));
+        assertEquals(10, map.put(0, 11));
+        assertEquals(3, map.size());
+
+        assertEquals(11, map.get(0));
+        assertEquals(20, map.get(-5));
+        assertEquals(30, map.get(Integer.MIN_VALUE));
+        assertEquals(-1, map.get(7));
+        assertEquals(4, map.getOrDefault(7, 4));
+        assertFalse(map.containsKey(7));
+
+        assertEquals(20, map.remove(-5));
+        assertEquals(IntIntHashMap.NO_VALUE, map.remove(-5));
+        assertEquals(2, map.keys().length);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+    }
+
+    /**
+     * Tests that a long random sequence of operations matches java.util.HashMap.
+     */
+    @Test
+    void testAgreesWithHashMap() {
+        IntIntHashMap map = new IntIntHashMap(4);
+        HashMap<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(47);
+        for (int step = 0; step < 20000; step++) {
+            int key = random.nextInt(700) - 350;
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? -1 : expected, map.remove(key));
+            } else {
+                Integer expected = reference.put(key, step);
+                assertEquals(expected == null ? -1 : expected, map.put(key, step));
+            }
+            assertEquals(reference.size(), map.size());
+        }
+        for (int key = -350; key < 350; key++) {
+            assertEquals(reference.containsKey(key), map.containsKey(key));
+        }
+    }
+}
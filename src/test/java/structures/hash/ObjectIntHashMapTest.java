@@ -0,0 +1,74 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ObjectIntHashMap} class.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see ObjectIntHashMap
+ */
+class ObjectIntHashMapTest {
+
+    /**
+     * Tests put, putIfAbsent, lookups of missing keys and removal.
+     */
+    @Test
+    void testOperations() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        assertEquals(ObjectIntHashMap.NO_VALUE, map.put("a", 0));
+        assertEquals(0, map.get("a"));
+        assertEquals(0, map.putIfAbsent("a", 5), "Não substitui o valor existente");
+        assertEquals(0, map.get("a"));
+        assertEquals(0, map.put("a", 7));
+        assertEquals(7, map.get("a"));
+
+        assertEquals(-1, map.get("b"));
+        assertEquals(99, map.getOrDefault("b", 99));
+        assertFalse(map.containsKey("b"));
+        assertEquals(-1, map.get(null));
+
+        map.put("b", -1);
+        assertTrue(map.containsKey("b"), "containsKey distingue o valor -1 guardado");
+        assertEquals(-1, map.remove("b"));
+        assertEquals(ObjectIntHashMap.NO_VALUE, map.remove("b"));
+        assertEquals(1, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+    }
+
+    /**
+     * Tests growth, removal of half of the keys and the key iterator.
+     */
+    @Test
+    void testGrowthAndRemoval() {
+        ObjectIntHashMap<Integer> map = new ObjectIntHashMap<>(2);
+        for (int i = 0; i < 2000; i++) {
+            map.put(i * 31, i);
+        }
+        for (int i = 0; i < 2000; i += 2) {
+            assertEquals(i, map.remove(i * 31));
+        }
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i % 2 == 0 ? -1 : i, map.get(i * 31));
+        }
+
+        int keys = 0;
+        Iterator<Integer> it = map.keyIterator();
+        while (it.hasNext()) {
+            assertEquals(1, (it.next() / 31) % 2);
+            keys++;
+        }
+        assertEquals(1000, keys);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
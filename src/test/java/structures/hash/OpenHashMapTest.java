@@ -0,0 +1,152 @@
+package structures.hash;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link OpenHashMap} class.
+ * <p>
+ * Tests cover insertion, replacement, removal with backward shifting, growth,
+ * keys that collide on every probe and agreement with {@link java.util.HashMap}
+ * over a long random sequence of operations.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see OpenHashMap
+ */
+class OpenHashMapTest {
+
+    private OpenHashMap<String, Integer> map;
+
+    /**
+     * Creates an empty map before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        map = new OpenHashMap<>();
+    }
+
+    /**
+     * Key whose hash code is the same for every instance, forcing long probe runs.
+     */
+    private static final class Collider {
+        private final int id;
+
+        Collider(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    /**
+     * Tests put, get, replacement and removal.
+     */
+    @Test
+    void testBasicOperations() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertEquals(1, map.put("a", 10), "Devolve o valor anterior");
+        assertEquals(2, map.size());
+        assertEquals(10, map.get("a"));
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey("c"));
+        assertNull(map.get(null));
+
+        assertEquals(2, map.remove("b"));
+        assertNull(map.remove("b"));
+        assertEquals(1, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+    }
+
+    /**
+     * Tests growth past the initial capacity and the key and value iterators.
+     */
+    @Test
+    void testGrowthAndIterators() {
+        for (int i = 0; i < 1000; i++) {
+            map.put("k" + i, i);
+        }
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get("k" + i));
+        }
+
+        int keys = 0;
+        Iterator<String> keyIt = map.keyIterator();
+        Iterator<Integer> valueIt = map.valueIterator();
+        while (keyIt.hasNext()) {
+            String key = keyIt.next();
+            assertEquals(map.get(key), valueIt.next(), "Chaves e valores na mesma ordem");
+            keys++;
+        }
+        assertEquals(1000, keys);
+        assertFalse(valueIt.hasNext());
+    }
+
+    /**
+     * Tests that removals in a fully colliding run keep every other key reachable.
+     */
+    @Test
+    void testCollidingKeys() {
+        OpenHashMap<Collider, Integer> colliding = new OpenHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            colliding.put(new Collider(i), i);
+        }
+        for (int i = 0; i < 50; i += 3) {
+            assertEquals(i, colliding.remove(new Collider(i)));
+        }
+        for (int i = 0; i < 50; i++) {
+            if (i % 3 == 0) {
+                assertFalse(colliding.containsKey(new Collider(i)));
+            } else {
+                assertEquals(i, colliding.get(new Collider(i)));
+            }
+        }
+    }
+
+    /**
+     * Tests that a long random sequence of operations matches java.util.HashMap.
+     */
+    @Test
+    void testAgreesWithHashMap() {
+        OpenHashMap<Integer, Integer> open = new OpenHashMap<>(4);
+        HashMap<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(27);
+        for (int step = 0; step < 20000; step++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), open.remove(key));
+            } else {
+                assertEquals(reference.put(key, step), open.put(key, step));
+            }
+            assertEquals(reference.size(), open.size());
+        }
+        for (int key = 0; key < 500; key++) {
+            assertEquals(reference.get(key), open.get(key));
+        }
+    }
+}
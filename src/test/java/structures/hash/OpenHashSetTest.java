@@ -0,0 +1,73 @@
+package structures.hash;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link OpenHashSet} class.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see OpenHashSet
+ */
+class OpenHashSetTest {
+
+    private OpenHashSet<String> set;
+
+    /**
+     * Creates an empty set before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        set = new OpenHashSet<>();
+    }
+
+    /**
+     * Tests that duplicates are rejected and removals are reported.
+     */
+    @Test
+    void testAddContainsRemove() {
+        assertTrue(set.isEmpty());
+        assertTrue(set.add("lever1"));
+        assertFalse(set.add("lever1"), "Elemento repetido não é adicionado");
+        assertTrue(set.add("lever2"));
+        assertEquals(2, set.size());
+        assertTrue(set.contains("lever2"));
+        assertFalse(set.contains("lever3"));
+        assertFalse(set.contains(null));
+
+        assertTrue(set.remove("lever1"));
+        assertFalse(set.remove("lever1"));
+        assertEquals(1, set.size());
+        assertEquals("[lever2]", set.toString());
+        assertThrows(IllegalArgumentException.class, () -> set.add(null));
+    }
+
+    /**
+     * Tests iteration over every element after growth, and clearing.
+     */
+    @Test
+    void testIterationAndClear() {
+        for (int i = 0; i < 300; i++) {
+            set.add("r" + i);
+        }
+        int seen = 0;
+        Iterator<String> it = set.iterator();
+        while (it.hasNext()) {
+            assertTrue(it.next().startsWith("r"));
+            seen++;
+        }
+        assertEquals(300, seen);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+        assertTrue(set.add("r1"));
+    }
+}
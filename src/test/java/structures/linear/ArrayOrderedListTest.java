@@ -1,6 +1,7 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.RandomAccess;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
@@ -415,4 +417,171 @@ class ArrayOrderedListTest {
         
         assertTrue(list.isEmpty());
     }
+
+    /**
+     * Tests toArray and removeIf keeping the remaining elements sorted.
+     */
+    @Test
+    void testToArrayAndRemoveIf() {
+        list.add(5);
+        list.add(1);
+        list.add(3);
+        list.add(4);
+
+        Object[] all = list.toArray();
+        assertEquals(4, all.length);
+        assertEquals(1, all[0]);
+        assertEquals(5, all[3]);
+
+        assertTrue(list.removeIf(n -> n % 2 == 0));
+        assertEquals("[1, 3, 5]", list.toString());
+        list.add(2);
+        assertEquals("[1, 2, 3, 5]", list.toString());
+    }
+
+    /**
+     * Tests positional get, set and indexOf, and that set keeps the ordering.
+     */
+    @Test
+    void testIndexedAccess() {
+        list.add(30);
+        list.add(10);
+        list.add(20);
+
+        assertTrue(list instanceof RandomAccess);
+        assertEquals(10, list.get(0));
+        assertEquals(30, list.get(2));
+        assertEquals(1, list.indexOf(20));
+        assertEquals(-1, list.indexOf(15));
+
+        assertEquals(20, list.set(1, 25));
+        assertEquals("[10, 25, 30]", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.set(1, 40), "Não pode quebrar a ordem");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    /**
+     * Tests lookups and removals among duplicates and a larger list.
+     */
+    @Test
+    void testBinarySearchWithDuplicates() {
+        for (int i = 0; i < 100; i++) {
+            list.add((i * 37) % 50);
+        }
+        assertEquals(100, list.size());
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i), "Lista deve continuar ordenada");
+        }
+
+        assertEquals(0, list.indexOf(0));
+        assertEquals(2, list.indexOf(1), "Devolve a primeira ocorrência");
+        assertEquals(-1, list.indexOf(50));
+        assertTrue(list.contains(49));
+
+        assertEquals(7, list.remove(7));
+        assertEquals(7, list.remove(7));
+        assertFalse(list.contains(7));
+        assertEquals(98, list.size());
+        assertEquals(0, list.removeFirst());
+        assertEquals(0, list.first());
+    }
+
+    /**
+     * Tests the bulk sorted load from another list and merging into existing contents.
+     */
+    @Test
+    void testBulkLoad() {
+        ArrayUnorderedList<Integer> source = new ArrayUnorderedList<>();
+        for (int n : new int[] {9, 2, 7, 4, 5}) {
+            source.addToRear(n);
+        }
+
+        ArrayOrderedList<Integer> loaded = new ArrayOrderedList<>(source);
+        assertEquals("[2, 4, 5, 7, 9]", loaded.toString());
+
+        list.add(3);
+        list.add(8);
+        list.addAll(source);
+        assertEquals("[2, 3, 4, 5, 7, 8, 9]", list.toString());
+        list.add(6);
+        assertEquals(6, list.get(4));
+
+        ArrayUnorderedList<Object> mixed = new ArrayUnorderedList<>();
+        mixed.addToRear(new Object());
+        ArrayOrderedList<Object> objects = new ArrayOrderedList<>();
+        assertThrows(IllegalArgumentException.class, () -> objects.addAll(mixed));
+    }
+
+    /**
+     * Tests that add and addAll place elements that compare as equal in the
+     * same order: after the ones already present, in the order they arrive.
+     */
+    @Test
+    void testEqualElementsKeepInsertionOrder() {
+        ArrayUnorderedList<Ranked> source = new ArrayUnorderedList<>();
+        source.addToRear(new Ranked(2, "c"));
+        source.addToRear(new Ranked(1, "d"));
+        source.addToRear(new Ranked(2, "e"));
+
+        ArrayOrderedList<Ranked> oneByOne = new ArrayOrderedList<>();
+        ArrayOrderedList<Ranked> merged = new ArrayOrderedList<>();
+        oneByOne.add(new Ranked(2, "a"));
+        oneByOne.add(new Ranked(1, "b"));
+        merged.add(new Ranked(2, "a"));
+        merged.add(new Ranked(1, "b"));
+
+        for (Ranked element : source) {
+            oneByOne.add(element);
+        }
+        merged.addAll(source);
+
+        assertEquals("[b, d, a, c, e]", oneByOne.toString());
+        assertEquals(oneByOne.toString(), merged.toString(), "addAll deve seguir a mesma regra de empate que add");
+    }
+
+    /**
+     * Element ordered by rank only, so different names can compare as equal.
+     */
+    private static final class Ranked implements Comparable<Ranked> {
+        private final int rank;
+        private final String name;
+
+        Ranked(int rank, String name) {
+            this.rank = rank;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(Ranked other) {
+            return Integer.compare(rank, other.rank);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Tests that iterators fail fast after a structural change and that
+     * iterator remove keeps the list ordered.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 5; i >= 1; i--) list.add(i);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 1) it.remove();
+        }
+        assertEquals(2, list.size());
+        assertEquals(2, list.first());
+        assertEquals(4, list.last());
+        assertThrows(IllegalStateException.class, it::remove);
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.remove(4);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
 }
@@ -1,6 +1,7 @@
 package structures.linear;
 
 import java.util.Iterator;
+import java.util.RandomAccess;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.NoSuchElementException;
 
 /**
@@ -148,4 +150,159 @@ class ArrayUnorderedListTest {
         list.addToRear(2);
         assertEquals("[1, 2]", list.toString());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests operations while the elements wrap around the end of the array.
+     */
+    @Test
+    void testWrapAround() {
+        ArrayUnorderedList<Integer> ring = new ArrayUnorderedList<>(4);
+        ring.addToRear(2);
+        ring.addToRear(3);
+        ring.addToFront(1);
+        ring.addToFront(0);
+        assertEquals("[0, 1, 2, 3]", ring.toString());
+
+        ring.addToRear(4);
+        assertEquals("[0, 1, 2, 3, 4]", ring.toString(), "Crescer deve manter a ordem");
+
+        assertEquals(0, ring.removeFirst());
+        assertEquals(1, ring.removeFirst());
+        ring.addToRear(5);
+        ring.addToRear(6);
+        ring.addToRear(7);
+        ring.addToRear(8);
+        assertEquals("[2, 3, 4, 5, 6, 7, 8]", ring.toString());
+
+        ring.addAfter(9, 2);
+        ring.addAfter(10, 7);
+        assertEquals("[2, 9, 3, 4, 5, 6, 7, 10, 8]", ring.toString());
+
+        assertEquals(9, ring.remove(9));
+        assertEquals(10, ring.remove(10));
+        assertEquals(2, ring.first());
+        assertEquals(8, ring.last());
+
+        int expected = 2;
+        Iterator<Integer> it = ring.iterator();
+        while (it.hasNext()) {
+            assertEquals(expected++, it.next());
+        }
+        assertEquals(9, expected);
+        assertEquals(8, ring.removeLast());
+        assertEquals(6, ring.size());
+    }
+
+    /**
+     * Tests that a long run of front/rear operations keeps FIFO order.
+     */
+    @Test
+    void testQueueUsage() {
+        for (int i = 0; i < 1000; i++) {
+            list.addToRear(i);
+            if (i % 3 == 2) list.removeFirst();
+        }
+        assertEquals(667, list.size());
+        assertEquals(333, list.first());
+        assertEquals(999, list.last());
+    }
+
+    /**
+     * Tests bulk appends from wrapped array lists, from linked lists and from itself.
+     */
+    @Test
+    void testAddAll() {
+        ArrayUnorderedList<Integer> source = new ArrayUnorderedList<>(4);
+        source.addToRear(3);
+        source.addToRear(4);
+        source.addToFront(2);
+        source.addToFront(1);
+
+        list.addToFront(0);
+        list.addAll(source);
+        assertEquals("[0, 1, 2, 3, 4]", list.toString());
+
+        LinkedUnorderedList<Integer> linked = new LinkedUnorderedList<>();
+        linked.addToRear(5);
+        linked.addToRear(6);
+        list.addAll(linked);
+        assertEquals("[0, 1, 2, 3, 4, 5, 6]", list.toString());
+
+        source.addAll(source);
+        assertEquals("[1, 2, 3, 4, 1, 2, 3, 4]", source.toString(), "Juntar a si própria duplica a lista");
+    }
+
+    /**
+     * Tests toArray, removeIf and retainAll.
+     */
+    @Test
+    void testToArrayRemoveIfRetainAll() {
+        for (int i = 0; i < 10; i++) list.addToRear(i);
+        list.removeFirst();
+        list.addToRear(10);
+
+        Object[] all = list.toArray();
+        assertEquals(10, all.length);
+        assertEquals(1, all[0]);
+        assertEquals(10, all[9]);
+
+        Integer[] typed = list.toArray(new Integer[0]);
+        assertEquals(10, typed.length);
+        assertEquals(10, typed[9]);
+
+        assertTrue(list.removeIf(n -> n % 2 == 0));
+        assertEquals("[1, 3, 5, 7, 9]", list.toString());
+        assertFalse(list.removeIf(n -> n > 100));
+
+        ArrayUnorderedList<Integer> keep = new ArrayUnorderedList<>();
+        keep.addToRear(9);
+        keep.addToRear(3);
+        assertTrue(list.retainAll(keep));
+        assertEquals("[3, 9]", list.toString());
+        list.addToRear(11);
+        assertEquals(11, list.last());
+    }
+
+    /**
+     * Tests positional get, set and indexOf across the wrap-around point.
+     */
+    @Test
+    void testIndexedAccess() {
+        for (int i = 1; i <= 4; i++) list.addToRear(i);
+        list.addToFront(0);
+        list.addToFront(-1);
+
+        assertTrue(list instanceof RandomAccess);
+        assertEquals(-1, list.get(0));
+        assertEquals(4, list.get(5));
+        assertEquals(2, list.indexOf(1));
+        assertEquals(-1, list.indexOf(99));
+
+        assertEquals(0, list.set(1, 10));
+        assertEquals("[-1, 10, 1, 2, 3, 4]", list.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+    }
+
+    /**
+     * Tests that iterators fail fast after a structural change and that
+     * iterator remove drops elements in place, including across the wrap-around.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 1; i <= 4; i++) list.addToRear(i);
+        list.addToFront(0);
+
+        Iterator<Integer> it = list.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) it.remove();
+        }
+        assertEquals("[1, 3]", list.toString());
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.addToRear(5);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+}
@@ -0,0 +1,146 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exceptions.ElementNotFoundException;
+
+/**
+ * Unit tests for the {@link ConcurrentSkipListOrderedList} class.
+ * <p>
+ * Tests cover the ordered list contract on a single thread and concurrent
+ * writers adding and removing elements at the same time.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see ConcurrentSkipListOrderedList
+ */
+class ConcurrentSkipListOrderedListTest {
+
+    private ConcurrentSkipListOrderedList<Integer> list;
+
+    /**
+     * Creates an empty list before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        list = new ConcurrentSkipListOrderedList<>();
+    }
+
+    /**
+     * Tests the ordered list operations on a single thread.
+     */
+    @Test
+    void testSingleThread() {
+        assertTrue(list.isEmpty());
+        assertThrows(ElementNotFoundException.class, () -> list.removeFirst());
+
+        for (int n : new int[] {8, 3, 5, 3, 1}) {
+            list.add(n);
+        }
+        assertEquals("[1, 3, 3, 5, 8]", list.toString());
+        assertEquals(5, list.size());
+        assertEquals(1, list.first());
+        assertEquals(8, list.last());
+
+        assertEquals(3, list.remove(3));
+        assertTrue(list.contains(3));
+        assertEquals(8, list.removeLast());
+        assertEquals(1, list.removeFirst());
+        assertTrue(list.removeIf(n -> n == 5));
+        assertEquals("[3]", list.toString());
+        assertEquals(1, list.toArray().length);
+        assertThrows(ElementNotFoundException.class, () -> list.remove(4));
+    }
+
+    /**
+     * Tests that concurrent writers neither lose nor duplicate elements.
+     */
+    @Test
+    void testConcurrentWriters() throws InterruptedException {
+        int threads = 8;
+        int perThread = 2000;
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.add(i * threads + offset);
+                }
+                for (int i = 0; i < perThread; i += 2) {
+                    list.remove(i * threads + offset);
+                }
+            });
+        }
+        for (Thread writer : writers) writer.start();
+        for (Thread writer : writers) writer.join();
+
+        assertEquals(threads * perThread / 2, list.size());
+        Object[] all = list.toArray();
+        assertEquals(list.size(), all.length);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue((Integer) all[i - 1] < (Integer) all[i], "Lista deve continuar ordenada e sem repetidos");
+        }
+        for (Object value : all) {
+            assertEquals(1, ((Integer) value / threads) % 2, "Só devem restar os ímpares de cada escritor");
+        }
+    }
+
+    /**
+     * Tests that concurrent removals of the first element hand out each element once.
+     */
+    @Test
+    void testConcurrentRemoveFirst() throws InterruptedException {
+        int total = 10000;
+        for (int i = 0; i < total; i++) {
+            list.add(i);
+        }
+
+        AtomicInteger removed = new AtomicInteger();
+        AtomicInteger sum = new AtomicInteger();
+        Thread[] consumers = new Thread[4];
+        for (int t = 0; t < consumers.length; t++) {
+            consumers[t] = new Thread(() -> {
+                while (true) {
+                    try {
+                        sum.addAndGet(list.removeFirst());
+                        removed.incrementAndGet();
+                    } catch (ElementNotFoundException e) {
+                        return;
+                    }
+                }
+            });
+        }
+        for (Thread consumer : consumers) consumer.start();
+        for (Thread consumer : consumers) consumer.join();
+
+        assertEquals(total, removed.get());
+        assertEquals(total * (total - 1) / 2, sum.get());
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    /**
+     * Tests that iterator remove drops the last returned element.
+     */
+    @Test
+    void testIteratorRemove() {
+        for (int i = 1; i <= 6; i++) list.add(i);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() > 3) it.remove();
+        }
+        assertEquals(3, list.size());
+        assertEquals(3, list.last());
+        assertThrows(IllegalStateException.class, it::remove);
+    }
+}
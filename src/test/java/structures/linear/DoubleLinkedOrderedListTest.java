@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
@@ -573,4 +574,45 @@ class DoubleLinkedOrderedListTest {
         assertEquals(777, list.first());
         assertEquals(777, list.last());
     }
+
+    /**
+     * Tests toArray and removeIf.
+     */
+    @Test
+    void testToArrayAndRemoveIf() {
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        assertTrue(list.removeIf(n -> n == 3));
+        assertEquals(2, list.last());
+        Object[] all = list.toArray();
+        assertEquals(2, all.length);
+        assertEquals(1, all[0]);
+    }
+
+    /**
+     * Tests that iterator remove keeps the links consistent and that iterators
+     * fail fast after an insertion.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 1; i <= 5; i++) list.add(i);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() != 3) it.remove();
+        }
+        assertEquals(1, list.size());
+        assertEquals(3, list.first());
+        assertEquals(3, list.last());
+        list.add(1);
+        list.add(9);
+        assertEquals(1, list.first());
+        assertEquals(9, list.last());
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
 }
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.NoSuchElementException;
 
 /**
@@ -204,4 +205,54 @@ class DoubleLinkedUnorderedListTest {
         assertThrows(NoSuchElementException.class, () -> list.first());
         assertThrows(NoSuchElementException.class, () -> list.last());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests bulk operations keeping both link directions consistent.
+     */
+    @Test
+    void testBulkOperations() {
+        list.addToRear("A");
+        DoubleLinkedUnorderedList<String> more = new DoubleLinkedUnorderedList<>();
+        more.addToRear("B");
+        more.addToRear("C");
+        list.addAll(more);
+        list.addAll(list);
+        assertEquals(6, list.size());
+
+        assertTrue(list.removeIf(s -> s.equals("A")));
+        assertEquals(4, list.size());
+        assertEquals("B", list.first());
+        assertEquals("C", list.removeLast());
+        assertEquals("B", list.removeLast());
+        assertEquals("C", list.removeLast());
+        assertEquals("B", list.removeLast());
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    /**
+     * Tests that iterator remove unlinks head, middle and tail nodes and that
+     * iterators fail fast after an insertion.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        list.addToRear("A");
+        list.addToRear("B");
+        list.addToRear("C");
+        list.addToRear("D");
+
+        Iterator<String> it = list.iterator();
+        while (it.hasNext()) {
+            String s = it.next();
+            if (!s.equals("B")) it.remove();
+        }
+        assertEquals(1, list.size());
+        assertEquals("B", list.first());
+        assertEquals("B", list.last());
+
+        Iterator<String> stale = list.iterator();
+        list.addToFront("Z");
+        assertThrows(ConcurrentModificationException.class, stale::next);
+        assertEquals("Z", list.first());
+    }
+}
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
@@ -492,4 +493,74 @@ class LinkedUnorderedListTest {
         assertEquals("A", list.first());
         assertEquals("C", list.last());
     }
+
+    /**
+     * Tests bulk operations and that the tail stays valid after them.
+     */
+    @Test
+    void testBulkOperations() {
+        list.addToRear("A");
+        ArrayUnorderedList<String> more = new ArrayUnorderedList<>();
+        more.addToRear("B");
+        more.addToRear("C");
+        more.addToRear("D");
+        list.addAll(more);
+        assertEquals(4, list.size());
+        assertEquals("D", list.last());
+
+        assertTrue(list.removeIf(s -> s.equals("A") || s.equals("D")));
+        assertEquals(2, list.size());
+        list.addToRear("E");
+        Object[] all = list.toArray();
+        assertEquals("B", all[0]);
+        assertEquals("C", all[1]);
+        assertEquals("E", all[2]);
+
+        list.removeLast();
+        list.addToRear("F");
+        assertEquals("F", list.last());
+    }
+
+    /**
+     * Tests that iterators fail fast after an insertion.
+     */
+    @Test
+    void testIteratorFailFast() {
+        list.addToRear("A");
+        list.addToRear("B");
+
+        Iterator<String> it = list.iterator();
+        it.next();
+        list.addAfter("C", "A");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    /**
+     * Tests that a pooled list recycles nodes from every kind of removal.
+     */
+    @Test
+    void testNodePooling() {
+        LinkedUnorderedList<String> pooled = new LinkedUnorderedList<>(3);
+        pooled.addToRear("A");
+        pooled.addToRear("B");
+        pooled.addToRear("C");
+        pooled.addToRear("D");
+
+        pooled.removeFirst();
+        pooled.remove("C");
+        pooled.removeLast();
+        assertEquals(3, pooled.pooledNodes());
+        assertEquals("B", pooled.first());
+
+        pooled.addToFront("X");
+        pooled.addAfter("Y", "B");
+        assertEquals(1, pooled.pooledNodes());
+        assertEquals("X", pooled.first());
+        assertEquals("Y", pooled.last());
+        assertEquals(3, pooled.size());
+
+        assertTrue(pooled.removeIf(s -> true));
+        assertEquals(3, pooled.pooledNodes());
+        assertTrue(pooled.isEmpty());
+    }
 }
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import exceptions.ConcurrentModificationException;
 import exceptions.ElementNotFoundException;
 
 /**
@@ -508,4 +509,46 @@ class SingleLinkedListTest {
         list.removeFirst();
         assertEquals(20, list.first());
     }
+
+    /**
+     * Tests removeIf and toArray, including removal of the tail node.
+     */
+    @Test
+    void testRemoveIfAndToArray() {
+        list.addToRear(1);
+        list.addToRear(2);
+        list.addToRear(3);
+        assertTrue(list.removeIf(n -> n != 2));
+        assertEquals(1, list.size());
+        list.addToRear(4);
+        Object[] all = list.toArray();
+        assertEquals(2, all.length);
+        assertEquals(2, all[0]);
+        assertEquals(4, all[1]);
+    }
+
+    /**
+     * Tests that iterator remove unlinks head, middle and tail nodes and that
+     * iterators fail fast after a removal through the list.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 1; i <= 5; i++) list.addToRear(i);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            int n = it.next();
+            if (n != 2 && n != 4) it.remove();
+        }
+        assertEquals(2, list.size());
+        assertEquals(2, list.first());
+        assertEquals(4, list.last());
+        list.addToRear(6);
+        assertEquals(6, list.last());
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.removeFirst();
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
 }
@@ -0,0 +1,156 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exceptions.ConcurrentModificationException;
+import exceptions.ElementNotFoundException;
+
+/**
+ * Unit tests for the {@link SkipListOrderedList} class.
+ * <p>
+ * Tests cover ordered insertion, removal at both ends and in the middle,
+ * duplicates, bulk removal and agreement with {@link ArrayOrderedList} over a
+ * long random sequence of operations.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see SkipListOrderedList
+ */
+class SkipListOrderedListTest {
+
+    private SkipListOrderedList<Integer> list;
+
+    /**
+     * Creates a seeded list before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        list = new SkipListOrderedList<>(27L);
+    }
+
+    /**
+     * Tests that an empty list reports no elements and rejects removals.
+     */
+    @Test
+    void testEmptyList() {
+        assertTrue(list.isEmpty());
+        assertEquals("[]", list.toString());
+        assertThrows(ElementNotFoundException.class, () -> list.removeFirst());
+        assertThrows(ElementNotFoundException.class, () -> list.removeLast());
+        assertThrows(ElementNotFoundException.class, () -> list.first());
+        assertThrows(ElementNotFoundException.class, () -> list.remove(1));
+        assertFalse(list.iterator().hasNext());
+    }
+
+    /**
+     * Tests that elements come out sorted and can be removed anywhere.
+     */
+    @Test
+    void testAddAndRemove() {
+        for (int n : new int[] {5, 1, 4, 2, 3, 4}) {
+            list.add(n);
+        }
+        assertEquals("[1, 2, 3, 4, 4, 5]", list.toString());
+        assertEquals(6, list.size());
+        assertEquals(1, list.first());
+        assertEquals(5, list.last());
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(6));
+
+        assertEquals(4, list.remove(4));
+        assertTrue(list.contains(4), "Continua a existir o duplicado");
+        assertEquals(1, list.removeFirst());
+        assertEquals(5, list.removeLast());
+        assertEquals("[2, 3, 4]", list.toString());
+        assertThrows(ElementNotFoundException.class, () -> list.remove(9));
+        assertThrows(IllegalArgumentException.class, () -> new SkipListOrderedList<Object>().add(new Object()));
+    }
+
+    /**
+     * Tests toArray, removeIf and the iterator.
+     */
+    @Test
+    void testBulkOperations() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertTrue(list.removeIf(n -> n % 3 != 0));
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", list.toString());
+        assertEquals(7, list.toArray().length);
+        assertFalse(list.removeIf(n -> n > 100));
+
+        Iterator<Integer> it = list.iterator();
+        int expected = 0;
+        while (it.hasNext()) {
+            assertEquals(expected, it.next());
+            expected += 3;
+        }
+        list.add(4);
+        assertEquals(4, list.toArray()[2]);
+    }
+
+    /**
+     * Tests that a long random sequence of operations matches an array-backed list.
+     */
+    @Test
+    void testAgreesWithArrayOrderedList() {
+        ArrayOrderedList<Integer> reference = new ArrayOrderedList<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(200);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    list.add(value);
+                    reference.add(value);
+                }
+                case 2 -> {
+                    assertEquals(reference.contains(value), list.contains(value));
+                    if (reference.contains(value)) {
+                        assertEquals(reference.remove(value), list.remove(value));
+                    }
+                }
+                default -> {
+                    if (!reference.isEmpty()) {
+                        assertEquals(reference.removeLast(), list.removeLast());
+                    }
+                    if (!reference.isEmpty()) {
+                        assertEquals(reference.removeFirst(), list.removeFirst());
+                    }
+                }
+            }
+            assertEquals(reference.size(), list.size());
+        }
+        assertEquals(reference.toString(), list.toString());
+    }
+
+    /**
+     * Tests iterator remove among equal elements and fail-fast iteration.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 0; i < 20; i++) list.add(i % 4);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) it.remove();
+        }
+        assertEquals(10, list.size());
+        assertEquals(1, list.first());
+        assertEquals(3, list.last());
+        assertFalse(list.contains(2));
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.removeLast();
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+}
@@ -0,0 +1,181 @@
+package structures.linear;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exceptions.ConcurrentModificationException;
+import exceptions.NoSuchElementException;
+
+/**
+ * Unit tests for the {@link UnrolledLinkedList} class.
+ * <p>
+ * Most tests use blocks of four elements so that splits, merges and block
+ * unlinking happen with small lists.
+ * </p>
+ *
+ * @author Group 27
+ * @version 2025/2026
+ */
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    /**
+     * Tests that an empty list reports no elements and rejects removals.
+     */
+    @Test
+    void testEmptyList() {
+        assertTrue(list.isEmpty());
+        assertEquals("[]", list.toString());
+        assertThrows(NoSuchElementException.class, () -> list.removeFirst());
+        assertThrows(NoSuchElementException.class, () -> list.removeLast());
+        assertThrows(NoSuchElementException.class, () -> list.first());
+        assertThrows(NoSuchElementException.class, () -> list.remove(1));
+        assertThrows(NoSuchElementException.class, () -> list.addAfter(1, 2));
+        assertFalse(list.iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+    }
+
+    /**
+     * Tests adding at both ends across several blocks.
+     */
+    @Test
+    void testAddToFrontAndRear() {
+        for (int i = 5; i <= 9; i++) list.addToRear(i);
+        for (int i = 4; i >= 0; i--) list.addToFront(i);
+
+        assertEquals(10, list.size());
+        assertEquals(0, list.first());
+        assertEquals(9, list.last());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", list.toString());
+    }
+
+    /**
+     * Tests inserting after a target inside a full block, which splits it.
+     */
+    @Test
+    void testAddAfterSplitsFullBlock() {
+        for (int i = 1; i <= 4; i++) list.addToRear(i);
+        list.addAfter(10, 1);
+        list.addAfter(40, 4);
+        list.addAfter(30, 3);
+
+        assertEquals("[1, 10, 2, 3, 30, 4, 40]", list.toString());
+        assertEquals(40, list.last());
+        assertThrows(NoSuchElementException.class, () -> list.addAfter(5, 99));
+    }
+
+    /**
+     * Tests removing from both ends and from the middle until the list is empty.
+     */
+    @Test
+    void testRemove() {
+        for (int i = 1; i <= 9; i++) list.addToRear(i);
+
+        assertEquals(1, list.removeFirst());
+        assertEquals(9, list.removeLast());
+        assertEquals(5, list.remove(5));
+        assertFalse(list.contains(5));
+        assertTrue(list.contains(8));
+        assertThrows(NoSuchElementException.class, () -> list.remove(5));
+        assertEquals("[2, 3, 4, 6, 7, 8]", list.toString());
+
+        while (!list.isEmpty()) list.removeLast();
+        assertEquals(0, list.size());
+        list.addToFront(1);
+        assertEquals(1, list.last());
+    }
+
+    /**
+     * Tests addAll (including adding the list to itself), removeIf and toArray.
+     */
+    @Test
+    void testBulkOperations() {
+        ArrayUnorderedList<Integer> other = new ArrayUnorderedList<>();
+        for (int i = 1; i <= 6; i++) other.addToRear(i);
+        list.addToRear(0);
+        list.addAll(other);
+        list.addAll(list);
+        assertEquals(14, list.size());
+
+        assertTrue(list.removeIf(n -> n % 2 == 0));
+        assertFalse(list.removeIf(n -> n > 100));
+        assertArrayEquals(new Object[] {1, 3, 5, 1, 3, 5}, list.toArray());
+        assertEquals(1, list.first());
+        assertEquals(5, list.last());
+
+        assertTrue(list.removeIf(n -> true));
+        assertTrue(list.isEmpty());
+        list.addToRear(7);
+        assertEquals(7, list.first());
+    }
+
+    /**
+     * Tests iterator remove across block boundaries and fail-fast iteration.
+     */
+    @Test
+    void testIteratorRemoveAndFailFast() {
+        for (int i = 0; i < 12; i++) list.addToRear(i);
+
+        Iterator<Integer> it = list.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        while (it.hasNext()) {
+            if (it.next() % 3 != 0) it.remove();
+        }
+        assertEquals("[0, 3, 6, 9]", list.toString());
+        assertThrows(NoSuchElementException.class, it::next);
+
+        Iterator<Integer> stale = list.iterator();
+        stale.next();
+        list.addToRear(12);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    /**
+     * Tests that a random mix of operations agrees with {@link DoubleLinkedUnorderedList}.
+     */
+    @Test
+    void testRandomOperationsAgreeWithLinkedList() {
+        DoubleLinkedUnorderedList<Integer> expected = new DoubleLinkedUnorderedList<>();
+        Random random = new Random(27L);
+
+        for (int step = 0; step < 2000; step++) {
+            int value = random.nextInt(20);
+            switch (random.nextInt(6)) {
+                case 0 -> { list.addToFront(value); expected.addToFront(value); }
+                case 1, 2 -> { list.addToRear(value); expected.addToRear(value); }
+                case 3 -> {
+                    if (expected.contains(value)) {
+                        list.addAfter(step, value);
+                        expected.addAfter(step, value);
+                    }
+                }
+                case 4 -> {
+                    if (expected.contains(value)) {
+                        assertEquals(expected.remove(value), list.remove(value));
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.removeFirst(), list.removeFirst());
+                    }
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+}
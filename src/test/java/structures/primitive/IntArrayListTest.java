@@ -0,0 +1,83 @@
+package structures.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import exceptions.EmptyCollectionException;
+
+/**
+ * Unit tests for the {@link IntArrayList} class.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see IntArrayList
+ */
+class IntArrayListTest {
+
+    /**
+     * Tests appends past the initial capacity and positional access.
+     */
+    @Test
+    void testAddGetAndSet() {
+        IntArrayList list = new IntArrayList(0);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 25; i++) list.add(i * 2);
+
+        assertEquals(25, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(48, list.get(24));
+        assertEquals(10, list.set(5, -1));
+        assertEquals(-1, list.get(5));
+        assertEquals(5, list.indexOf(-1));
+        assertEquals(-1, list.indexOf(7));
+        assertTrue(list.contains(48));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(25));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+    /**
+     * Tests removal by index and by value, and stack use through the last value.
+     */
+    @Test
+    void testRemoveAndStackOperations() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 1; i <= 5; i++) list.add(i);
+
+        assertEquals(2, list.removeAt(1));
+        assertTrue(list.removeValue(4));
+        assertFalse(list.removeValue(4));
+        assertEquals("[1, 3, 5]", list.toString());
+
+        assertEquals(5, list.last());
+        assertEquals(5, list.removeLast());
+        assertEquals(3, list.removeLast());
+        assertEquals(1, list.removeLast());
+        assertThrows(EmptyCollectionException.class, list::removeLast);
+        assertThrows(EmptyCollectionException.class, list::last);
+    }
+
+    /**
+     * Tests the bulk operations used to renumber adjacency lists.
+     */
+    @Test
+    void testBulkOperations() {
+        IntArrayList list = new IntArrayList();
+        for (int n : new int[] {3, 1, 3, 4, 0}) list.add(n);
+
+        assertTrue(list.removeIf(n -> n == 3));
+        assertFalse(list.removeIf(n -> n > 10));
+        list.replaceAll(n -> n * 10);
+        assertArrayEquals(new int[] {10, 40, 0}, list.toArray());
+
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals("[]", list.toString());
+        list.add(7);
+        assertEquals(7, list.get(0));
+    }
+}
@@ -0,0 +1,88 @@
+package structures.primitive;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import exceptions.EmptyCollectionException;
+
+/**
+ * Unit tests for the {@link IntDeque} class.
+ *
+ * @author Group 27
+ * @version 2025/2026
+ * @see IntDeque
+ */
+class IntDequeTest {
+
+    /**
+     * Tests FIFO use across the wrap-around point and while growing.
+     */
+    @Test
+    void testQueueOperations() {
+        IntDeque queue = new IntDeque(2);
+        queue.addLast(1);
+        queue.addLast(2);
+        assertEquals(1, queue.removeFirst());
+        queue.addLast(3);
+        queue.addLast(4);
+        queue.addLast(5);
+
+        assertEquals("[2, 3, 4, 5]", queue.toString());
+        assertArrayEquals(new int[] {2, 3, 4, 5}, queue.toArray());
+        assertEquals(4, queue.get(2));
+        assertEquals(2, queue.peekFirst());
+        assertEquals(5, queue.peekLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.get(4));
+        assertThrows(IllegalArgumentException.class, () -> new IntDeque(-1));
+    }
+
+    /**
+     * Tests LIFO use and removal from an empty deque.
+     */
+    @Test
+    void testStackOperations() {
+        IntDeque stack = new IntDeque();
+        for (int i = 0; i < 40; i++) stack.addLast(i);
+        for (int i = 39; i >= 0; i--) assertEquals(i, stack.removeLast());
+
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyCollectionException.class, stack::removeFirst);
+        assertThrows(EmptyCollectionException.class, stack::removeLast);
+        assertThrows(EmptyCollectionException.class, stack::peekFirst);
+
+        stack.addFirst(-1);
+        stack.clear();
+        assertEquals(0, stack.size());
+    }
+
+    /**
+     * Tests that random operations at both ends agree with {@link ArrayDeque}.
+     */
+    @Test
+    void testRandomOperationsAgreeWithArrayDeque() {
+        IntDeque deque = new IntDeque(4);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(27L);
+
+        for (int step = 0; step < 5000; step++) {
+            switch (random.nextInt(4)) {
+                case 0 -> { deque.addFirst(step); expected.addFirst(step); }
+                case 1 -> { deque.addLast(step); expected.addLast(step); }
+                case 2 -> {
+                    if (!expected.isEmpty()) assertEquals(expected.removeFirst(), deque.removeFirst());
+                }
+                default -> {
+                    if (!expected.isEmpty()) assertEquals(expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        assertEquals(expected.toString(), deque.toString());
+    }
+}
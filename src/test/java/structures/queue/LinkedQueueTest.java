@@ -133,4 +133,29 @@ class LinkedQueueTest {
         assertEquals("B", queue.first());
         assertEquals(1, queue.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a pooled queue reuses dequeued nodes up to its pool capacity.
+     */
+    @Test
+    void testNodePooling() {
+        LinkedQueue<String> pooled = new LinkedQueue<>(2);
+        pooled.enqueue("A");
+        pooled.enqueue("B");
+        pooled.enqueue("C");
+        assertEquals("A", pooled.dequeue());
+        assertEquals("B", pooled.dequeue());
+        assertEquals("C", pooled.dequeue());
+        assertEquals(2, pooled.pooledNodes(), "O pool não deve exceder a sua capacidade");
+
+        pooled.enqueue("D");
+        assertEquals(1, pooled.pooledNodes());
+        pooled.enqueue("E");
+        assertEquals("[D, E]", pooled.toString());
+        assertEquals("D", pooled.dequeue());
+        assertEquals("E", pooled.first());
+
+        assertEquals(0, queue.pooledNodes());
+        assertThrows(IllegalArgumentException.class, () -> new LinkedQueue<String>(-1));
+    }
+}
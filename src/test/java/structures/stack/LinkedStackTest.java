@@ -128,4 +128,26 @@ class LinkedStackTest {
         assertNull(stack.peek());
         assertNull(stack.pop());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a pooled stack reuses popped nodes up to its pool capacity.
+     */
+    @Test
+    void testNodePooling() throws EmptyCollectionException {
+        LinkedStack<String> pooled = new LinkedStack<>(1);
+        pooled.push("A");
+        pooled.push("B");
+        assertEquals("B", pooled.pop());
+        assertEquals("A", pooled.pop());
+        assertEquals(1, pooled.pooledNodes(), "O pool não deve exceder a sua capacidade");
+
+        pooled.push("C");
+        assertEquals(0, pooled.pooledNodes());
+        pooled.push("D");
+        assertEquals("D", pooled.pop());
+        assertEquals("C", pooled.peek());
+        assertEquals(1, pooled.size());
+
+        assertThrows(IllegalArgumentException.class, () -> new LinkedStack<String>(-1));
+    }
+}
@@ -6,6 +6,7 @@ import java.io.InputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -56,4 +57,36 @@ class MapEditorTest {
         File f = new File("src/main/resources/test_save_map.json");
         assertTrue(f.exists(), "Map Editor should save the file");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that undone corridors are not saved and that redo brings them back.
+     */
+    @Test
+    void testUndoRedoBeforeSaving() throws java.io.IOException {
+        String input =
+                "1\nE1\nENTRADA\nEntry\n" +
+                "1\nC1\nTESOURO\nCenter\n" +
+                "2\nE1\nC1\n5.0\n" +
+                "7\n" +
+                "4\ntest_save_map\n" +
+                "0\n";
+        System.setIn(new ByteArrayInputStream(input.getBytes()));
+        assertDoesNotThrow(MapEditor::start);
+
+        String saved = java.nio.file.Files.readString(new File("src/main/resources/test_save_map.json").toPath());
+        assertTrue(saved.contains("C1"), "A sala deve manter-se");
+        assertFalse(saved.contains("origem"), "O corredor desfeito não deve ser guardado");
+
+        input = "1\nE1\nENTRADA\nEntry\n" +
+                "1\nC1\nTESOURO\nCenter\n" +
+                "2\nE1\nC1\n5.0\n" +
+                "7\n8\n" +
+                "4\ntest_save_map\n" +
+                "0\n";
+        System.setIn(new ByteArrayInputStream(input.getBytes()));
+        assertDoesNotThrow(MapEditor::start);
+
+        saved = java.nio.file.Files.readString(new File("src/main/resources/test_save_map.json").toPath());
+        assertTrue(saved.contains("origem"), "Refazer deve repor o corredor");
+    }
+}